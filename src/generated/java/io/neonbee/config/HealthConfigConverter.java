@@ -18,6 +18,16 @@ public class HealthConfigConverter {
     static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, HealthConfig obj) {
         for (java.util.Map.Entry<String, Object> member : json) {
             switch (member.getKey()) {
+            case "aggregationInterval":
+                if (member.getValue() instanceof Number) {
+                    obj.setAggregationInterval(((Number) member.getValue()).intValue());
+                }
+                break;
+            case "aggregationMaxAge":
+                if (member.getValue() instanceof Number) {
+                    obj.setAggregationMaxAge(((Number) member.getValue()).intValue());
+                }
+                break;
             case "collectClusteredResults":
                 if (member.getValue() instanceof Boolean) {
                     obj.setCollectClusteredResults((Boolean) member.getValue());
@@ -28,6 +38,11 @@ public class HealthConfigConverter {
                     obj.setEnabled((Boolean) member.getValue());
                 }
                 break;
+            case "eventLoopLagInterval":
+                if (member.getValue() instanceof Number) {
+                    obj.setEventLoopLagInterval(((Number) member.getValue()).intValue());
+                }
+                break;
             case "timeout":
                 if (member.getValue() instanceof Number) {
                     obj.setTimeout(((Number) member.getValue()).intValue());
@@ -42,7 +57,10 @@ public class HealthConfigConverter {
     }
 
     static void toJson(HealthConfig obj, java.util.Map<String, Object> json) {
+        json.put("aggregationInterval", obj.getAggregationInterval());
+        json.put("aggregationMaxAge", obj.getAggregationMaxAge());
         json.put("enabled", obj.isEnabled());
+        json.put("eventLoopLagInterval", obj.getEventLoopLagInterval());
         json.put("timeout", obj.getTimeout());
     }
 }
@@ -19,6 +19,16 @@ public class NeonBeeConfigConverter {
     static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, NeonBeeConfig obj) {
         for (java.util.Map.Entry<String, Object> member : json) {
             switch (member.getKey()) {
+            case "binaryContextEncoding":
+                if (member.getValue() instanceof Boolean) {
+                    obj.setBinaryContextEncoding((Boolean) member.getValue());
+                }
+                break;
+            case "entityWireFormatVersion":
+                if (member.getValue() instanceof Number) {
+                    obj.setEntityWireFormatVersion(((Number) member.getValue()).intValue());
+                }
+                break;
             case "eventBusCodecs":
                 if (member.getValue() instanceof JsonObject) {
                     java.util.Map<String, java.lang.String> map = new java.util.LinkedHashMap<>();
@@ -77,6 +87,11 @@ public class NeonBeeConfigConverter {
                     obj.setTrackingDataHandlingStrategy((String) member.getValue());
                 }
                 break;
+            case "trackingSampleRate":
+                if (member.getValue() instanceof Number) {
+                    obj.setTrackingSampleRate(((Number) member.getValue()).intValue());
+                }
+                break;
             }
         }
     }
@@ -86,6 +101,8 @@ public class NeonBeeConfigConverter {
     }
 
     static void toJson(NeonBeeConfig obj, java.util.Map<String, Object> json) {
+        json.put("binaryContextEncoding", obj.isBinaryContextEncoding());
+        json.put("entityWireFormatVersion", obj.getEntityWireFormatVersion());
         if (obj.getEventBusCodecs() != null) {
             JsonObject map = new JsonObject();
             obj.getEventBusCodecs().forEach((key, value) -> map.put(key, value));
@@ -114,5 +131,6 @@ public class NeonBeeConfigConverter {
         if (obj.getTrackingDataHandlingStrategy() != null) {
             json.put("trackingDataHandlingStrategy", obj.getTrackingDataHandlingStrategy());
         }
+        json.put("trackingSampleRate", obj.getTrackingSampleRate());
     }
 }
@@ -71,6 +71,16 @@ public class ServerConfigConverter {
                     obj.setHandlerFactoriesClassNames(list);
                 }
                 break;
+            case "loadSheddingRetryAfter":
+                if (member.getValue() instanceof Number) {
+                    obj.setLoadSheddingRetryAfter(((Number) member.getValue()).intValue());
+                }
+                break;
+            case "loadSheddingThreshold":
+                if (member.getValue() instanceof Number) {
+                    obj.setLoadSheddingThreshold(((Number) member.getValue()).intValue());
+                }
+                break;
             case "sessionCookieName":
                 if (member.getValue() instanceof String) {
                     obj.setSessionCookieName((String) member.getValue());
@@ -128,6 +138,8 @@ public class ServerConfigConverter {
             obj.getHandlerFactoriesClassNames().forEach(item -> array.add(item));
             json.put("handlerFactoriesClassNames", array);
         }
+        json.put("loadSheddingRetryAfter", obj.getLoadSheddingRetryAfter());
+        json.put("loadSheddingThreshold", obj.getLoadSheddingThreshold());
         if (obj.getSessionCookieName() != null) {
             json.put("sessionCookieName", obj.getSessionCookieName());
         }
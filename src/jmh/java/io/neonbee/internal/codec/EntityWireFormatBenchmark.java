@@ -0,0 +1,129 @@
+package io.neonbee.internal.codec;
+
+import static io.neonbee.entity.EntityModelManager.getBufferedOData;
+import static org.apache.olingo.commons.api.format.ContentType.APPLICATION_JSON;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.olingo.commons.api.data.ContextURL;
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.EntityCollection;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmEntitySet;
+import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.edm.FullQualifiedName;
+import org.apache.olingo.server.api.ServiceMetadata;
+import org.apache.olingo.server.api.serializer.EntityCollectionSerializerOptions;
+import org.apache.olingo.server.core.MetadataParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.neonbee.entity.EntityWrapper;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Compares encoding and decoding entities in the binary wire format of the {@link EntityWrapperMessageCodec} with
+ * serializing and deserializing them with the OData JSON serializer, as done by the JSON wire format. Run with
+ * {@code ./gradlew jmh} and use the {@code -prof gc} profiler to see the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityWireFormatBenchmark {
+    private static final FullQualifiedName ENTITY_TYPE_NAME =
+            new FullQualifiedName("io.neonbee.benchmark.BenchmarkService", "Products");
+
+    private static final String EDMX = "<?xml version=\"1.0\" encoding=\"utf-8\"?>"
+            + "<edmx:Edmx Version=\"4.0\" xmlns:edmx=\"http://docs.oasis-open.org/odata/ns/edmx\">"
+            + "<edmx:DataServices><Schema Namespace=\"io.neonbee.benchmark.BenchmarkService\" "
+            + "xmlns=\"http://docs.oasis-open.org/odata/ns/edm\"><EntityContainer Name=\"EntityContainer\">"
+            + "<EntitySet Name=\"Products\" EntityType=\"io.neonbee.benchmark.BenchmarkService.Products\"/>"
+            + "</EntityContainer><EntityType Name=\"Products\"><Key><PropertyRef Name=\"ID\"/></Key>"
+            + "<Property Name=\"ID\" Type=\"Edm.Int32\" Nullable=\"false\"/>"
+            + "<Property Name=\"name\" Type=\"Edm.String\"/><Property Name=\"price\" Type=\"Edm.Double\"/>"
+            + "<Property Name=\"available\" Type=\"Edm.Boolean\"/>"
+            + "<Property Name=\"description\" Type=\"Edm.String\"/>"
+            + "</EntityType></Schema></edmx:DataServices></edmx:Edmx>";
+
+    @Param({ "1", "100", "1000" })
+    private int entityCount;
+
+    private ServiceMetadata serviceMetadata;
+
+    private EdmEntityType entityType;
+
+    private List<Entity> entities;
+
+    private Buffer binaryBuffer;
+
+    private byte[] jsonPayload;
+
+    @Setup
+    public void setUp() throws Exception {
+        serviceMetadata = getBufferedOData().createServiceMetadata(
+                new MetadataParser().referenceResolver(null).buildEdmProvider(new StringReader(EDMX)),
+                Collections.emptyList());
+        entityType = serviceMetadata.getEdm().getEntityType(ENTITY_TYPE_NAME);
+
+        entities = new ArrayList<>(entityCount);
+        for (int index = 0; index < entityCount; index++) {
+            entities.add(new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, index))
+                    .addProperty(new Property(null, "name", ValueType.PRIMITIVE, "Product " + index))
+                    .addProperty(new Property(null, "price", ValueType.PRIMITIVE, index * 1.5d))
+                    .addProperty(new Property(null, "available", ValueType.PRIMITIVE, index % 2 == 0))
+                    .addProperty(new Property(null, "description", ValueType.PRIMITIVE, null)));
+        }
+
+        binaryBuffer = encodeBinary();
+        jsonPayload = encodeJson();
+    }
+
+    @Benchmark
+    public Buffer encodeBinary() {
+        Buffer buffer = Buffer.buffer().appendByte((byte) EntityWrapperMessageCodec.BINARY_FORMAT_VERSION);
+        EntityBinaryFormat.encode(buffer, ENTITY_TYPE_NAME, entityType, entities);
+        return buffer;
+    }
+
+    @Benchmark
+    public EntityWrapper decodeBinary() {
+        return EntityBinaryFormat.decode(binaryBuffer, 1, entityTypeName -> entityType);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws Exception {
+        EdmEntitySet entitySet =
+                serviceMetadata.getEdm().getEntityContainer().getEntitySet(ENTITY_TYPE_NAME.getName());
+        EntityCollection entityCollection = new EntityCollection();
+        entityCollection.getEntities().addAll(entities);
+        return getBufferedOData().createSerializer(APPLICATION_JSON)
+                .entityCollection(serviceMetadata, entityType, entityCollection, EntityCollectionSerializerOptions
+                        .with().contextURL(ContextURL.with().entitySet(entitySet).build()).build())
+                .getContent().readAllBytes();
+    }
+
+    @Benchmark
+    public List<Entity> decodeJson() throws Exception {
+        return getBufferedOData().createDeserializer(APPLICATION_JSON, serviceMetadata)
+                .entityCollection(new ByteArrayInputStream(jsonPayload), entityType).getEntityCollection()
+                .getEntities();
+    }
+}
@@ -0,0 +1,60 @@
+package io.neonbee.logging.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.helpers.NOPLogger;
+
+import io.neonbee.logging.LoggingFacade;
+
+/**
+ * Measures the cost of correlated log calls, if the log level is disabled. Run with {@code ./gradlew jmh} and use the
+ * {@code -prof gc} profiler to see the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class LoggingFacadeImplBenchmark {
+    private static final String CORRELATION_ID = "b4b7c2d6-2c4e-4c1f-9b1a-0e7c1f6c2a11";
+
+    private static final String OTHER_CORRELATION_ID = "0f5d3a8e-7b21-4e6a-a3c9-5d1e2f4b6c88";
+
+    private final LoggingFacade facade = new LoggingFacadeImpl(NOPLogger.NOP_LOGGER);
+
+    private final Object argument = new Object();
+
+    @Benchmark
+    public void correlatedDebugSameCorrelationId() {
+        facade.correlateWith(CORRELATION_ID).debug("Hodor {}", argument);
+    }
+
+    @Benchmark
+    public void correlatedDebugAlternatingCorrelationIds() {
+        // e.g. an event loop interleaving the log messages of two requests
+        facade.correlateWith(CORRELATION_ID).debug("Hodor {}", argument);
+        facade.correlateWith(OTHER_CORRELATION_ID).debug("Hodor {}", argument);
+    }
+
+    @Benchmark
+    public void correlatedDebugWithoutCorrelationId() {
+        facade.correlateWith((String) null).debug("Hodor {}", argument);
+    }
+
+    @Benchmark
+    public void uncorrelatedDebug() {
+        facade.debug("Hodor {}", argument);
+    }
+}
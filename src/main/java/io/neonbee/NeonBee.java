@@ -48,6 +48,7 @@ import io.neonbee.entity.EntityModelManager;
 import io.neonbee.entity.EntityVerticle;
 import io.neonbee.entity.EntityWrapper;
 import io.neonbee.health.EventLoopHealthCheck;
+import io.neonbee.health.EventLoopLagProbe;
 import io.neonbee.health.HazelcastClusterHealthCheck;
 import io.neonbee.health.HealthCheckProvider;
 import io.neonbee.health.HealthCheckRegistry;
@@ -182,6 +183,8 @@ public class NeonBee {
 
     private final CompositeMeterRegistry compositeMeterRegistry;
 
+    private final EventLoopLagProbe eventLoopLagProbe;
+
     /**
      * Convenience method for returning the current NeonBee instance.
      * <p>
@@ -331,6 +334,7 @@ public class NeonBee {
                     TimeZone.setDefault(TimeZone.getTimeZone(config.getTimeZone()));
 
                     // further synchronous initializations which should happen before verticles are getting deployed
+                    eventLoopLagProbe.start();
                 }).compose(nothing -> all(initializeSharedMaps(), decorateEventBus(), createMicrometerRegistries()))
                 .compose(nothing -> all(deployVerticles(), deployModules())) // deployment of verticles & modules
                 .compose(nothing -> registerHealthChecks())
@@ -418,12 +422,15 @@ public class NeonBee {
                 strategy = new TrackingDataLoggingStrategy();
             }
 
-            vertx.eventBus().addInboundInterceptor(new TrackingInterceptor(MessageDirection.INBOUND, strategy))
-                    .addOutboundInterceptor(new TrackingInterceptor(MessageDirection.OUTBOUND, strategy));
+            int sampleRate = config.getTrackingSampleRate();
+            vertx.eventBus()
+                    .addInboundInterceptor(new TrackingInterceptor(MessageDirection.INBOUND, strategy, sampleRate))
+                    .addOutboundInterceptor(new TrackingInterceptor(MessageDirection.OUTBOUND, strategy, sampleRate));
 
             // add any default system codecs (bundled w/ NeonBee) here
             vertx.eventBus().registerDefaultCodec(DataQuery.class, new DataQueryMessageCodec())
-                    .registerDefaultCodec(EntityWrapper.class, new EntityWrapperMessageCodec(vertx))
+                    .registerDefaultCodec(EntityWrapper.class,
+                            new EntityWrapperMessageCodec(vertx, config.getEntityWireFormatVersion()))
                     .registerDefaultCodec(ImmutableBuffer.class, new ImmutableBufferMessageCodec())
                     .registerDefaultCodec(ImmutableJsonArray.class, new ImmutableJsonArrayMessageCodec())
                     .registerDefaultCodec(ImmutableJsonObject.class, new ImmutableJsonObjectMessageCodec())
@@ -607,6 +614,8 @@ public class NeonBee {
         this.entityRegistry = entityRegistry;
 
         this.compositeMeterRegistry = compositeMeterRegistry;
+        this.eventLoopLagProbe = new EventLoopLagProbe(vertx, compositeMeterRegistry,
+                Optional.ofNullable(config.getHealthConfig()).map(HealthConfig::getEventLoopLagInterval).orElse(0));
 
         // to be able to retrieve the NeonBee instance from any point you have a Vert.x instance add it to a global map
         NEONBEE_INSTANCES.put(vertx, this);
@@ -655,6 +664,7 @@ public class NeonBee {
                                 .forEach(future -> LOGGER.error("Shutdown hook execution failed", future.cause())); // NOPMD
                     }
 
+                    eventLoopLagProbe.stop();
                     NEONBEE_INSTANCES.remove(vertx);
                 }).<Void>mapEmpty().onComplete(completion);
             });
@@ -781,6 +791,15 @@ public class NeonBee {
         return compositeMeterRegistry;
     }
 
+    /**
+     * Get the probe measuring the lag of the event loops of NeonBee.
+     *
+     * @return the {@link EventLoopLagProbe}
+     */
+    public EventLoopLagProbe getEventLoopLagProbe() {
+        return eventLoopLagProbe;
+    }
+
     /**
      * Get a unique identifier of the node NeonBee is running on.
      *
@@ -11,12 +11,20 @@ import io.vertx.core.json.JsonObject;
 public class HealthConfig {
     private static final int DEFAULT_TIMEOUT = 1;
 
+    private static final int DEFAULT_EVENT_LOOP_LAG_INTERVAL = 1000;
+
     private int timeout = DEFAULT_TIMEOUT;
 
     private boolean enabled = true;
 
     private boolean collectClusteredResults = true;
 
+    private int aggregationInterval;
+
+    private int aggregationMaxAge;
+
+    private int eventLoopLagInterval = DEFAULT_EVENT_LOOP_LAG_INTERVAL;
+
     /**
      * Constructs an instance of {@linkplain HealthConfig}.
      */
@@ -96,6 +104,75 @@ public class HealthConfig {
         return this;
     }
 
+    /**
+     * Gets the interval in which every node publishes the results of its health checks to all other cluster nodes.
+     *
+     * @return the interval in seconds, or 0 if results are not published and collected on request instead
+     */
+    public int getAggregationInterval() {
+        return aggregationInterval;
+    }
+
+    /**
+     * Sets the interval (in seconds) in which every node publishes the results of its health checks to all other
+     * cluster nodes. If set to a value greater than 0, the health results of the cluster are served from the latest
+     * published results, instead of requesting them from all nodes on every request.
+     * <p>
+     * <b>Will be ignored if NeonBee isn't running in clustered mode or collectClusteredResults is false.</b>
+     *
+     * @param aggregationInterval the interval in seconds, or 0 to collect the results on request
+     * @return the {@linkplain HealthConfig} for fluent use
+     */
+    @Fluent
+    public HealthConfig setAggregationInterval(int aggregationInterval) {
+        this.aggregationInterval = aggregationInterval;
+        return this;
+    }
+
+    /**
+     * Gets the maximum age of published health check results of a node, before they are no longer served.
+     *
+     * @return the maximum age in seconds, or 0 if three times the aggregation interval is used
+     */
+    public int getAggregationMaxAge() {
+        return aggregationMaxAge;
+    }
+
+    /**
+     * Sets the maximum age (in seconds) of published health check results of a node. Results of nodes which did not
+     * publish within this period (e.g. because they left the cluster), are no longer served.
+     *
+     * @param aggregationMaxAge the maximum age in seconds, or 0 to use three times the aggregation interval
+     * @return the {@linkplain HealthConfig} for fluent use
+     */
+    @Fluent
+    public HealthConfig setAggregationMaxAge(int aggregationMaxAge) {
+        this.aggregationMaxAge = aggregationMaxAge;
+        return this;
+    }
+
+    /**
+     * Gets the interval in which the lag of the event loops is measured.
+     *
+     * @return the interval in milliseconds, or 0 if the lag of the event loops is not measured
+     */
+    public int getEventLoopLagInterval() {
+        return eventLoopLagInterval;
+    }
+
+    /**
+     * Sets the interval (in milliseconds) in which the lag of the event loops is measured. The lag is recorded to the
+     * {@code neonbee.eventloop.lag} timer and can be used to shed load, in case the event loops are overloaded.
+     *
+     * @param eventLoopLagInterval the interval in milliseconds, or 0 to not measure the lag of the event loops
+     * @return the {@linkplain HealthConfig} for fluent use
+     */
+    @Fluent
+    public HealthConfig setEventLoopLagInterval(int eventLoopLagInterval) {
+        this.eventLoopLagInterval = eventLoopLagInterval;
+        return this;
+    }
+
     /**
      * Transforms this configuration object into JSON.
      *
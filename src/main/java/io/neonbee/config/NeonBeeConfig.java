@@ -20,6 +20,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.neonbee.NeonBee;
 import io.neonbee.NeonBeeOptions;
 import io.neonbee.config.metrics.MicrometerRegistryLoader;
+import io.neonbee.internal.codec.EntityWrapperMessageCodec;
 import io.neonbee.internal.tracking.TrackingDataLoggingStrategy;
 import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.annotations.Fluent;
@@ -53,6 +54,11 @@ public class NeonBeeConfig {
      */
     public static final String DEFAULT_TIME_ZONE = "UTC";
 
+    /**
+     * The default wire format version used to encode entities sent via the event bus.
+     */
+    public static final int DEFAULT_ENTITY_WIRE_FORMAT_VERSION = EntityWrapperMessageCodec.JSON_FORMAT_VERSION;
+
     private static final ImmutableBiMap<String, String> REPHRASE_MAP =
             ImmutableBiMap.of("healthConfig", "health", "metricsConfig", "metrics");
 
@@ -60,8 +66,14 @@ public class NeonBeeConfig {
 
     private Map<String, String> eventBusCodecs = Map.of();
 
+    private int entityWireFormatVersion = DEFAULT_ENTITY_WIRE_FORMAT_VERSION;
+
+    private boolean binaryContextEncoding;
+
     private String trackingDataHandlingStrategy = DEFAULT_TRACKING_DATA_HANDLING_STRATEGY;
 
+    private int trackingSampleRate = 1;
+
     private List<String> platformClasses = List.of("io.vertx.*", "io.neonbee.*", "org.slf4j.*", "org.apache.olingo.*");
 
     private String timeZone = DEFAULT_TIME_ZONE;
@@ -289,6 +301,57 @@ public class NeonBeeConfig {
         return this;
     }
 
+    /**
+     * Gets the version of the wire format used to encode entities sent via the event bus.
+     * <p>
+     * Entities are encoded in the OData JSON format by default, as nodes running older NeonBee versions are only able
+     * to decode this format. As soon as all nodes of a cluster are upgraded, the compact binary format can be enabled.
+     * Entities in both formats can be decoded on any node supporting the binary format, so the binary format can be
+     * enabled node by node, e.g. during a rolling restart.
+     *
+     * @return the wire format version, either 1 (OData JSON) or 2 (binary)
+     */
+    public int getEntityWireFormatVersion() {
+        return entityWireFormatVersion;
+    }
+
+    /**
+     * Sets the version of the wire format used to encode entities sent via the event bus.
+     *
+     * @param entityWireFormatVersion the wire format version, either 1 (OData JSON) or 2 (binary)
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setEntityWireFormatVersion(int entityWireFormatVersion) {
+        this.entityWireFormatVersion = entityWireFormatVersion;
+        return this;
+    }
+
+    /**
+     * Returns whether the data context of requests sent via the event bus is encoded in the compact binary format.
+     * <p>
+     * The data context is encoded as JSON by default, as nodes running older NeonBee versions are only able to decode
+     * this format. Contexts in both formats can be decoded on any node supporting the binary format, so the binary
+     * format can be enabled as soon as all nodes of a cluster are upgraded.
+     *
+     * @return true if the data context is encoded in the binary format, false if it is encoded as JSON
+     */
+    public boolean isBinaryContextEncoding() {
+        return binaryContextEncoding;
+    }
+
+    /**
+     * Sets whether the data context of requests sent via the event bus is encoded in the compact binary format.
+     *
+     * @param binaryContextEncoding true to encode the data context in the binary format, false to encode it as JSON
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setBinaryContextEncoding(boolean binaryContextEncoding) {
+        this.binaryContextEncoding = binaryContextEncoding;
+        return this;
+    }
+
     /**
      * Returns the implementation class name of the tracking data handling strategy.
      *
@@ -310,6 +373,30 @@ public class NeonBeeConfig {
         return this;
     }
 
+    /**
+     * Returns the sample rate of the tracking data handling, meaning that the messages of one in N requests are
+     * tracked.
+     *
+     * @return the sample rate, 1 if all messages are tracked
+     */
+    public int getTrackingSampleRate() {
+        return trackingSampleRate;
+    }
+
+    /**
+     * Sets the sample rate of the tracking data handling. With a sample rate of N, the messages of one in N requests
+     * are tracked. Requests are sampled by the hash of their correlation id, so either all or none of the messages
+     * belonging to the same request are tracked.
+     *
+     * @param trackingSampleRate the sample rate, 1 to track all messages
+     * @return the {@linkplain NeonBeeConfig} for fluent use
+     */
+    @Fluent
+    public NeonBeeConfig setTrackingSampleRate(int trackingSampleRate) {
+        this.trackingSampleRate = trackingSampleRate;
+        return this;
+    }
+
     /**
      * Platform classes are classes to be considered "provided" by the system class loader. NeonBee modules will attempt
      * to find platform classes in the system class loader first, before loading them (self-first) from their own (so
@@ -27,6 +27,7 @@ import io.neonbee.internal.handler.factories.CorrelationIdHandlerFactory;
 import io.neonbee.internal.handler.factories.CorsHandlerFactory;
 import io.neonbee.internal.handler.factories.DisallowingFileUploadBodyHandlerFactory;
 import io.neonbee.internal.handler.factories.InstanceInfoHandlerFactory;
+import io.neonbee.internal.handler.factories.LoadSheddingHandlerFactory;
 import io.neonbee.internal.handler.factories.LoggerHandlerFactory;
 import io.neonbee.internal.handler.factories.RoutingHandlerFactory;
 import io.neonbee.internal.handler.factories.SessionHandlerFactory;
@@ -71,6 +72,9 @@ import io.vertx.ext.web.handler.ErrorHandler;
  *   // ... any other io.vertx.core.http.HttpServerOptions with the given defaults of the class
  *   timeout: number, // the number of seconds before the router timeout applies, defaults to 30
  *   timeoutStatusCode: number, // the status code for the default timeout, defaults to 504
+ *   loadSheddingThreshold: number, // the sustained event loop lag in milliseconds, above which the
+ *      LoadSheddingHandlerFactory rejects requests, defaults to 500
+ *   loadSheddingRetryAfter: number, // the number of seconds sent in the Retry-After header of rejected requests, defaults to 1
  *   sessionHandling: string, // one of: none, local or clustered, defaults to none
  *   sessionCookieName: string, // the name of the session cookie, defaults to neonbee-web.session
  *   correlationStrategy: string, // one of: request_header, generate_uuid, defaults to request_header
@@ -80,7 +84,9 @@ import io.vertx.ext.web.handler.ErrorHandler;
  *       enabled: boolean, // enable the OData endpoint, defaults to true
  *       basePath: string, // the base path to map this endpoint to, defaults to /odata/
  *       authenticationChain: array, // a specific authentication chain for this endpoint, defaults to the general auth. chain
- *       uriConversion: string // namespace and service name URI mapping (strict, or loose based on CDS)
+ *       uriConversion: string, // namespace and service name URI mapping (strict, or loose based on CDS)
+ *       maxPageSize: integer, // the max number of entities per page of an entity set, defaults to 0 / no paging
+ *       maxPageSizes: object // the max page sizes of specific entity sets by their full qualified name
  *     },
  *     {
  *       type: "io.neonbee.endpoint.raw.RawEndpoint", // provides a REST endpoint (JSON, text, binary), for accessing data verticle
@@ -210,6 +216,16 @@ public class ServerConfig extends HttpServerOptions {
      */
     public static final int DEFAULT_TIMEOUT = 30;
 
+    /**
+     * The default event loop lag in milliseconds, above which requests are rejected, if load shedding is active.
+     */
+    public static final int DEFAULT_LOAD_SHEDDING_THRESHOLD = 500;
+
+    /**
+     * The default number of seconds clients should wait, before retrying a request rejected due to load shedding.
+     */
+    public static final int DEFAULT_LOAD_SHEDDING_RETRY_AFTER = 1;
+
     /**
      * The default name to store the session information in a cookie.
      */
@@ -239,6 +255,10 @@ public class ServerConfig extends HttpServerOptions {
 
     private int timeoutStatusCode = GATEWAY_TIMEOUT.code();
 
+    private int loadSheddingThreshold = DEFAULT_LOAD_SHEDDING_THRESHOLD;
+
+    private int loadSheddingRetryAfter = DEFAULT_LOAD_SHEDDING_RETRY_AFTER;
+
     private SessionHandling sessionHandling = SessionHandling.NONE;
 
     private String sessionCookieName = DEFAULT_SESSION_COOKIE_NAME;
@@ -420,6 +440,51 @@ public class ServerConfig extends HttpServerOptions {
         return this;
     }
 
+    /**
+     * Get the sustained event loop lag in milliseconds, above which requests are rejected with 503 Service Unavailable,
+     * in case the {@link LoadSheddingHandlerFactory} is configured. Defaults to 500 milliseconds.
+     *
+     * @return the event loop lag in milliseconds
+     */
+    public int getLoadSheddingThreshold() {
+        return loadSheddingThreshold;
+    }
+
+    /**
+     * Set the sustained event loop lag in milliseconds, above which requests are rejected with 503 Service Unavailable,
+     * in case the {@link LoadSheddingHandlerFactory} is configured.
+     *
+     * @param loadSheddingThreshold the event loop lag in milliseconds
+     * @return the {@link ServerConfig} for chaining
+     */
+    @Fluent
+    public ServerConfig setLoadSheddingThreshold(int loadSheddingThreshold) {
+        this.loadSheddingThreshold = loadSheddingThreshold;
+        return this;
+    }
+
+    /**
+     * Get the number of seconds sent in the Retry-After header of requests rejected due to load shedding. Defaults to 1
+     * second.
+     *
+     * @return the number of seconds clients should wait, before retrying the request
+     */
+    public int getLoadSheddingRetryAfter() {
+        return loadSheddingRetryAfter;
+    }
+
+    /**
+     * Set the number of seconds sent in the Retry-After header of requests rejected due to load shedding.
+     *
+     * @param loadSheddingRetryAfter the number of seconds clients should wait, before retrying the request
+     * @return the {@link ServerConfig} for chaining
+     */
+    @Fluent
+    public ServerConfig setLoadSheddingRetryAfter(int loadSheddingRetryAfter) {
+        this.loadSheddingRetryAfter = loadSheddingRetryAfter;
+        return this;
+    }
+
     /**
      * Return a list of all endpoints to configure for the {@link ServerVerticle}.
      *
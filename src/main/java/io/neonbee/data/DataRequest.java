@@ -30,28 +30,23 @@ public class DataRequest {
         RECURSIVE,
 
         /**
-         * An optimized / parallel / tail first resolution strategy for the data
+         * An optimized / deduplicating resolution strategy for the data
          * <p>
-         * This strategy will first recursively send a message via the event bus to collect all the
-         * {@link DataVerticle#requireData(DataQuery,DataContext)} for all the verticle involved (could also be done
-         * locally to be even faster). The list of data requests is then optimized, e.g. by removing duplicates and
-         * reducing the data requests if possible (e.g. by joining filters). Afterwards the data will be (in parallel)
-         * requested from all the verticle the data request was targeted to. As soon as the first requests are finished,
-         * it will be checked if the data is enough for any further requests to resolve, by sending further requests to
-         * the {@link DataVerticle#requireData(DataQuery,DataContext)} methods via the event bus. This is done via a
-         * handler cascade, build up, when determining the required data. If one request resolves, the next verticle
-         * will be called immediately.
+         * This strategy resolves the required data like the {@link #RECURSIVE} strategy, however all data verticles
+         * taking part in resolving the same request tree (identified by the correlation ID of the {@link DataContext})
+         * share one node-local scope of data requests. Identical data requests anywhere in the tree, e.g. two data
+         * verticles requiring the same data from a third data verticle, are only sent once and all requesters receive
+         * the same result. Data requests to data verticles that do not specify a resolution strategy explicitly are
+         * resolved using the optimized strategy as well, so the whole tree takes part in the optimization. All required
+         * data of one verticle is still requested in parallel, so the leaves of the tree are requested as soon as
+         * their requiring verticle determined its required data.
          * <p>
-         * Advantages: Optimizations on the data requests are possible. Initially every data request is send in
-         * parallel.
+         * Advantages: Identical data requests in the request tree are only resolved once, which reduces the traffic
+         * via the event bus and the load on the verticles providing the data.
          * <p>
-         * Disadvantages: More traffic via the event bus, to first determine the required data and then the required
-         * data is sent back and forth in order for the verticle to get the data they needed in the first place. Also
-         * the outgoing network traffic could be focused on specific nodes.
-         * <p>
-         * Notes: Further optimizations possible, e.g. data requests which are only required by one certain verticle (so
-         * it could not be optimized in the optimization step), could be directly done by the respective data verticle.
-         * This would reduce the amount of data exchanged via the event bus.
+         * Disadvantages: The results of a data request are shared between all verticles requiring it, so the result
+         * must not be modified by the requiring verticles. The scope is node-local, identical data requests resolved
+         * on different nodes of a cluster are not deduplicated.
          */
         OPTIMIZED
     }
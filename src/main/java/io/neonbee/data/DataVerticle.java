@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -36,8 +37,10 @@ import io.micrometer.core.instrument.Tag;
 import io.neonbee.NeonBee;
 import io.neonbee.NeonBeeDeployable;
 import io.neonbee.config.MetricsConfig;
+import io.neonbee.config.NeonBeeConfig;
 import io.neonbee.data.DataRequest.ResolutionStrategy;
 import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.data.internal.DataRequestScope;
 import io.neonbee.data.internal.metrics.ConfiguredDataVerticleMetrics;
 import io.neonbee.data.internal.metrics.DataVerticleMetrics;
 import io.neonbee.internal.helper.FunctionalHelper;
@@ -80,6 +83,10 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
 
     private DataVerticleMetrics dataVerticleMetrics;
 
+    private boolean boundedMetrics;
+
+    private boolean reportQueryShape;
+
     /**
      * Requesting data from other DataSources or Data/EntityVerticles.
      *
@@ -91,6 +98,22 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
      * @return a future to the data requested
      */
     public static <U> Future<U> requestData(Vertx vertx, DataRequest request, DataContext context) {
+        return requestData(vertx, request, context, null);
+    }
+
+    /**
+     * Requesting data from other DataSources or Data/EntityVerticles, using a default resolution strategy for requests
+     * to data verticles, which did not specify any resolution strategy explicitly.
+     *
+     * @param vertx           The Vertx instance
+     * @param request         The DataRequest specifying the data to request
+     * @param context         The {@link DataContext data context}
+     * @param defaultStrategy The resolution strategy to use, in case the request does not specify one, or null
+     * @param <U>             The type of the returned future
+     * @return a future to the data requested
+     */
+    private static <U> Future<U> requestData(Vertx vertx, DataRequest request, DataContext context,
+            ResolutionStrategy defaultStrategy) {
         DataSource<?> dataSource = request.getDataSource();
 
         if (dataSource != null) {
@@ -110,7 +133,8 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
             LOGGER.correlateWith(context).debug("Sending message via the event bus to {}", qualifiedName);
             String address = getAddress(qualifiedName);
             return vertx.eventBus()
-                    .<U>request(address, request.getQuery(), requestDeliveryOptions(vertx, request, context, address))
+                    .<U>request(address, request.getQuery(),
+                            requestDeliveryOptions(vertx, request, context, address, defaultStrategy))
                     .transform(asyncReply -> {
                         LOGGER.correlateWith(context).debug("Received event bus reply");
 
@@ -201,14 +225,15 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
     /**
      * Creates a new delivery options object for any given data request and context.
      *
-     * @param vertx   the vertx instance
-     * @param request the data request
-     * @param context the data context
-     * @param address request address
+     * @param vertx           the vertx instance
+     * @param request         the data request
+     * @param context         the data context
+     * @param address         request address
+     * @param defaultStrategy the resolution strategy to use, in case the request does not specify one, or null
      * @return a new DeliveryOptions
      */
     private static DeliveryOptions requestDeliveryOptions(Vertx vertx, DataRequest request, DataContext context,
-            String address) {
+            String address, ResolutionStrategy defaultStrategy) {
         if (context instanceof DataContextImpl) { // will also perform a null check!
             // before encoding the context header, add the current qualified name of the verticle to the path stack
             ((DataContextImpl) context).pushVerticleToPath(request.getQualifiedName());
@@ -227,7 +252,8 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
             deliveryOptions.setSendTimeout(request.getSendTimeout());
         }
 
-        Optional.ofNullable(request.getResolutionStrategy()).map(ResolutionStrategy::name)
+        Optional.ofNullable(request.getResolutionStrategy()).or(() -> Optional.ofNullable(defaultStrategy))
+                .map(ResolutionStrategy::name)
                 .ifPresent(value -> deliveryOptions.addHeader(RESOLUTION_STRATEGY_HEADER, value));
 
         return deliveryOptions;
@@ -242,10 +268,15 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
      * @return a new DeliveryOptions
      */
     private static DeliveryOptions deliveryOptions(Vertx vertx, MessageCodec<?, ?> codec, DataContext context) {
+        NeonBeeConfig config = NeonBee.get(vertx).getConfig();
         DeliveryOptions deliveryOptions = new DeliveryOptions();
-        deliveryOptions.setSendTimeout(SECONDS.toMillis(NeonBee.get(vertx).getConfig().getEventBusTimeout()))
+        deliveryOptions.setSendTimeout(SECONDS.toMillis(config.getEventBusTimeout()))
                 .setCodecName(Optional.ofNullable(codec).map(MessageCodec::name).orElse(null));
-        Optional.ofNullable(context).map(DataContextImpl::encodeContextToString)
+        // nodes running older NeonBee versions are only able to decode the JSON encoded context
+        Function<DataContext, String> contextEncoder = config.isBinaryContextEncoding()
+                ? DataContextImpl::encodeContextToBinaryString
+                : DataContextImpl::encodeContextToString;
+        Optional.ofNullable(context).map(contextEncoder)
                 .ifPresent(value -> deliveryOptions.addHeader(CONTEXT_HEADER, value));
         return deliveryOptions;
     }
@@ -334,6 +365,8 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         super.init(vertx, context);
         JsonObject metrics = getMetricsConfig(NeonBee.get(vertx).getConfig().getMetricsConfig());
         this.dataVerticleMetrics = ConfiguredDataVerticleMetrics.configureMetricsReporting(NeonBee.get(vertx), metrics);
+        this.boundedMetrics = ConfiguredDataVerticleMetrics.isBoundedTags(metrics);
+        this.reportQueryShape = ConfiguredDataVerticleMetrics.isReportQueryShape(metrics);
 
         // if present, register the custom codec. IMPORTANT: do NOT register the codec in the start method, as the
         // codec will need to be available on all instances, even if no instance of the verticle is started later on
@@ -499,6 +532,11 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
     }
 
     private <U> void reportRequestDataMetrics(DataRequest request, Future<U> future) {
+        if (boundedMetrics) {
+            reportBoundedRequestDataMetrics(request, future);
+            return;
+        }
+
         List<Tag> tags;
         if (request.getQuery() == null || request.getQuery().getRawQuery().isEmpty()) {
             tags = List.of();
@@ -516,6 +554,25 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         dataVerticleMetrics.reportNumberOfRequests("request.counter." + qualifiedName, "Number of requests sent", tags);
     }
 
+    private <U> void reportBoundedRequestDataMetrics(DataRequest request, Future<U> future) {
+        Tag qualifiedNameTag = new ImmutableTag("qualifiedName", request.getQualifiedName());
+        List<Tag> tags;
+        if (reportQueryShape) {
+            // requests without a query are tagged with an empty shape, as all meters of one name need the same tag keys
+            String rawQuery = request.getQuery() != null ? request.getQuery().getRawQuery() : null;
+            tags = List.of(qualifiedNameTag,
+                    new ImmutableTag("query", ConfiguredDataVerticleMetrics.queryShape(rawQuery)));
+        } else {
+            tags = List.of(qualifiedNameTag);
+        }
+
+        dataVerticleMetrics.reportTimingMetric("request.data.timer", "time to retrieve the data", tags, future);
+        dataVerticleMetrics.reportStatusCounter("request.data.counter", SUCCEEDED_RESPONSE_COUNT, tags, future);
+        dataVerticleMetrics.reportActiveRequestsGauge("request.data.active.requests",
+                "Number of requests waiting for a response", List.of(qualifiedNameTag), future);
+        dataVerticleMetrics.reportNumberOfRequests("request.counter", "Number of requests sent", tags);
+    }
+
     /**
      * Returns the qualified name (namespace if existing and name) of this verticle separated by a forward slash as a
      * namespace separator.
@@ -574,11 +631,8 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
                             // use one copy of DataContext for each request to avoid data clash
                             DataContext requestContext = context.copy();
                             receivedDataContextMap.put(request, requestContext);
-                            return requestResults.computeIfAbsent(request, mapRequest -> {
-                                Future<Object> future = requestData(vertx, request, requestContext);
-                                reportRequestDataMetrics(request, future);
-                                return future;
-                            });
+                            return requestResults.computeIfAbsent(request,
+                                    mapRequest -> requestRequiredData(request, requestContext));
                         }).map(Future.class::cast).collect(Collectors.toList())).otherwiseEmpty();
             }).compose(requiredCompositeOrNothing -> {
                 List<Tag> tags = retrieveDataTags();
@@ -591,7 +645,8 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
                     reportRetrieveDataMetrics(tags, future);
                     return future;
                 } catch (Exception e) {
-                    dataVerticleMetrics.reportStatusCounter("retrieve.data.counter." + getAddress(),
+                    dataVerticleMetrics.reportStatusCounter(
+                            boundedMetrics ? "retrieve.data.counter" : "retrieve.data.counter." + getAddress(),
                             SUCCEEDED_RESPONSE_COUNT, tags, failedFuture(e));
                     // handle any (runtime) exception here and fail the result future
                     return failedFuture(e);
@@ -599,16 +654,35 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
             });
         }
 
+        /**
+         * Requests the data of one data request returned by {@link #requireData(DataQuery, DataContext)}.
+         *
+         * @param request        the required data request
+         * @param requestContext the copy of the data context to use for the request
+         * @return a future to the data requested
+         */
+        Future<Object> requestRequiredData(DataRequest request, DataContext requestContext) {
+            Future<Object> future = requestData(vertx, request, requestContext);
+            reportRequestDataMetrics(request, future);
+            return future;
+        }
+
         /**
          * @return tags for the retrieve data metrics.
          */
         private List<Tag> retrieveDataTags() {
-            List<Tag> tags = new ArrayList<>(2);
             String name = getName();
+            String namespace = getNamespace();
+            if (boundedMetrics) {
+                // all verticles report to the same meters, which need the same tag keys, so always emit both tags
+                return List.of(new ImmutableTag("name", Strings.nullToEmpty(name)),
+                        new ImmutableTag("namespace", Strings.nullToEmpty(namespace)));
+            }
+
+            List<Tag> tags = new ArrayList<>(2);
             if (name != null) {
                 tags.add(new ImmutableTag("name", name));
             }
-            String namespace = getNamespace();
             if (namespace != null) {
                 tags.add(new ImmutableTag("namespace", namespace));
             }
@@ -616,21 +690,58 @@ public abstract class DataVerticle<T> extends AbstractVerticle implements DataAd
         }
 
         private void reportRetrieveDataMetrics(List<Tag> tags, Future<T> future) {
-            String address = getAddress();
-            dataVerticleMetrics.reportTimingMetric("retrieve.data.timer." + address, "Time to retrieve data", tags,
-                    future);
-            dataVerticleMetrics.reportStatusCounter("retrieve.data.counter." + address, SUCCEEDED_RESPONSE_COUNT, tags,
+            // with bounded tags, the name and namespace tags identify the verticle instead of the meter name
+            String nameSuffix = boundedMetrics ? "" : "." + getAddress();
+            dataVerticleMetrics.reportTimingMetric("retrieve.data.timer" + nameSuffix, "Time to retrieve data", tags,
                     future);
-            dataVerticleMetrics.reportActiveRequestsGauge("retrieve.data.active.requests." + address,
+            dataVerticleMetrics.reportStatusCounter("retrieve.data.counter" + nameSuffix, SUCCEEDED_RESPONSE_COUNT,
+                    tags, future);
+            dataVerticleMetrics.reportActiveRequestsGauge("retrieve.data.active.requests" + nameSuffix,
                     "Number of requests waiting for a response", tags, future);
-            dataVerticleMetrics.reportNumberOfRequests("retrieve.counter." + address, "Number of requests sent", tags);
+            dataVerticleMetrics.reportNumberOfRequests("retrieve.counter" + nameSuffix, "Number of requests sent",
+                    tags);
         }
     }
 
-    private class OptimizedResolutionRoutine implements ResolutionRoutine {
+    /**
+     * The optimized resolution routine resolves the required data just like the recursive resolution routine does, but
+     * all data verticles taking part in resolving one request tree share a node-local {@link DataRequestScope}. This
+     * removes duplicate data requests across the whole tree: identical data requests, even if required by different
+     * data verticles on different levels of the tree, are only sent once and all of them receive the same result. Data
+     * requests to data verticles, which don't specify a resolution strategy on their own, are sent using the optimized
+     * strategy as well, so that the whole tree participates in the same scope.
+     */
+    private class OptimizedResolutionRoutine extends RecursiveResolutionRoutine {
+        private DataRequestScope scope;
+
         @Override
         public Future<T> execute(DataQuery query, DataContext context) {
-            return failedFuture(new UnsupportedOperationException("Optimized resolution strategy not available."));
+            String correlationId = context != null ? context.correlationId() : null;
+            if (correlationId == null) {
+                // without a correlation ID, there is no way to identify the request tree, resolve recursively instead
+                return super.execute(query, context);
+            }
+
+            scope = DataRequestScope.acquire(vertx, correlationId);
+            try {
+                return super.execute(query, context).onComplete(result -> scope.release());
+            } catch (RuntimeException e) {
+                scope.release();
+                throw e;
+            }
+        }
+
+        @Override
+        Future<Object> requestRequiredData(DataRequest request, DataContext requestContext) {
+            if (scope == null) {
+                return super.requestRequiredData(request, requestContext);
+            }
+
+            return scope.requestData(request, requestContext, (scopedRequest, scopedContext) -> {
+                Future<Object> future = requestData(vertx, scopedRequest, scopedContext, ResolutionStrategy.OPTIMIZED);
+                reportRequestDataMetrics(scopedRequest, future);
+                return future;
+            });
         }
     }
 
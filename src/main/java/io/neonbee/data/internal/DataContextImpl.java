@@ -6,7 +6,10 @@ import static io.neonbee.internal.helper.CollectionHelper.isNullOrEmpty;
 import static io.neonbee.internal.helper.CollectionHelper.mutableCopyOf;
 import static io.neonbee.internal.helper.HostHelper.getHostIp;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
@@ -20,6 +23,9 @@ import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Streams;
 
@@ -28,7 +34,9 @@ import io.neonbee.data.DataException;
 import io.neonbee.data.DataRequest;
 import io.neonbee.internal.handler.CorrelationIdHandler;
 import io.neonbee.logging.LoggingFacade;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.auth.User;
@@ -56,6 +64,12 @@ public class DataContextImpl implements DataContext {
 
     private static final String RESPONSE_METADATA_KEY = "responsedata";
 
+    private static final byte BINARY_FORMAT_VERSION = 1;
+
+    private static final int NULL_LENGTH = -1;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private final String correlationId;
 
     private final String bearerToken;
@@ -70,6 +84,14 @@ public class DataContextImpl implements DataContext {
 
     private Deque<DataVerticleCoordinate> pathStack;
 
+    /**
+     * The still encoded data and response data of a context decoded from the binary format. Both are only decoded, when
+     * they are accessed for the first time.
+     */
+    private Buffer encodedData;
+
+    private Buffer encodedResponseData;
+
     /**
      * This is a map between {@link DataRequest} to an invoked verticle and the received response data for the request.
      * This map will not be propagated to the upstream verticles by default.
@@ -171,7 +193,8 @@ public class DataContextImpl implements DataContext {
     @Override
     public Map<String, Object> data() {
         if (this.data == null) {
-            this.data = new HashMap<>();
+            this.data = decodeMap(encodedData);
+            this.encodedData = null;
         }
         return this.data;
     }
@@ -206,6 +229,7 @@ public class DataContextImpl implements DataContext {
     @SuppressWarnings("PMD.NullAssignment")
     public final DataContext setData(Map<String, Object> data) {
         this.data = (data != null) && !data.isEmpty() ? mutableCopyOf(data) : null;
+        this.encodedData = null;
         return this;
     }
 
@@ -213,7 +237,7 @@ public class DataContextImpl implements DataContext {
     public DataContext mergeData(Map<String, Object> data) {
         if ((data != null) && !data.isEmpty()) {
             // instead of putAll, might be worth it to write a more sophisticated logic using .merge()
-            this.data.putAll(mutableCopyOf(data));
+            this.data().putAll(mutableCopyOf(data));
         }
         return this;
     }
@@ -251,7 +275,8 @@ public class DataContextImpl implements DataContext {
     @Override
     public Map<String, Object> responseData() {
         if (this.responseData == null) {
-            this.responseData = new HashMap<>();
+            this.responseData = decodeMap(encodedResponseData);
+            this.encodedResponseData = null;
         }
         return this.responseData;
     }
@@ -323,7 +348,8 @@ public class DataContextImpl implements DataContext {
     }
 
     /**
-     * Decodes a given string to {@link DataContext}.
+     * Decodes a given string to {@link DataContext}. The string can either be encoded using
+     * {@link #encodeContextToString(DataContext)} or {@link #encodeContextToBinaryString(DataContext)}.
      *
      * @param contextString A string to decode
      * @return a new {@link DataContext} instance representing the passed string
@@ -332,6 +358,9 @@ public class DataContextImpl implements DataContext {
         if (contextString == null) {
             // in case the header value is null, also return null from this deserialization
             return null;
+        } else if (!contextString.startsWith("{")) {
+            // a JSON encoded context always starts with a curly bracket, which is not part of the Base64 alphabet
+            return decodeContextFromBinaryString(contextString);
         }
 
         JsonObject contextJson = new JsonObject(contextString);
@@ -344,11 +373,179 @@ public class DataContextImpl implements DataContext {
                         .orElse(null));
     }
 
+    /**
+     * Reads only the correlation id of a data context encoded as string, without decoding the whole context. For a
+     * context encoded with {@link #encodeContextToBinaryString(DataContext)}, only the Base64 characters up to the end
+     * of the correlation id are decoded. A JSON encoded context is parsed only up to the correlation id field, skipping
+     * the values of all other fields.
+     *
+     * @param contextString A string to read the correlation id from
+     * @return the correlation id of the encoded context, or null
+     */
+    public static String peekCorrelationId(String contextString) {
+        if (contextString == null) {
+            return null;
+        } else if (contextString.startsWith("{")) {
+            return peekJsonCorrelationId(contextString);
+        }
+
+        int headerLength = Byte.BYTES + Integer.BYTES;
+        Buffer header = Buffer.buffer(decodeBase64Prefix(contextString, headerLength));
+        if (header.getByte(0) != BINARY_FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported binary data context format version " + header.getByte(0));
+        }
+
+        int length = header.getInt(Byte.BYTES);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+
+        byte[] prefix = decodeBase64Prefix(contextString, headerLength + length);
+        return new String(prefix, headerLength, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the correlation id of a JSON encoded context with a streaming parser, which stops at the correlation id.
+     */
+    private static String peekJsonCorrelationId(String contextString) {
+        try (JsonParser parser = JSON_FACTORY.createParser(contextString)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new DecodeException("Data context is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (CORRELATION_ID.equals(fieldName)) {
+                    return valueToken == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            throw new DecodeException("Failed to decode data context: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Decodes the shortest prefix of a Base64 string, which contains at least the given number of bytes.
+     */
+    private static byte[] decodeBase64Prefix(String base64, int minBytes) {
+        // every four Base64 characters encode three bytes
+        int chars = Math.min(base64.length(), (minBytes + 2) / 3 * 4);
+        return Base64.getDecoder().decode(base64.substring(0, chars));
+    }
+
     private static Deque<DataVerticleCoordinate> pathFromJson(JsonArray array) {
         return array.stream().map(JsonObject.class::cast).map(object -> object.mapTo(DataVerticleCoordinateImpl.class))
                 .collect(ArrayDeque::new, Deque::push, Deque::addAll);
     }
 
+    /**
+     * Encodes a given {@link DataContext} to a compact binary representation, which is passed as Base64 string.
+     * <p>
+     * In contrast to {@link #encodeContextToString(DataContext)} all fields are written length-prefixed, without any
+     * field names. The path is not mapped via Jackson, and the data and response data of the context are only decoded
+     * on the receiving side, when they are accessed. The resulting string can be decoded with
+     * {@link #decodeContextFromString(String)}.
+     *
+     * @param context A data context to encode
+     * @return The passed data context represented as Base64 encoded binary string
+     */
+    public static String encodeContextToBinaryString(DataContext context) {
+        if (context == null) {
+            return null;
+        }
+
+        Buffer buffer = Buffer.buffer().appendByte(BINARY_FORMAT_VERSION);
+        appendString(buffer, context.correlationId());
+        appendString(buffer, context.sessionId());
+        appendString(buffer, context.bearerToken());
+        appendBuffer(buffer, Optional.ofNullable(context.userPrincipal()).map(JsonObject::toBuffer).orElse(null));
+        appendBuffer(buffer, encodeMap(context.data()));
+        appendBuffer(buffer, encodeMap(context.responseData()));
+
+        List<DataVerticleCoordinate> path = streamPath(context.path()).collect(Collectors.toList());
+        buffer.appendInt(path.size());
+        for (DataVerticleCoordinate coordinate : path) {
+            appendString(buffer, coordinate.getQualifiedName());
+            appendString(buffer, coordinate.getRequestTimestamp());
+            appendString(buffer, coordinate.getDeploymentId());
+            appendString(buffer, coordinate.getIpAddress());
+            appendString(buffer, coordinate.getResponseTimestamp());
+        }
+
+        return Base64.getEncoder().encodeToString(buffer.getBytes());
+    }
+
+    @SuppressWarnings("PMD.NullAssignment")
+    private static DataContext decodeContextFromBinaryString(String contextString) {
+        Buffer buffer = Buffer.buffer(Base64.getDecoder().decode(contextString));
+        int[] position = { 0 };
+        byte version = buffer.getByte(position[0]++);
+        if (version != BINARY_FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported binary data context format version " + version);
+        }
+
+        String correlationId = readString(buffer, position);
+        String sessionId = readString(buffer, position);
+        String bearerToken = readString(buffer, position);
+        JsonObject userPrincipal = Optional.ofNullable(readBuffer(buffer, position)).map(JsonObject::new).orElse(null);
+        Buffer encodedData = readBuffer(buffer, position);
+        Buffer encodedResponseData = readBuffer(buffer, position);
+
+        int pathSize = buffer.getInt(position[0]);
+        position[0] += Integer.BYTES;
+        Deque<DataVerticleCoordinate> path = new ArrayDeque<>(pathSize);
+        for (int index = 0; index < pathSize; index++) {
+            path.push(new DataVerticleCoordinateImpl(readString(buffer, position), readString(buffer, position),
+                    readString(buffer, position), readString(buffer, position), readString(buffer, position)));
+        }
+
+        DataContextImpl context =
+                new DataContextImpl(correlationId, sessionId, bearerToken, userPrincipal, null, null, path);
+        context.encodedData = encodedData;
+        context.encodedResponseData = encodedResponseData;
+        context.responseData = null; // decode the response data, when it is accessed for the first time
+        return context;
+    }
+
+    private static Buffer encodeMap(Map<String, Object> map) {
+        return isNullOrEmpty(map) ? null : new JsonObject(map).toBuffer();
+    }
+
+    private static Map<String, Object> decodeMap(Buffer buffer) {
+        return buffer != null ? new JsonObject(buffer).getMap() : new HashMap<>();
+    }
+
+    private static void appendString(Buffer buffer, String value) {
+        appendBuffer(buffer, value != null ? Buffer.buffer(value.getBytes(StandardCharsets.UTF_8)) : null);
+    }
+
+    private static void appendBuffer(Buffer buffer, Buffer value) {
+        if (value == null) {
+            buffer.appendInt(NULL_LENGTH);
+        } else {
+            buffer.appendInt(value.length()).appendBuffer(value);
+        }
+    }
+
+    private static String readString(Buffer buffer, int[] position) {
+        return Optional.ofNullable(readBuffer(buffer, position)).map(value -> value.toString(StandardCharsets.UTF_8))
+                .orElse(null);
+    }
+
+    private static Buffer readBuffer(Buffer buffer, int[] position) {
+        int length = buffer.getInt(position[0]);
+        position[0] += Integer.BYTES;
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+
+        Buffer value = buffer.getBuffer(position[0], position[0] + length);
+        position[0] += length;
+        return value;
+    }
+
     /**
      * Push a new verticle into the stack.
      *
@@ -0,0 +1,221 @@
+package io.neonbee.data.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.apache.olingo.commons.api.edm.FullQualifiedName;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataRequest;
+import io.neonbee.data.DataRequest.ResolutionStrategy;
+import io.neonbee.data.DataSink;
+import io.neonbee.data.DataSource;
+import io.neonbee.internal.SharedDataAccessor;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+
+/**
+ * A node-local scope of all data requests issued while resolving one request tree with the
+ * {@link ResolutionStrategy#OPTIMIZED optimized resolution strategy}. The scope is identified by the correlation ID of
+ * the {@link DataContext}, so every data verticle on this node taking part in resolving the same tree shares the same
+ * scope. Identical data requests (same target, query, delivery settings, context data and user) are only sent once per
+ * scope, all further requesters receive the result of the first request.
+ * <p>
+ * As the correlation ID might be provided by the client, requests of different users could end up in the same scope.
+ * Thus data requests are only considered identical, in case they are issued on behalf of the same user, i.e. with the
+ * same user principal, bearer token and session, so that results are never shared between different users.
+ * <p>
+ * Scopes are reference counted: each resolution routine {@link #acquire(Vertx, String) acquires} the scope before
+ * requesting any data and {@link #release() releases} it when done. The scope is discarded as soon as the last routine
+ * releases it, so the results are never shared between two different requests.
+ */
+public final class DataRequestScope implements Shareable {
+    private static final String SCOPES_MAP_NAME = "scopes";
+
+    private final Map<Key, ScopedRequest> requests = new ConcurrentHashMap<>();
+
+    private final LocalMap<String, DataRequestScope> scopes;
+
+    private final String correlationId;
+
+    private int references;
+
+    private DataRequestScope(LocalMap<String, DataRequestScope> scopes, String correlationId) {
+        this.scopes = scopes;
+        this.correlationId = correlationId;
+    }
+
+    /**
+     * Acquires the scope for a given correlation ID on this node. In case no scope exists yet, a new one is created.
+     *
+     * @param vertx         the Vert.x instance
+     * @param correlationId the correlation ID of the request tree to resolve
+     * @return the acquired scope, which must be {@link #release() released} after the resolution completed
+     */
+    public static DataRequestScope acquire(Vertx vertx, String correlationId) {
+        Objects.requireNonNull(correlationId, "the correlation ID cannot be null");
+        LocalMap<String, DataRequestScope> scopes =
+                new SharedDataAccessor(vertx, DataRequestScope.class).getLocalMap(SCOPES_MAP_NAME);
+        return scopes.compute(correlationId, (id, scope) -> {
+            DataRequestScope acquiredScope = scope != null ? scope : new DataRequestScope(scopes, id);
+            acquiredScope.references++;
+            return acquiredScope;
+        });
+    }
+
+    /**
+     * Releases the scope. If this was the last reference to the scope, all shared requests are discarded.
+     */
+    public void release() {
+        scopes.computeIfPresent(correlationId, (id, scope) -> {
+            if (scope != this) {
+                return scope;
+            }
+            return --references > 0 ? this : null;
+        });
+    }
+
+    /**
+     * Requests data in this scope. In case an identical data request was already issued in this scope, the future of
+     * the previous request is returned and the data and response data of the previous request are merged into the
+     * given context, as if the request would have been sent again.
+     *
+     * @param request   the data request to issue
+     * @param context   the context to use for the data request
+     * @param requestor the function actually requesting the data in case no identical request was issued yet
+     * @return a future to the data requested
+     */
+    public Future<Object> requestData(DataRequest request, DataContext context,
+            BiFunction<DataRequest, DataContext, Future<Object>> requestor) {
+        Promise<Object> promise = Promise.promise();
+        ScopedRequest scopedRequest = new ScopedRequest(promise.future(), context);
+        ScopedRequest previousRequest = requests.putIfAbsent(new Key(request, context), scopedRequest);
+        if (previousRequest == null) {
+            try {
+                requestor.apply(request, context).onComplete(promise);
+            } catch (RuntimeException e) {
+                promise.fail(e);
+            }
+            return scopedRequest.future;
+        }
+
+        return previousRequest.future.onSuccess(result -> {
+            if (context != null && previousRequest.context != null) {
+                // copy the data, so that modifications of either requester are not visible to the other one
+                Map<String, Object> data = previousRequest.context.data();
+                context.setData(data != null ? new HashMap<>(data) : null);
+                context.mergeResponseData(previousRequest.context.responseData());
+            }
+        });
+    }
+
+    /**
+     * Returns the number of distinct data requests issued in this scope.
+     *
+     * @return the number of distinct data requests
+     */
+    @VisibleForTesting
+    int size() {
+        return requests.size();
+    }
+
+    private static final class ScopedRequest {
+        private final Future<Object> future;
+
+        private final DataContext context;
+
+        ScopedRequest(Future<Object> future, DataContext context) {
+            this.future = future;
+            this.context = context;
+        }
+    }
+
+    /**
+     * The {@link DataRequest} does not implement equals / hashCode, as two data requests to the same target are
+     * intentionally distinct when required by one data verticle. In the scope of an optimized resolution however, two
+     * requests are considered identical, in case all of their properties match. As data verticles may rely on the data
+     * of the context passed with a request, the data of the context has to match as well. The same applies to the user
+     * on whose behalf the request is issued, as data verticles may return different data for different users.
+     */
+    private static final class Key {
+        private final DataSource<?> dataSource;
+
+        private final DataSink<?> dataSink;
+
+        private final String qualifiedName;
+
+        private final FullQualifiedName entityTypeName;
+
+        private final DataQuery query;
+
+        private final ResolutionStrategy resolutionStrategy;
+
+        private final long sendTimeout;
+
+        private final boolean localOnly;
+
+        private final boolean localPreferred;
+
+        private final Map<String, Object> contextData;
+
+        private final JsonObject userPrincipal;
+
+        private final String bearerToken;
+
+        private final String sessionId;
+
+        Key(DataRequest request, DataContext context) {
+            this.dataSource = request.getDataSource();
+            this.dataSink = request.getDataSink();
+            this.qualifiedName = request.getQualifiedName();
+            this.entityTypeName = request.getEntityTypeName();
+            // copy the query, as the query could be modified after it was requested
+            this.query = request.getQuery() != null ? request.getQuery().copy() : null;
+            this.resolutionStrategy = request.getResolutionStrategy();
+            this.sendTimeout = request.getSendTimeout();
+            this.localOnly = request.isLocalOnly();
+            this.localPreferred = request.isLocalPreferred();
+            // copy the data of the context, as the requested verticle is going to modify the data of the context
+            this.contextData = context != null && context.data() != null ? new HashMap<>(context.data()) : Map.of();
+            this.userPrincipal = context != null ? context.userPrincipal() : null;
+            this.bearerToken = context != null ? context.bearerToken() : null;
+            this.sessionId = context != null ? context.sessionId() : null;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) object;
+            return dataSource == key.dataSource && dataSink == key.dataSink
+                    && Objects.equals(qualifiedName, key.qualifiedName)
+                    && Objects.equals(entityTypeName, key.entityTypeName) && Objects.equals(query, key.query)
+                    && resolutionStrategy == key.resolutionStrategy && sendTimeout == key.sendTimeout
+                    && localOnly == key.localOnly && localPreferred == key.localPreferred
+                    && Objects.equals(contextData, key.contextData)
+                    && Objects.equals(userPrincipal, key.userPrincipal) && Objects.equals(bearerToken, key.bearerToken)
+                    && Objects.equals(sessionId, key.sessionId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(dataSource), System.identityHashCode(dataSink), qualifiedName,
+                    entityTypeName, query, resolutionStrategy, sendTimeout, localOnly, localPreferred, contextData,
+                    userPrincipal, bearerToken, sessionId);
+        }
+    }
+}
@@ -25,6 +25,15 @@ public class DataVerticleCoordinateImpl implements DataVerticleCoordinate {
         this.requestTimestamp = LocalTime.now(ZoneId.systemDefault()).toString();
     }
 
+    DataVerticleCoordinateImpl(String qualifiedName, String requestTimestamp, String deploymentId, String ipAddress,
+            String responseTimestamp) {
+        this.qualifiedName = qualifiedName;
+        this.requestTimestamp = requestTimestamp;
+        this.deploymentId = deploymentId;
+        this.ipAddress = ipAddress;
+        this.responseTimestamp = responseTimestamp;
+    }
+
     @Override
     public String getRequestTimestamp() {
         return requestTimestamp;
@@ -55,6 +55,26 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
      */
     public static final String TIMING = "reportTiming";
 
+    /**
+     * Key to report all metrics with a fixed meter name and a bounded set of tags, instead of embedding the qualified
+     * name / address into the meter name and the raw query into the tags.
+     */
+    public static final String BOUNDED_TAGS = "boundedTags";
+
+    /**
+     * Key to add the shape of the query (the query parameter names without their values) as a tag, if
+     * {@link #BOUNDED_TAGS} is enabled.
+     */
+    public static final String QUERY_SHAPE = "reportQueryShape";
+
+    /**
+     * Key for the maximum number of meters registered per verticle, if {@link #BOUNDED_TAGS} is enabled. Any further
+     * meter is reported to an overflow meter.
+     */
+    public static final String MAX_METERS = "maxMeters";
+
+    private static final List<String> MODE_KEYS = List.of(METRICS_REGISTRY_NAME, BOUNDED_TAGS, QUERY_SHAPE, MAX_METERS);
+
     @VisibleForTesting
     static final NoopDataVerticleMetrics DUMMY_IMPL = new NoopDataVerticleMetrics();
 
@@ -92,6 +112,12 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
      * "reportStatusCounter", "reportTiming", only the values configured as true will be reported. If you do not specify
      * any of these values, all metrics are reported.
      *
+     * If "boundedTags" is set to true, the metrics are reported with fixed meter names and the qualified name of the
+     * verticle as a tag. The metrics of the verticle itself are tagged with its name and namespace, which is empty for
+     * verticles without a namespace. The raw query is not reported, unless "reportQueryShape" is set to true, in which case only
+     * the names of the query parameters are reported. At most "maxMeters" meters (default 1000) are registered per
+     * verticle, any further meter is reported to an overflow meter with all tag values set to {@code overflow}.
+     *
      * Full example:
      *
      * <pre>
@@ -102,7 +128,10 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
      *     "reportNumberOfRequests" : true,
      *     "reportActiveRequests" : true
      *     "reportStatusCounter" : true,
-     *     "reportTiming" : true
+     *     "reportTiming" : true,
+     *     "boundedTags" : true,
+     *     "reportQueryShape" : true,
+     *     "maxMeters" : 1000
      * }
      * }
      * </pre>
@@ -125,7 +154,10 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
                     "Micrometer registry hasn't been registered yet or it has been stopped. Metrics will not be sent.");
             return DUMMY_IMPL;
         } else {
-            DataVerticleMetrics metricsImpl = new DataVerticleMetricsImpl(registry);
+            DataVerticleMetrics metricsImpl = isBoundedTags(metricsConfig)
+                    ? new DataVerticleMetricsImpl(registry,
+                            metricsConfig.getInteger(MAX_METERS, DataVerticleMetricsImpl.DEFAULT_MAX_METERS))
+                    : new DataVerticleMetricsImpl(registry);
             return configureDataVerticleMetrics(metricsConfig, metricsImpl);
         }
     }
@@ -133,7 +165,7 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
     private static DataVerticleMetrics configureDataVerticleMetrics(JsonObject metricsConfig,
             DataVerticleMetrics metricsImpl) {
 
-        int fieldNameSize = metricsConfig.containsKey(METRICS_REGISTRY_NAME) ? 2 : 1;
+        int fieldNameSize = 1 + (int) MODE_KEYS.stream().filter(metricsConfig::containsKey).count();
         boolean activateAllMetrics = metricsConfig.size() == fieldNameSize;
         if (activateAllMetrics) {
             return metricsImpl;
@@ -146,6 +178,58 @@ public class ConfiguredDataVerticleMetrics implements DataVerticleMetrics {
         }
     }
 
+    /**
+     * Checks whether the metrics should be reported with fixed meter names and bounded tags.
+     *
+     * @param metricsConfig the metrics configuration of the verticle
+     * @return true if {@link #BOUNDED_TAGS} is enabled
+     */
+    public static boolean isBoundedTags(JsonObject metricsConfig) {
+        return metricsConfig != null && Boolean.TRUE.equals(metricsConfig.getBoolean(BOUNDED_TAGS));
+    }
+
+    /**
+     * Checks whether the shape of the query should be reported as a tag.
+     *
+     * @param metricsConfig the metrics configuration of the verticle
+     * @return true if {@link #BOUNDED_TAGS} and {@link #QUERY_SHAPE} are enabled
+     */
+    public static boolean isReportQueryShape(JsonObject metricsConfig) {
+        return isBoundedTags(metricsConfig) && Boolean.TRUE.equals(metricsConfig.getBoolean(QUERY_SHAPE));
+    }
+
+    /**
+     * Returns the shape of a raw query, that is the names of the query parameters in order, without their values. For
+     * example the shape of {@code $filter=ID eq 1&$top=10} is {@code $filter&$top}.
+     *
+     * @param rawQuery the raw query
+     * @return the shape of the query, or an empty string if the query is null or empty
+     */
+    public static String queryShape(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder shape = new StringBuilder();
+        int start = 0;
+        while (start <= rawQuery.length()) {
+            int end = rawQuery.indexOf('&', start);
+            if (end < 0) {
+                end = rawQuery.length();
+            }
+            int equals = rawQuery.indexOf('=', start);
+            int nameEnd = equals >= 0 && equals < end ? equals : end;
+            if (nameEnd > start) {
+                if (shape.length() > 0) {
+                    shape.append('&');
+                }
+                shape.append(rawQuery, start, nameEnd);
+            }
+            start = end + 1;
+        }
+        return shape.toString();
+    }
+
     @Override
     public void reportNumberOfRequests(String name, String description, List<Tag> tags) {
         reportNumberOfRequests.reportNumberOfRequests(name, description, tags);
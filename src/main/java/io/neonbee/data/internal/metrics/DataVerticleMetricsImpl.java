@@ -1,11 +1,19 @@
 package io.neonbee.data.internal.metrics;
 
+import static java.util.stream.Collectors.toUnmodifiableList;
+
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 
 import io.micrometer.core.instrument.Counter;
@@ -14,51 +22,84 @@ import io.micrometer.core.instrument.ImmutableTag;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.vertx.core.Future;
 
+/**
+ * Reports the {@link DataVerticleMetrics} to a Micrometer {@link MeterRegistry}.
+ * <p>
+ * Meters are registered once and cached by name and tags, so that reporting a metric does not have to build and
+ * register the meter with the registry again. The number of cached meters is capped: once the cap is reached, any
+ * meter with a new combination of name and tags is reported to an overflow meter of the same name. The overflow meter
+ * has the same tag keys, as some registries (e.g. Prometheus) require all meters of one name to have the same tag keys,
+ * but all tag values are set to {@value #OVERFLOW_TAG_VALUE}, except for the value of the {@code succeeded} tag of the
+ * status counters.
+ */
 public class DataVerticleMetricsImpl implements DataVerticleMetrics {
+    /**
+     * The default maximum number of meters cached (and registered) by one instance.
+     */
+    public static final int DEFAULT_MAX_METERS = 1000;
 
     private static final ImmutableTag SUCCEEDED_TAG = new ImmutableTag("succeeded", "true");
 
     private static final ImmutableTag FAILED_TAG = new ImmutableTag("succeeded", "false");
 
-    private final Map<Meter.Id, LongAdder> activeRequestsMap = new ConcurrentHashMap<>();
+    @VisibleForTesting
+    static final String OVERFLOW_TAG_VALUE = "overflow";
+
+    /**
+     * The adders of the active requests gauges by registry and meter ID. A gauge is registered only once per registry,
+     * so all instances reporting to the same gauge have to share the adder the gauge was registered with.
+     */
+    private static final Cache<MeterRegistry, Map<Meter.Id, LongAdder>> GAUGE_ADDERS =
+            CacheBuilder.newBuilder().weakKeys().build();
+
+    @VisibleForTesting
+    final Map<MeterKey, Object> meters = new ConcurrentHashMap<>();
 
     private final MeterRegistry registry;
 
+    private final int maxMeters;
+
     DataVerticleMetricsImpl(MeterRegistry registry) {
+        this(registry, Integer.MAX_VALUE);
+    }
+
+    DataVerticleMetricsImpl(MeterRegistry registry, int maxMeters) {
         this.registry = registry;
+        this.maxMeters = maxMeters;
     }
 
     @Override
     public void reportNumberOfRequests(String name, String description, List<Tag> tags) {
-        Counter.builder(name).description(description).tags(tags).register(registry).increment();
+        meter(MeterType.COUNTER, name, tags, meterTags -> Counter.builder(name).description(description)
+                .tags(meterTags).register(registry)).increment();
     }
 
     @Override
     public void reportActiveRequestsGauge(String name, String description, List<Tag> tags, Future<?> future) {
-        LongAdder longAdder = getGaugeLongAdder(name, description, tags, registry);
+        LongAdder longAdder = meter(MeterType.GAUGE, name, tags, meterTags -> GAUGE_ADDERS.asMap()
+                .computeIfAbsent(registry, meterRegistry -> new ConcurrentHashMap<>())
+                .computeIfAbsent(new Meter.Id(name, Tags.of(meterTags), null, description, Meter.Type.GAUGE), id -> {
+                    LongAdder adder = new LongAdder();
+                    Gauge.builder(name, adder, LongAdder::doubleValue).description(description).tags(meterTags)
+                            .register(registry);
+                    return adder;
+                }));
         longAdder.increment();
         future.onComplete(event -> {
             longAdder.decrement();
         });
     }
 
-    private LongAdder getGaugeLongAdder(String name, String description, List<Tag> tags, MeterRegistry registry) {
-        LongAdder longAdder = new LongAdder();
-        Gauge gauge = Gauge.builder(name, longAdder, LongAdder::doubleValue).description(description).tags(tags)
-                .register(registry);
-        activeRequestsMap.computeIfAbsent(gauge.getId(), id -> longAdder);
-        return longAdder;
-    }
-
     @Override
     public void reportStatusCounter(String name, String description, Iterable<Tag> tags, Future<?> future) {
         future.onComplete(data -> {
-            Counter.builder(name).description("succeeded response count")
-                    .tags(Iterables.concat(tags, List.of(data.succeeded() ? SUCCEEDED_TAG : FAILED_TAG)))
-                    .register(registry).increment();
+            Iterable<Tag> statusTags = Iterables.concat(tags, List.of(data.succeeded() ? SUCCEEDED_TAG : FAILED_TAG));
+            meter(MeterType.COUNTER, name, statusTags, meterTags -> Counter.builder(name)
+                    .description("succeeded response count").tags(meterTags).register(registry)).increment();
         });
     }
 
@@ -71,8 +112,77 @@ public class DataVerticleMetricsImpl implements DataVerticleMetrics {
     private void reportTimeMetric(String name, String description, Iterable<Tag> tags, long start) {
         long time = System.nanoTime() - start;
 
-        Timer timer = Timer.builder(name).description(description).tags(tags).register(registry);
+        Timer timer = meter(MeterType.TIMER, name, tags,
+                meterTags -> Timer.builder(name).description(description).tags(meterTags).register(registry));
         timer.record(time, TimeUnit.NANOSECONDS);
     }
 
+    /**
+     * Returns the cached meter for a given name and tags, or registers a new one. If the maximum number of meters has
+     * been reached, the overflow meter of the given name is returned instead.
+     *
+     * @param type     the type of the meter
+     * @param name     the name of the meter
+     * @param tags     the tags of the meter
+     * @param register a function registering the meter with the given tags
+     * @return the meter
+     */
+    @SuppressWarnings({ "unchecked", "TypeParameterUnusedInFormals" })
+    private <M> M meter(MeterType type, String name, Iterable<Tag> tags, Function<Iterable<Tag>, M> register) {
+        MeterKey key = new MeterKey(type, name, tags);
+        Object meter = meters.get(key);
+        if (meter != null) {
+            return (M) meter;
+        }
+
+        if (meters.size() >= maxMeters) {
+            key = new MeterKey(type, name, overflowTags(key.tags));
+        }
+        return (M) meters.computeIfAbsent(key, meterKey -> register.apply(meterKey.tags));
+    }
+
+    private static List<Tag> overflowTags(List<Tag> tags) {
+        // the status of the status counters is bounded, so it is kept for the overflow meter
+        return tags.stream().map(tag -> SUCCEEDED_TAG.getKey().equals(tag.getKey()) ? tag
+                : new ImmutableTag(tag.getKey(), OVERFLOW_TAG_VALUE)).collect(toUnmodifiableList());
+    }
+
+    private enum MeterType {
+        COUNTER, GAUGE, TIMER
+    }
+
+    @VisibleForTesting
+    static final class MeterKey {
+        private final MeterType type;
+
+        private final String name;
+
+        private final List<Tag> tags;
+
+        private final int hashCode;
+
+        MeterKey(MeterType type, String name, Iterable<Tag> tags) {
+            this.type = type;
+            this.name = name;
+            this.tags = tags instanceof List ? (List<Tag>) tags : ImmutableList.copyOf(tags);
+            this.hashCode = Objects.hash(type, name, this.tags);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MeterKey)) {
+                return false;
+            }
+            MeterKey that = (MeterKey) o;
+            return hashCode == that.hashCode && type == that.type && name.equals(that.name) && tags.equals(that.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -18,6 +18,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToIntFunction;
 import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 
@@ -45,6 +46,21 @@ public class ODataV4Endpoint implements Endpoint {
      */
     public static final String CONFIG_URI_CONVERSION = "uriConversion";
 
+    /**
+     * The key to configure the default max page size of all entity sets.
+     */
+    public static final String CONFIG_MAX_PAGE_SIZE = "maxPageSize";
+
+    /**
+     * The key to configure the max page sizes of specific entity sets, by their full qualified name.
+     */
+    public static final String CONFIG_MAX_PAGE_SIZES = "maxPageSizes";
+
+    /**
+     * The key to configure whether the reads of single entities in a batch request should be merged.
+     */
+    public static final String CONFIG_BATCH_MERGING = "batchMerging";
+
     /**
      * The default path the OData V4 endpoint is exposed by NeonBee.
      */
@@ -182,6 +198,15 @@ public class ODataV4Endpoint implements Endpoint {
         // matched against the full qualified name of the entity in question (URI conversion is applied by NeonBee).
         RegexBlockList exposedEntities = RegexBlockList.fromJson(config.getValue("exposedEntities"));
 
+        // the max number of entities returned for one page of an entity set, either configured for all entity sets, or
+        // for a specific entity set by its full qualified name. in case more entities are available, a next link with a
+        // $skiptoken is added to the response. a max page size of 0 (the default) means entity sets are not paged.
+        ToIntFunction<String> maxPageSizes = parseMaxPageSizes(config);
+
+        // whether parts of a batch request, reading single entities of the same entity set with the same query options,
+        // should be merged into one request to the entity verticles, instead of sending one request per part
+        boolean batchMerging = config.getBoolean(CONFIG_BATCH_MERGING, false);
+
         // Register the event bus consumer first, otherwise it could happen that during initialization we are missing an
         // update to the data model, a refresh of the router will only be triggered in case it is already initialized.
         // This is a NON-local consumer, this means the reload could be triggered from anywhere, however currently the
@@ -190,7 +215,8 @@ public class ODataV4Endpoint implements Endpoint {
         vertx.eventBus().consumer(EVENT_BUS_MODELS_LOADED_ADDRESS, message -> {
             // do not refresh the router if it wasn't even initialized
             if (initialized.get()) {
-                refreshRouter(vertx, router, basePath, uriConversion, exposedEntities, models);
+                refreshRouter(vertx, router, basePath, uriConversion, exposedEntities, maxPageSizes, batchMerging,
+                        models);
             }
         });
 
@@ -204,7 +230,8 @@ public class ODataV4Endpoint implements Endpoint {
                 routingContext -> new SharedDataAccessor(vertx, ODataV4Endpoint.class).getLocalLock(asyncLock ->
                 // immediately initialize the router, this will also "arm" the event bus listener
                 (!initialized.getAndSet(true)
-                        ? refreshRouter(vertx, router, basePath, uriConversion, exposedEntities, models)
+                        ? refreshRouter(vertx, router, basePath, uriConversion, exposedEntities, maxPageSizes,
+                                batchMerging, models)
                         : succeededFuture()).onComplete(handler -> {
                             // wait for the refresh to finish (the result doesn't matter), remove the initial route, as
                             // this will redirect all requests to the registered service endpoint handlers (if non have
@@ -227,7 +254,8 @@ public class ODataV4Endpoint implements Endpoint {
     }
 
     private static Future<Void> refreshRouter(Vertx vertx, Router router, String basePath, UriConversion uriConversion,
-            RegexBlockList exposedEntities, AtomicReference<Map<String, EntityModel>> currentModels) {
+            RegexBlockList exposedEntities, ToIntFunction<String> maxPageSizes, boolean batchMerging,
+            AtomicReference<Map<String, EntityModel>> currentModels) {
         return NeonBee.get(vertx).getModelManager().getSharedModels().compose(models -> {
             if (models == currentModels.get()) {
                 return succeededFuture(); // no update needed
@@ -267,7 +295,7 @@ public class ODataV4Endpoint implements Endpoint {
                                     routingContext.next();
                                 })
                                 // TODO depending on the config either create Olingo or CDS based OData V4 handlers here
-                                .handler(new OlingoEndpointHandler(edmxModel));
+                                .handler(new OlingoEndpointHandler(edmxModel, maxPageSizes, batchMerging));
                         if (LOGGER.isInfoEnabled()) {
                             LOGGER.info("Serving OData service endpoint for {} at {}{} ({} URI mapping)",
                                     schemaNamespace, basePath, uriPath,
@@ -286,6 +314,19 @@ public class ODataV4Endpoint implements Endpoint {
         });
     }
 
+    /**
+     * Parses the max page sizes from the endpoint configuration.
+     *
+     * @param config the endpoint configuration
+     * @return a function returning the max page size for the full qualified name of an entity set, or 0 in case the
+     *         entity set should not be paged
+     */
+    static ToIntFunction<String> parseMaxPageSizes(JsonObject config) {
+        int defaultMaxPageSize = config.getInteger(CONFIG_MAX_PAGE_SIZE, 0);
+        JsonObject maxPageSizes = config.getJsonObject(CONFIG_MAX_PAGE_SIZES, new JsonObject()).copy();
+        return entitySetName -> maxPageSizes.getInteger(entitySetName, defaultMaxPageSize);
+    }
+
     /**
      * Normalize a given OData V4 request URI using a given {@link RoutingContext} and the schema namespace.
      *
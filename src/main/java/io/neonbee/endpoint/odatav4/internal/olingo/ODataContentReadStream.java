@@ -0,0 +1,186 @@
+package io.neonbee.endpoint.odatav4.internal.olingo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.apache.olingo.commons.api.ex.ODataRuntimeException;
+import org.apache.olingo.server.api.ODataContent;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * A {@link ReadStream} of the chunks of a (streamed) {@link ODataContent}. The content is serialized on a worker
+ * thread, which hands each chunk over to the context the stream was created on. All handlers of the stream are called
+ * on this context, so that the stream can be piped to a {@link io.vertx.core.http.HttpServerResponse}, which then
+ * handles the back-pressure of the response on the event loop.
+ * <p>
+ * The worker thread never waits for the stream to be read. Thus, a slow client does not hold a worker thread, but
+ * chunks which were serialized and not yet read are queued until the stream is resumed.
+ */
+class ODataContentReadStream implements ReadStream<Buffer> {
+    @SuppressWarnings("checkstyle:MagicNumber")
+    static final int CHUNK_SIZE = 8 * 1024;
+
+    private final Context context;
+
+    private final Deque<Buffer> pending = new ArrayDeque<>();
+
+    private long demand = Long.MAX_VALUE;
+
+    private Handler<Buffer> handler;
+
+    private Handler<Void> endHandler;
+
+    private Handler<Throwable> exceptionHandler;
+
+    private boolean serialized;
+
+    private Throwable failure;
+
+    private boolean ended;
+
+    /**
+     * Creates a new stream and starts serializing the passed content on a worker thread.
+     *
+     * @param vertx   the Vert.x instance
+     * @param content the content to serialize
+     */
+    ODataContentReadStream(Vertx vertx, ODataContent content) {
+        this.context = vertx.getOrCreateContext();
+        context.executeBlocking(blockingPromise -> {
+            try (OutputStream output = new ChunkOutputStream()) {
+                content.write(output);
+                context.runOnContext(v -> complete(null));
+            } catch (IOException | ODataRuntimeException e) {
+                context.runOnContext(v -> complete(e));
+            }
+            blockingPromise.complete();
+        }, false);
+    }
+
+    @Override
+    public ReadStream<Buffer> exceptionHandler(Handler<Throwable> exceptionHandler) {
+        this.exceptionHandler = exceptionHandler;
+        return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> handler(Handler<Buffer> handler) {
+        this.handler = handler;
+        emitPending();
+        return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> pause() {
+        demand = 0;
+        return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> resume() {
+        return fetch(Long.MAX_VALUE);
+    }
+
+    @Override
+    public ReadStream<Buffer> fetch(long amount) {
+        demand = Long.MAX_VALUE - demand > amount ? demand + amount : Long.MAX_VALUE;
+        emitPending();
+        return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> endHandler(Handler<Void> endHandler) {
+        this.endHandler = endHandler;
+        emitPending();
+        return this;
+    }
+
+    private void enqueue(Buffer chunk) {
+        pending.add(chunk);
+        emitPending();
+    }
+
+    private void complete(Throwable cause) {
+        serialized = true;
+        failure = cause;
+        emitPending();
+    }
+
+    private void emitPending() {
+        if (ended) {
+            return;
+        } else if (failure != null) {
+            // the content is incomplete, so there is no use in emitting any further chunks
+            if (exceptionHandler != null) {
+                ended = true;
+                pending.clear();
+                exceptionHandler.handle(failure);
+            }
+            return;
+        }
+
+        while (handler != null && demand > 0 && !pending.isEmpty()) {
+            if (demand != Long.MAX_VALUE) {
+                demand--;
+            }
+            handler.handle(pending.poll());
+        }
+
+        if (serialized && pending.isEmpty() && endHandler != null) {
+            ended = true;
+            endHandler.handle(null);
+        }
+    }
+
+    /**
+     * Collects the serialized content in chunks of {@link #CHUNK_SIZE} and hands them over to the context of the
+     * stream.
+     */
+    private class ChunkOutputStream extends OutputStream {
+        private Buffer chunk = Buffer.buffer(CHUNK_SIZE);
+
+        @Override
+        public void write(int b) {
+            chunk.appendByte((byte) b);
+            if (chunk.length() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            int offset = off;
+            int remaining = len;
+            while (remaining > 0) {
+                int length = Math.min(remaining, CHUNK_SIZE - chunk.length());
+                chunk.appendBytes(b, offset, length);
+                offset += length;
+                remaining -= length;
+                if (chunk.length() >= CHUNK_SIZE) {
+                    flush();
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+            if (chunk.length() > 0) {
+                Buffer completeChunk = chunk;
+                context.runOnContext(v -> enqueue(completeChunk));
+                chunk = Buffer.buffer(CHUNK_SIZE);
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+}
@@ -11,11 +11,16 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.ToIntFunction;
 
 import org.apache.olingo.commons.api.ex.ODataRuntimeException;
 import org.apache.olingo.commons.api.http.HttpHeader;
 import org.apache.olingo.commons.api.http.HttpMethod;
 import org.apache.olingo.server.api.OData;
+import org.apache.olingo.server.api.ODataContent;
 import org.apache.olingo.server.api.ODataApplicationException;
 import org.apache.olingo.server.api.ODataHandler;
 import org.apache.olingo.server.api.ODataLibraryException;
@@ -27,11 +32,13 @@ import org.apache.olingo.server.core.ODataHandlerException;
 import com.google.common.annotations.VisibleForTesting;
 
 import io.neonbee.endpoint.odatav4.ODataV4Endpoint.NormalizedUri;
+import io.neonbee.endpoint.odatav4.internal.olingo.processor.AsynchronousProcessor;
 import io.neonbee.endpoint.odatav4.internal.olingo.processor.BatchProcessor;
 import io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollectionProcessor;
 import io.neonbee.endpoint.odatav4.internal.olingo.processor.EntityProcessor;
 import io.neonbee.endpoint.odatav4.internal.olingo.processor.PrimitiveProcessor;
 import io.neonbee.internal.helper.BufferHelper.BufferInputStream;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -43,13 +50,50 @@ import io.vertx.ext.web.RoutingContext;
 public final class OlingoEndpointHandler implements Handler<RoutingContext> {
     private final ServiceMetadata serviceMetadata;
 
+    private final ToIntFunction<String> maxPageSizes;
+
+    private final boolean batchMerging;
+
+    /**
+     * The prepared handler pipelines which are currently not processing any request.
+     */
+    private final Queue<HandlerPipeline> idlePipelines = new ConcurrentLinkedQueue<>();
+
     /**
      * Returns the OlingoEndpointHandler.
      *
      * @param serviceMetadata The metadata of the service
      */
     public OlingoEndpointHandler(ServiceMetadata serviceMetadata) {
+        this(serviceMetadata, entitySetName -> 0);
+    }
+
+    /**
+     * Returns the OlingoEndpointHandler, paging entity collections with a max page size configured.
+     *
+     * @param serviceMetadata The metadata of the service
+     * @param maxPageSizes    returns the max page size for the full qualified name of an entity set, or 0 in case the
+     *                        entity set should not be paged
+     */
+    public OlingoEndpointHandler(ServiceMetadata serviceMetadata, ToIntFunction<String> maxPageSizes) {
+        this(serviceMetadata, maxPageSizes, false);
+    }
+
+    /**
+     * Returns the OlingoEndpointHandler, paging entity collections with a max page size configured and optionally
+     * merging the reads of single entities of batch requests.
+     *
+     * @param serviceMetadata The metadata of the service
+     * @param maxPageSizes    returns the max page size for the full qualified name of an entity set, or 0 in case the
+     *                        entity set should not be paged
+     * @param batchMerging    true, to merge the reads of single entities of the same entity set and query shape in a
+     *                        batch request into one request
+     */
+    public OlingoEndpointHandler(ServiceMetadata serviceMetadata, ToIntFunction<String> maxPageSizes,
+            boolean batchMerging) {
         this.serviceMetadata = serviceMetadata;
+        this.maxPageSizes = maxPageSizes;
+        this.batchMerging = batchMerging;
     }
 
     @Override
@@ -58,18 +102,16 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
         // done, in case Olingo handles the request synchronously, the processPromise will be completed here
         Vertx vertx = routingContext.vertx();
         Promise<Void> processPromise = Promise.promise();
-        vertx.<ODataResponse>executeBlocking(blockingPromise -> {
-            OData odata = OData.newInstance();
-            ODataHandler odataHandler = odata.createRawHandler(serviceMetadata);
 
-            // add further built-in processors for NeonBee here (every processor must handle the processPromise)
-            odataHandler.register(new CountEntityCollectionProcessor(vertx, routingContext, processPromise));
-            odataHandler.register(new EntityProcessor(vertx, routingContext, processPromise));
-            odataHandler.register(new BatchProcessor(vertx, routingContext, processPromise));
-            odataHandler.register(new PrimitiveProcessor(vertx, routingContext, processPromise));
+        // reuse an idle pipeline or prepare a new one, in case all pipelines are currently processing other requests
+        HandlerPipeline pipeline = Optional.ofNullable(idlePipelines.poll())
+                .orElseGet(() -> new HandlerPipeline(vertx, serviceMetadata, maxPageSizes, batchMerging));
+        pipeline.prepare(routingContext, processPromise);
 
+        // the requests do not depend on each other, so process them unordered to not queue them behind each other
+        vertx.<ODataResponse>executeBlocking(blockingPromise -> {
             try {
-                ODataResponse odataResponse = odataHandler.process(mapToODataRequest(routingContext,
+                ODataResponse odataResponse = pipeline.odataHandler.process(mapToODataRequest(routingContext,
                         serviceMetadata.getEdm().getEntityContainer().getNamespace()));
                 // check for synchronous processing, complete the processPromise in case a response body is set
                 if ((odataResponse.getStatusCode() != INTERNAL_SERVER_ERROR.code())
@@ -80,9 +122,10 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
             } catch (ODataLibraryException e) {
                 blockingPromise.fail(e);
             }
-        }, asyncODataResponse -> {
+        }, false, asyncODataResponse -> {
             // failed to map / process OData request, so fail the web request
             if (asyncODataResponse.failed()) {
+                // the pipeline is not reused, as it is unknown if any processor is still processing the request
                 Throwable cause = asyncODataResponse.cause();
                 routingContext.fail(getStatusCode(cause), cause);
                 return;
@@ -92,13 +135,31 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
             // wait for the processPromise to finish before continuing processing
             ODataResponse odataResponse = asyncODataResponse.result();
             processPromise.future().onComplete(asyncResult -> {
-                // (asynchronously) retrieving the odata response failed, so fail the web request
+                // (asynchronously) retrieving the odata response failed, so fail the web request. the pipeline is not
+                // reused, as other callbacks of the processors could still refer to the request, e.g. in case only one
+                // of the data requests required to process the request failed
                 if (asyncResult.failed()) {
                     Throwable cause = asyncResult.cause();
                     routingContext.fail(getStatusCode(cause), cause);
                     return;
                 }
 
+                // the processors finished processing the request, so the pipeline can process the next request
+                idlePipelines.offer(pipeline);
+
+                if (odataResponse.getODataContent() != null) {
+                    // stream the odataResponse to the routingContext.response, instead of buffering it in memory
+                    streamODataResponse(vertx, odataResponse, routingContext.response()).onFailure(throwable -> {
+                        if (routingContext.response().headWritten()) {
+                            // the response was already partially sent, so the only option is to reset the connection
+                            routingContext.response().reset();
+                        } else {
+                            routingContext.fail(-1, throwable);
+                        }
+                    });
+                    return;
+                }
+
                 try {
                     // map the odataResponse to the routingContext.response
                     mapODataResponse(odataResponse, routingContext.response());
@@ -212,13 +273,7 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
      */
     @VisibleForTesting
     static void mapODataResponse(ODataResponse odataResponse, HttpServerResponse response) throws IOException {
-        // status code and headers
-        response.setStatusCode(odataResponse.getStatusCode());
-        for (Map.Entry<String, List<String>> entry : odataResponse.getAllHeaders().entrySet()) {
-            for (String headerValue : entry.getValue()) {
-                response.putHeader(entry.getKey(), headerValue);
-            }
-        }
+        mapODataResponseHeaders(odataResponse, response);
         // OData response content
         if (odataResponse.getContent() != null) {
             response.end(inputStreamToBuffer(odataResponse.getContent()));
@@ -230,4 +285,58 @@ public final class OlingoEndpointHandler implements Handler<RoutingContext> {
             response.end(); // no content (e.g. for update / delete requests)
         }
     }
+
+    /**
+     * Streams the (streamed) {@link ODataContent} of a ODataResponse to a existing Vert.x HttpServerResponse. The
+     * content is serialized in chunks on a worker thread, while the chunks are written to the response on the event
+     * loop, respecting the back-pressure of the response. Thus, no worker thread is held while waiting for a slow client.
+     *
+     * @param vertx         the Vert.x instance
+     * @param odataResponse The ODataResponse with a {@link ODataContent} to stream
+     * @param response      The HttpServerResponse to stream to
+     * @return a future which is completed, when the response was ended
+     */
+    @VisibleForTesting
+    static Future<Void> streamODataResponse(Vertx vertx, ODataResponse odataResponse, HttpServerResponse response) {
+        mapODataResponseHeaders(odataResponse, response);
+        response.setChunked(true);
+        // in case the serialization fails, the response must not be ended, as the client would consider it complete
+        return new ODataContentReadStream(vertx, odataResponse.getODataContent()).pipe().endOnFailure(false)
+                .to(response);
+    }
+
+    private static void mapODataResponseHeaders(ODataResponse odataResponse, HttpServerResponse response) {
+        // status code and headers
+        response.setStatusCode(odataResponse.getStatusCode());
+        for (Map.Entry<String, List<String>> entry : odataResponse.getAllHeaders().entrySet()) {
+            for (String headerValue : entry.getValue()) {
+                response.putHeader(entry.getKey(), headerValue);
+            }
+        }
+    }
+
+    /**
+     * An Olingo handler with all built-in processors of NeonBee registered, which is prepared once and reused for
+     * multiple requests to the same service, but only processes one request at a time.
+     */
+    private static final class HandlerPipeline {
+        private final ODataHandler odataHandler;
+
+        private final List<AsynchronousProcessor> processors;
+
+        HandlerPipeline(Vertx vertx, ServiceMetadata serviceMetadata, ToIntFunction<String> maxPageSizes,
+                boolean batchMerging) {
+            odataHandler = OData.newInstance().createRawHandler(serviceMetadata);
+
+            // add further built-in processors for NeonBee here (every processor must handle the processPromise)
+            processors = List.of(new CountEntityCollectionProcessor(vertx, null, null, maxPageSizes),
+                    new EntityProcessor(vertx, null, null), new BatchProcessor(vertx, null, null, batchMerging),
+                    new PrimitiveProcessor(vertx, null, null));
+            processors.forEach(odataHandler::register);
+        }
+
+        void prepare(RoutingContext routingContext, Promise<Void> processPromise) {
+            processors.forEach(processor -> processor.prepare(routingContext, processPromise));
+        }
+    }
 }
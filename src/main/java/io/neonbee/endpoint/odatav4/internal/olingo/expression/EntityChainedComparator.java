@@ -24,4 +24,38 @@ public class EntityChainedComparator implements Comparator<Entity> {
         }
         return 0;
     }
+
+    /**
+     * Returns the sort key of an entity, which consists of the values of all sort properties. Comparing the sort keys
+     * of two entities with {@link #compareSortKeys(Object[], Object[])} is equivalent to comparing the entities, but
+     * does not require to look up the sort properties on every comparison.
+     *
+     * @param entity the entity
+     * @return the sort key of the entity
+     */
+    Object[] sortKeyOf(Entity entity) {
+        Object[] sortKey = new Object[entityComparators.size()];
+        for (int index = 0; index < sortKey.length; index++) {
+            sortKey[index] = entityComparators.get(index).valueOf(entity);
+        }
+        return sortKey;
+    }
+
+    /**
+     * Compares two sort keys, previously returned by {@link #sortKeyOf(Entity)}.
+     *
+     * @param sortKey1 the first sort key to compare
+     * @param sortKey2 the second sort key to compare
+     * @return a negative integer, zero, or a positive integer as the first sort key is less than, equal to, or greater
+     *         than the second sort key
+     */
+    int compareSortKeys(Object[] sortKey1, Object[] sortKey2) {
+        for (int index = 0; index < sortKey1.length; index++) {
+            int result = entityComparators.get(index).compareValues(sortKey1[index], sortKey2[index]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
 }
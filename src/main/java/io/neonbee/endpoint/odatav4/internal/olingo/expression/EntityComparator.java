@@ -34,9 +34,28 @@ public class EntityComparator implements Comparator<Entity>, EntityComparison {
 
     @Override
     public int compare(Entity entity1, Entity entity2) {
-        Object value1 = entity1.getProperty(sortPropertyName).getValue();
-        Object value2 = entity2.getProperty(sortPropertyName).getValue();
+        return compareValues(valueOf(entity1), valueOf(entity2));
+    }
+
+    /**
+     * Returns the value of the sort property of the passed entity.
+     *
+     * @param entity the entity
+     * @return the value to sort the entity by
+     */
+    Object valueOf(Entity entity) {
+        return entity.getProperty(sortPropertyName).getValue();
+    }
 
+    /**
+     * Compares two values of the sort property, previously returned by {@link #valueOf(Entity)}.
+     *
+     * @param value1 the first value to compare
+     * @param value2 the second value to compare
+     * @return a negative integer, zero, or a positive integer as the first value is less than, equal to, or greater
+     *         than the second value in the requested sort order
+     */
+    int compareValues(Object value1, Object value2) {
         // Sort null values last in case of 'asc' order
         if (value1 == null) {
             return (value2 == null) ? 0 : (isDescending ? -1 : 1);
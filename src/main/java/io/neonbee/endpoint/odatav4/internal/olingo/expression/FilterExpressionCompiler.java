@@ -0,0 +1,302 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmHelper.throwNotImplementedODataException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.edm.EdmEnumType;
+import org.apache.olingo.commons.api.edm.EdmProperty;
+import org.apache.olingo.commons.api.edm.EdmType;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceProperty;
+import org.apache.olingo.server.api.uri.queryoption.expression.BinaryOperatorKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitor;
+import org.apache.olingo.server.api.uri.queryoption.expression.Literal;
+import org.apache.olingo.server.api.uri.queryoption.expression.Member;
+import org.apache.olingo.server.api.uri.queryoption.expression.MethodKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.UnaryOperatorKind;
+
+import io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmHelper;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.operands.ExpressionVisitorOperand;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.operators.BinaryOperator;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.operators.DateFunctionMethodCallOperator;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.operators.StringFunctionMethodCallOperator;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.operators.UnaryOperator;
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Compiles the expression of a $filter option once per request into a {@link CompiledFilter}, which can be applied to
+ * any number of entities. In contrast to the {@link FilterExpressionVisitor}, which walks the expression tree again for
+ * every entity, the compiled filter resolves the property paths and converts the literals of the expression only once.
+ * The operators are evaluated with the same {@link BinaryOperator}, {@link UnaryOperator} and method call operators as
+ * in the {@link FilterExpressionVisitor}, so the result of a compiled filter does not differ.
+ * <p>
+ * Expressions with operators or methods not supported by the compiler are evaluated with the
+ * {@link FilterExpressionVisitor}.
+ */
+public final class FilterExpressionCompiler implements ExpressionVisitor<FilterExpressionCompiler.CompiledExpression> {
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private final RoutingContext routingContext;
+
+    private FilterExpressionCompiler(RoutingContext routingContext) {
+        this.routingContext = routingContext;
+    }
+
+    /**
+     * A filter, which tests if an entity matches a $filter expression.
+     */
+    @FunctionalInterface
+    public interface CompiledFilter {
+        /**
+         * Tests if the passed entity matches the filter.
+         *
+         * @param entity the entity to test
+         * @return true if the entity matches the filter, false otherwise
+         * @throws ODataApplicationException if the filter cannot be applied to the entity
+         * @throws ExpressionVisitException  if the filter cannot be applied to the entity
+         */
+        boolean test(Entity entity) throws ODataApplicationException, ExpressionVisitException;
+    }
+
+    /**
+     * A compiled (sub-)expression of a $filter expression.
+     */
+    @FunctionalInterface
+    interface CompiledExpression {
+        ExpressionVisitorOperand evaluate(Entity entity) throws ODataApplicationException;
+    }
+
+    @FunctionalInterface
+    private interface BinaryOperation {
+        ExpressionVisitorOperand apply(BinaryOperator binaryOperator) throws ODataApplicationException;
+    }
+
+    @FunctionalInterface
+    private interface MethodCall {
+        ExpressionVisitorOperand apply(List<ExpressionVisitorOperand> parameters) throws ODataApplicationException;
+    }
+
+    /**
+     * Compiles the passed filter expression.
+     *
+     * @param routingContext the current routingContext
+     * @param expression     the expression of the $filter option
+     * @return a filter which can be applied to any number of entities
+     */
+    public static CompiledFilter compile(RoutingContext routingContext, Expression expression) {
+        try {
+            CompiledExpression compiledExpression = expression.accept(new FilterExpressionCompiler(routingContext));
+            return entity -> Boolean.TRUE.equals(compiledExpression.evaluate(entity).getValue());
+        } catch (ExpressionVisitException | ODataApplicationException e) {
+            LOGGER.correlateWith(routingContext).debug(
+                    "Filter expression cannot be compiled, falling back to the FilterExpressionVisitor: {}",
+                    e.getMessage());
+            return entity -> Boolean.TRUE
+                    .equals(expression.accept(new FilterExpressionVisitor(routingContext, entity)).getValue());
+        }
+    }
+
+    @Override
+    public CompiledExpression visitBinaryOperator(BinaryOperatorKind operator, CompiledExpression left,
+            List<CompiledExpression> right) throws ExpressionVisitException, ODataApplicationException {
+        if (!BinaryOperatorKind.IN.equals(operator)) {
+            throw unsupported("Operator " + operator);
+        }
+        return entity -> {
+            List<ExpressionVisitorOperand> rightOperands = new ArrayList<>(right.size());
+            for (CompiledExpression rightExpression : right) {
+                rightOperands.add(rightExpression.evaluate(entity));
+            }
+            return new BinaryOperator(routingContext, left.evaluate(entity), rightOperands).inOperator();
+        };
+    }
+
+    @Override
+    public CompiledExpression visitBinaryOperator(BinaryOperatorKind operator, CompiledExpression left,
+            CompiledExpression right) throws ExpressionVisitException, ODataApplicationException {
+        BinaryOperation operation;
+        switch (operator) {
+        case AND:
+            operation = BinaryOperator::andOperator;
+            break;
+        case OR:
+            operation = BinaryOperator::orOperator;
+            break;
+        case EQ:
+            operation = BinaryOperator::equalsOperator;
+            break;
+        case NE:
+            operation = BinaryOperator::notEqualsOperator;
+            break;
+        case GE:
+            operation = BinaryOperator::greaterEqualsOperator;
+            break;
+        case GT:
+            operation = BinaryOperator::greaterThanOperator;
+            break;
+        case LE:
+            operation = BinaryOperator::lessEqualsOperator;
+            break;
+        case LT:
+            operation = BinaryOperator::lessThanOperator;
+            break;
+        case IN:
+            operation = BinaryOperator::inOperator;
+            break;
+        default:
+            throw unsupported("Operator " + operator);
+        }
+        return entity -> operation
+                .apply(new BinaryOperator(routingContext, left.evaluate(entity), right.evaluate(entity)));
+    }
+
+    @Override
+    public CompiledExpression visitLiteral(Literal literal) throws ExpressionVisitException, ODataApplicationException {
+        String literalText = EdmHelper.extractValueFromLiteral(literal.getText());
+        ExpressionVisitorOperand operand = new ExpressionVisitorOperand(routingContext, literalText, literal.getType());
+        try {
+            // convert the literal once, instead of converting it every time the operators set the type of the operand
+            ExpressionVisitorOperand typedOperand = operand.setType();
+            return entity -> typedOperand;
+        } catch (ODataApplicationException | RuntimeException e) { // NOPMD the conversion may fail with any exception
+            // the conversion will fail again when evaluating the operator, report it for the first entity then
+            return entity -> operand;
+        }
+    }
+
+    @Override
+    public CompiledExpression visitUnaryOperator(UnaryOperatorKind operator, CompiledExpression operand)
+            throws ExpressionVisitException, ODataApplicationException {
+        if (!UnaryOperatorKind.NOT.equals(operator)) {
+            throw unsupported("Unary operator " + operator);
+        }
+        return entity -> new UnaryOperator(routingContext, operand.evaluate(entity)).notOperation();
+    }
+
+    @Override
+    public CompiledExpression visitMember(Member member) throws ExpressionVisitException, ODataApplicationException {
+        UriResource initialPart = member.getResourcePath().getUriResourceParts().get(0);
+        if (!(initialPart instanceof UriResourceProperty)) {
+            throw unsupported("Member " + initialPart);
+        }
+
+        EdmProperty edmProperty =
+                Optional.ofNullable(((UriResourceProperty) initialPart).getProperty()).orElseThrow();
+        String propertyName = edmProperty.getName();
+        EdmType propertyType = edmProperty.getType();
+        return entity -> {
+            Property property = Optional.ofNullable(entity.getProperty(propertyName)).orElseThrow();
+            if (property.isPrimitive()) {
+                return new ExpressionVisitorOperand(routingContext, property.getValue(), propertyType, edmProperty);
+            }
+            return throwNotImplementedODataException();
+        };
+    }
+
+    @Override
+    public CompiledExpression visitMethodCall(MethodKind methodCall, List<CompiledExpression> parameters)
+            throws ExpressionVisitException, ODataApplicationException {
+        MethodCall call;
+        switch (methodCall) {
+        case ENDSWITH:
+            call = params -> new StringFunctionMethodCallOperator(routingContext, params).endsWith();
+            break;
+        case INDEXOF:
+            call = params -> new StringFunctionMethodCallOperator(routingContext, params).indexOf();
+            break;
+        case STARTSWITH:
+            call = params -> new StringFunctionMethodCallOperator(routingContext, params).startsWith();
+            break;
+        case TOLOWER:
+            call = params -> new StringFunctionMethodCallOperator(routingContext, params).toLower();
+            break;
+        case TOUPPER:
+            call = params -> new StringFunctionMethodCallOperator(routingContext, params).toUpper();
+            break;
+        case TRIM:
+            call = params -> new StringFunctionMethodCallOperator(routingContext, params).trim();
+            break;
+        case SUBSTRING:
+            call = params -> new StringFunctionMethodCallOperator(routingContext, params).substring();
+            break;
+        case CONTAINS:
+            call = params -> new StringFunctionMethodCallOperator(routingContext, params).contains();
+            break;
+        case CONCAT:
+            call = params -> new StringFunctionMethodCallOperator(routingContext, params).concat();
+            break;
+        case LENGTH:
+            call = params -> new StringFunctionMethodCallOperator(routingContext, params).length();
+            break;
+        case YEAR:
+            call = params -> new DateFunctionMethodCallOperator(routingContext, params).year();
+            break;
+        case MONTH:
+            call = params -> new DateFunctionMethodCallOperator(routingContext, params).month();
+            break;
+        case DAY:
+            call = params -> new DateFunctionMethodCallOperator(routingContext, params).day();
+            break;
+        case HOUR:
+            call = params -> new DateFunctionMethodCallOperator(routingContext, params).hour();
+            break;
+        case MINUTE:
+            call = params -> new DateFunctionMethodCallOperator(routingContext, params).minute();
+            break;
+        case SECOND:
+            call = params -> new DateFunctionMethodCallOperator(routingContext, params).second();
+            break;
+        case FRACTIONALSECONDS:
+            call = params -> new DateFunctionMethodCallOperator(routingContext, params).fractionalseconds();
+            break;
+        default:
+            throw unsupported("Method call " + methodCall);
+        }
+        return entity -> {
+            List<ExpressionVisitorOperand> operands = new ArrayList<>(parameters.size());
+            for (CompiledExpression parameter : parameters) {
+                operands.add(parameter.evaluate(entity));
+            }
+            return call.apply(operands);
+        };
+    }
+
+    @Override
+    public CompiledExpression visitTypeLiteral(EdmType type) throws ExpressionVisitException {
+        throw unsupported("Type literal " + type);
+    }
+
+    @Override
+    public CompiledExpression visitAlias(String aliasName) throws ExpressionVisitException {
+        throw unsupported("Alias " + aliasName);
+    }
+
+    @Override
+    public CompiledExpression visitEnum(EdmEnumType type, List<String> enumValues) throws ExpressionVisitException {
+        throw unsupported("Enum " + type);
+    }
+
+    @Override
+    public CompiledExpression visitLambdaExpression(String lambdaFunction, String lambdaVariable,
+            Expression expression) throws ExpressionVisitException {
+        throw unsupported("Lambda expression " + lambdaFunction);
+    }
+
+    @Override
+    public CompiledExpression visitLambdaReference(String variableName) throws ExpressionVisitException {
+        throw unsupported("Lambda reference " + variableName);
+    }
+
+    private static ExpressionVisitException unsupported(String expression) {
+        return new ExpressionVisitException(expression + " is not supported by the filter compiler");
+    }
+}
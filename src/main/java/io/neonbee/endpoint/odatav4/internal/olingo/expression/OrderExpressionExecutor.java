@@ -1,8 +1,10 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.expression;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.stream.Collectors;
 
 import org.apache.olingo.commons.api.data.Entity;
@@ -34,9 +36,62 @@ public final class OrderExpressionExecutor implements EntityComparison {
      */
     public static List<Entity> executeOrderOption(RoutingContext routingContext, OrderByOption orderByOption,
             List<Entity> entityList) {
+        EntityChainedComparator comparator = createComparator(routingContext, orderByOption);
+        List<SortEntry> sortEntries = createSortEntries(comparator, entityList);
+        sortEntries.sort(sortEntryComparator(comparator));
+        for (int index = 0; index < sortEntries.size(); index++) {
+            entityList.set(index, sortEntries.get(index).entity);
+        }
+        return entityList;
+    }
+
+    /**
+     * Creates new EntityComparators based on the passed order options and returns the first {@code limit} entities of
+     * the passed list in the requested order. Instead of sorting the whole list, the entities are selected using a
+     * bounded heap, which requires O(n log limit) comparisons only. This is helpful to determine a page of entities
+     * requested by $skip and $top, without ordering all entities.
+     *
+     * @param routingContext the current routingContent
+     * @param orderByOption  the orderByOption
+     * @param entityList     the list of entities to order, which is not modified
+     * @param limit          the maximum number of entities to return
+     * @return a new list containing the first {@code limit} entities of the passed list in the requested order
+     */
+    public static List<Entity> executeOrderOption(RoutingContext routingContext, OrderByOption orderByOption,
+            List<Entity> entityList, int limit) {
+        if (limit >= entityList.size()) {
+            return executeOrderOption(routingContext, orderByOption, new ArrayList<>(entityList));
+        } else if (limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        EntityChainedComparator comparator = createComparator(routingContext, orderByOption);
+        Comparator<SortEntry> sortEntryComparator = sortEntryComparator(comparator);
+
+        // the head of the heap is the last entry of the current selection, so it can be replaced by any lower entry
+        PriorityQueue<SortEntry> heap = new PriorityQueue<>(limit + 1, sortEntryComparator.reversed());
+        for (SortEntry sortEntry : createSortEntries(comparator, entityList)) {
+            if (heap.size() < limit) {
+                heap.add(sortEntry);
+            } else if (sortEntryComparator.compare(sortEntry, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(sortEntry);
+            }
+        }
+
+        List<SortEntry> sortEntries = new ArrayList<>(heap);
+        sortEntries.sort(sortEntryComparator);
+        List<Entity> result = new ArrayList<>(sortEntries.size());
+        for (SortEntry sortEntry : sortEntries) {
+            result.add(sortEntry.entity);
+        }
+        return result;
+    }
 
+    private static EntityChainedComparator createComparator(RoutingContext routingContext,
+            OrderByOption orderByOption) {
         // Sorts the list in 'asc' order by default e.g. in the case that nothing is specified
-        Collections.sort(entityList, new EntityChainedComparator(orderByOption.getOrders().stream()
+        return new EntityChainedComparator(orderByOption.getOrders().stream()
                 .filter(orderByItem -> orderByItem.getExpression() instanceof Member).map(orderByItem -> {
                     /*
                      * See https://docs.oasis-open.org/odata/odata/v4.01/odata-v4.01-part2-url-conventions.html#
@@ -58,8 +113,42 @@ public final class OrderExpressionExecutor implements EntityComparison {
                         }
                     }
                     return null;
-                }).filter(Objects::nonNull).collect(Collectors.toList())));
+                }).filter(Objects::nonNull).collect(Collectors.toList()));
+    }
 
-        return entityList;
+    /**
+     * Determines the sort keys of all entities once, instead of looking up the sort properties on every comparison.
+     */
+    private static List<SortEntry> createSortEntries(EntityChainedComparator comparator, List<Entity> entityList) {
+        List<SortEntry> sortEntries = new ArrayList<>(entityList.size());
+        for (Entity entity : entityList) {
+            sortEntries.add(new SortEntry(entity, comparator.sortKeyOf(entity), sortEntries.size()));
+        }
+        return sortEntries;
+    }
+
+    /**
+     * Entries with equal sort keys are ordered by their original position, so that the order is stable, even if the
+     * entries are selected using a heap.
+     */
+    private static Comparator<SortEntry> sortEntryComparator(EntityChainedComparator comparator) {
+        return (entry1, entry2) -> {
+            int result = comparator.compareSortKeys(entry1.sortKey, entry2.sortKey);
+            return result != 0 ? result : Integer.compare(entry1.position, entry2.position);
+        };
+    }
+
+    private static final class SortEntry {
+        private final Entity entity;
+
+        private final Object[] sortKey;
+
+        private final int position;
+
+        SortEntry(Entity entity, Object[] sortKey, int position) {
+            this.entity = entity;
+            this.sortKey = sortKey;
+            this.position = position;
+        }
     }
 }
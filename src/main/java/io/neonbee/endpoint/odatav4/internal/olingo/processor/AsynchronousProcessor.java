@@ -10,7 +10,6 @@ import java.util.Objects;
 
 import org.apache.olingo.server.api.processor.Processor;
 
-import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -23,7 +22,7 @@ public abstract class AsynchronousProcessor implements Processor {
 
     protected RoutingContext routingContext;
 
-    private final Promise<Void> processPromise;
+    private Promise<Void> processPromise;
 
     private Promise<Void> subProcessPromise;
 
@@ -33,6 +32,20 @@ public abstract class AsynchronousProcessor implements Processor {
         this.processPromise = processPromise;
     }
 
+    /**
+     * Prepares the processor to process another request. Processors can be reused for multiple requests, but they must
+     * never process more than one request at the same time.
+     *
+     * @param routingContext the routingContext of the related request
+     * @param processPromise the promise to complete when data has been fetched
+     */
+    @SuppressWarnings("PMD.NullAssignment")
+    public void prepare(RoutingContext routingContext, Promise<Void> processPromise) {
+        this.routingContext = routingContext;
+        this.processPromise = processPromise;
+        this.subProcessPromise = null;
+    }
+
     /**
      * Returns either the global processPromise, created in the endpoint, to finish processing for the OData request. In
      * case this request is called in batch processing, it'll return a new sub-processPromise and store the future on
@@ -82,11 +95,11 @@ public abstract class AsynchronousProcessor implements Processor {
         return processingStack().pop();
     }
 
-    private static Deque<List<Future<Void>>> processingStack() {
-        Context context = Vertx.currentContext();
-        Deque<List<Future<Void>>> processingStack = context.get(PROCESSING_STACK);
+    private Deque<List<Future<Void>>> processingStack() {
+        // the processing stack is stored with the request, as requests of the same context are processed concurrently
+        Deque<List<Future<Void>>> processingStack = routingContext.get(PROCESSING_STACK);
         if (Objects.isNull(processingStack)) {
-            context.put(PROCESSING_STACK, processingStack = new ArrayDeque<>());
+            routingContext.put(PROCESSING_STACK, processingStack = new ArrayDeque<>());
         }
         return processingStack;
     }
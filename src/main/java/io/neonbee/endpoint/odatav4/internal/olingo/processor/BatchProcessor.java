@@ -1,6 +1,6 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
-import static io.neonbee.internal.helper.AsyncHelper.allComposite;
+import static io.neonbee.internal.helper.AsyncHelper.joinComposite;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.io.InputStream;
@@ -31,6 +31,8 @@ import io.vertx.ext.web.RoutingContext;
         justification = "Common practice in Olingo to name the implementation of the processor same as the interface")
 public class BatchProcessor extends AsynchronousProcessor
         implements org.apache.olingo.server.api.processor.BatchProcessor {
+    private final boolean mergeReads;
+
     private OData odata;
 
     /**
@@ -41,7 +43,22 @@ public class BatchProcessor extends AsynchronousProcessor
      * @param processPromise the promise to complete when data has been fetched
      */
     public BatchProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise) {
+        this(vertx, routingContext, processPromise, false);
+    }
+
+    /**
+     * Creates a new BatchProcessor, optionally merging the reads of single entities of one batch request.
+     *
+     * @param vertx          the related Vert.x instance
+     * @param routingContext the routingContext of the related request
+     * @param processPromise the promise to complete when data has been fetched
+     * @param mergeReads     true, to send only one request per entity set and query shape, for all parts of a batch
+     *                       request reading single entities by their key predicates
+     */
+    public BatchProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise,
+            boolean mergeReads) {
         super(vertx, routingContext, processPromise);
+        this.mergeReads = mergeReads;
     }
 
     @Override
@@ -61,13 +78,27 @@ public class BatchProcessor extends AsynchronousProcessor
         // by entering batch processing here, we'll enter a new processing phase
         Promise<Void> processPromise = enterBatchProcessing();
 
+        // the reads of the parts are only collected by the merger and forwarded, as soon as a part which cannot be
+        // merged is reached or after all parts have been handled
+        BatchReadMerger batchReadMerger = mergeReads ? BatchReadMerger.start(routingContext) : null;
+
         List<ODataResponsePart> responseParts = new ArrayList<>();
-        for (BatchRequestPart part : requestParts) {
-            responseParts.add(facade.handleBatchRequest(part));
+        try {
+            for (BatchRequestPart part : requestParts) {
+                if (batchReadMerger != null && part.isChangeSet()) {
+                    batchReadMerger.flush(vertx, routingContext);
+                }
+                responseParts.add(facade.handleBatchRequest(part));
+            }
+        } finally {
+            if (batchReadMerger != null) {
+                batchReadMerger.stop(vertx, routingContext);
+            }
         }
 
-        // wrap up the batch processing here, which will complete the current processing phase
-        allComposite(wrapUpBatchProcessing()).onComplete(resultHandler -> {
+        // wrap up the batch processing here, which will complete the current processing phase. wait for all parts to
+        // complete, even if one of them failed, so that no part is still being processed, when the batch request ends
+        joinComposite(wrapUpBatchProcessing()).onComplete(resultHandler -> {
             if (resultHandler.failed()) {
                 processPromise.fail(resultHandler.cause());
                 return;
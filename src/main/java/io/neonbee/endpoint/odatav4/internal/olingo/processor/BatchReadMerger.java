@@ -0,0 +1,225 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.processor;
+
+import static java.util.stream.Collectors.joining;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.olingo.commons.api.edm.FullQualifiedName;
+import org.apache.olingo.commons.api.http.HttpHeader;
+import org.apache.olingo.server.api.uri.UriInfo;
+import org.apache.olingo.server.api.uri.UriParameter;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceEntitySet;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+
+import io.neonbee.data.DataAction;
+import io.neonbee.data.DataQuery;
+import io.neonbee.entity.EntityWrapper;
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Merges the requests reading single entities by their key predicates, which are part of the same batch request. While
+ * the parts of a batch request are processed, the reads are only collected. As soon as a part which cannot be merged
+ * (e.g. a change set or any other request than a read of a single entity) or the end of the batch request is reached,
+ * the collected reads are grouped by their entity set and the shape of their query (i.e. the same query options and
+ * headers) and only one request is sent to the entity verticles per group. Thus only reads which are not separated by
+ * another part get merged and every read is still sent in order with the modifying requests of the batch request.
+ * <p>
+ * The merged request reads the entity set and filters it by the key predicates of all reads of the group, so that an
+ * entity verticle able to execute the $filter option is able to return only the requested entities. Each read then
+ * looks up its entity in the result of the merged request, same as it would look it up in the result of its own
+ * request. In case the merged request fails, e.g. because the entity verticle does not support reading the entity set,
+ * every read of the group is sent with its own request instead.
+ */
+final class BatchReadMerger {
+    /**
+     * The maximum number of reads merged into one request, to limit the length of the $filter option.
+     */
+    @VisibleForTesting
+    static final int MAX_MERGED_READS = 100;
+
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private static final String BATCH_READ_MERGER = "batchReadMerger";
+
+    private static final String FILTER_OPTION = "$filter";
+
+    private final Map<List<Object>, List<PendingRead>> groups = new LinkedHashMap<>();
+
+    private BatchReadMerger() {}
+
+    /**
+     * Starts merging the reads of a batch request. All reads forwarded with the given routing context, until the
+     * merger is stopped, are collected.
+     *
+     * @param routingContext the routing context of the batch request
+     * @return the merger
+     */
+    static BatchReadMerger start(RoutingContext routingContext) {
+        BatchReadMerger merger = new BatchReadMerger();
+        routingContext.put(BATCH_READ_MERGER, merger);
+        return merger;
+    }
+
+    /**
+     * Returns the merger collecting the reads of the current batch request.
+     *
+     * @param routingContext the routing context of the batch request
+     * @return the merger, or null in case no reads are currently merged
+     */
+    static BatchReadMerger get(RoutingContext routingContext) {
+        return routingContext.get(BATCH_READ_MERGER);
+    }
+
+    /**
+     * Adds a query to the merger, in case it is a read of a single entity by its key predicates.
+     *
+     * @param entityTypeName the full qualified name of the entity type to read
+     * @param query          the query to forward to the entity verticles
+     * @param uriInfo        the URI info of the request
+     * @return a future completed with the result of the (merged) request as soon as the merger is flushed, or null in
+     *         case the query cannot be merged and has to be forwarded on its own
+     */
+    Future<EntityWrapper> add(FullQualifiedName entityTypeName, DataQuery query, UriInfo uriInfo) {
+        List<UriParameter> keyPredicates = getKeyPredicates(query, uriInfo);
+        if (keyPredicates == null) {
+            return null; // NOPMD the query cannot be merged
+        }
+
+        String uriPath = query.getUriPath();
+        String entitySetPath = uriPath.substring(0, uriPath.lastIndexOf('/', uriPath.indexOf('(')) + 1)
+                + ((UriResourceEntitySet) uriInfo.getUriResourceParts().get(0)).getEntitySet().getName();
+
+        // the content ID of a batch part differs for every part and is thus not part of the shape of the query
+        DataQuery shape = query.copy().setUriPath(entitySetPath).removeHeader(HttpHeader.CONTENT_ID);
+
+        PendingRead read = new PendingRead(query, keyPredicates);
+        groups.computeIfAbsent(List.of(entityTypeName, shape), key -> new ArrayList<>()).add(read);
+        return read.promise.future();
+    }
+
+    /**
+     * Stops collecting reads and forwards the reads collected so far.
+     *
+     * @param vertx          the Vert.x instance
+     * @param routingContext the routing context of the batch request
+     */
+    void stop(Vertx vertx, RoutingContext routingContext) {
+        routingContext.remove(BATCH_READ_MERGER);
+        flush(vertx, routingContext);
+    }
+
+    /**
+     * Forwards one request per group of the reads collected so far to the entity verticles. Reads added afterwards are
+     * collected again, so that they are not merged with the reads forwarded before.
+     *
+     * @param vertx          the Vert.x instance
+     * @param routingContext the routing context of the batch request
+     */
+    void flush(Vertx vertx, RoutingContext routingContext) {
+        groups.forEach((key, reads) -> {
+            FullQualifiedName entityTypeName = (FullQualifiedName) key.get(0);
+            DataQuery shape = (DataQuery) key.get(1);
+
+            List<PendingRead> mergeableReads = new ArrayList<>();
+            Set<String> filters = new HashSet<>();
+            for (PendingRead read : reads) {
+                // reading the same entity twice, would return the same entity instance to both reads
+                if (filters.add(read.filter)) {
+                    mergeableReads.add(read);
+                } else {
+                    forward(vertx, routingContext, entityTypeName, read.query, List.of(read));
+                }
+            }
+
+            for (List<PendingRead> mergedReads : Lists.partition(mergeableReads, MAX_MERGED_READS)) {
+                if (mergedReads.size() == 1) {
+                    forward(vertx, routingContext, entityTypeName, mergedReads.get(0).query, mergedReads);
+                } else {
+                    DataQuery mergedQuery = shape.copy().setParameter(FILTER_OPTION,
+                            mergedReads.stream().map(read -> read.filter).collect(joining(" or ")));
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.correlateWith(routingContext).debug("Merged {} reads of batch request into {}",
+                                mergedReads.size(), mergedQuery);
+                    }
+                    forward(vertx, routingContext, entityTypeName, mergedQuery, mergedReads);
+                }
+            }
+        });
+        groups.clear();
+    }
+
+    private static void forward(Vertx vertx, RoutingContext routingContext, FullQualifiedName entityTypeName,
+            DataQuery query, List<PendingRead> reads) {
+        Future<EntityWrapper> result = ProcessorHelper.requestEntity(vertx, entityTypeName, query, routingContext);
+        if (reads.size() == 1) {
+            result.onComplete(reads.get(0).promise);
+            return;
+        }
+
+        // every read looks up its entity in the same result, so look up the entities by their key in an index
+        result.map(EntityWrapper::enableKeyIndex).onComplete(asyncResult -> {
+            if (asyncResult.succeeded()) {
+                reads.forEach(read -> read.promise.complete(asyncResult.result()));
+                return;
+            }
+
+            LOGGER.correlateWith(routingContext).warn("Merged request {} of batch request failed, sending {} reads "
+                    + "one by one instead", query, reads.size(), asyncResult.cause());
+            reads.forEach(read -> forward(vertx, routingContext, entityTypeName, read.query, List.of(read)));
+        });
+    }
+
+    /**
+     * Returns the key predicates of a query, in case the query reads a single entity by its key predicates and can be
+     * merged with other reads.
+     *
+     * @param query   the query
+     * @param uriInfo the URI info of the request
+     * @return the key predicates, or null in case the query cannot be merged
+     */
+    @VisibleForTesting
+    static List<UriParameter> getKeyPredicates(DataQuery query, UriInfo uriInfo) {
+        if (query.getAction() != DataAction.READ || query.getParameter(FILTER_OPTION) != null
+                || query.getUriPath().indexOf('(') < 0) {
+            return null; // NOPMD the query cannot be merged
+        }
+
+        List<UriResource> resourceParts = uriInfo.getUriResourceParts();
+        if (resourceParts.size() != 1 || !(resourceParts.get(0) instanceof UriResourceEntitySet)) {
+            return null; // NOPMD the query cannot be merged
+        }
+
+        List<UriParameter> keyPredicates = ((UriResourceEntitySet) resourceParts.get(0)).getKeyPredicates();
+        if (keyPredicates == null || keyPredicates.isEmpty() || keyPredicates.stream()
+                .anyMatch(keyPredicate -> keyPredicate.getName() == null || keyPredicate.getText() == null)) {
+            return null; // NOPMD the query cannot be merged
+        }
+        return keyPredicates;
+    }
+
+    private static final class PendingRead {
+        private final DataQuery query;
+
+        private final String filter;
+
+        private final Promise<EntityWrapper> promise = Promise.promise();
+
+        PendingRead(DataQuery query, List<UriParameter> keyPredicates) {
+            this.query = query;
+            this.filter = keyPredicates.stream().map(keyPredicate -> keyPredicate.getName() + " eq "
+                    + keyPredicate.getText()).collect(joining(" and ", "(", ")"));
+        }
+    }
+}
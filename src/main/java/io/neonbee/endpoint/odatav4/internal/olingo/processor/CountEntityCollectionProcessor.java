@@ -9,25 +9,35 @@ import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHel
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_FILTER_KEY;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_ORDER_BY_KEY;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_SKIP_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_SKIP_TOKEN_KEY;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_TOP_KEY;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.RESPONSE_HEADER_PREFIX;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.forwardReadRequest;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.forwardRequest;
 import static io.neonbee.internal.helper.StringHelper.EMPTY;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.Optional.ofNullable;
 
 import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.ToIntFunction;
 
 import org.apache.olingo.commons.api.data.ContextURL;
 import org.apache.olingo.commons.api.data.ContextURL.Suffix;
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.data.EntityCollection;
+import org.apache.olingo.commons.api.data.EntityIterator;
 import org.apache.olingo.commons.api.edm.EdmEntitySet;
 import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.edm.FullQualifiedName;
 import org.apache.olingo.commons.api.ex.ODataException;
 import org.apache.olingo.commons.api.format.ContentType;
 import org.apache.olingo.commons.api.http.HttpHeader;
@@ -37,7 +47,9 @@ import org.apache.olingo.server.api.ODataApplicationException;
 import org.apache.olingo.server.api.ODataRequest;
 import org.apache.olingo.server.api.ODataResponse;
 import org.apache.olingo.server.api.ServiceMetadata;
+import org.apache.olingo.server.api.prefer.PreferencesApplied;
 import org.apache.olingo.server.api.serializer.EntityCollectionSerializerOptions;
+import org.apache.olingo.server.api.serializer.ODataSerializer;
 import org.apache.olingo.server.api.serializer.SerializerException;
 import org.apache.olingo.server.api.uri.UriInfo;
 import org.apache.olingo.server.api.uri.UriResource;
@@ -46,12 +58,14 @@ import org.apache.olingo.server.api.uri.queryoption.CountOption;
 import org.apache.olingo.server.api.uri.queryoption.FilterOption;
 import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
 import org.apache.olingo.server.api.uri.queryoption.SkipOption;
+import org.apache.olingo.server.api.uri.queryoption.SkipTokenOption;
 import org.apache.olingo.server.api.uri.queryoption.TopOption;
 import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
 
 import com.google.common.annotations.VisibleForTesting;
 
-import io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionVisitor;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionCompiler;
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionCompiler.CompiledFilter;
 import io.neonbee.endpoint.odatav4.internal.olingo.expression.OrderExpressionExecutor;
 import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.Future;
@@ -77,15 +91,32 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
 
     private ServiceMetadata serviceMetadata;
 
+    private final ToIntFunction<String> maxPageSizes;
+
     /**
-     * Creates a new EntityCollectionProcessor.
+     * Creates a new EntityCollectionProcessor, which does not page entity collections.
      *
      * @param vertx          the related Vert.x instance
      * @param routingContext the routingContext of the related request
      * @param processPromise the promise to complete when data has been fetched
      */
     public CountEntityCollectionProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise) {
+        this(vertx, routingContext, processPromise, entitySetName -> 0);
+    }
+
+    /**
+     * Creates a new EntityCollectionProcessor, which pages entity collections with a max page size configured.
+     *
+     * @param vertx          the related Vert.x instance
+     * @param routingContext the routingContext of the related request
+     * @param processPromise the promise to complete when data has been fetched
+     * @param maxPageSizes   returns the max page size for the full qualified name of an entity set, or 0 in case the
+     *                       entity set should not be paged
+     */
+    public CountEntityCollectionProcessor(Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise,
+            ToIntFunction<String> maxPageSizes) {
         super(vertx, routingContext, processPromise);
+        this.maxPageSizes = maxPageSizes;
     }
 
     @Override
@@ -110,8 +141,14 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         EntityCollection entityCollection = new EntityCollection();
         Promise<List<Entity>> responsePromise = Promise.promise();
 
+        // only entity sets are paged, the size of navigation targets is determined by the navigation property
+        Integer preferredMaxPageSize = odata.createPreferences(request.getHeaders(HttpHeader.PREFER)).getMaxPageSize();
+        int maxPageSize = resourceParts.size() == 1
+                ? getMaxPageSize(uriResourceEntitySet.getEntitySet(), preferredMaxPageSize)
+                : 0;
+
         // Fetch the data from backend
-        forwardRequest(request, READ, uriInfo, vertx, routingContext, processPromise).onSuccess(ew -> {
+        forwardReadRequest(request, uriInfo, maxPageSize, vertx, routingContext, processPromise).onSuccess(ew -> {
             boolean expandExecuted = ofNullable(routingContext.<Boolean>get(RESPONSE_HEADER_PREFIX + ODATA_EXPAND_KEY))
                     .orElse(Boolean.FALSE);
             if (resourceParts.size() == 1) {
@@ -126,26 +163,52 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
                         boolean orderByExecuted =
                                 ofNullable(routingContext.<Boolean>get(RESPONSE_HEADER_PREFIX + ODATA_ORDER_BY_KEY))
                                         .orElse(Boolean.FALSE);
-                        if (!orderByExecuted) {
-                            applyOrderByQueryOption(uriInfo.getOrderByOption(), resultEntityList);
-                        }
                         boolean skipExecuted =
                                 ofNullable(routingContext.<Boolean>get(RESPONSE_HEADER_PREFIX + ODATA_SKIP_KEY))
                                         .orElse(Boolean.FALSE);
-                        resultEntityList = skipExecuted ? resultEntityList
-                                : applySkipQueryOption(uriInfo.getSkipOption(), resultEntityList);
                         boolean topExecuted =
                                 ofNullable(routingContext.<Boolean>get(RESPONSE_HEADER_PREFIX + ODATA_TOP_KEY))
                                         .orElse(Boolean.FALSE);
+                        String nextSkipToken = routingContext.get(RESPONSE_HEADER_PREFIX + ODATA_SKIP_TOKEN_KEY);
+                        boolean pagingExecuted = nextSkipToken != null;
+                        int pageOffset = maxPageSize > 0 && !pagingExecuted
+                                ? decodeSkipToken(uriInfo.getSkipTokenOption())
+                                : 0;
+                        if (!orderByExecuted) {
+                            int limit = skipExecuted || topExecuted ? Integer.MAX_VALUE
+                                    : getPageLimit(uriInfo.getSkipOption(), uriInfo.getTopOption());
+                            if (maxPageSize > 0 && !pagingExecuted) {
+                                // one more entity than the page is selected, to determine if there is a next page
+                                long skipValue = skipExecuted ? 0 : getSkipValue(uriInfo.getSkipOption());
+                                limit = (int) Math.min(limit, skipValue + pageOffset + maxPageSize + 1);
+                            }
+                            resultEntityList =
+                                    applyOrderByQueryOption(uriInfo.getOrderByOption(), limit, resultEntityList);
+                        }
+                        resultEntityList = skipExecuted ? resultEntityList
+                                : applySkipQueryOption(uriInfo.getSkipOption(), resultEntityList);
                         resultEntityList = topExecuted ? resultEntityList
                                 : applyTopQueryOption(uriInfo.getTopOption(), resultEntityList);
+                        if (maxPageSize > 0 && !pagingExecuted) {
+                            // the offset is decoded from the skip token sent by the client, so it might be as large
+                            // as Integer.MAX_VALUE and adding the page size must not overflow
+                            long pageEnd = (long) pageOffset + maxPageSize;
+                            if (resultEntityList.size() > pageEnd) {
+                                nextSkipToken = encodeSkipToken((int) pageEnd);
+                            }
+                            resultEntityList = resultEntityList.subList(Math.min(pageOffset, resultEntityList.size()),
+                                    (int) Math.min(pageEnd, resultEntityList.size()));
+                        }
+                        if (nextSkipToken != null && !nextSkipToken.isEmpty()) {
+                            entityCollection.setNext(buildNextLink(request, nextSkipToken));
+                        }
                         Future<List<Entity>> resultEntityListFuture = expandExecuted ? succeededFuture(resultEntityList)
                                 : applyExpandQueryOptions(uriInfo, resultEntityList);
                         resultEntityListFuture.onComplete(responsePromise);
                     } else {
                         responsePromise.complete(resultEntityList);
                     }
-                } catch (ODataException | ClassCastException e) {
+                } catch (ODataException | RuntimeException e) {
                     processPromise.fail(e);
                 }
             } else {
@@ -154,12 +217,12 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
                             ofNullable(routingContext.<Boolean>get(ProcessorHelper.ODATA_KEY_PREDICATE_KEY))
                                     .orElse(Boolean.FALSE);
                     Entity foundEntity = keyPredicateExecuted ? ew.getEntities().get(0)
-                            : findEntityByKeyPredicates(routingContext, uriResourceEntitySet, ew.getEntities());
+                            : findEntityByKeyPredicates(routingContext, uriResourceEntitySet, ew);
                     if (!expandExecuted) {
                         fetchNavigationTargetEntities(resourceParts.get(1), foundEntity, vertx, routingContext)
                                 .onComplete(responsePromise);
                     }
-                } catch (ODataApplicationException e) {
+                } catch (ODataApplicationException | RuntimeException e) {
                     processPromise.fail(e);
                 }
             }
@@ -172,10 +235,21 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
                 EdmEntitySet edmEntitySet =
                         chooseEntitySet(resourceParts, uriResourceEntitySet.getEntitySet(), routingContext);
                 opts = createSerializerOptions(request, uriInfo, edmEntitySet);
-                response.setContent(odata.createSerializer(responseFormat)
-                        .entityCollection(serviceMetadata, edmEntityType, entityCollection, opts).getContent());
+                ODataSerializer serializer = odata.createSerializer(responseFormat);
+                if (responseFormat.isCompatible(ContentType.APPLICATION_JSON)) {
+                    // serialize the entities when writing the response, instead of serializing them into memory here
+                    response.setODataContent(serializer.entityCollectionStreamed(serviceMetadata, edmEntityType,
+                            new EntityCollectionIterator(entityCollection), opts).getODataContent());
+                } else {
+                    response.setContent(serializer
+                            .entityCollection(serviceMetadata, edmEntityType, entityCollection, opts).getContent());
+                }
                 response.setStatusCode(HttpStatusCode.OK.getStatusCode());
                 response.setHeader(HttpHeader.CONTENT_TYPE, responseFormat.toContentTypeString());
+                if (preferredMaxPageSize != null && maxPageSize == preferredMaxPageSize) {
+                    response.setHeader(HttpHeader.PREFERENCE_APPLIED,
+                            PreferencesApplied.with().maxPageSize(maxPageSize).build().toValueString());
+                }
                 processPromise.complete();
             } catch (ODataException e) {
                 processPromise.fail(e);
@@ -204,15 +278,13 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         if (filterOption != null) {
             LOGGER.correlateWith(routingContext).debug("Applying filter expression on list of entities with size: {}",
                     unfilteredEntities.size());
+            LOGGER.correlateWith(routingContext).debug("filterOption name: {}, filterOption text: {}",
+                    filterOption.getName(), filterOption.getText());
+            CompiledFilter filter = FilterExpressionCompiler.compile(routingContext, filterOption.getExpression());
             filteredEntities = new ArrayList<>();
             for (Entity entity : unfilteredEntities) {
-                FilterExpressionVisitor filterExpressionVisitor = new FilterExpressionVisitor(routingContext, entity);
-                LOGGER.correlateWith(routingContext).debug("filterOption name: {}, filterOption text: {}",
-                        filterOption.getName(), filterOption.getText());
-                LOGGER.correlateWith(routingContext).debug("FilterExpressionVisitor for entity '{}' was created",
-                        entity);
                 try {
-                    if (Boolean.TRUE.equals(filterOption.getExpression().accept(filterExpressionVisitor).getValue())) {
+                    if (filter.test(entity)) {
                         filteredEntities.add(entity);
                     }
                 } catch (ODataApplicationException | ExpressionVisitException e) {
@@ -228,13 +300,118 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
         return filteredEntities;
     }
 
-    private void applyOrderByQueryOption(OrderByOption orderByOption, List<Entity> resultEntityList)
-            throws ODataApplicationException {
+    /**
+     * Returns the maximum number of entities returned for a page of the passed entity set. This is either the max page
+     * size configured for the entity set, or the max page size preferred by the client, in case it is smaller.
+     *
+     * @param edmEntitySet         the requested entity set
+     * @param preferredMaxPageSize the max page size preferred by the client or null
+     * @return the max page size, or 0 in case the entity set should not be paged
+     */
+    private int getMaxPageSize(EdmEntitySet edmEntitySet, Integer preferredMaxPageSize) {
+        String entitySetName = new FullQualifiedName(edmEntitySet.getEntityContainer().getNamespace(),
+                edmEntitySet.getName()).getFullQualifiedNameAsString();
+        int maxPageSize = maxPageSizes.applyAsInt(entitySetName);
+        if (preferredMaxPageSize != null && preferredMaxPageSize > 0
+                && (maxPageSize <= 0 || preferredMaxPageSize < maxPageSize)) {
+            return preferredMaxPageSize;
+        }
+        return Math.max(maxPageSize, 0);
+    }
+
+    /**
+     * Encodes the offset of the next page (relative to the entities remaining after applying $skip) into an opaque
+     * skip token.
+     *
+     * @param pageOffset the offset of the next page
+     * @return the skip token
+     */
+    @VisibleForTesting
+    static String encodeSkipToken(int pageOffset) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Integer.toString(pageOffset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes the offset of a page from a skip token encoded with {@link #encodeSkipToken(int)}.
+     *
+     * @param skipTokenOption the skip token option or null
+     * @return the offset of the page, or 0 in case no skip token was passed
+     * @throws ODataApplicationException in case the skip token is invalid
+     */
+    @VisibleForTesting
+    static int decodeSkipToken(SkipTokenOption skipTokenOption) throws ODataApplicationException {
+        if (skipTokenOption == null) {
+            return 0;
+        }
+        int pageOffset;
+        try {
+            pageOffset = Integer.parseInt(
+                    new String(Base64.getUrlDecoder().decode(skipTokenOption.getValue()), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            pageOffset = -1;
+        }
+        if (pageOffset < 0) {
+            throw new ODataApplicationException("Invalid value for $skiptoken",
+                    HttpStatusCode.BAD_REQUEST.getStatusCode(), Locale.ENGLISH);
+        }
+        return pageOffset;
+    }
+
+    /**
+     * Builds the next link to the page identified by the passed skip token. The link is relative to the service root,
+     * so it stays valid independent of the URI conversion and also for requests in a batch.
+     *
+     * @param request   the request of the current page
+     * @param skipToken the skip token of the next page
+     * @return the next link
+     */
+    @VisibleForTesting
+    static URI buildNextLink(ODataRequest request, String skipToken) {
+        StringBuilder nextLink = new StringBuilder(request.getRawODataPath().replaceFirst("^/+", EMPTY)).append('?');
+        String rawQueryPath = request.getRawQueryPath();
+        if (rawQueryPath != null) {
+            for (String parameter : rawQueryPath.split("&")) {
+                String parameterName = URLDecoder.decode(parameter.split("=", 2)[0], StandardCharsets.UTF_8);
+                if (!parameter.isEmpty() && !"$skiptoken".equals(parameterName)) {
+                    nextLink.append(parameter).append('&');
+                }
+            }
+        }
+        return URI.create(nextLink.append("$skiptoken=")
+                .append(URLEncoder.encode(skipToken, StandardCharsets.UTF_8)).toString());
+    }
+
+    private static long getSkipValue(SkipOption skipOption) {
+        return skipOption != null ? Math.max(skipOption.getValue(), 0) : 0;
+    }
+
+    /**
+     * Returns the number of entities, which are at most required to apply the $skip and $top options.
+     *
+     * @param skipOption the skip option or null
+     * @param topOption  the top option or null
+     * @return the number of entities required, or {@link Integer#MAX_VALUE} in case all entities are required
+     */
+    private static int getPageLimit(SkipOption skipOption, TopOption topOption) {
+        if (topOption == null || topOption.getValue() < 0) {
+            return Integer.MAX_VALUE;
+        }
+        return (int) Math.min(getSkipValue(skipOption) + topOption.getValue(), Integer.MAX_VALUE);
+    }
+
+    private List<Entity> applyOrderByQueryOption(OrderByOption orderByOption, int limit,
+            List<Entity> resultEntityList) throws ODataApplicationException {
         if (orderByOption != null) {
             LOGGER.correlateWith(routingContext).debug("orderByOption name: {}, orderByOption text: {}",
                     orderByOption.getName(), orderByOption.getText());
             try {
-                OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, resultEntityList);
+                // in case only a page of the entities is requested, select the first entities of the requested order,
+                // instead of ordering all entities
+                return limit < resultEntityList.size()
+                        ? OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, resultEntityList,
+                                limit)
+                        : OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, resultEntityList);
             } catch (Exception e) {
                 String message = "Error during processing of orderBy option";
                 LOGGER.correlateWith(routingContext).error(message);
@@ -242,6 +419,7 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
                         e);
             }
         }
+        return resultEntityList;
     }
 
     private List<Entity> applySkipQueryOption(SkipOption skipOption, List<Entity> resultEntityList)
@@ -289,12 +467,13 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
     }
 
     private Future<List<Entity>> applyExpandQueryOptions(UriInfo uriInfo, List<Entity> resultEntityList) {
-        return EntityExpander.create(vertx, uriInfo.getExpandOption(), routingContext).map(expander -> {
-            for (Entity requestedEntity : resultEntityList) {
-                expander.expand(requestedEntity);
-            }
-            return resultEntityList;
-        });
+        return EntityExpander.create(vertx, uriInfo.getExpandOption(), resultEntityList, routingContext)
+                .map(expander -> {
+                    for (Entity requestedEntity : resultEntityList) {
+                        expander.expand(requestedEntity);
+                    }
+                    return resultEntityList;
+                });
     }
 
     private EntityCollectionSerializerOptions createSerializerOptions(ODataRequest request, UriInfo uriInfo,
@@ -341,4 +520,43 @@ public class CountEntityCollectionProcessor extends AsynchronousProcessor
             }
         });
     }
+
+    /**
+     * Iterates over the entities of an entity collection, for the streamed serialization of the collection.
+     */
+    private static final class EntityCollectionIterator extends EntityIterator {
+        private final EntityCollection entityCollection;
+
+        private final Iterator<Entity> entities;
+
+        EntityCollectionIterator(EntityCollection entityCollection) {
+            this.entityCollection = entityCollection;
+            this.entities = entityCollection.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return entities.hasNext();
+        }
+
+        @Override
+        public Entity next() {
+            return entities.next();
+        }
+
+        @Override
+        public Integer getCount() {
+            return entityCollection.getCount();
+        }
+
+        @Override
+        public URI getNext() {
+            return entityCollection.getNext();
+        }
+
+        @Override
+        public URI getDeltaLink() {
+            return entityCollection.getDeltaLink();
+        }
+    }
 }
@@ -2,6 +2,7 @@ package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.fetchReferencedEntities;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.getRelatedEntities;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.indexReferencedEntities;
 import static io.neonbee.internal.helper.AsyncHelper.allComposite;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.stream.Collectors.toList;
@@ -13,7 +14,6 @@ import java.util.Map;
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.data.EntityCollection;
 import org.apache.olingo.commons.api.data.Link;
-import org.apache.olingo.commons.api.edm.EdmEntityType;
 import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
 import org.apache.olingo.commons.api.edm.constants.EdmTypeKind;
 import org.apache.olingo.server.api.uri.UriResourceNavigation;
@@ -26,34 +26,41 @@ import io.vertx.ext.web.RoutingContext;
 public final class EntityExpander {
     private final List<EdmNavigationProperty> navigationProperties;
 
-    private final Map<EdmEntityType, List<Entity>> fetchedEntities;
+    /**
+     * The fetched entities of each navigation property, indexed by the values of the properties referenced by the
+     * referential constraints of the navigation property, so that expanding an entity requires one lookup per
+     * navigation property, instead of filtering all fetched entities.
+     */
+    private final Map<EdmNavigationProperty, Map<List<Object>, List<Entity>>> indexedEntities;
 
     private EntityExpander(List<EdmNavigationProperty> navigationProperties,
-            Map<EdmEntityType, List<Entity>> fetchedEntities) {
+            Map<EdmNavigationProperty, Map<List<Object>, List<Entity>>> indexedEntities) {
         this.navigationProperties = navigationProperties;
-        this.fetchedEntities = fetchedEntities;
+        this.indexedEntities = indexedEntities;
     }
 
     /**
      * Creating the EntityExpander is an asynchronous operation, because during the creation the EntityExpander fetches
-     * all referenced and <b>potentially</b> required entities based on the expand options. When the EntityExpander is
+     * all entities referenced by the entities to expand, based on the expand options. When the EntityExpander is
      * created successfully, the expand of an entity happens synchronously.
      *
-     * @param vertx          The Vert.x instance
-     * @param expandOption   The expand options of the OData request
-     * @param routingContext The routingContext of the request
+     * @param vertx            The Vert.x instance
+     * @param expandOption     The expand options of the OData request
+     * @param entitiesToExpand The entities which are going to be expanded
+     * @param routingContext   The routingContext of the request
      * @return A {@link Future} holding a {@link EntityExpander} when it is completed.
      */
-    public static Future<EntityExpander> create(Vertx vertx, ExpandOption expandOption, RoutingContext routingContext) {
+    public static Future<EntityExpander> create(Vertx vertx, ExpandOption expandOption, List<Entity> entitiesToExpand,
+            RoutingContext routingContext) {
         if (expandOption != null) {
             List<EdmNavigationProperty> navigationProperties = getNavigationProperties(expandOption);
-            Map<EdmEntityType, List<Entity>> fetchedEntities = new HashMap<>();
+            Map<EdmNavigationProperty, Map<List<Object>, List<Entity>>> indexedEntities = new HashMap<>();
 
             List<Future<?>> fetchFutures = navigationProperties.stream().distinct().map(navProb -> {
-                return fetchReferencedEntities(navProb, vertx, routingContext)
-                        .map(entities -> fetchedEntities.put(navProb.getType(), entities));
+                return fetchReferencedEntities(navProb, entitiesToExpand, vertx, routingContext)
+                        .map(entities -> indexedEntities.put(navProb, indexReferencedEntities(navProb, entities)));
             }).collect(toList());
-            return allComposite(fetchFutures).map(v -> new EntityExpander(navigationProperties, fetchedEntities));
+            return allComposite(fetchFutures).map(v -> new EntityExpander(navigationProperties, indexedEntities));
         } else {
             return succeededFuture(new EntityExpander(List.of(), Map.of()));
         }
@@ -77,7 +84,7 @@ public final class EntityExpander {
             }
 
             List<Entity> entitiesToLink = getRelatedEntities(navigationProperty, entityToExpand,
-                    fetchedEntities.get(navigationProperty.getType()));
+                    indexedEntities.get(navigationProperty));
             linkEntities(entityToExpand, navigationProperty, entitiesToLink);
         }
     }
@@ -13,6 +13,7 @@ import static org.apache.olingo.commons.api.http.HttpStatusCode.NOT_FOUND;
 import static org.apache.olingo.commons.api.http.HttpStatusCode.NO_CONTENT;
 import static org.apache.olingo.commons.api.http.HttpStatusCode.OK;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -47,6 +48,7 @@ import com.google.common.annotations.VisibleForTesting;
 
 import io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmHelper;
 import io.neonbee.endpoint.odatav4.internal.olingo.expression.EntityComparison;
+import io.neonbee.entity.EntityKeyIndex;
 import io.neonbee.entity.EntityWrapper;
 import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.Handler;
@@ -173,7 +175,7 @@ public class EntityProcessor extends AsynchronousProcessor
         return ew -> {
             try {
                 UriResourceEntitySet uriResourceEntitySet = (UriResourceEntitySet) uriInfo.getUriResourceParts().get(0);
-                Entity foundEntity = findEntityByKeyPredicates(routingContext, uriResourceEntitySet, ew.getEntities());
+                Entity foundEntity = findEntityByKeyPredicates(routingContext, uriResourceEntitySet, ew);
                 // Return the OData response
                 if (foundEntity == null) { // No entity with provided key predicates found
                     response.setStatusCode(NOT_FOUND.getStatusCode());
@@ -183,10 +185,11 @@ public class EntityProcessor extends AsynchronousProcessor
                     Promise<Entity> responsePromise = Promise.promise();
 
                     if (resourceParts.size() == 1) {
-                        EntityExpander.create(vertx, uriInfo.getExpandOption(), routingContext).map(expander -> {
-                            expander.expand(foundEntity);
-                            return foundEntity;
-                        }).onComplete(responsePromise);
+                        EntityExpander.create(vertx, uriInfo.getExpandOption(), List.of(foundEntity), routingContext)
+                                .map(expander -> {
+                                    expander.expand(foundEntity);
+                                    return foundEntity;
+                                }).onComplete(responsePromise);
                     } else {
                         fetchNavigationTargetEntity(resourceParts.get(1), foundEntity, vertx, routingContext)
                                 .onComplete(responsePromise);
@@ -220,6 +223,53 @@ public class EntityProcessor extends AsynchronousProcessor
         };
     }
 
+    /**
+     * Finds the entity matching the key predicates of the given URI resource in the entities of an entity wrapper. In
+     * case a key index is enabled for the entity wrapper, the entity is looked up in the index, otherwise or in case
+     * the index does not support the key of the entity, all entities are scanned.
+     *
+     * @param routingContext       the routing context
+     * @param uriResourceEntitySet the URI resource containing the key predicates
+     * @param entityWrapper        the entity wrapper to find the entity in
+     * @return the matching entity or null, in case no entity matches
+     * @throws ODataApplicationException in case more than one entity matches the key predicates
+     */
+    static Entity findEntityByKeyPredicates(RoutingContext routingContext, UriResourceEntitySet uriResourceEntitySet,
+            EntityWrapper entityWrapper) throws ODataApplicationException {
+        List<Entity> entities = entityWrapper.getEntities();
+        if (entityWrapper.isKeyIndexEnabled() && entities != null && !entities.isEmpty()) {
+            List<Entity> foundEntities = findEntitiesByKeyIndex(routingContext, uriResourceEntitySet, entityWrapper);
+            if (foundEntities != null) {
+                return uniqueEntity(foundEntities);
+            }
+        }
+
+        return findEntityByKeyPredicates(routingContext, uriResourceEntitySet, entities);
+    }
+
+    private static List<Entity> findEntitiesByKeyIndex(RoutingContext routingContext,
+            UriResourceEntitySet uriResourceEntitySet, EntityWrapper entityWrapper) {
+        EdmEntityType entityType = uriResourceEntitySet.getEntitySet().getEntityType();
+        Map<String, EdmPrimitiveTypeKind> keyProperties = new HashMap<>();
+        Map<String, String> keyValues = new HashMap<>();
+        for (UriParameter keyPredicate : uriResourceEntitySet.getKeyPredicates()) {
+            String keyPropertyName = keyPredicate.getName();
+            EdmPrimitiveTypeKind edmPrimitiveTypeKind;
+            try {
+                edmPrimitiveTypeKind = EdmHelper.getEdmPrimitiveTypeKindByPropertyType(
+                        entityType.getProperty(keyPropertyName).getType().toString());
+            } catch (ODataApplicationException e) {
+                return null; // NOPMD fall back to scanning the entities, which is going to report the error
+            }
+
+            keyProperties.put(keyPropertyName, edmPrimitiveTypeKind);
+            keyValues.put(keyPropertyName, EdmHelper.extractValueFromLiteral(routingContext, keyPredicate.getText()));
+        }
+
+        EntityKeyIndex keyIndex = entityWrapper.getKeyIndex(keyProperties);
+        return keyIndex != null ? keyIndex.lookup(keyValues) : null;
+    }
+
     static Entity findEntityByKeyPredicates(RoutingContext routingContext, UriResourceEntitySet uriResourceEntitySet,
             List<Entity> entities) throws ODataApplicationException {
         if (entities == null || entities.isEmpty()) {
@@ -276,6 +326,10 @@ public class EntityProcessor extends AsynchronousProcessor
                         return false;
                     });
         }).collect(Collectors.toUnmodifiableList());
+        return uniqueEntity(foundEntities);
+    }
+
+    private static Entity uniqueEntity(List<Entity> foundEntities) throws ODataApplicationException {
         if (foundEntities.size() == 1) {
             return foundEntities.get(0);
         } else if (foundEntities.size() > 1) {
@@ -1,22 +1,33 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
 import static io.neonbee.entity.EntityVerticle.requestEntity;
+import static io.neonbee.internal.helper.AsyncHelper.allComposite;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static org.apache.olingo.commons.api.http.HttpStatusCode.INTERNAL_SERVER_ERROR;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.edm.EdmEntitySet;
+import org.apache.olingo.commons.api.edm.EdmEntityType;
 import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeException;
+import org.apache.olingo.commons.api.edm.EdmProperty;
 import org.apache.olingo.commons.api.edm.EdmReferentialConstraint;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
 import org.apache.olingo.server.api.ODataApplicationException;
 import org.apache.olingo.server.api.uri.UriResource;
 import org.apache.olingo.server.api.uri.UriResourceNavigation;
+import org.apache.olingo.server.api.uri.queryoption.SystemQueryOptionKind;
 
 import io.neonbee.data.DataQuery;
 import io.neonbee.data.DataRequest;
@@ -28,6 +39,11 @@ import io.vertx.core.Vertx;
 import io.vertx.ext.web.RoutingContext;
 
 public final class NavigationPropertyHelper {
+    /**
+     * The maximum number of distinct keys pushed down to an entity verticle in one generated {@code $filter}.
+     */
+    static final int MAX_FILTER_KEYS = 100;
+
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
     /**
@@ -45,6 +61,137 @@ public final class NavigationPropertyHelper {
         return requestEntity(vertx, req, new DataContextImpl(routingContext)).map(EntityWrapper::getEntities);
     }
 
+    /**
+     * Fetches the entities referenced by the navigation property of the passed source entities. Instead of fetching the
+     * whole target entity set, the distinct values of the referential constraint properties of the source entities are
+     * pushed down to the target entity verticle as a generated {@code $filter}. In case there are more than
+     * {@link #MAX_FILTER_KEYS} distinct values, the entities are fetched in multiple batches.
+     * <p>
+     * Entity verticles are not obliged to apply the filter, so the returned entities may still contain entities not
+     * related to any of the source entities. In case no filter can be generated for the navigation property (e.g. if
+     * no referential constraints are defined), the whole target entity set is fetched.
+     *
+     * @param navigationProperty the navigation property
+     * @param sourceEntities     the entities with navigation property
+     * @param vertx              the current Vert.x instance
+     * @param routingContext     the current routing context
+     * @return a {@link Future} holding the related {@link Entity} collection
+     */
+    public static Future<List<Entity>> fetchReferencedEntities(EdmNavigationProperty navigationProperty,
+            List<Entity> sourceEntities, Vertx vertx, RoutingContext routingContext) {
+        List<String> filters;
+        try {
+            filters = buildReferencedEntitiesFilters(navigationProperty, sourceEntities);
+        } catch (EdmPrimitiveTypeException e) {
+            LOGGER.correlateWith(routingContext).debug(
+                    "Cannot filter the referenced entities of navigation property {}", navigationProperty.getName(), e);
+            filters = null;
+        }
+
+        if (filters == null) {
+            return fetchReferencedEntities(navigationProperty, vertx, routingContext);
+        } else if (filters.isEmpty()) {
+            return succeededFuture(List.of());
+        }
+
+        FullQualifiedName fqn = navigationProperty.getType().getFullQualifiedName();
+        List<Future<List<Entity>>> fetchFutures = new ArrayList<>(filters.size());
+        for (String filter : filters) {
+            DataQuery query = new DataQuery(fqn.getNamespace() + "/" + fqn.getName())
+                    .setParameter(SystemQueryOptionKind.FILTER.toString(), filter);
+            fetchFutures.add(requestEntity(vertx, new DataRequest(fqn, query), new DataContextImpl(routingContext))
+                    .map(EntityWrapper::getEntities));
+        }
+
+        if (fetchFutures.size() == 1) {
+            return fetchFutures.get(0);
+        }
+        return allComposite(fetchFutures).map(v -> {
+            List<Entity> referencedEntities = new ArrayList<>();
+            for (Future<List<Entity>> fetchFuture : fetchFutures) {
+                referencedEntities.addAll(fetchFuture.result());
+            }
+            return referencedEntities;
+        });
+    }
+
+    /**
+     * Builds the {@code $filter} expressions to select the entities referenced by the navigation property of the
+     * passed source entities. For navigation properties with a single referential constraint an {@code in} expression
+     * is generated, for multiple referential constraints a disjunction of conjunctions. Every expression covers at most
+     * {@link #MAX_FILTER_KEYS} distinct values.
+     *
+     * @param navigationProperty the navigation property
+     * @param sourceEntities     the entities with navigation property
+     * @return the filter expressions, an empty list if no source entity references any entity, or null if no filter
+     *         can be generated for the navigation property
+     * @throws EdmPrimitiveTypeException in case a value cannot be converted to an URI literal
+     */
+    static List<String> buildReferencedEntitiesFilters(EdmNavigationProperty navigationProperty,
+            List<Entity> sourceEntities) throws EdmPrimitiveTypeException {
+        List<String> referencePropertyNames = getConstraintPropertyNames(navigationProperty, true);
+        if (referencePropertyNames.isEmpty()) {
+            return null;
+        }
+
+        EdmEntityType referencedType = navigationProperty.getType();
+        List<EdmProperty> referenceProperties = new ArrayList<>(referencePropertyNames.size());
+        for (String referencePropertyName : referencePropertyNames) {
+            EdmProperty referenceProperty = referencedType.getStructuralProperty(referencePropertyName);
+            if (referenceProperty == null || !referenceProperty.isPrimitive()) {
+                return null;
+            }
+            referenceProperties.add(referenceProperty);
+        }
+
+        List<String> propertyNames = getConstraintPropertyNames(navigationProperty, false);
+        Set<List<Object>> keys = new LinkedHashSet<>();
+        for (Entity sourceEntity : sourceEntities) {
+            List<Object> key = getPropertyValues(sourceEntity, propertyNames);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+
+        List<String> filters = new ArrayList<>();
+        List<String> literals = new ArrayList<>(Math.min(keys.size(), MAX_FILTER_KEYS));
+        for (List<Object> key : keys) {
+            if (referenceProperties.size() == 1) {
+                literals.add(toUriLiteral(referenceProperties.get(0), key.get(0)));
+            } else {
+                List<String> comparisons = new ArrayList<>(referenceProperties.size());
+                for (int index = 0; index < referenceProperties.size(); index++) {
+                    EdmProperty referenceProperty = referenceProperties.get(index);
+                    comparisons.add(referenceProperty.getName() + " eq "
+                            + toUriLiteral(referenceProperty, key.get(index)));
+                }
+                literals.add("(" + String.join(" and ", comparisons) + ")");
+            }
+
+            if (literals.size() == MAX_FILTER_KEYS) {
+                filters.add(toFilter(referenceProperties, literals));
+                literals.clear();
+            }
+        }
+        if (!literals.isEmpty()) {
+            filters.add(toFilter(referenceProperties, literals));
+        }
+        return filters;
+    }
+
+    private static String toFilter(List<EdmProperty> referenceProperties, List<String> literals) {
+        if (referenceProperties.size() == 1) {
+            return referenceProperties.get(0).getName() + " in (" + String.join(",", literals) + ")";
+        }
+        return String.join(" or ", literals);
+    }
+
+    private static String toUriLiteral(EdmProperty property, Object value) throws EdmPrimitiveTypeException {
+        EdmPrimitiveType type = (EdmPrimitiveType) property.getType();
+        return type.toUriLiteral(type.valueToString(value, property.isNullable(), property.getMaxLength(),
+                property.getPrecision(), property.getScale(), property.isUnicode()));
+    }
+
     /**
      * Filters the referenced entities based on the navigation property.
      *
@@ -55,28 +202,95 @@ public final class NavigationPropertyHelper {
      */
     public static List<Entity> getRelatedEntities(EdmNavigationProperty navigationProperty, Entity sourceEntity,
             List<Entity> referencedEntities) {
-        List<Entity> filteredEntities = new ArrayList<>(referencedEntities);
+        return getRelatedEntities(navigationProperty, sourceEntity,
+                indexReferencedEntities(navigationProperty, referencedEntities));
+    }
+
+    /**
+     * Gets the related entities of a source entity from an index of referenced entities, created by
+     * {@link #indexReferencedEntities(EdmNavigationProperty, List)} for the same navigation property.
+     *
+     * @param navigationProperty the navigation property
+     * @param sourceEntity       the entity with navigation property
+     * @param referencedIndex    the index of the entities of the referenced type
+     * @return a {@link List} with all related {@link Entity entities}
+     */
+    public static List<Entity> getRelatedEntities(EdmNavigationProperty navigationProperty, Entity sourceEntity,
+            Map<List<Object>, List<Entity>> referencedIndex) {
+        List<Object> key = getPropertyValues(sourceEntity, getConstraintPropertyNames(navigationProperty, false));
+        if (key == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(referencedIndex.getOrDefault(key, List.of()));
+    }
+
+    /**
+     * Indexes the referenced entities of a navigation property by the values of the properties referenced by the
+     * referential constraints of the navigation property. The index allows to look up the related entities of any
+     * source entity with a single hash lookup, instead of filtering all referenced entities once per source entity.
+     * Referenced entities with a null value in any of the referenced properties are not related to any source entity
+     * and thus not part of the index.
+     *
+     * @param navigationProperty the navigation property
+     * @param referencedEntities the entities of the referenced type
+     * @return a {@link Map} of the referenced property values (in order of the referential constraints) to the
+     *         referenced {@link Entity entities} holding these values, in the order of the passed entities
+     */
+    public static Map<List<Object>, List<Entity>> indexReferencedEntities(EdmNavigationProperty navigationProperty,
+            List<Entity> referencedEntities) {
+        List<String> referencePropertyNames = getConstraintPropertyNames(navigationProperty, true);
+        Map<List<Object>, List<Entity>> index = new HashMap<>();
+        for (Entity referencedEntity : referencedEntities) {
+            List<Object> key = getPropertyValues(referencedEntity, referencePropertyNames);
+            if (key != null) {
+                index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(referencedEntity);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the names of the properties of the referential constraints of a navigation property.
+     *
+     * @param navigationProperty the navigation property
+     * @param referenced         true to return the property names of the referenced (target) entities, false to return
+     *                           the property names of the source entities
+     * @return the property names in order of the referential constraints
+     */
+    static List<String> getConstraintPropertyNames(EdmNavigationProperty navigationProperty, boolean referenced) {
         boolean isCollection = navigationProperty.isCollection();
         List<EdmReferentialConstraint> constraints =
                 isCollection ? navigationProperty.getPartner().getReferentialConstraints()
                         : navigationProperty.getReferentialConstraints();
 
+        // for collections the referential constraints are defined at the partner, so the property names are swapped
+        boolean useReferencedPropertyName = isCollection != referenced;
+        List<String> propertyNames = new ArrayList<>(constraints.size());
         for (EdmReferentialConstraint constraint : constraints) {
-            String propertyName = isCollection ? constraint.getReferencedPropertyName() : constraint.getPropertyName();
-            String referencePropertyName =
-                    isCollection ? constraint.getPropertyName() : constraint.getReferencedPropertyName();
-
-            Object propertyValue = sourceEntity.getProperty(propertyName).getValue();
-            List<Entity> remainingEntities = List.copyOf(filteredEntities);
-            filteredEntities.clear();
-            for (Entity referenceEntity : remainingEntities) {
-                Object referencePropertyValue = referenceEntity.getProperty(referencePropertyName).getValue();
-                if (propertyValue.equals(referencePropertyValue)) {
-                    filteredEntities.add(referenceEntity);
-                }
+            propertyNames.add(useReferencedPropertyName ? constraint.getReferencedPropertyName()
+                    : constraint.getPropertyName());
+        }
+        return propertyNames;
+    }
+
+    /**
+     * Returns the values of the given properties of an entity.
+     *
+     * @param entity        the entity
+     * @param propertyNames the names of the properties
+     * @return the values of the properties in order of the property names, or null in case any value is null
+     */
+    static List<Object> getPropertyValues(Entity entity, List<String> propertyNames) {
+        List<Object> values = new ArrayList<>(propertyNames.size());
+        for (String propertyName : propertyNames) {
+            Property property = entity.getProperty(propertyName);
+            Object value = property != null ? property.getValue() : null;
+            if (value == null) {
+                return null;
             }
+            values.add(value);
         }
-        return filteredEntities;
+        return values;
     }
 
     /**
@@ -88,8 +88,7 @@ public class PrimitiveProcessor extends AsynchronousProcessor
         return ew -> {
             try {
                 UriResourceEntitySet uriEntitySet = (UriResourceEntitySet) uriInfo.getUriResourceParts().get(0);
-                Entity entity =
-                        EntityProcessor.findEntityByKeyPredicates(routingContext, uriEntitySet, ew.getEntities());
+                Entity entity = EntityProcessor.findEntityByKeyPredicates(routingContext, uriEntitySet, ew);
                 if (entity == null) {
                     processPromise.fail(new ODataApplicationException("Entity not found",
                             HttpStatusCode.NOT_FOUND.getStatusCode(), Locale.ENGLISH));
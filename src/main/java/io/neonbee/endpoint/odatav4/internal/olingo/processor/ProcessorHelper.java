@@ -1,13 +1,12 @@
 package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
-import static io.neonbee.entity.EntityVerticle.requestEntity;
-
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.edm.FullQualifiedName;
 import org.apache.olingo.server.api.ODataRequest;
 import org.apache.olingo.server.api.uri.UriInfo;
 import org.apache.olingo.server.api.uri.UriResourceEntitySet;
@@ -19,6 +18,7 @@ import io.neonbee.data.DataContext;
 import io.neonbee.data.DataQuery;
 import io.neonbee.data.DataRequest;
 import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.entity.EntityVerticle;
 import io.neonbee.entity.EntityWrapper;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -52,6 +52,15 @@ public final class ProcessorHelper {
     /** OData count size key. */
     public static final String ODATA_COUNT_SIZE_KEY = "OData.count.size";
 
+    /**
+     * OData skip token key. In case an entity verticle applied the max page size hint, it must set the skip token of
+     * the next page, or an empty string in case the last page was returned.
+     */
+    public static final String ODATA_SKIP_TOKEN_KEY = "OData.skiptoken";
+
+    /** Header hinting the maximum number of entities an entity verticle should return for a page. */
+    public static final String ODATA_MAX_PAGE_SIZE_HEADER = "X-OData-MaxPageSize";
+
     private ProcessorHelper() {}
 
     private static DataQuery odataRequestToQuery(ODataRequest request, DataAction action, Buffer body) {
@@ -79,6 +88,29 @@ public final class ProcessorHelper {
         return forwardRequest(request, action, null, uriInfo, vertx, routingContext, processPromise);
     }
 
+    /**
+     * Maps an ODataRequest reading an entity collection into an entity request and sends it to the related entity
+     * verticles. In case a max page size is set, it is hinted to the entity verticles in the
+     * {@value #ODATA_MAX_PAGE_SIZE_HEADER} header of the query. Entity verticles may use the hint together with the
+     * $skiptoken query parameter to only return the requested page.
+     *
+     * @param request        The ODataRequest
+     * @param uriInfo        The UriInfo of the ODataRequest
+     * @param maxPageSize    The maximum number of entities per page, or 0 in case the collection is not paged
+     * @param vertx          The Vert.x instance
+     * @param routingContext The routingContext of the request
+     * @param processPromise the processPromise of the current request
+     * @return a Future of EntityWrapper holding the result of the entity request.
+     */
+    public static Future<EntityWrapper> forwardReadRequest(ODataRequest request, UriInfo uriInfo, int maxPageSize,
+            Vertx vertx, RoutingContext routingContext, Promise<Void> processPromise) {
+        DataQuery query = odataRequestToQuery(request, DataAction.READ, null);
+        if (maxPageSize > 0) {
+            query.setHeader(ODATA_MAX_PAGE_SIZE_HEADER, Integer.toString(maxPageSize));
+        }
+        return forwardQuery(query, uriInfo, vertx, routingContext, processPromise);
+    }
+
     /**
      * Maps an ODataRequest into an entity request and sends it to the related entity verticles. If the ODataRequest
      * contains an Entity in the request body, this entity will also be forwarded.
@@ -98,13 +130,43 @@ public final class ProcessorHelper {
         EdmEntityType entityType = uriResourceEntitySet.getEntitySet().getEntityType();
         Buffer body = Optional.ofNullable(entity)
                 .map(e -> new EntityWrapper(entityType.getFullQualifiedName(), e).toBuffer(vertx)).orElse(null);
-        DataQuery query = odataRequestToQuery(request, action, body);
-        DataContext dataContext = new DataContextImpl(routingContext);
-        return requestEntity(vertx, new DataRequest(entityType.getFullQualifiedName(), query), dataContext)
-                .map(result -> transferResponseHint(dataContext, routingContext, result))
+        return forwardQuery(odataRequestToQuery(request, action, body), uriInfo, vertx, routingContext,
+                processPromise);
+    }
+
+    private static Future<EntityWrapper> forwardQuery(DataQuery query, UriInfo uriInfo, Vertx vertx,
+            RoutingContext routingContext, Promise<Void> processPromise) {
+        UriResourceEntitySet uriResourceEntitySet = (UriResourceEntitySet) uriInfo.getUriResourceParts().get(0);
+        FullQualifiedName entityTypeName = uriResourceEntitySet.getEntitySet().getEntityType().getFullQualifiedName();
+
+        // in case the query is part of a batch request, it might be merged with other reads of the same batch
+        BatchReadMerger batchReadMerger = BatchReadMerger.get(routingContext);
+        Future<EntityWrapper> mergedResult =
+                batchReadMerger != null ? batchReadMerger.add(entityTypeName, query, uriInfo) : null;
+        if (batchReadMerger != null && mergedResult == null) {
+            // the reads of the batch request collected so far must be sent before the query, which cannot be merged
+            batchReadMerger.flush(vertx, routingContext);
+        }
+        return (mergedResult != null ? mergedResult : requestEntity(vertx, entityTypeName, query, routingContext))
                 .onFailure(processPromise::fail);
     }
 
+    /**
+     * Sends an entity request for the given query to the related entity verticles.
+     *
+     * @param vertx          The Vert.x instance
+     * @param entityTypeName The full qualified name of the entity type to request
+     * @param query          The query to send
+     * @param routingContext The routingContext of the request
+     * @return a Future of EntityWrapper holding the result of the entity request.
+     */
+    static Future<EntityWrapper> requestEntity(Vertx vertx, FullQualifiedName entityTypeName, DataQuery query,
+            RoutingContext routingContext) {
+        DataContext dataContext = new DataContextImpl(routingContext);
+        return EntityVerticle.requestEntity(vertx, new DataRequest(entityTypeName, query), dataContext)
+                .map(result -> transferResponseHint(dataContext, routingContext, result));
+    }
+
     /**
      * Transfer response hints from data context into routing context.
      *
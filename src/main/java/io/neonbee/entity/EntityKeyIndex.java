@@ -0,0 +1,234 @@
+package io.neonbee.entity;
+
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_DECIMAL_DURATION_JAVA_TYPES;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_INT16_INT32_INT64_BYTE_SBYTE_JAVA_TYPES;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_SINGLE_DOUBLE_JAVA_TYPES;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.EDM_STRING_JAVA_TYPES;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * An index of a list of entities by the values of their key properties, used to look up single entities by their key
+ * predicates in constant time, instead of scanning the whole list of entities.
+ * <p>
+ * The key values are normalized, so that two values are considered equal by the index, exactly if they are considered
+ * equal when comparing the key properties of an entity with the literal of a key predicate: integers are compared by
+ * value, decimals are compared ignoring their scale and strings are compared ignoring their case. Only key properties
+ * of these kinds are supported. In case the key contains a property of another kind, or any of the entities holds a
+ * value for a key property that cannot be normalized, the index is not supported and every lookup has to fall back to
+ * scanning the list of entities.
+ */
+public final class EntityKeyIndex {
+    private final SortedMap<String, EdmPrimitiveTypeKind> keyProperties;
+
+    private final List<Entity> entities;
+
+    private final int size;
+
+    private final Map<List<Object>, Entity> index;
+
+    private final Map<List<Object>, List<Entity>> duplicates = new HashMap<>();
+
+    private EntityKeyIndex(Map<String, EdmPrimitiveTypeKind> keyProperties, List<Entity> entities) {
+        this.keyProperties = Collections.unmodifiableSortedMap(new TreeMap<>(keyProperties));
+        this.entities = entities;
+        this.size = entities.size();
+        this.index = buildIndex();
+    }
+
+    /**
+     * Builds a new index of the given entities. Note that the index is neither updated, in case the list of entities
+     * changes, nor does it hold a copy of the entities.
+     *
+     * @param keyProperties the names of the key properties to index the entities by and their EDM primitive type kinds
+     * @param entities      the entities to index
+     * @return the index, which might not be supported, in case not all entities can be indexed
+     */
+    public static EntityKeyIndex build(Map<String, EdmPrimitiveTypeKind> keyProperties, List<Entity> entities) {
+        return new EntityKeyIndex(keyProperties, entities);
+    }
+
+    /**
+     * Returns whether the index can be used to look up entities. In case the index is not supported, {@link #lookup}
+     * always returns null.
+     *
+     * @return true if the index is supported
+     */
+    public boolean isSupported() {
+        return index != null;
+    }
+
+    /**
+     * Returns whether this index was built for the given key properties and the given list of entities, and the size
+     * of the list did not change since. Note that this check is not able to detect, that entities of the list got
+     * replaced, e.g. with {@link List#set}, or that the values of their key properties changed, as this would require
+     * to compare all entities again. Lists of entities, which are modified this way, must not be indexed.
+     *
+     * @param keyProperties the key properties to check
+     * @param entities      the list of entities to check
+     * @return true, if the index is still valid for the given key properties and entities
+     */
+    public boolean isValidFor(Map<String, EdmPrimitiveTypeKind> keyProperties, List<Entity> entities) {
+        return this.entities == entities && size == entities.size() && this.keyProperties.equals(keyProperties);
+    }
+
+    /**
+     * Looks up all entities matching the given key values.
+     *
+     * @param keyValues the values of the key properties, as provided by the key predicates of a request
+     * @return the matching entities, or null in case the lookup cannot be answered by the index, e.g. because the index
+     *         is not supported or a value could not be normalized
+     */
+    public List<Entity> lookup(Map<String, String> keyValues) {
+        if (index == null || !keyProperties.keySet().equals(keyValues.keySet())) {
+            return null; // NOPMD returning null signals the caller to fall back to scanning the entities
+        }
+
+        List<Object> key = new ArrayList<>(keyProperties.size());
+        for (Map.Entry<String, EdmPrimitiveTypeKind> keyProperty : keyProperties.entrySet()) {
+            Object value = normalize(keyProperty.getValue(), keyValues.get(keyProperty.getKey()), true);
+            if (value == null) {
+                return null; // NOPMD see above
+            }
+            key.add(value);
+        }
+
+        List<Entity> duplicateEntities = duplicates.get(key);
+        if (duplicateEntities != null) {
+            return duplicateEntities;
+        }
+
+        Entity entity = index.get(key);
+        return entity != null ? List.of(entity) : List.of();
+    }
+
+    private Map<List<Object>, Entity> buildIndex() {
+        Map<List<Object>, Entity> entityIndex = new HashMap<>();
+        for (Entity entity : entities) {
+            if (entity == null) {
+                continue;
+            }
+
+            List<Object> key = new ArrayList<>(keyProperties.size());
+            for (Map.Entry<String, EdmPrimitiveTypeKind> keyProperty : keyProperties.entrySet()) {
+                Property property = entity.getProperty(keyProperty.getKey());
+                if (property == null) {
+                    // entities without all key properties are never found when looking up entities
+                    key = null;
+                    break;
+                }
+
+                Object value = normalize(keyProperty.getValue(), property.getValue(), false);
+                if (value == null) {
+                    return null; // NOPMD the index is not supported
+                }
+                key.add(value);
+            }
+
+            if (key != null) {
+                Entity previous = entityIndex.putIfAbsent(key, entity);
+                if (previous != null) {
+                    duplicates.computeIfAbsent(key, k -> new ArrayList<>(List.of(previous))).add(entity);
+                }
+            }
+        }
+        return entityIndex;
+    }
+
+    /**
+     * Normalizes a value of a key property, so that two normalized values are equal exactly if the values would be
+     * considered equal when compared as a property of the given kind.
+     *
+     * @param kind    the kind of the key property
+     * @param value   the value to normalize
+     * @param literal true if the value is the literal of a key predicate, false if it is the value of an entity
+     * @return the normalized value or null, in case the value cannot be normalized
+     */
+    @VisibleForTesting
+    static Object normalize(EdmPrimitiveTypeKind kind, Object value, boolean literal) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            switch (kind) {
+            case Int16:
+            case Int32:
+            case Int64:
+            case Byte:
+            case SByte:
+                if (literal || instanceOfExpectedType(EDM_INT16_INT32_INT64_BYTE_SBYTE_JAVA_TYPES, value)) {
+                    return value instanceof BigInteger ? value : new BigInteger(String.valueOf(value));
+                }
+                break;
+            case Decimal:
+            case Duration:
+                if (literal || instanceOfExpectedType(EDM_DECIMAL_DURATION_JAVA_TYPES, value)) {
+                    return toNormalizedDecimal(value);
+                }
+                break;
+            case Single:
+            case Double:
+                if (literal || instanceOfExpectedType(EDM_SINGLE_DOUBLE_JAVA_TYPES, value)) {
+                    return toNormalizedDecimal(value);
+                }
+                break;
+            case String:
+                if (literal || instanceOfExpectedType(EDM_STRING_JAVA_TYPES, value)) {
+                    return foldCase((String) value);
+                }
+                break;
+            default:
+                // other kinds, e.g. date / time kinds, are not normalized, as they are compared by their converted
+                // epoch millis, which could only be reproduced with the conversions of the entity comparison
+                break;
+            }
+        } catch (NumberFormatException | ClassCastException e) {
+            return null;
+        }
+        return null;
+    }
+
+    private static BigDecimal toNormalizedDecimal(Object value) {
+        BigDecimal decimal;
+        if (value instanceof BigDecimal) {
+            decimal = (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            decimal = new BigDecimal((BigInteger) value);
+        } else {
+            decimal = new BigDecimal(String.valueOf(value));
+        }
+
+        // BigDecimal.compareTo ignores the scale of the values, while BigDecimal.equals does not
+        return decimal.stripTrailingZeros();
+    }
+
+    /**
+     * Folds the case of a string the same way {@link String#compareToIgnoreCase(String)} compares the characters of
+     * two strings, so that two folded strings are equal, exactly if they compare equal ignoring their case.
+     */
+    private static String foldCase(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        value.codePoints().map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint)))
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    private static boolean instanceOfExpectedType(List<Class<?>> expectedTypes, Object value) {
+        return expectedTypes.stream().anyMatch(type -> type.isAssignableFrom(value.getClass()));
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -33,7 +34,9 @@ import org.apache.olingo.server.core.SchemaBasedEdmProvider;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Streams;
+import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import com.sap.cds.reflect.CdsEntity;
 import com.sap.cds.reflect.CdsModel;
@@ -72,9 +75,21 @@ class EntityModelLoader {
 
     private final Vertx vertx;
 
+    private final ParsedModels previouslyParsedModels;
+
+    private final Map<HashCode, CdsModel> parsedCsnModels = new HashMap<>();
+
+    private final Map<HashCode, EntityModel> parsedEntityModels = new HashMap<>();
+
     @VisibleForTesting
     EntityModelLoader(Vertx vertx) {
+        this(vertx, new ParsedModels());
+    }
+
+    @VisibleForTesting
+    EntityModelLoader(Vertx vertx, ParsedModels previouslyParsedModels) {
         this.vertx = vertx;
+        this.previouslyParsedModels = previouslyParsedModels;
     }
 
     /**
@@ -94,16 +109,31 @@ class EntityModelLoader {
      * @return a map of all loaded models
      */
     public static Future<Map<String, EntityModel>> load(Vertx vertx, Collection<EntityModelDefinition> definitions) {
+        return load(vertx, definitions, new ParsedModels());
+    }
+
+    /**
+     * Load models from model directory and class path, as well as from the maps provided and return a future to a map
+     * of all loaded models. Models, which did not change since they have been parsed into the passed
+     * {@link ParsedModels}, are not parsed again. After loading, the passed {@link ParsedModels} are replaced with the
+     * models parsed by this load.
+     *
+     * @return a map of all loaded models
+     */
+    static Future<Map<String, EntityModel>> load(Vertx vertx, Collection<EntityModelDefinition> definitions,
+            ParsedModels parsedModels) {
         LOGGER.trace("Start loading entity model definitions");
-        return new EntityModelLoader(vertx).loadModelsFromModelDirectoryAndClassPath().compose(loader -> {
+        return new EntityModelLoader(vertx, parsedModels).loadModelsFromModelDirectoryAndClassPath().compose(loader -> {
             return CompositeFuture
                     .all(definitions.stream().map(loader::loadModelsFromDefinition).collect(Collectors.toList()))
                     .map(loader);
-        }).map(EntityModelLoader::getModels).onComplete(result -> {
-            if (LOGGER.isTraceEnabled()) {
-                LOGGER.trace("Loading entity model definitions {}", result.succeeded() ? "succeeded" : "failed");
-            }
-        });
+        }).onSuccess(loader -> loader.retainParsedModels(parsedModels)).map(EntityModelLoader::getModels)
+                .onComplete(result -> {
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace("Loading entity model definitions {}",
+                                result.succeeded() ? "succeeded" : "failed");
+                    }
+                });
     }
 
     /**
@@ -200,38 +230,98 @@ class EntityModelLoader {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace("Loading model {}", csnFile);
         }
-        return readCsnModel(csnFile).compose(cdsModel -> {
-            return CompositeFuture.all(EntityModelDefinition.resolveEdmxPaths(csnFile, cdsModel).stream()
-                    .map(this::loadEdmxModel).collect(Collectors.toList())).onSuccess(compositeFuture -> {
-                        buildModelMap(cdsModel, compositeFuture.<ServiceMetadata>list());
-                    });
-        }).mapEmpty();
+        return FileSystemHelper.readFile(vertx, csnFile).map(Buffer::getBytes)
+                .compose(csnPayload -> parseCsnModelIfChanged(csnPayload).compose(cdsModel -> {
+                    return CompositeFuture.all(EntityModelDefinition.resolveEdmxPaths(csnFile, cdsModel).stream()
+                            .map(file -> FileSystemHelper.readFile(vertx, file)).collect(Collectors.toList()))
+                            .compose(compositeFuture -> buildModel(csnPayload, cdsModel,
+                                    compositeFuture.<Buffer>list()));
+                }));
     }
 
     Future<Void> parseModel(String csnFile, byte[] csnPayload, Map<String, byte[]> associatedModels) {
         LOGGER.trace("Parse CSN model file {}", csnFile);
-        return parseCsnModel(csnPayload).onComplete(result -> {
+        return parseCsnModelIfChanged(csnPayload).onComplete(result -> {
             if (LOGGER.isTraceEnabled()) {
                 LOGGER.trace("Parsing CSN model file {} {}", csnFile, result.succeeded() ? "succeeded" : "failed");
             }
         }).compose(cdsModel -> {
             LOGGER.trace("Parse associated models of {}", csnFile);
-            return CompositeFuture.all(EntityModelDefinition.resolveEdmxPaths(Path.of(csnFile), cdsModel).stream()
-                    .map(Path::toString).map(path -> {
-                        // we do not know if the path uses windows / unix path separators, try both!
-                        return FileSystemHelper.getPathFromMap(associatedModels, path);
-                    }).map(this::parseEdmxModel).collect(Collectors.toList())).onComplete(result -> {
-                        if (LOGGER.isTraceEnabled()) {
-                            LOGGER.trace("Parsing associated models of {} {}", csnFile,
-                                    result.succeeded() ? "succeeded" : "failed");
-                        }
-                    }).onSuccess(compositeFuture -> {
-                        buildModelMap(cdsModel, compositeFuture.<ServiceMetadata>list());
-                    }).mapEmpty();
+            return buildModel(csnPayload, cdsModel,
+                    EntityModelDefinition.resolveEdmxPaths(Path.of(csnFile), cdsModel).stream().map(Path::toString)
+                            .map(path -> {
+                                // we do not know if the path uses windows / unix path separators, try both!
+                                return FileSystemHelper.getPathFromMap(associatedModels, path);
+                            }).map(Buffer::buffer).collect(Collectors.toList())).onComplete(result -> {
+                                if (LOGGER.isTraceEnabled()) {
+                                    LOGGER.trace("Parsing associated models of {} {}", csnFile,
+                                            result.succeeded() ? "succeeded" : "failed");
+                                }
+                            });
         });
     }
 
-    private void buildModelMap(CdsModel cdsModel, List<ServiceMetadata> edmxModels) {
+    /**
+     * Parses the CSN model, in case no model with the same content was parsed before.
+     *
+     * @param csnPayload payload of a CSN model
+     * @return a {@link Future} with the parsed model inside
+     */
+    private Future<CdsModel> parseCsnModelIfChanged(byte[] csnPayload) {
+        HashCode csnHash = HASH_FUNCTION.hashBytes(csnPayload);
+        CdsModel cdsModel = previouslyParsedModels.csnModels.get(csnHash);
+        if (cdsModel != null) {
+            parsedCsnModels.put(csnHash, cdsModel);
+            return succeededFuture(cdsModel);
+        }
+
+        return parseCsnModel(csnPayload).onSuccess(parsedModel -> parsedCsnModels.put(csnHash, parsedModel));
+    }
+
+    /**
+     * Builds the entity model of a CSN model and its associated EDMX models and adds it to the model map. In case the
+     * same models have been parsed before, the previously parsed entity model is added instead of parsing the EDMX
+     * models again.
+     */
+    private Future<Void> buildModel(byte[] csnPayload, CdsModel cdsModel, List<Buffer> edmxPayloads) {
+        Hasher hasher = HASH_FUNCTION.newHasher().putInt(csnPayload.length).putBytes(csnPayload);
+        edmxPayloads.forEach(edmxPayload -> hasher.putInt(edmxPayload.length()).putBytes(edmxPayload.getBytes()));
+        HashCode modelHash = hasher.hash();
+
+        EntityModel entityModel = previouslyParsedModels.entityModels.get(modelHash);
+        if (entityModel != null) {
+            LOGGER.trace("Model with schema namespace {} did not change and is not parsed again",
+                    EntityModelDefinition.getNamespace(cdsModel));
+            parsedEntityModels.put(modelHash, entityModel);
+            putModel(EntityModelDefinition.getNamespace(cdsModel), entityModel);
+            return succeededFuture();
+        }
+
+        return CompositeFuture.all(edmxPayloads.stream().map(this::createServiceMetadataWithSchema)
+                .collect(Collectors.toList())).onSuccess(compositeFuture -> {
+                    Optional.ofNullable(buildModelMap(cdsModel, compositeFuture.<ServiceMetadata>list()))
+                            .ifPresent(builtModel -> parsedEntityModels.put(modelHash, builtModel));
+                }).mapEmpty();
+    }
+
+    /**
+     * Replaces the passed parsed models with the models parsed by this loader. Models which share a schema namespace of
+     * an EDMX model with another model are not retained, because they have been parsed into a common EDM provider,
+     * which depends on the other model.
+     */
+    private void retainParsedModels(ParsedModels parsedModels) {
+        Map<String, Long> namespaceCounts = parsedEntityModels.values().stream()
+                .flatMap(model -> model.getAllEdmxMetadata().keySet().stream())
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        parsedModels.csnModels = Map.copyOf(parsedCsnModels);
+        parsedModels.entityModels = parsedEntityModels.entrySet().stream()
+                .filter(entry -> entry.getValue().getAllEdmxMetadata().keySet().stream()
+                        .allMatch(namespace -> namespaceCounts.get(namespace) == 1))
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private EntityModel buildModelMap(CdsModel cdsModel, List<ServiceMetadata> edmxModels) {
         String namespace = EntityModelDefinition.getNamespace(cdsModel);
 
         if (namespace == null) {
@@ -241,14 +331,20 @@ class EntityModelLoader {
                                 + " Was any service defined in the CDS model?",
                         cdsModel.entities().map(CdsEntity::getName).collect(Collectors.joining(", ")));
             }
-            return;
+            return null;
         } else {
             LOGGER.trace("Building model map for namespace {}", namespace);
         }
 
         Map<String, ServiceMetadata> edmxMap = edmxModels.stream()
                 .collect(Collectors.toMap(EntityModelLoader::getSchemaNamespace, Function.identity()));
-        if (models.put(namespace, EntityModel.of(cdsModel, edmxMap)) != null) {
+        EntityModel entityModel = EntityModel.of(cdsModel, edmxMap);
+        putModel(namespace, entityModel);
+        return entityModel;
+    }
+
+    private void putModel(String namespace, EntityModel entityModel) {
+        if (models.put(namespace, entityModel) != null) {
             LOGGER.warn("Model with schema namespace {} replaced an existing model in the model map", namespace);
         } else {
             LOGGER.info("Model with schema namespace {} was added the model map", namespace);
@@ -364,6 +460,15 @@ class EntityModelLoader {
         return entityCollection != null ? entityCollection.getNamespace() : edm.getSchemas().get(0).getNamespace();
     }
 
+    /**
+     * The models parsed by a previous load, identified by the hash of their content.
+     */
+    static class ParsedModels {
+        private volatile Map<HashCode, CdsModel> csnModels = Map.of();
+
+        private volatile Map<HashCode, EntityModel> entityModels = Map.of();
+    }
+
     @VisibleForTesting
     static class MetadataETagSupport implements ServiceMetadataETagSupport {
         private final String metadataETag;
@@ -73,6 +73,11 @@ public class EntityModelManager {
     @VisibleForTesting
     final NeonBee neonBee;
 
+    /**
+     * The models parsed by the last reload, so that models which did not change are not parsed again.
+     */
+    private final EntityModelLoader.ParsedModels parsedModels = new EntityModelLoader.ParsedModels();
+
     /**
      * Create a new instance of an {@link EntityModelManager} for a given {@link NeonBee} instance.
      *
@@ -324,8 +329,8 @@ public class EntityModelManager {
 
     /**
      * Returns a future to a freshly loaded EntityModel instance and updates the globally shared instance. Please note
-     * that all models files will be reloaded (from file system and / or class path). This method will also update the
-     * buffered models.
+     * that all models files will be reloaded (from file system and / or class path), however only models which changed
+     * since the last reload are parsed again. This method will also update the buffered models.
      *
      * @see #reloadModels(NeonBee)
      * @deprecated use {@link #reloadModels(NeonBee)} instead
@@ -339,8 +344,8 @@ public class EntityModelManager {
 
     /**
      * Returns a future to a freshly loaded EntityModel instance and updates the globally shared instance. Please note
-     * that all models files will be reloaded (from file system and / or class path). This method will also update the
-     * buffered models.
+     * that all models files will be reloaded (from file system and / or class path), however only models which changed
+     * since the last reload are parsed again. This method will also update the buffered models.
      *
      * @see #reloadModels()
      * @deprecated use {@code neonBee.getModelManager().reloadModels()} instead
@@ -354,14 +359,14 @@ public class EntityModelManager {
 
     /**
      * Returns a future to a freshly loaded EntityModel instance and updates the globally shared instance. Please note
-     * that all models files will be reloaded (from file system and / or class path). This method will also update the
-     * buffered models.
+     * that all models files will be reloaded (from file system and / or class path), however only models which changed
+     * since the last reload are parsed again. This method will also update the buffered models.
      *
      * @return a {@link Future} to a map from schema namespace to EntityModel
      */
     public Future<Map<String, EntityModel>> reloadModels() {
         LOGGER.info("Reload models");
-        return EntityModelLoader.load(neonBee.getVertx(), externalModelDefinitions).onSuccess(models -> {
+        return EntityModelLoader.load(neonBee.getVertx(), externalModelDefinitions, parsedModels).onSuccess(models -> {
             bufferedModels = Collections.unmodifiableMap(models);
 
             // publish the event local only! models must be present locally on very instance in a cluster!
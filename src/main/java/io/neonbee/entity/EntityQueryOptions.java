@@ -0,0 +1,404 @@
+package io.neonbee.entity;
+
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_EXPAND_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_FILTER_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_MAX_PAGE_SIZE_HEADER;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_ORDER_BY_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_SKIP_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_TOP_KEY;
+import static java.util.stream.Collectors.joining;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.UriInfo;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceProperty;
+import org.apache.olingo.server.api.uri.queryoption.CountOption;
+import org.apache.olingo.server.api.uri.queryoption.ExpandOption;
+import org.apache.olingo.server.api.uri.queryoption.FilterOption;
+import org.apache.olingo.server.api.uri.queryoption.OrderByItem;
+import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
+import org.apache.olingo.server.api.uri.queryoption.SelectItem;
+import org.apache.olingo.server.api.uri.queryoption.SelectOption;
+import org.apache.olingo.server.api.uri.queryoption.SkipOption;
+import org.apache.olingo.server.api.uri.queryoption.SkipTokenOption;
+import org.apache.olingo.server.api.uri.queryoption.TopOption;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
+import org.apache.olingo.server.api.uri.queryoption.expression.Member;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+
+/**
+ * The OData system query options of a {@link DataQuery} received by an {@link EntityVerticle}, parsed to an immutable
+ * model. An entity verticle may push down any of the query options to its backend, e.g. by translating the $filter
+ * option into a {@link SqlPredicate}. In case an entity verticle executed a query option, it must mark the option as
+ * executed using {@link #setExecuted(DataContext, QueryOption...)}, so the OData endpoint will not apply the option to
+ * the returned entities again.
+ */
+public final class EntityQueryOptions {
+    /**
+     * The query options which an entity verticle can mark as executed.
+     */
+    public enum QueryOption {
+        /**
+         * The $filter option.
+         */
+        FILTER(ODATA_FILTER_KEY),
+
+        /**
+         * The $orderby option.
+         */
+        ORDER_BY(ODATA_ORDER_BY_KEY),
+
+        /**
+         * The $skip option.
+         */
+        SKIP(ODATA_SKIP_KEY),
+
+        /**
+         * The $top option.
+         */
+        TOP(ODATA_TOP_KEY),
+
+        /**
+         * The $expand option.
+         */
+        EXPAND(ODATA_EXPAND_KEY);
+
+        private final String responseHintKey;
+
+        QueryOption(String responseHintKey) {
+            this.responseHintKey = responseHintKey;
+        }
+    }
+
+    private final Expression filter;
+
+    private final List<Order> orderBy;
+
+    private final Integer skip;
+
+    private final Integer top;
+
+    private final String skipToken;
+
+    private final Integer maxPageSize;
+
+    private final boolean count;
+
+    private final List<String> select;
+
+    private final boolean expand;
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private EntityQueryOptions(Expression filter, List<Order> orderBy, Integer skip, Integer top, String skipToken,
+            Integer maxPageSize, boolean count, List<String> select, boolean expand) {
+        this.filter = filter;
+        this.orderBy = orderBy;
+        this.skip = skip;
+        this.top = top;
+        this.skipToken = skipToken;
+        this.maxPageSize = maxPageSize;
+        this.count = count;
+        this.select = select;
+        this.expand = expand;
+    }
+
+    /**
+     * Creates the query options of a {@link DataQuery}.
+     *
+     * @param uriInfo the parsed URI of the query, see {@link EntityVerticle#parseUriInfo(DataQuery)}
+     * @param query   the query
+     * @return the query options
+     */
+    public static EntityQueryOptions of(UriInfo uriInfo, DataQuery query) {
+        Expression filter = Optional.ofNullable(uriInfo.getFilterOption()).map(FilterOption::getExpression)
+                .orElse(null);
+
+        List<Order> orderBy = new ArrayList<>();
+        Optional.ofNullable(uriInfo.getOrderByOption()).map(OrderByOption::getOrders).orElse(List.of())
+                .forEach(item -> orderBy.add(new Order(item)));
+
+        List<String> select = new ArrayList<>();
+        SelectOption selectOption = uriInfo.getSelectOption();
+        if (selectOption != null) {
+            for (SelectItem selectItem : selectOption.getSelectItems()) {
+                if (selectItem.isStar() || selectItem.getResourcePath() == null) {
+                    select.clear(); // all properties are selected
+                    break;
+                }
+                select.add(selectItem.getResourcePath().getUriResourceParts().stream().map(UriResource::getSegmentValue)
+                        .collect(joining("/")));
+            }
+        }
+
+        Integer maxPageSize = Optional.ofNullable(query.getHeader(ODATA_MAX_PAGE_SIZE_HEADER)).map(Integer::valueOf)
+                .orElse(null);
+
+        return new EntityQueryOptions(filter, Collections.unmodifiableList(orderBy),
+                Optional.ofNullable(uriInfo.getSkipOption()).map(SkipOption::getValue).orElse(null),
+                Optional.ofNullable(uriInfo.getTopOption()).map(TopOption::getValue).orElse(null),
+                Optional.ofNullable(uriInfo.getSkipTokenOption()).map(SkipTokenOption::getValue).orElse(null),
+                maxPageSize, Optional.ofNullable(uriInfo.getCountOption()).map(CountOption::getValue).orElse(false),
+                Collections.unmodifiableList(select),
+                Optional.ofNullable(uriInfo.getExpandOption()).map(ExpandOption::getExpandItems)
+                        .map(items -> !items.isEmpty()).orElse(false));
+    }
+
+    /**
+     * Marks the passed query options as executed by the entity verticle, so they are not applied again by the OData
+     * endpoint.
+     *
+     * @param context the data context of the query
+     * @param options the query options executed
+     */
+    public static void setExecuted(DataContext context, QueryOption... options) {
+        for (QueryOption option : options) {
+            context.responseData().put(option.responseHintKey, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Returns the expression of the $filter option.
+     *
+     * @return the filter expression or an empty optional, in case no $filter option is set
+     */
+    public Optional<Expression> getFilter() {
+        return Optional.ofNullable(filter);
+    }
+
+    /**
+     * Translates the $filter option to a SQL predicate, see {@link SqlPredicate}.
+     *
+     * @return the SQL predicate or an empty optional, in case no $filter option is set or the filter expression cannot
+     *         be translated to a SQL predicate. In the latter case the entity verticle must not mark the
+     *         {@link QueryOption#FILTER} as executed, but return all entities, which are then filtered by the endpoint
+     */
+    public Optional<SqlPredicate> getSqlFilter() {
+        if (filter == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(SqlPredicateTranslator.translate(filter));
+        } catch (ExpressionVisitException | ODataApplicationException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the items of the $orderby option.
+     *
+     * @return an unmodifiable list of the items to order by, empty in case no $orderby option is set
+     */
+    public List<Order> getOrderBy() {
+        return orderBy;
+    }
+
+    /**
+     * Translates the $orderby option to a SQL order by clause (without the ORDER BY keyword), e.g.
+     * {@code name DESC, ID ASC}.
+     *
+     * @return the SQL order by clause or an empty optional, in case no $orderby option is set or any of the items does
+     *         not order by a (primitive) property
+     */
+    public Optional<String> getSqlOrderBy() {
+        if (orderBy.isEmpty() || orderBy.stream().anyMatch(order -> order.getProperty() == null)) {
+            return Optional.empty();
+        }
+        return Optional.of(orderBy.stream()
+                .map(order -> order.getProperty() + (order.isDescending() ? " DESC" : " ASC")).collect(joining(", ")));
+    }
+
+    /**
+     * Returns the value of the $skip option.
+     *
+     * @return the number of entities to skip, or an empty optional in case no $skip option is set
+     */
+    public OptionalInt getSkip() {
+        return skip != null ? OptionalInt.of(skip) : OptionalInt.empty();
+    }
+
+    /**
+     * Returns the value of the $top option.
+     *
+     * @return the number of entities to return at most, or an empty optional in case no $top option is set
+     */
+    public OptionalInt getTop() {
+        return top != null ? OptionalInt.of(top) : OptionalInt.empty();
+    }
+
+    /**
+     * Returns the value of the $skiptoken option.
+     *
+     * @return the skip token or an empty optional, in case no $skiptoken option is set
+     */
+    public Optional<String> getSkipToken() {
+        return Optional.ofNullable(skipToken);
+    }
+
+    /**
+     * Returns the max page size hinted by the OData endpoint.
+     *
+     * @return the max page size or an empty optional, in case the entity set is not paged
+     */
+    public OptionalInt getMaxPageSize() {
+        return maxPageSize != null ? OptionalInt.of(maxPageSize) : OptionalInt.empty();
+    }
+
+    /**
+     * Returns whether the $count option is set to true.
+     *
+     * @return true if the total count of entities was requested
+     */
+    public boolean isCount() {
+        return count;
+    }
+
+    /**
+     * Returns the properties selected by the $select option.
+     *
+     * @return an unmodifiable list of the selected property paths, empty in case all properties are selected
+     */
+    public List<String> getSelect() {
+        return select;
+    }
+
+    /**
+     * Returns whether the $expand option is set.
+     *
+     * @return true if any navigation property should be expanded
+     */
+    public boolean isExpand() {
+        return expand;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityQueryOptions [filter=" + filter + ", orderBy=" + orderBy + ", skip=" + skip + ", top=" + top
+                + ", skipToken=" + skipToken + ", maxPageSize=" + maxPageSize + ", count=" + count + ", select="
+                + select + ", expand=" + expand + "]";
+    }
+
+    /**
+     * An item of the $orderby option.
+     */
+    public static final class Order {
+        private final Expression expression;
+
+        private final String property;
+
+        private final boolean descending;
+
+        Order(OrderByItem item) {
+            this.expression = item.getExpression();
+            this.descending = item.isDescending();
+
+            String propertyName = null;
+            if (expression instanceof Member) {
+                List<UriResource> parts = ((Member) expression).getResourcePath().getUriResourceParts();
+                if (parts.size() == 1 && parts.get(0) instanceof UriResourceProperty) {
+                    propertyName = ((UriResourceProperty) parts.get(0)).getProperty().getName();
+                }
+            }
+            this.property = propertyName;
+        }
+
+        /**
+         * Returns the expression to order by.
+         *
+         * @return the expression
+         */
+        public Expression getExpression() {
+            return expression;
+        }
+
+        /**
+         * Returns the name of the property to order by.
+         *
+         * @return the property name, or null in case the expression is not a (primitive) property of the entity
+         */
+        public String getProperty() {
+            return property;
+        }
+
+        /**
+         * Returns whether to order descending.
+         *
+         * @return true if descending, false if ascending
+         */
+        public boolean isDescending() {
+            return descending;
+        }
+
+        @Override
+        public String toString() {
+            return (property != null ? property : String.valueOf(expression)) + (descending ? " desc" : " asc");
+        }
+    }
+
+    /**
+     * A SQL-like predicate translated from a $filter expression, with the literals of the expression replaced by
+     * positional parameters ({@code ?}), e.g. {@code (name = ? OR ID < ?)} with the parameters {@code ["Cheese", 2]}.
+     * Property names are not quoted and refer to the names of the properties of the entity. The predicate keeps the
+     * null semantics of OData, e.g. {@code not (price gt 5)} is translated to {@code NOT COALESCE(price > ?, FALSE)},
+     * which requires a database supporting boolean expressions as values.
+     */
+    public static final class SqlPredicate {
+        private final String clause;
+
+        private final List<Object> parameters;
+
+        SqlPredicate(String clause, List<Object> parameters) {
+            this.clause = clause;
+            this.parameters = Collections.unmodifiableList(parameters);
+        }
+
+        /**
+         * Returns the predicate clause with positional parameters.
+         *
+         * @return the clause
+         */
+        public String getClause() {
+            return clause;
+        }
+
+        /**
+         * Returns the values of the positional parameters of the clause, in the order of their occurrence.
+         *
+         * @return an unmodifiable list of the parameter values
+         */
+        public List<Object> getParameters() {
+            return parameters;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof SqlPredicate)) {
+                return false;
+            }
+            SqlPredicate other = (SqlPredicate) object;
+            return clause.equals(other.clause) && parameters.equals(other.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(clause, parameters);
+        }
+
+        @Override
+        public String toString() {
+            return clause + " " + parameters;
+        }
+    }
+}
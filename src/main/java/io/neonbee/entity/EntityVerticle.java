@@ -20,6 +20,8 @@ import org.apache.olingo.server.api.uri.UriInfo;
 import org.apache.olingo.server.core.uri.parser.Parser;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import io.neonbee.NeonBee;
 import io.neonbee.data.DataContext;
@@ -90,6 +92,21 @@ public abstract class EntityVerticle extends DataVerticle<EntityWrapper> {
     static final Pattern URI_PATH_PATTERN =
             Pattern.compile("^/*((?:(.*)\\.)?(.*?))/(([A-Za-z_]\\w+).*?)(?:(?<=\\))/(.*))?$");
 
+    /**
+     * The maximum number of parsed URIs buffered per entity model.
+     */
+    @VisibleForTesting
+    static final int URI_INFO_CACHE_SIZE = 1000;
+
+    /**
+     * Parsed URIs by entity model and by service namespace, entity path and raw query. The entity models are weakly
+     * referenced and compared by identity, so all URIs parsed for a model are discarded as soon as the model is no
+     * longer used. When reloading the models, the {@link EntityModelManager} only creates new {@link EntityModel}
+     * instances for changed models, so the URIs parsed for unchanged models are retained.
+     */
+    private static final Cache<EntityModel, Cache<String, UriInfo>> URI_INFO_CACHE =
+            CacheBuilder.newBuilder().weakKeys().build();
+
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
     /**
@@ -165,6 +182,9 @@ public abstract class EntityVerticle extends DataVerticle<EntityWrapper> {
 
     /**
      * Parses a given DataQuery to a OData UriInfo object.
+     * <p>
+     * Parsed URIs are buffered for every entity model, so parsing an identical query again does not require to parse
+     * the URI on a worker thread. Thus the returned {@link UriInfo} may be shared and must not be modified.
      *
      * @param neonBee the NeonBee instance to be used
      * @param query   the DataQuery to convert
@@ -180,11 +200,39 @@ public abstract class EntityVerticle extends DataVerticle<EntityWrapper> {
         }
 
         String serviceName = uriMatcher.group(SERVICE_NAMESPACE_GROUP);
+        String entityPath = uriMatcher.group(ENTITY_PATH_GROUP);
+        String rawQuery = query.getRawQuery();
         return neonBee.getModelManager().getSharedModel(EntityModelDefinition.retrieveNamespace(serviceName))
-                .compose(entityModel -> AsyncHelper.executeBlocking(neonBee.getVertx(), () -> {
-                    return new Parser(entityModel.getEdmxMetadata(serviceName).getEdm(), getBufferedOData())
-                            .parseUri(uriMatcher.group(ENTITY_PATH_GROUP), query.getRawQuery(), EMPTY, EMPTY);
-                }));
+                .compose(entityModel -> {
+                    Cache<String, UriInfo> uriInfoCache = getUriInfoCache(entityModel);
+                    String cacheKey = serviceName + '/' + entityPath + '?' + rawQuery;
+                    UriInfo uriInfo = uriInfoCache.getIfPresent(cacheKey);
+                    if (uriInfo != null) {
+                        return succeededFuture(uriInfo);
+                    }
+
+                    return AsyncHelper.executeBlocking(neonBee.getVertx(), () -> {
+                        return new Parser(entityModel.getEdmxMetadata(serviceName).getEdm(), getBufferedOData())
+                                .parseUri(entityPath, rawQuery, EMPTY, EMPTY);
+                    }).onSuccess(parsedUriInfo -> uriInfoCache.put(cacheKey, parsedUriInfo));
+                });
+    }
+
+    /**
+     * Parses the OData system query options of a given DataQuery, so they can be pushed down to the backend of the
+     * entity verticle, see {@link EntityQueryOptions}.
+     *
+     * @param query the DataQuery to parse the query options from
+     * @return a future to the query options of the DataQuery
+     */
+    protected Future<EntityQueryOptions> parseQueryOptions(DataQuery query) {
+        return parseUriInfo(query).map(uriInfo -> EntityQueryOptions.of(uriInfo, query));
+    }
+
+    @VisibleForTesting
+    static Cache<String, UriInfo> getUriInfoCache(EntityModel entityModel) {
+        return URI_INFO_CACHE.asMap().computeIfAbsent(entityModel,
+                model -> CacheBuilder.newBuilder().maximumSize(URI_INFO_CACHE_SIZE).build());
     }
 
     /**
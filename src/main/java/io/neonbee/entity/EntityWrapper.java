@@ -1,16 +1,20 @@
 package io.neonbee.entity;
 
+import static io.neonbee.internal.codec.EntityWrapperMessageCodec.JSON_FORMAT_VERSION;
 import static io.neonbee.internal.helper.CollectionHelper.mutableCopyOf;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
 
 import io.neonbee.internal.codec.EntityWrapperMessageCodec;
+import io.vertx.codegen.annotations.Fluent;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 
@@ -19,6 +23,10 @@ public class EntityWrapper {
 
     private List<Entity> entities;
 
+    private volatile boolean keyIndexEnabled;
+
+    private EntityKeyIndex keyIndex;
+
     /**
      * EntityWrapper for one entity and its type.
      *
@@ -87,6 +95,57 @@ public class EntityWrapper {
         return entities;
     }
 
+    /**
+     * Enables a key index for the entities of this entity wrapper. The index is built once, with the first lookup of
+     * an entity by its key predicates, and is reused for all subsequent lookups of the same entity wrapper.
+     * <p>
+     * The index is opt-in: NeonBee itself only enables it for the result of merged reads of a batch request, where
+     * many reads look up their entity in the same entity wrapper. An entity verticle, which returns the same entity
+     * wrapper for many reads, e.g. from a cache, can enable it to look up single entities by their key in constant
+     * time, instead of scanning all entities of the wrapper for every read. For an entity wrapper only read once,
+     * building the index costs more than scanning the entities.
+     * <p>
+     * The entities of this wrapper must not be modified after the index got built. Only adding or removing entities is
+     * detected and causes the index to be rebuilt, while replacing entities (e.g. with {@link List#set}) or changing
+     * the key properties of entities is not detected and leads to stale lookups. The index is not part of the
+     * serialized representation of the entity wrapper and thus only used for entity wrappers sent locally.
+     *
+     * @return this entity wrapper for chaining
+     */
+    @Fluent
+    public EntityWrapper enableKeyIndex() {
+        keyIndexEnabled = true;
+        return this;
+    }
+
+    /**
+     * Returns whether a key index was enabled for this entity wrapper.
+     *
+     * @return true if a key index is enabled
+     */
+    public boolean isKeyIndexEnabled() {
+        return keyIndexEnabled;
+    }
+
+    /**
+     * Returns the key index of the entities of this entity wrapper, building it first, in case it was not built yet or
+     * the number of entities changed since it was built. See {@link #enableKeyIndex()} for the modifications, which
+     * are not detected.
+     *
+     * @param keyProperties the names of the key properties and their EDM primitive type kinds
+     * @return the key index, or null in case no key index is enabled for this entity wrapper
+     */
+    public synchronized EntityKeyIndex getKeyIndex(Map<String, EdmPrimitiveTypeKind> keyProperties) {
+        if (!keyIndexEnabled) {
+            return null;
+        }
+
+        if (keyIndex == null || !keyIndex.isValidFor(keyProperties, entities)) {
+            keyIndex = EntityKeyIndex.build(keyProperties, entities);
+        }
+        return keyIndex;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(entities, typeName);
@@ -108,13 +167,14 @@ public class EntityWrapper {
      * Converts an {@link EntityWrapper} to a {@link Buffer}.
      *
      * A Vertx instance with loaded schema description for the entity must be provided to this method, since the schema
-     * metadata is required during the serialization (conversion to buffer) process.
+     * metadata is required during the serialization (conversion to buffer) process. The buffer contains the OData JSON
+     * representation of the entities, independent of the wire format used to send entities via the event bus.
      *
      * @param vertx vertx, in which the schemas are loaded
      * @return a buffer representation of entity wrapper
      */
     public Buffer toBuffer(Vertx vertx) {
-        EntityWrapperMessageCodec codec = new EntityWrapperMessageCodec(vertx);
+        EntityWrapperMessageCodec codec = new EntityWrapperMessageCodec(vertx, JSON_FORMAT_VERSION);
         Buffer buffer = Buffer.buffer();
         codec.encodeToWire(buffer, this);
         return buffer;
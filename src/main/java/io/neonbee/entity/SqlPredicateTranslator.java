@@ -0,0 +1,288 @@
+package io.neonbee.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.olingo.commons.api.edm.EdmEnumType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeException;
+import org.apache.olingo.commons.api.edm.EdmType;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourcePrimitiveProperty;
+import org.apache.olingo.server.api.uri.queryoption.expression.BinaryOperatorKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitor;
+import org.apache.olingo.server.api.uri.queryoption.expression.Literal;
+import org.apache.olingo.server.api.uri.queryoption.expression.Member;
+import org.apache.olingo.server.api.uri.queryoption.expression.MethodKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.UnaryOperatorKind;
+
+import io.neonbee.entity.EntityQueryOptions.SqlPredicate;
+
+/**
+ * Translates a $filter expression into a {@link SqlPredicate}. Only comparisons of properties and literals, the logical
+ * operators and some string functions are supported, any other expression fails with an
+ * {@link ExpressionVisitException}.
+ */
+final class SqlPredicateTranslator implements ExpressionVisitor<SqlPredicateTranslator.Fragment> {
+    private static final String NULL = "NULL";
+
+    private static final Pattern LIKE_SPECIAL_CHARACTERS = Pattern.compile("[\\\\%_]");
+
+    private SqlPredicateTranslator() {}
+
+    /**
+     * A translated (sub-)expression with the values of its positional parameters. A literal is only turned into a
+     * positional parameter, when it is used in an operator or method, as e.g. a comparison with the null literal must
+     * be translated to IS NULL.
+     */
+    static final class Fragment {
+        final String sql;
+
+        final List<Object> parameters;
+
+        final boolean literal;
+
+        final Object literalValue;
+
+        private Fragment(String sql, List<Object> parameters, boolean literal, Object literalValue) {
+            this.sql = sql;
+            this.parameters = parameters;
+            this.literal = literal;
+            this.literalValue = literalValue;
+        }
+
+        static Fragment literal(Object value) {
+            return new Fragment(null, List.of(), true, value);
+        }
+
+        /**
+         * Concatenates the passed parts, which are either SQL strings or fragments, to a new fragment.
+         *
+         * @param parts the parts to concatenate
+         * @return the concatenated fragment
+         */
+        static Fragment of(Object... parts) {
+            StringBuilder sql = new StringBuilder();
+            List<Object> parameters = new ArrayList<>();
+            for (Object part : parts) {
+                if (!(part instanceof Fragment)) {
+                    sql.append(part);
+                } else if (((Fragment) part).literal) {
+                    Object value = ((Fragment) part).literalValue;
+                    if (value == null) {
+                        sql.append(NULL);
+                    } else {
+                        sql.append('?');
+                        parameters.add(value);
+                    }
+                } else {
+                    sql.append(((Fragment) part).sql);
+                    parameters.addAll(((Fragment) part).parameters);
+                }
+            }
+            return new Fragment(sql.toString(), parameters, false, null);
+        }
+    }
+
+    /**
+     * Translates the passed filter expression.
+     *
+     * @param expression the expression of a $filter option
+     * @return the SQL predicate
+     * @throws ExpressionVisitException  in case the expression cannot be translated
+     * @throws ODataApplicationException in case the expression cannot be translated
+     */
+    static SqlPredicate translate(Expression expression) throws ExpressionVisitException, ODataApplicationException {
+        Fragment fragment = Fragment.of(expression.accept(new SqlPredicateTranslator()));
+        return new SqlPredicate(fragment.sql, fragment.parameters);
+    }
+
+    @Override
+    public Fragment visitBinaryOperator(BinaryOperatorKind operator, Fragment left, Fragment right)
+            throws ExpressionVisitException {
+        switch (operator) {
+        case AND:
+            return Fragment.of("(", left, " AND ", right, ")");
+        case OR:
+            return Fragment.of("(", left, " OR ", right, ")");
+        case EQ:
+            return equality(left, right);
+        case NE:
+            return inequality(left, right);
+        case GT:
+            return comparison(left, ">", right);
+        case GE:
+            return comparison(left, ">=", right);
+        case LT:
+            return comparison(left, "<", right);
+        case LE:
+            return comparison(left, "<=", right);
+        default:
+            throw unsupported("Operator " + operator);
+        }
+    }
+
+    @Override
+    public Fragment visitBinaryOperator(BinaryOperatorKind operator, Fragment left, List<Fragment> right)
+            throws ExpressionVisitException {
+        if (!BinaryOperatorKind.IN.equals(operator)) {
+            throw unsupported("Operator " + operator);
+        }
+        List<Object> parts = new ArrayList<>(List.of(left, " IN ("));
+        for (int index = 0; index < right.size(); index++) {
+            parts.add(index > 0 ? ", " : "");
+            parts.add(right.get(index));
+        }
+        parts.add(")");
+        return Fragment.of(parts.toArray());
+    }
+
+    @Override
+    public Fragment visitUnaryOperator(UnaryOperatorKind operator, Fragment operand) throws ExpressionVisitException {
+        if (!UnaryOperatorKind.NOT.equals(operator)) {
+            throw unsupported("Unary operator " + operator);
+        }
+        // in contrast to SQL, a comparison with a null value is false in OData, so its negation must be true instead of
+        // unknown, in order to not drop rows with null values
+        return Fragment.of("NOT COALESCE(", operand, ", FALSE)");
+    }
+
+    @Override
+    public Fragment visitMethodCall(MethodKind methodCall, List<Fragment> parameters)
+            throws ExpressionVisitException {
+        switch (methodCall) {
+        case CONTAINS:
+            return like(parameters, "%", "%");
+        case STARTSWITH:
+            return like(parameters, "", "%");
+        case ENDSWITH:
+            return like(parameters, "%", "");
+        case TOLOWER:
+            return Fragment.of("LOWER(", parameters.get(0), ")");
+        case TOUPPER:
+            return Fragment.of("UPPER(", parameters.get(0), ")");
+        case TRIM:
+            return Fragment.of("TRIM(", parameters.get(0), ")");
+        case LENGTH:
+            return Fragment.of("LENGTH(", parameters.get(0), ")");
+        default:
+            throw unsupported("Method call " + methodCall);
+        }
+    }
+
+    @Override
+    public Fragment visitLiteral(Literal literal) throws ExpressionVisitException {
+        EdmType type = literal.getType();
+        if (type == null) {
+            return Fragment.literal(null); // the null literal
+        }
+        if (!(type instanceof EdmPrimitiveType)) {
+            throw unsupported("Literal of type " + type);
+        }
+        EdmPrimitiveType primitiveType = (EdmPrimitiveType) type;
+        try {
+            return Fragment.literal(primitiveType.valueOfString(primitiveType.fromUriLiteral(literal.getText()), null,
+                    null, null, null, null, primitiveType.getDefaultType()));
+        } catch (EdmPrimitiveTypeException e) {
+            throw new ExpressionVisitException("Literal " + literal.getText() + " cannot be converted", e);
+        }
+    }
+
+    @Override
+    public Fragment visitMember(Member member) throws ExpressionVisitException {
+        List<UriResource> parts = member.getResourcePath().getUriResourceParts();
+        if (parts.size() != 1 || !(parts.get(0) instanceof UriResourcePrimitiveProperty)) {
+            throw unsupported("Member " + member.getResourcePath());
+        }
+        return Fragment.of(((UriResourcePrimitiveProperty) parts.get(0)).getProperty().getName());
+    }
+
+    @Override
+    public Fragment visitTypeLiteral(EdmType type) throws ExpressionVisitException {
+        throw unsupported("Type literal " + type);
+    }
+
+    @Override
+    public Fragment visitAlias(String aliasName) throws ExpressionVisitException {
+        throw unsupported("Alias " + aliasName);
+    }
+
+    @Override
+    public Fragment visitEnum(EdmEnumType type, List<String> enumValues) throws ExpressionVisitException {
+        throw unsupported("Enum " + type);
+    }
+
+    @Override
+    public Fragment visitLambdaExpression(String lambdaFunction, String lambdaVariable, Expression expression)
+            throws ExpressionVisitException {
+        throw unsupported("Lambda expression " + lambdaFunction);
+    }
+
+    @Override
+    public Fragment visitLambdaReference(String variableName) throws ExpressionVisitException {
+        throw unsupported("Lambda reference " + variableName);
+    }
+
+    private static Fragment comparison(Fragment left, String operator, Fragment right) {
+        return Fragment.of(left, " " + operator + " ", right);
+    }
+
+    /**
+     * Translates an equality comparison, where the null literal may be used on either side. In contrast to SQL, two
+     * null values are equal in OData.
+     */
+    private static Fragment equality(Fragment left, Fragment right) {
+        if (isNull(right)) {
+            return Fragment.of(left, " IS NULL");
+        } else if (isNull(left)) {
+            return Fragment.of(right, " IS NULL");
+        } else if (left.literal || right.literal) {
+            return comparison(left, "=", right);
+        }
+        return Fragment.of("(", left, " = ", right, " OR (", left, " IS NULL AND ", right, " IS NULL))");
+    }
+
+    /**
+     * Translates an inequality comparison, where the null literal may be used on either side. In contrast to SQL, a
+     * null value is not equal to any other value in OData, so rows with null values must not be dropped.
+     */
+    private static Fragment inequality(Fragment left, Fragment right) {
+        if (isNull(right)) {
+            return Fragment.of(left, " IS NOT NULL");
+        } else if (isNull(left)) {
+            return Fragment.of(right, " IS NOT NULL");
+        } else if (right.literal) {
+            return Fragment.of("(", left, " <> ", right, " OR ", left, " IS NULL)");
+        } else if (left.literal) {
+            return Fragment.of("(", left, " <> ", right, " OR ", right, " IS NULL)");
+        }
+        return Fragment.of("(", left, " <> ", right, " OR (", left, " IS NULL AND ", right, " IS NOT NULL) OR (", left,
+                " IS NOT NULL AND ", right, " IS NULL))");
+    }
+
+    private static Fragment like(List<Fragment> parameters, String prefix, String suffix)
+            throws ExpressionVisitException {
+        Fragment pattern = parameters.get(1);
+        if (!pattern.literal || !(pattern.literalValue instanceof String)) {
+            throw unsupported("Non-literal pattern");
+        }
+        // escape the special characters of the LIKE operator, so the pattern is matched literally
+        String escapedPattern = LIKE_SPECIAL_CHARACTERS.matcher((String) pattern.literalValue)
+                .replaceAll(Matcher.quoteReplacement("\\") + "$0");
+        return Fragment.of(parameters.get(0), " LIKE ", Fragment.literal(prefix + escapedPattern + suffix),
+                " ESCAPE '\\'");
+    }
+
+    private static boolean isNull(Fragment fragment) {
+        return fragment.literal && fragment.literalValue == null;
+    }
+
+    private static ExpressionVisitException unsupported(String expression) {
+        return new ExpressionVisitException(expression + " cannot be translated to a SQL predicate");
+    }
+}
@@ -1,5 +1,6 @@
 package io.neonbee.health;
 
+import java.util.Optional;
 import java.util.function.Function;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -29,6 +30,8 @@ public class EventLoopHealthCheck extends AbstractHealthCheck {
 
     private static final int DEFAULT_CRITICAL_EVENT_LOOP_SIZE = 5;
 
+    private static final String UNKNOWN_EVENT_LOOP_PREFIX = "unknown-eventloop-";
+
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
     /**
@@ -60,20 +63,26 @@ public class EventLoopHealthCheck extends AbstractHealthCheck {
         };
     }
 
-    @SuppressWarnings("PMD.DoNotUseThreads")
     private JsonObject getCriticalEventLoops(NeonBee neonBee, int threshold) {
         JsonObject busyEventLoops = new JsonObject();
+        int index = 0;
         for (EventExecutor elg : neonBee.getVertx().nettyEventLoopGroup()) {
             SingleThreadEventExecutor singleEventExecutor = ((SingleThreadEventExecutor) elg);
 
-            if (singleEventExecutor.pendingTasks() > threshold) {
-                busyEventLoops.put(singleEventExecutor.threadProperties().name(), singleEventExecutor.pendingTasks());
+            // determine the pending tasks once, so that the reported number is the one compared against the threshold
+            int pendingTasks = singleEventExecutor.pendingTasks();
+            if (pendingTasks > threshold) {
+                // use the thread name captured by the lag probe on the event loop, as determining the name on demand
+                // (e.g. via threadProperties) could require to schedule a task on the busy event loop
+                String name = Optional.ofNullable(neonBee.getEventLoopLagProbe().getEventLoopName(elg))
+                        .orElse(UNKNOWN_EVENT_LOOP_PREFIX + index);
+                busyEventLoops.put(name, pendingTasks);
 
                 if (LOGGER.isTraceEnabled()) {
-                    LOGGER.trace("[{}] Pending Tasks of \"{}\": {}", neonBee.getNodeId(),
-                            singleEventExecutor.threadProperties().name(), singleEventExecutor.pendingTasks());
+                    LOGGER.trace("[{}] Pending Tasks of \"{}\": {}", neonBee.getNodeId(), name, pendingTasks);
                 }
             }
+            index++;
         }
         return busyEventLoops;
     }
@@ -0,0 +1,218 @@
+package io.neonbee.health;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.ScheduledFuture;
+import io.vertx.core.Vertx;
+
+/**
+ * A probe which continuously measures the lag of all event loops of a Vert.x instance.
+ * <p>
+ * For every event loop, a task is scheduled on the event loop in a fixed interval. The delay between the instant the
+ * task was scheduled for and the instant it actually got executed, is the lag of the event loop. It grows, as soon as
+ * the event loop is busy or even blocked. The lag of every event loop is recorded into a Micrometer timer named
+ * {@value #METER_NAME}, tagged with the name of the event loop thread.
+ * <p>
+ * In contrast to the {@link EventLoopHealthCheck}, the probe does not inspect the event loops on demand, but measures
+ * their lag all the time, so that e.g. handlers are able to react on it immediately. To not react on single spikes,
+ * e.g. caused by a garbage collection pause, the probe provides the lag sustained over the last
+ * {@value #SUSTAINED_LAG_SAMPLES} measurements of every event loop.
+ * <p>
+ * Independent of whether the probe is started, it captures the thread names of all event loops on the event loops
+ * themselves, so that e.g. health checks can report the name of a blocked event loop without having to schedule a task
+ * on it.
+ */
+public class EventLoopLagProbe {
+    /**
+     * The name of the timer the lag of the event loops is recorded to.
+     */
+    public static final String METER_NAME = "neonbee.eventloop.lag";
+
+    @VisibleForTesting
+    static final String EVENT_LOOP_TAG = "eventLoop";
+
+    /**
+     * The number of consecutive measurements the lag of an event loop has to exceed a value in, to count as sustained.
+     */
+    private static final int SUSTAINED_LAG_SAMPLES = 5;
+
+    private static final double LAG_PERCENTILE = 0.99;
+
+    private static final Duration DISTRIBUTION_EXPIRY = Duration.ofMinutes(1);
+
+    private final Vertx vertx;
+
+    private final MeterRegistry meterRegistry;
+
+    private final long intervalNanos;
+
+    private final List<LoopProbe> loopProbes = new CopyOnWriteArrayList<>();
+
+    private final Map<EventExecutor, String> eventLoopNames = new ConcurrentHashMap<>();
+
+    private volatile boolean started;
+
+    /**
+     * Creates a new event loop lag probe. The probe has to be started, before it measures the lag.
+     *
+     * @param vertx          the Vert.x instance to measure the lag of the event loops for
+     * @param meterRegistry  the registry to record the lag to
+     * @param intervalMillis the interval in milliseconds in which to measure the lag, 0 disables the probe
+     */
+    public EventLoopLagProbe(Vertx vertx, MeterRegistry meterRegistry, long intervalMillis) {
+        this.vertx = vertx;
+        this.meterRegistry = meterRegistry;
+        this.intervalNanos = MILLISECONDS.toNanos(intervalMillis);
+
+        EventExecutorGroup eventLoopGroup = vertx.nettyEventLoopGroup();
+        if (eventLoopGroup != null) {
+            for (EventExecutor executor : eventLoopGroup) {
+                executor.execute(() -> eventLoopNames.put(executor, Thread.currentThread().getName()));
+            }
+        }
+    }
+
+    /**
+     * Starts measuring the lag of all event loops. Does nothing, in case the probe was already started, or the
+     * interval of the probe is zero.
+     */
+    public synchronized void start() {
+        if (started || intervalNanos <= 0) {
+            return;
+        }
+
+        started = true;
+        for (EventExecutor executor : vertx.nettyEventLoopGroup()) {
+            LoopProbe loopProbe = new LoopProbe(executor);
+            // schedule the probe first, so that the sustained lag never sees a probe without an expected instant
+            loopProbe.schedule();
+            loopProbes.add(loopProbe);
+        }
+    }
+
+    /**
+     * Stops measuring the lag of the event loops.
+     */
+    public synchronized void stop() {
+        started = false;
+        loopProbes.forEach(LoopProbe::cancel);
+        loopProbes.clear();
+    }
+
+    /**
+     * Returns whether the probe is measuring the lag of the event loops.
+     *
+     * @return true if the probe is started
+     */
+    public boolean isStarted() {
+        return started;
+    }
+
+    /**
+     * Returns the sustained lag of the event loop with the highest sustained lag. The sustained lag of an event loop is
+     * the lowest lag of its last {@value #SUSTAINED_LAG_SAMPLES} measurements, i.e. the event loop lagged at least this
+     * long in each of the measurements. A single spike of the lag does not raise the sustained lag.
+     * <p>
+     * An event loop which is blocked does not execute the probe and thus does not measure any lag at all. Therefore, if
+     * the pending probe of an event loop is overdue for longer than its sustained lag, the overdue time is returned.
+     *
+     * @param unit the time unit to return the lag in
+     * @return the sustained lag, or 0 in case the probe is not started or no event loop lags yet
+     */
+    public double getSustainedLag(TimeUnit unit) {
+        long nowNanos = System.nanoTime();
+        long lagNanos = 0;
+        for (LoopProbe loopProbe : loopProbes) {
+            lagNanos = Math.max(lagNanos, Math.max(loopProbe.sustainedLagNanos, nowNanos - loopProbe.expectedNanos));
+        }
+        return (double) lagNanos / unit.toNanos(1);
+    }
+
+    /**
+     * Returns the name of the thread of an event loop, as captured on the event loop itself.
+     *
+     * @param eventLoop the event loop to return the thread name of
+     * @return the name of the thread, or null in case the event loop did not execute the capturing task yet
+     */
+    public String getEventLoopName(EventExecutor eventLoop) {
+        return eventLoopNames.get(eventLoop);
+    }
+
+    private final class LoopProbe implements Runnable {
+        private final EventExecutor executor;
+
+        private Timer timer;
+
+        private volatile long expectedNanos;
+
+        private ScheduledFuture<?> scheduledFuture;
+
+        private final long[] recentLagNanos = new long[SUSTAINED_LAG_SAMPLES];
+
+        private int nextSample;
+
+        private boolean enoughSamples;
+
+        private volatile long sustainedLagNanos;
+
+        LoopProbe(EventExecutor executor) {
+            this.executor = executor;
+        }
+
+        void schedule() {
+            expectedNanos = System.nanoTime() + intervalNanos;
+            scheduledFuture = executor.schedule(this, intervalNanos, NANOSECONDS);
+        }
+
+        void cancel() {
+            if (scheduledFuture != null) {
+                scheduledFuture.cancel(false);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("PMD.DoNotUseThreads")
+        public void run() {
+            if (!started) {
+                return;
+            }
+
+            long lagNanos = Math.max(0, System.nanoTime() - expectedNanos);
+            if (timer == null) {
+                // the probe runs on the event loop, so the name of the thread can be determined without having to
+                // schedule any further tasks on the event loop (as e.g. threadProperties() would do)
+                timer = Timer.builder(METER_NAME).description("The delay of tasks scheduled on the event loop")
+                        .tag(EVENT_LOOP_TAG, Thread.currentThread().getName()).publishPercentiles(LAG_PERCENTILE)
+                        .publishPercentileHistogram().distributionStatisticExpiry(DISTRIBUTION_EXPIRY)
+                        .register(meterRegistry);
+            }
+
+            timer.record(lagNanos, NANOSECONDS);
+            recentLagNanos[nextSample] = lagNanos;
+            nextSample = (nextSample + 1) % SUSTAINED_LAG_SAMPLES;
+            if (nextSample == 0) {
+                enoughSamples = true;
+            }
+            if (enoughSamples) {
+                sustainedLagNanos = Arrays.stream(recentLagNanos).min().getAsLong();
+            }
+
+            schedule();
+        }
+    }
+}
@@ -11,6 +11,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
@@ -18,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
 
 import io.neonbee.NeonBee;
+import io.neonbee.config.HealthConfig;
 import io.neonbee.data.DataContext;
 import io.neonbee.data.DataRequest;
 import io.neonbee.data.DataVerticle;
@@ -45,6 +48,17 @@ public class HealthCheckRegistry {
      */
     public static final String REGISTRY_NAME = HealthCheckRegistry.class.getSimpleName();
 
+    /**
+     * The event bus address to which all nodes publish their health check results, if the aggregation of health check
+     * results is enabled.
+     */
+    public static final String AGGREGATION_ADDRESS = "neonbee.health.results";
+
+    /**
+     * The key of the node id in a published health check result message.
+     */
+    public static final String NODE_ID_KEY = "nodeId";
+
     private static final String UP = "UP";
 
     private static final String DOWN = "DOWN";
@@ -57,6 +71,8 @@ public class HealthCheckRegistry {
 
     private static final String OUTCOME_KEY = "outcome";
 
+    private static final int DEFAULT_MAX_AGE_FACTOR = 3;
+
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
     @VisibleForTesting
@@ -68,6 +84,12 @@ public class HealthCheckRegistry {
     @VisibleForTesting
     HealthChecks healthChecks;
 
+    /**
+     * The latest health check results published by each node, with the node id as key.
+     */
+    @VisibleForTesting
+    final Map<String, PublishedResults> publishedResults = new ConcurrentHashMap<>();
+
     private final Vertx vertx;
 
     /**
@@ -205,8 +227,11 @@ public class HealthCheckRegistry {
     public Future<JsonObject> collectHealthCheckResults(DataContext dataContext, String check) {
         Future<List<JsonObject>> asyncResults;
         NeonBee neonBee = NeonBee.get(vertx);
-        if (neonBee.getOptions().isClustered() && neonBee.getConfig().getHealthConfig().doCollectClusteredResults()) {
-            asyncResults = getClusteredHealthCheckResults(dataContext);
+        HealthConfig healthConfig = neonBee.getConfig().getHealthConfig();
+        if (neonBee.getOptions().isClustered() && healthConfig.doCollectClusteredResults()) {
+            asyncResults = healthConfig.getAggregationInterval() > 0
+                    ? getAggregatedHealthCheckResults(dataContext, healthConfig)
+                    : getClusteredHealthCheckResults(dataContext);
         } else {
             asyncResults = getLocalHealthCheckResults();
         }
@@ -228,6 +253,36 @@ public class HealthCheckRegistry {
         });
     }
 
+    /**
+     * Updates the latest health check results published by a node.
+     *
+     * @param nodeId  the id of the node publishing the results
+     * @param results the health check results of the node
+     */
+    public void updatePublishedResults(String nodeId, JsonArray results) {
+        publishedResults.put(nodeId, new PublishedResults(System.nanoTime(), results));
+    }
+
+    /**
+     * Returns the health check results published by all nodes, which are not older than the maximum age configured. If
+     * no node published any results yet (e.g. directly after startup), the results are requested from all nodes.
+     */
+    private Future<List<JsonObject>> getAggregatedHealthCheckResults(DataContext dataContext,
+            HealthConfig healthConfig) {
+        int maxAge = healthConfig.getAggregationMaxAge() > 0 ? healthConfig.getAggregationMaxAge()
+                : DEFAULT_MAX_AGE_FACTOR * healthConfig.getAggregationInterval();
+        long oldestTimestamp = System.nanoTime() - TimeUnit.SECONDS.toNanos(maxAge);
+
+        // remove the results of nodes which did not publish in time, e.g. because they left the cluster
+        publishedResults.values().removeIf(published -> published.timestamp - oldestTimestamp < 0);
+        if (publishedResults.isEmpty()) {
+            return getClusteredHealthCheckResults(dataContext);
+        }
+
+        return Future.succeededFuture(publishedResults.values().stream().map(published -> published.results)
+                .flatMap(JsonArray::stream).map(JsonObject.class::cast).collect(toList()));
+    }
+
     private Future<List<JsonObject>> getClusteredHealthCheckResults(DataContext dataContext) {
         return healthVerticleRegistry.get(SHARED_MAP_KEY)
                 .compose(qualifiedNames -> {
@@ -357,4 +412,16 @@ public class HealthCheckRegistry {
         return Duration.ofSeconds(Optional.ofNullable(healthCheckConfig).map(c -> c.getLong("timeout", globalTimeout))
                 .orElse(globalTimeout));
     }
+
+    @VisibleForTesting
+    static final class PublishedResults {
+        final long timestamp;
+
+        final JsonArray results;
+
+        PublishedResults(long timestamp, JsonArray results) {
+            this.timestamp = timestamp;
+            this.results = results;
+        }
+    }
 }
@@ -1,14 +1,24 @@
 package io.neonbee.hook.internal;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Objects;
 import java.util.UUID;
 
+import io.neonbee.NeonBee;
+import io.neonbee.hook.HookContext;
 import io.neonbee.hook.HookRegistration;
 import io.neonbee.hook.HookType;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 
 public final class DefaultHookRegistration implements HookRegistration {
+    private static final MethodType HOOK_METHOD_TYPE =
+            MethodType.methodType(void.class, NeonBee.class, HookContext.class, Promise.class);
+
     private final String id;
 
     private final HookType type;
@@ -19,12 +29,15 @@ public final class DefaultHookRegistration implements HookRegistration {
 
     private final Object relatedObject;
 
+    private final HookInvoker invoker;
+
     DefaultHookRegistration(DefaultHookRegistry registry, Object relatedObject, Method hookMethod, HookType type) {
         this.registry = registry;
         this.relatedObject = relatedObject;
         this.hookMethod = hookMethod;
         this.type = type;
         this.id = UUID.randomUUID().toString();
+        this.invoker = compileInvoker(relatedObject, hookMethod);
     }
 
     @Override
@@ -50,6 +63,10 @@ public final class DefaultHookRegistration implements HookRegistration {
         return relatedObject;
     }
 
+    HookInvoker getInvoker() {
+        return invoker;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -70,7 +87,51 @@ public final class DefaultHookRegistration implements HookRegistration {
 
     @Override
     public Future<Void> unregister() {
-        registry.hookRegistry.get(getType()).remove(this);
+        registry.unregister(this);
         return Future.succeededFuture();
     }
+
+    /**
+     * Compiles the hook method into an invoker, so that no access checks and argument array allocations are needed
+     * when executing the hook. If the method cannot be accessed through a public lookup (e.g. because it is declared
+     * in a non-public class), the invoker falls back to a reflective invocation.
+     *
+     * @param relatedObject the object to invoke the hook method on
+     * @param hookMethod    the hook method
+     * @return an invoker calling the hook method on the related object
+     */
+    private static HookInvoker compileInvoker(Object relatedObject, Method hookMethod) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(hookMethod).bindTo(relatedObject).asType(HOOK_METHOD_TYPE);
+        } catch (IllegalAccessException | IllegalArgumentException | ClassCastException
+                | UnsupportedOperationException e) {
+            return (neonBee, context, promise) -> {
+                try {
+                    hookMethod.invoke(relatedObject, neonBee, context, promise);
+                } catch (InvocationTargetException invocationException) {
+                    throw invocationException.getCause();
+                }
+            };
+        }
+
+        return (neonBee, context, promise) -> handle.invokeExact(neonBee, context, promise);
+    }
+
+    /**
+     * A pre-compiled invocation of a hook method.
+     */
+    @FunctionalInterface
+    interface HookInvoker {
+        /**
+         * Invokes the hook method.
+         *
+         * @param neonBee the NeonBee instance
+         * @param context the hook context
+         * @param promise the promise to complete when the hook is done
+         * @throws Throwable any exception thrown by the hook method
+         */
+        @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+        void invoke(NeonBee neonBee, HookContext context, Promise<Void> promise) throws Throwable;
+    }
 }
@@ -2,13 +2,10 @@ package io.neonbee.hook.internal;
 
 import static io.neonbee.internal.helper.AsyncHelper.allComposite;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,14 +27,26 @@ import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 /**
- * The default hook registry implementation, backed by synchronized in-memory maps.
+ * The default hook registry implementation, backed by an in-memory map of copy-on-write registration arrays.
+ * <p>
+ * Hooks are executed far more often than they are registered ({@link HookType#ONCE_PER_REQUEST} hooks run for every
+ * HTTP request), thus the registrations of each hook type are kept in an immutable array, which is replaced on every
+ * registration / unregistration. Executing hooks is iterating the array and calling the pre-compiled invoker of each
+ * registration, without any locking, streams or reflective calls.
  */
 public class DefaultHookRegistry implements HookRegistry {
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
     private static final int NUMBER_HOOK_PARAMETERS = 3;
 
-    final Map<HookType, List<HookRegistration>> hookRegistry;
+    private static final DefaultHookRegistration[] NO_REGISTRATIONS = new DefaultHookRegistration[0];
+
+    /**
+     * An already succeeded, empty composite future, returned if no hooks are registered for a given type.
+     */
+    private static final CompositeFuture NO_HOOKS_EXECUTED = allComposite(List.of());
+
+    final Map<HookType, DefaultHookRegistration[]> hookRegistry;
 
     private final Vertx vertx;
 
@@ -56,8 +65,12 @@ public class DefaultHookRegistry implements HookRegistry {
         return AsyncHelper.executeBlocking(vertx, () -> findHooks(instance, correlationId)).map(hookRegistrations -> {
             hookRegistrations.forEach(registration -> {
                 LOGGER.correlateWith(correlationId).info("Registering hook {}", registration.getName());
-                hookRegistry.computeIfAbsent(registration.getType(),
-                        type -> Collections.synchronizedList(new ArrayList<>())).add(registration);
+                hookRegistry.compute(registration.getType(), (type, registrations) -> {
+                    DefaultHookRegistration[] current = registrations != null ? registrations : NO_REGISTRATIONS;
+                    DefaultHookRegistration[] updated = Arrays.copyOf(current, current.length + 1);
+                    updated[current.length] = (DefaultHookRegistration) registration;
+                    return updated;
+                });
             });
 
             return hookRegistrations;
@@ -66,31 +79,53 @@ public class DefaultHookRegistry implements HookRegistry {
 
     @Override
     public CompositeFuture executeHooks(HookType type, Map<String, Object> parameters) {
-        List<Future<Void>> hookExecutions = hookRegistry.getOrDefault(type, List.of()).stream()
-                .map(DefaultHookRegistration.class::cast).map(registration -> executeHook(NeonBee.get(vertx),
-                        registration, DefaultHookContext.of(type, parameters)))
-                .collect(Collectors.toList());
-
-        return allComposite(hookExecutions);
+        DefaultHookRegistration[] registrations = hookRegistry.get(type);
+        if (registrations == null || registrations.length == 0) {
+            return NO_HOOKS_EXECUTED;
+        }
+
+        NeonBee neonBee = NeonBee.get(vertx);
+        HookContext context = DefaultHookContext.of(type, parameters);
+        Future<?>[] hookExecutions = new Future<?>[registrations.length];
+        for (int i = 0; i < registrations.length; i++) {
+            hookExecutions[i] = executeHook(neonBee, registrations[i], context);
+        }
+
+        return allComposite(Arrays.asList(hookExecutions));
     }
 
     @Override
     public Future<Collection<HookRegistration>> getHookRegistrations() {
         Collection<HookRegistration> registrations =
-                hookRegistry.values().stream().flatMap(List::stream).collect(Collectors.toList());
+                hookRegistry.values().stream().flatMap(Arrays::stream).collect(Collectors.toList());
         return Future.succeededFuture(registrations);
     }
 
-    private Future<Void> executeHook(NeonBee neonBee, DefaultHookRegistration hookRegistration, HookContext context) {
-        return Future.future(promise -> {
-            try {
-                hookRegistration.getHookMethod().invoke(hookRegistration.getRelatedObject(), neonBee, context, promise);
-            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                promise.fail(e);
-            }
+    /**
+     * Removes a hook registration from this registry.
+     *
+     * @param registration the registration to remove
+     */
+    void unregister(DefaultHookRegistration registration) {
+        hookRegistry.computeIfPresent(registration.getType(), (type, registrations) -> {
+            DefaultHookRegistration[] updated =
+                    Arrays.stream(registrations).filter(current -> !current.equals(registration))
+                            .toArray(DefaultHookRegistration[]::new);
+            return updated.length > 0 ? updated : null;
         });
     }
 
+    private static Future<Void> executeHook(NeonBee neonBee, DefaultHookRegistration hookRegistration,
+            HookContext context) {
+        Promise<Void> promise = Promise.promise();
+        try {
+            hookRegistration.getInvoker().invoke(neonBee, context, promise);
+        } catch (Throwable t) { // NOPMD the invoker may throw anything the hook method throws
+            promise.tryFail(t);
+        }
+        return promise.future();
+    }
+
     private List<HookRegistration> findHooks(Object hookObject, String correlationId) {
         return Arrays.stream(hookObject.getClass().getMethods())
                 .filter(method -> Modifier.isPublic(method.getModifiers()) && isHook(method)).filter(method -> {
@@ -0,0 +1,92 @@
+package io.neonbee.internal.cluster;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * A consistent hash ring, which assigns arbitrary keys to a set of nodes. Every node is placed on the ring multiple
+ * times (virtual nodes), to distribute the keys evenly. In case a node joins or leaves, only the keys assigned to this
+ * node move to other nodes, all other keys stay where they are.
+ * <p>
+ * The assignment only depends on the set of nodes, so every node building a ring from the same set of nodes gets the
+ * same assignment, without any further coordination.
+ */
+public class ConsistentHashRing {
+    /**
+     * The default number of virtual nodes per node.
+     */
+    public static final int DEFAULT_VIRTUAL_NODES = 100;
+
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_32_fixed();
+
+    private final NavigableMap<Integer, String> ring = new TreeMap<>();
+
+    private final Set<String> nodes;
+
+    /**
+     * Creates a consistent hash ring with the default number of virtual nodes.
+     *
+     * @param nodes the nodes to assign the keys to
+     */
+    public ConsistentHashRing(Collection<String> nodes) {
+        this(nodes, DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * Creates a consistent hash ring.
+     *
+     * @param nodes        the nodes to assign the keys to
+     * @param virtualNodes the number of times every node is placed on the ring
+     */
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("The number of virtual nodes must be greater than zero");
+        }
+
+        // sort the nodes, so that in case of hash collisions every ring ends up with the same assignment
+        this.nodes = Collections.unmodifiableSet(new TreeSet<>(nodes));
+        for (String node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node + '#' + i), node);
+            }
+        }
+    }
+
+    /**
+     * Returns the nodes of this ring.
+     *
+     * @return an unmodifiable, sorted set of nodes
+     */
+    public Set<String> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns the node the given key is assigned to.
+     *
+     * @param key the key to look up
+     * @return the node the key is assigned to, or null in case the ring contains no nodes
+     */
+    public String getNode(String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+
+        Map.Entry<Integer, String> entry = ring.ceilingEntry(hash(key));
+        return (entry != null ? entry : ring.firstEntry()).getValue();
+    }
+
+    private static int hash(String value) {
+        return HASH_FUNCTION.hashString(value, UTF_8).asInt();
+    }
+}
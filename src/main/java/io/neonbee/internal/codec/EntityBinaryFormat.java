@@ -0,0 +1,383 @@
+package io.neonbee.internal.codec;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.apache.olingo.commons.api.data.ComplexValue;
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmComplexType;
+import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeException;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
+import org.apache.olingo.commons.api.edm.EdmProperty;
+import org.apache.olingo.commons.api.edm.EdmStructuredType;
+import org.apache.olingo.commons.api.edm.EdmType;
+import org.apache.olingo.commons.api.edm.EdmTypeDefinition;
+import org.apache.olingo.commons.api.edm.FullQualifiedName;
+import org.apache.olingo.commons.api.edm.constants.EdmTypeKind;
+
+import io.neonbee.entity.EntityWrapper;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A compact binary representation of a list of entities, written straight into a {@link Buffer}.
+ * <p>
+ * The binary format uses the EDM type information of the entity type to encode the structural properties of each
+ * entity. The most common primitive types are encoded in their binary representation, all other primitive types are
+ * encoded using their EDM literal representation. Decoding results in the same Java types the Olingo JSON deserializer
+ * would produce, so the format is a drop-in replacement for the OData JSON format used before.
+ * <p>
+ * Layout (all integers big endian):
+ *
+ * <pre>
+ * wrapper    := string namespace, string name, int32 count, entity*
+ * entity     := string eTag, properties
+ * properties := int32 count, (string name, value)*
+ * value      := byte tag, payload
+ * string     := int32 length (-1 for null), UTF-8 bytes
+ * </pre>
+ */
+final class EntityBinaryFormat {
+    private static final byte TAG_NULL = 0;
+
+    private static final byte TAG_LITERAL = 1;
+
+    private static final byte TAG_STRING = 2;
+
+    private static final byte TAG_BOOLEAN = 3;
+
+    private static final byte TAG_INT16 = 4;
+
+    private static final byte TAG_INT32 = 5;
+
+    private static final byte TAG_INT64 = 6;
+
+    private static final byte TAG_SINGLE = 7;
+
+    private static final byte TAG_DOUBLE = 8;
+
+    private static final byte TAG_GUID = 9;
+
+    private static final byte TAG_COMPLEX = 10;
+
+    private static final byte TAG_COLLECTION = 11;
+
+    private EntityBinaryFormat() {}
+
+    /**
+     * Encodes a list of entities of a given entity type to the buffer.
+     *
+     * @param buffer         the buffer to append the encoded entities to
+     * @param entityTypeName the full qualified name of the entity type
+     * @param entityType     the EDM entity type of all entities
+     * @param entities       the entities to encode
+     */
+    static void encode(Buffer buffer, FullQualifiedName entityTypeName, EdmEntityType entityType,
+            List<Entity> entities) {
+        appendString(buffer, entityTypeName.getNamespace());
+        appendString(buffer, entityTypeName.getName());
+        buffer.appendInt(entities.size());
+        for (Entity entity : entities) {
+            appendString(buffer, entity.getETag());
+            encodeProperties(buffer, entityType, entity.getProperties());
+        }
+    }
+
+    /**
+     * Decodes a list of entities from the buffer.
+     *
+     * @param buffer             the buffer to read from
+     * @param position           the position to start reading at
+     * @param entityTypeResolver a function resolving the EDM entity type for the encoded entity type name
+     * @return an entity wrapper containing the decoded entities
+     */
+    static EntityWrapper decode(Buffer buffer, int position,
+            Function<FullQualifiedName, EdmEntityType> entityTypeResolver) {
+        Reader reader = new Reader(buffer, position);
+        FullQualifiedName entityTypeName = new FullQualifiedName(reader.readString(), reader.readString());
+        EdmEntityType entityType = entityTypeResolver.apply(entityTypeName);
+        String type = entityTypeName.getFullQualifiedNameAsString();
+
+        int count = reader.readInt();
+        List<Entity> entities = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            Entity entity = new Entity();
+            entity.setType(type);
+            entity.setETag(reader.readString());
+            entity.getProperties().addAll(decodeProperties(reader, entityType));
+            entities.add(entity);
+        }
+        return new EntityWrapper(entityTypeName, entities);
+    }
+
+    private static void encodeProperties(Buffer buffer, EdmStructuredType structuredType,
+            List<Property> properties) {
+        // equal to the OData JSON serializer, only structural properties defined in the EDM are encoded and missing
+        // properties are encoded as null values
+        List<String> propertyNames = structuredType.getPropertyNames();
+        buffer.appendInt(propertyNames.size());
+        for (String propertyName : propertyNames) {
+            EdmProperty edmProperty = structuredType.getStructuralProperty(propertyName);
+            appendString(buffer, propertyName);
+            encodeValue(buffer, edmProperty, findValue(properties, propertyName), edmProperty.isCollection());
+        }
+    }
+
+    private static Object findValue(List<Property> properties, String propertyName) {
+        for (Property property : properties) {
+            if (propertyName.equals(property.getName())) {
+                return property.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static void encodeValue(Buffer buffer, EdmProperty edmProperty, Object value, boolean collection) {
+        if (value == null) {
+            buffer.appendByte(TAG_NULL);
+        } else if (collection) {
+            Collection<?> values = (Collection<?>) value;
+            buffer.appendByte(TAG_COLLECTION).appendInt(values.size());
+            for (Object item : values) {
+                encodeValue(buffer, edmProperty, item, false);
+            }
+        } else if (edmProperty.getType().getKind() == EdmTypeKind.COMPLEX) {
+            buffer.appendByte(TAG_COMPLEX);
+            encodeProperties(buffer, (EdmComplexType) edmProperty.getType(), ((ComplexValue) value).getValue());
+        } else {
+            encodePrimitiveValue(buffer, edmProperty, value);
+        }
+    }
+
+    private static void encodePrimitiveValue(Buffer buffer, EdmProperty edmProperty, Object value) {
+        EdmPrimitiveTypeKind kind = primitiveKind(edmProperty.getType());
+        if (kind != null && encodeBinaryValue(buffer, kind, value)) {
+            return;
+        }
+
+        // any other type (or any unexpected Java type of a value) is encoded using its EDM literal representation
+        try {
+            appendString(buffer.appendByte(TAG_LITERAL), ((EdmPrimitiveType) edmProperty.getType()).valueToString(
+                    value, edmProperty.isNullable(), edmProperty.getMaxLength(), edmProperty.getPrecision(),
+                    edmProperty.getScale(), edmProperty.isUnicode()));
+        } catch (EdmPrimitiveTypeException e) {
+            throw new IllegalArgumentException("Cannot encode value of property " + edmProperty.getName(), e);
+        }
+    }
+
+    @SuppressWarnings({ "PMD.CyclomaticComplexity", "checkstyle:CyclomaticComplexity" })
+    private static boolean encodeBinaryValue(Buffer buffer, EdmPrimitiveTypeKind kind, Object value) {
+        switch (kind) {
+        case String:
+            if (value instanceof String) {
+                appendString(buffer.appendByte(TAG_STRING), (String) value);
+                return true;
+            }
+            break;
+        case Boolean:
+            if (value instanceof Boolean) {
+                buffer.appendByte(TAG_BOOLEAN).appendByte((byte) (((Boolean) value) ? 1 : 0));
+                return true;
+            }
+            break;
+        case Int16:
+            if (value instanceof Short || value instanceof Byte) {
+                buffer.appendByte(TAG_INT16).appendShort(((Number) value).shortValue());
+                return true;
+            }
+            break;
+        case Int32:
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                buffer.appendByte(TAG_INT32).appendInt(((Number) value).intValue());
+                return true;
+            }
+            break;
+        case Int64:
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                buffer.appendByte(TAG_INT64).appendLong(((Number) value).longValue());
+                return true;
+            }
+            break;
+        case Single:
+            if (value instanceof Float) {
+                buffer.appendByte(TAG_SINGLE).appendFloat((Float) value);
+                return true;
+            }
+            break;
+        case Double:
+            if (value instanceof Double || value instanceof Float) {
+                buffer.appendByte(TAG_DOUBLE).appendDouble(((Number) value).doubleValue());
+                return true;
+            }
+            break;
+        case Guid:
+            if (value instanceof UUID) {
+                UUID uuid = (UUID) value;
+                buffer.appendByte(TAG_GUID).appendLong(uuid.getMostSignificantBits())
+                        .appendLong(uuid.getLeastSignificantBits());
+                return true;
+            }
+            break;
+        default:
+            break;
+        }
+        return false;
+    }
+
+    private static List<Property> decodeProperties(Reader reader, EdmStructuredType structuredType) {
+        int count = reader.readInt();
+        List<Property> properties = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            String propertyName = reader.readString();
+            EdmProperty edmProperty = structuredType.getStructuralProperty(propertyName);
+            if (edmProperty == null) {
+                throw new IllegalStateException("Unknown property " + propertyName + " of type "
+                        + structuredType.getFullQualifiedName() + ", the models of the nodes seem to differ");
+            }
+
+            properties.add(new Property(edmProperty.getType().getFullQualifiedName().getFullQualifiedNameAsString(),
+                    propertyName, valueType(edmProperty), decodeValue(reader, edmProperty)));
+        }
+        return properties;
+    }
+
+    private static Object decodeValue(Reader reader, EdmProperty edmProperty) {
+        byte tag = reader.readByte();
+        switch (tag) {
+        case TAG_NULL:
+            return null;
+        case TAG_LITERAL:
+            try {
+                EdmPrimitiveType primitiveType = (EdmPrimitiveType) edmProperty.getType();
+                return primitiveType.valueOfString(reader.readString(), edmProperty.isNullable(),
+                        edmProperty.getMaxLength(), edmProperty.getPrecision(), edmProperty.getScale(),
+                        edmProperty.isUnicode(), primitiveType.getDefaultType());
+            } catch (EdmPrimitiveTypeException e) {
+                throw new IllegalStateException("Cannot decode value of property " + edmProperty.getName(), e);
+            }
+        case TAG_STRING:
+            return reader.readString();
+        case TAG_BOOLEAN:
+            return reader.readByte() != 0;
+        case TAG_INT16:
+            return reader.readShort();
+        case TAG_INT32:
+            return reader.readInt();
+        case TAG_INT64:
+            return reader.readLong();
+        case TAG_SINGLE:
+            return reader.readFloat();
+        case TAG_DOUBLE:
+            return reader.readDouble();
+        case TAG_GUID:
+            return new UUID(reader.readLong(), reader.readLong());
+        case TAG_COMPLEX:
+            ComplexValue complexValue = new ComplexValue();
+            complexValue.setTypeName(edmProperty.getType().getFullQualifiedName().getFullQualifiedNameAsString());
+            complexValue.getValue().addAll(decodeProperties(reader, (EdmComplexType) edmProperty.getType()));
+            return complexValue;
+        case TAG_COLLECTION:
+            int count = reader.readInt();
+            List<Object> values = new ArrayList<>(count);
+            for (int index = 0; index < count; index++) {
+                values.add(decodeValue(reader, edmProperty));
+            }
+            return values;
+        default:
+            throw new IllegalStateException("Unknown value tag " + tag + " of property " + edmProperty.getName());
+        }
+    }
+
+    private static EdmPrimitiveTypeKind primitiveKind(EdmType type) {
+        EdmType primitiveType =
+                type.getKind() == EdmTypeKind.DEFINITION ? ((EdmTypeDefinition) type).getUnderlyingType() : type;
+        if (primitiveType.getKind() != EdmTypeKind.PRIMITIVE) {
+            return null;
+        }
+        return EdmPrimitiveTypeKind.valueOfFQN(primitiveType.getFullQualifiedName());
+    }
+
+    private static ValueType valueType(EdmProperty edmProperty) {
+        EdmTypeKind kind = edmProperty.getType().getKind();
+        if (kind == EdmTypeKind.COMPLEX) {
+            return edmProperty.isCollection() ? ValueType.COLLECTION_COMPLEX : ValueType.COMPLEX;
+        } else if (kind == EdmTypeKind.ENUM) {
+            return edmProperty.isCollection() ? ValueType.COLLECTION_ENUM : ValueType.ENUM;
+        }
+        return edmProperty.isCollection() ? ValueType.COLLECTION_PRIMITIVE : ValueType.PRIMITIVE;
+    }
+
+    private static Buffer appendString(Buffer buffer, String value) {
+        if (value == null) {
+            return buffer.appendInt(-1);
+        }
+        byte[] bytes = value.getBytes(UTF_8);
+        return buffer.appendInt(bytes.length).appendBytes(bytes);
+    }
+
+    /**
+     * A simple cursor reading from a buffer.
+     */
+    private static final class Reader {
+        private final Buffer buffer;
+
+        private int position;
+
+        Reader(Buffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        byte readByte() {
+            return buffer.getByte(position++);
+        }
+
+        short readShort() {
+            short value = buffer.getShort(position);
+            position += Short.BYTES;
+            return value;
+        }
+
+        int readInt() {
+            int value = buffer.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        long readLong() {
+            long value = buffer.getLong(position);
+            position += Long.BYTES;
+            return value;
+        }
+
+        float readFloat() {
+            float value = buffer.getFloat(position);
+            position += Float.BYTES;
+            return value;
+        }
+
+        double readDouble() {
+            double value = buffer.getDouble(position);
+            position += Double.BYTES;
+            return value;
+        }
+
+        String readString() {
+            int length = readInt();
+            if (length < 0) {
+                return null;
+            }
+            String value = buffer.getString(position, position + length);
+            position += length;
+            return value;
+        }
+    }
+}
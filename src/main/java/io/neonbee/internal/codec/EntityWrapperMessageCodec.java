@@ -32,7 +32,28 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.json.JsonObject;
 
+/**
+ * A message codec for {@link EntityWrapper}.
+ * <p>
+ * The codec supports two wire formats. The {@link #JSON_FORMAT_VERSION JSON format} embeds the OData JSON
+ * representation of the entities into a JSON object and is supported by all NeonBee versions. The
+ * {@link #BINARY_FORMAT_VERSION binary format} is a compact representation written straight into the target buffer
+ * using the EDM type information of the entities. Binary encoded messages are prefixed with a version byte, whereas the
+ * JSON format starts with the opening curly bracket of the JSON object. This way the codec is able to decode both
+ * formats, regardless of which format it is configured to encode, so that nodes running different NeonBee versions can
+ * negotiate on the JSON format, while the binary format is rolled out.
+ */
 public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, EntityWrapper> {
+    /**
+     * The version of the (legacy) OData JSON wire format.
+     */
+    public static final int JSON_FORMAT_VERSION = 1;
+
+    /**
+     * The version of the binary wire format.
+     */
+    public static final int BINARY_FORMAT_VERSION = 2;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     private static final String ENTITY = "entity";
@@ -43,15 +64,35 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
 
     private static final String ENTITY_TYPE = "entityType";
 
+    private static final byte JSON_OBJECT_START = '{';
+
     private final Vertx vertx;
 
+    private final int formatVersion;
+
     /**
-     * Creates a new EntityWrapperMessageCodec.
+     * Creates a new EntityWrapperMessageCodec encoding to the OData JSON wire format.
      *
      * @param vertx a Vert.x instance required to get the buffered model
      */
     public EntityWrapperMessageCodec(Vertx vertx) {
+        this(vertx, JSON_FORMAT_VERSION);
+    }
+
+    /**
+     * Creates a new EntityWrapperMessageCodec encoding to a given wire format.
+     *
+     * @param vertx         a Vert.x instance required to get the buffered model
+     * @param formatVersion the version of the wire format to encode to, either {@link #JSON_FORMAT_VERSION} or
+     *                      {@link #BINARY_FORMAT_VERSION}
+     */
+    public EntityWrapperMessageCodec(Vertx vertx, int formatVersion) {
+        if (formatVersion != JSON_FORMAT_VERSION && formatVersion != BINARY_FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported wire format version " + formatVersion);
+        }
+
         this.vertx = vertx;
+        this.formatVersion = formatVersion;
     }
 
     @Override
@@ -62,6 +103,13 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
             throw new IllegalStateException("Service metadata was not loaded yet for " + entityWrapper.getTypeName());
         }
         EdmEntityType entityType = serviceMetadata.getEdm().getEntityType(entityTypeName);
+
+        if (formatVersion == BINARY_FORMAT_VERSION) {
+            EntityBinaryFormat.encode(buffer.appendByte((byte) BINARY_FORMAT_VERSION), entityTypeName, entityType,
+                    entityWrapper.getEntities());
+            return;
+        }
+
         EdmEntitySet entitySet = serviceMetadata.getEdm().getEntityContainer().getEntitySet(entityTypeName.getName());
         ContextURL contextUrl = ContextURL.with().entitySet(entitySet).build();
         EntityCollectionSerializerOptions.Builder optionsBuilder =
@@ -92,6 +140,18 @@ public class EntityWrapperMessageCodec implements MessageCodec<EntityWrapper, En
 
     @Override
     public EntityWrapper decodeFromWire(int position, Buffer buffer) {
+        byte formatByte = buffer.getByte(position);
+        if (formatByte == JSON_OBJECT_START) {
+            return decodeFromJson(position, buffer);
+        } else if (formatByte == BINARY_FORMAT_VERSION) {
+            return EntityBinaryFormat.decode(buffer, position + 1,
+                    entityTypeName -> getServiceMetadata(entityTypeName).getEdm().getEntityType(entityTypeName));
+        }
+
+        throw new IllegalStateException("Unsupported wire format version " + formatByte);
+    }
+
+    private EntityWrapper decodeFromJson(int position, Buffer buffer) {
         JsonObject jsonObject = buffer.getBuffer(position, buffer.length()).toJsonObject();
         JsonObject entityTypeJsonObject = jsonObject.getJsonObject(ENTITY_TYPE);
         FullQualifiedName entityTypeName =
@@ -0,0 +1,55 @@
+package io.neonbee.internal.handler;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import io.neonbee.health.EventLoopLagProbe;
+import io.neonbee.logging.LoggingFacade;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * This Vert.x handler rejects requests with 503 Service Unavailable and a Retry-After header, as long as the sustained
+ * event loop lag measured by the {@link EventLoopLagProbe} exceeds a given threshold. This way an overloaded node sheds
+ * load early, instead of accepting further requests which would likely time out anyways. A single spike of the lag,
+ * e.g. caused by a garbage collection pause, does not cause any requests to be rejected.
+ */
+public class LoadSheddingHandler implements Handler<RoutingContext> {
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
+    private final EventLoopLagProbe lagProbe;
+
+    private final long thresholdMillis;
+
+    private final String retryAfter;
+
+    /**
+     * Creates a new load shedding handler.
+     *
+     * @param lagProbe          the probe measuring the event loop lag
+     * @param thresholdMillis   the sustained event loop lag in milliseconds, above which requests are rejected
+     * @param retryAfterSeconds the number of seconds clients should wait, before retrying a rejected request
+     */
+    public LoadSheddingHandler(EventLoopLagProbe lagProbe, long thresholdMillis, int retryAfterSeconds) {
+        this.lagProbe = lagProbe;
+        this.thresholdMillis = thresholdMillis;
+        this.retryAfter = Integer.toString(retryAfterSeconds);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        double lagMillis = lagProbe.getSustainedLag(MILLISECONDS);
+        if (lagMillis <= thresholdMillis) {
+            routingContext.next();
+            return;
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.correlateWith(routingContext).debug("Rejecting request, as the event loop lag of {}ms exceeds {}ms",
+                    lagMillis, thresholdMillis);
+        }
+        routingContext.response().setStatusCode(SERVICE_UNAVAILABLE.code())
+                .putHeader(HttpHeaders.RETRY_AFTER, retryAfter).end();
+    }
+}
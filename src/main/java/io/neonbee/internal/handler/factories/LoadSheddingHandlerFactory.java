@@ -0,0 +1,28 @@
+package io.neonbee.internal.handler.factories;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import io.neonbee.NeonBee;
+import io.neonbee.config.ServerConfig;
+import io.neonbee.internal.handler.LoadSheddingHandler;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Create the {@link LoadSheddingHandler}.
+ * <p>
+ * This factory is not part of the default handler factories. To shed load, add it to the handler factories of the
+ * {@link ServerConfig}, preferably right after the {@link LoggerHandlerFactory}. Requires the event loop lag to be
+ * measured (see the {@code eventLoopLagInterval} of the health config), otherwise no requests are rejected.
+ */
+public class LoadSheddingHandlerFactory implements RoutingHandlerFactory {
+
+    @Override
+    public Future<Handler<RoutingContext>> createHandler() {
+        NeonBee neonBee = NeonBee.get();
+        ServerConfig serverConfig = neonBee.getServerConfig();
+        return succeededFuture(new LoadSheddingHandler(neonBee.getEventLoopLagProbe(),
+                serverConfig.getLoadSheddingThreshold(), serverConfig.getLoadSheddingRetryAfter()));
+    }
+}
@@ -20,9 +20,10 @@ public final class SharedDataHelper {
      * @param vertx          the related Vert.x instance
      * @param key            the shared map key
      * @param futureSupplier supplier for the future to be secured by the lock
+     * @param <T>            the type of the result of the future
      * @return the futureSupplier
      */
-    public static Future<Void> lock(Vertx vertx, String key, Supplier<Future<Void>> futureSupplier) {
+    public static <T> Future<T> lock(Vertx vertx, String key, Supplier<Future<T>> futureSupplier) {
         LOGGER.debug("Get lock for key \"{}\"", key);
         return getSharedDataAccessor(vertx)
                 .getLock(key)
@@ -1,12 +1,29 @@
 package io.neonbee.internal.registry;
 
+import static io.vertx.core.Future.succeededFuture;
+
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.annotations.VisibleForTesting;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+/**
+ * A {@link Registry} that stores the registered values by cluster node and removes them, when the node leaves the
+ * cluster.
+ * <p>
+ * Values read from the registry are kept in a node-local view, so that subsequent reads of the same key are served from
+ * memory, without accessing the cluster-wide map. Every time the registry is modified on any node (including the clean
+ * up of a node that left the cluster), a message is published to
+ * {@link SelfCleaningRegistryController#getChangedAddress(String)}, which invalidates the local views on all nodes.
+ */
 public final class SelfCleaningRegistry<T> extends WriteSafeRegistry<T> {
     static final String READ_ONLY_MAP_SUFFIX = "#readOnlyMap";
 
@@ -18,6 +35,14 @@ public final class SelfCleaningRegistry<T> extends WriteSafeRegistry<T> {
 
     private final SelfCleaningRegistryController controller;
 
+    private final Map<String, List<T>> localView = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented on every invalidation of the local view, so that reads which started before an invalidation do not
+     * put outdated values into the local view.
+     */
+    private final AtomicLong localViewVersion = new AtomicLong();
+
     /**
      * Creates a new {@link SelfCleaningRegistry} that stores the registered values by cluster node and removes them,
      * when the node leaves the cluster.
@@ -29,7 +54,11 @@ public final class SelfCleaningRegistry<T> extends WriteSafeRegistry<T> {
      */
     public static <T> Future<SelfCleaningRegistry<T>> create(Vertx vertx, String registryName) {
         SelfCleaningRegistryController controller = new SelfCleaningRegistryController(vertx);
-        return controller.addRegistry(registryName).map(new SelfCleaningRegistry<>(vertx, registryName, controller));
+        SelfCleaningRegistry<T> registry = new SelfCleaningRegistry<>(vertx, registryName, controller);
+        Promise<Void> consumerRegistered = Promise.promise();
+        vertx.eventBus().consumer(SelfCleaningRegistryController.getChangedAddress(registryName),
+                message -> registry.invalidateLocalView()).completionHandler(consumerRegistered);
+        return consumerRegistered.future().compose(v -> controller.addRegistry(registryName)).map(registry);
     }
 
     private SelfCleaningRegistry(Vertx vertx, String registryName, SelfCleaningRegistryController controller) {
@@ -41,17 +70,33 @@ public final class SelfCleaningRegistry<T> extends WriteSafeRegistry<T> {
 
     @Override
     public Future<Void> register(String key, Collection<T> values) {
-        return super.register(addNodeSuffix(key), values, () -> controller.refreshReadOnlyMap(registryName));
+        return super.register(addNodeSuffix(key), values, () -> controller.refreshReadOnlyMap(registryName))
+                .onComplete(v -> invalidateLocalView());
     }
 
     @Override
     public Future<Void> unregister(String key, Collection<T> values) {
-        return super.unregister(addNodeSuffix(key), values, () -> controller.refreshReadOnlyMap(registryName));
+        return super.unregister(addNodeSuffix(key), values, () -> controller.refreshReadOnlyMap(registryName))
+                .onComplete(v -> invalidateLocalView());
     }
 
     @Override
     public Future<List<T>> get(String key) {
-        return readOnlyRegistry.get(key);
+        List<T> values = localView.get(key);
+        if (values != null) {
+            return succeededFuture(values);
+        }
+
+        long version = localViewVersion.get();
+        return readOnlyRegistry.get(key).map(List::copyOf).onSuccess(readValues -> {
+            if (localViewVersion.get() == version) {
+                localView.putIfAbsent(key, readValues);
+                // the local view could have been invalidated while putting the values, in this case remove them again
+                if (localViewVersion.get() != version) {
+                    localView.remove(key, readValues);
+                }
+            }
+        });
     }
 
     @Override
@@ -59,6 +104,12 @@ public final class SelfCleaningRegistry<T> extends WriteSafeRegistry<T> {
         return readOnlyRegistry.getKeys();
     }
 
+    @VisibleForTesting
+    void invalidateLocalView() {
+        localViewVersion.incrementAndGet();
+        localView.clear();
+    }
+
     private String addNodeSuffix(String key) {
         return key + nodeSuffix;
     }
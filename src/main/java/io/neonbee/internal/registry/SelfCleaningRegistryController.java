@@ -27,6 +27,8 @@ public class SelfCleaningRegistryController extends WriteSafeRegistry<String> {
 
     private static final String DUMMY_NODE_ID = "dummyNodeId";
 
+    private static final String CHANGED_ADDRESS_PREFIX = SelfCleaningRegistry.class.getSimpleName() + "Changed#";
+
     private final SharedDataAccessor selfCleaningRegistryAccessor;
 
     private final SharedDataAccessor readOnlyMapAccessor;
@@ -78,7 +80,22 @@ public class SelfCleaningRegistryController extends WriteSafeRegistry<String> {
 
         return refreshedFuture
                 .onFailure(t -> LOGGER.debug("Failed to refresh readOnlyMap for registry \"{}\"", registryName, t))
-                .onSuccess(v -> LOGGER.debug("Refresh readOnlyMap for registry \"{}\" finished.", registryName));
+                .onSuccess(v -> {
+                    LOGGER.debug("Refresh readOnlyMap for registry \"{}\" finished.", registryName);
+                    // publish to all nodes of the cluster, so they can invalidate their local views of the registry
+                    vertx.eventBus().publish(getChangedAddress(registryName), null);
+                });
+    }
+
+    /**
+     * Returns the event bus address to which a message is published every time the read only map of the passed
+     * registry was refreshed, e.g. because values were registered or unregistered, or a node left the cluster.
+     *
+     * @param registryName The name of the registry
+     * @return the event bus address for change notifications of the registry
+     */
+    public static String getChangedAddress(String registryName) {
+        return CHANGED_ADDRESS_PREFIX + registryName;
     }
 
     /**
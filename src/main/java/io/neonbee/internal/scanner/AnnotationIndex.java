@@ -0,0 +1,135 @@
+package io.neonbee.internal.scanner;
+
+import static io.neonbee.internal.scanner.ClassPathScanner.INDEX_RESOURCE;
+
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * The annotation index of a directory or JAR file on the class path, as written by the
+ * {@link AnnotationIndexProcessor}. Each line of the index is one of the following entries, separated by spaces:
+ *
+ * <ul>
+ * <li>{@code indexed <annotation>}: the annotation is indexed for all classes covered by the index</li>
+ * <li>{@code class <binary name>}: the top-level class is covered by the index</li>
+ * <li>{@code annotated <annotation> <element type> <binary name>}: the class (TYPE), or a method (METHOD) or a field
+ * (FIELD) of the class is annotated with the annotation</li>
+ * </ul>
+ *
+ * An index only covers the classes compiled in the same compilation as the processor ran in. Other class files of the
+ * same directory or JAR file, e.g. of a module merged into a fat JAR without its index, are not covered and have to be
+ * scanned. Indices which got concatenated, when merging the JAR files of several modules, are read as one index.
+ */
+final class AnnotationIndex {
+    static final String INDEXED = "indexed";
+
+    static final String CLASS = "class";
+
+    static final String ANNOTATED = "annotated";
+
+    private static final Pattern SEPARATOR_PATTERN = Pattern.compile(" ");
+
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    private final Set<String> indexedAnnotations = new HashSet<>();
+
+    private final Set<String> classes = new HashSet<>();
+
+    private final List<String[]> annotatedElements = new ArrayList<>();
+
+    private AnnotationIndex() {}
+
+    /**
+     * Reads the annotation index of a directory or JAR file on the class path.
+     *
+     * Attention: Blocking! Must only be called inside a executeBlocking block!
+     *
+     * @param basePath the path of the directory or the root path of the JAR file
+     * @return the index, or null in case the directory or JAR file contains no index
+     * @throws IOException in case the index could not be read
+     */
+    static AnnotationIndex read(Path basePath) throws IOException {
+        Path indexPath = basePath.resolve(INDEX_RESOURCE);
+        if (!Files.isRegularFile(indexPath)) {
+            return null; // NOPMD the directory or JAR file has no index
+        }
+
+        AnnotationIndex index = new AnnotationIndex();
+        try (Stream<String> lines = Files.lines(indexPath, StandardCharsets.UTF_8)) {
+            lines.map(line -> SEPARATOR_PATTERN.split(line.trim())).forEach(index::addEntry);
+        }
+        return index;
+    }
+
+    private void addEntry(String... entry) {
+        // ignore unknown entries, which might be written by later versions of the processor
+        if (entry.length == 2 && INDEXED.equals(entry[0])) {
+            indexedAnnotations.add(entry[1]);
+        } else if (entry.length == 2 && CLASS.equals(entry[0])) {
+            classes.add(entry[1]);
+        } else if (entry.length == 4 && ANNOTATED.equals(entry[0])) {
+            annotatedElements.add(entry);
+        }
+    }
+
+    /**
+     * Returns whether all the given annotations are indexed, so that the index can be used instead of scanning the
+     * covered classes for the annotations.
+     *
+     * @param annotationNames the names of the annotations
+     * @return true if all annotations are indexed
+     */
+    boolean indexes(Collection<String> annotationNames) {
+        return indexedAnnotations.containsAll(annotationNames);
+    }
+
+    /**
+     * Returns whether a class file is covered by the index, i.e. whether the class file was compiled in the same
+     * compilation as the index was written in. Nested classes are covered, if their top-level class is covered.
+     *
+     * @param classFile the path of the class file, relative to the directory or the root of the JAR file
+     * @return true if the class file is covered by the index
+     */
+    boolean covers(String classFile) {
+        String name = classFile.replace('\\', '/');
+        if (!name.endsWith(CLASS_FILE_EXTENSION)) {
+            return false;
+        }
+
+        String simpleName = name.substring(name.lastIndexOf('/') + 1);
+        if ("package-info.class".equals(simpleName) || "module-info.class".equals(simpleName)) {
+            // neither contains a public class, nor methods or fields which could be annotated
+            return true;
+        }
+
+        String className = name.substring(0, name.length() - CLASS_FILE_EXTENSION.length()).replace('/', '.');
+        int nestedIndex = className.indexOf('$', className.lastIndexOf('.') + 1);
+        return classes.contains(className)
+                || (nestedIndex > 0 && classes.contains(className.substring(0, nestedIndex)));
+    }
+
+    /**
+     * Returns the binary names of all classes, which are annotated with any of the given annotations on any of the
+     * given element types.
+     *
+     * @param annotationNames the names of the annotations
+     * @param elementTypes    the element types (supports TYPE, FIELD and METHOD)
+     * @return the binary names of the annotated classes
+     */
+    Stream<String> annotatedClasses(Collection<String> annotationNames, Collection<ElementType> elementTypes) {
+        return annotatedElements.stream()
+                .filter(entry -> annotationNames.contains(entry[1])
+                        && elementTypes.stream().anyMatch(elementType -> elementType.name().equals(entry[2])))
+                .map(entry -> entry[3]);
+    }
+}
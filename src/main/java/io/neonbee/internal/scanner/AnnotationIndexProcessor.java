@@ -0,0 +1,124 @@
+package io.neonbee.internal.scanner;
+
+import static io.neonbee.internal.scanner.AnnotationIndex.ANNOTATED;
+import static io.neonbee.internal.scanner.AnnotationIndex.CLASS;
+import static io.neonbee.internal.scanner.AnnotationIndex.INDEXED;
+import static io.neonbee.internal.scanner.ClassPathScanner.INDEX_RESOURCE;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.ElementType;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * An annotation processor writing an index of all classes annotated with {@code @NeonBeeDeployable} and all classes
+ * containing {@code @Hook} annotated methods to {@value ClassPathScanner#INDEX_RESOURCE}. See {@link AnnotationIndex}
+ * for the format of the index.
+ * <p>
+ * The {@link ClassPathScanner} reads the annotated classes from the index, instead of parsing the class files covered
+ * by the index, i.e. the class files compiled together with the index. All other class files are still scanned, so a
+ * missing, incomplete or partially merged index only slows down the scan.
+ * <p>
+ * The processor is registered as a service. The Java compiler and Maven run it when compiling against NeonBee, as long
+ * as no annotation processor path is configured. Gradle does not discover annotation processors on the compile class
+ * path, so NeonBee has to be added to the {@code annotationProcessor} configuration as well. When merging several
+ * modules into a fat JAR, their indices must be appended, as otherwise only the classes of one of the modules are
+ * covered.
+ */
+@SupportedAnnotationTypes({ AnnotationIndexProcessor.NEONBEE_DEPLOYABLE, AnnotationIndexProcessor.HOOK,
+        AnnotationIndexProcessor.HOOKS })
+public class AnnotationIndexProcessor extends AbstractProcessor {
+    static final String NEONBEE_DEPLOYABLE = "io.neonbee.NeonBeeDeployable";
+
+    static final String HOOK = "io.neonbee.hook.Hook";
+
+    static final String HOOKS = "io.neonbee.hook.Hooks";
+
+    private final SortedSet<String> entries = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        // the index covers all classes compiled, not only the annotated ones, so that none of them needs to be scanned
+        for (Element element : roundEnv.getRootElements()) {
+            if (element.getKind().isClass() || element.getKind().isInterface()) {
+                entries.add(CLASS + ' ' + getBinaryName((TypeElement) element));
+            }
+        }
+
+        for (TypeElement annotation : annotations) {
+            String annotationName = annotation.getQualifiedName().toString();
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                ElementType elementType = getElementType(element);
+                // same as the class path scanner, only consider annotations of public classes
+                if (elementType != null && (elementType != ElementType.TYPE
+                        || element.getModifiers().contains(Modifier.PUBLIC))) {
+                    TypeElement type = (TypeElement) (elementType == ElementType.TYPE ? element
+                            : element.getEnclosingElement());
+                    entries.add(ANNOTATED + ' ' + annotationName + ' ' + elementType + ' ' + getBinaryName(type));
+                }
+            }
+        }
+
+        // do not claim the annotations, so that other processors can process them as well
+        return false;
+    }
+
+    private String getBinaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private static ElementType getElementType(Element element) {
+        ElementKind kind = element.getKind();
+        if (kind.isClass() || kind.isInterface()) {
+            return ElementType.TYPE;
+        } else if (kind == ElementKind.METHOD || kind == ElementKind.CONSTRUCTOR) {
+            return ElementType.METHOD;
+        } else if (kind.isField()) {
+            return ElementType.FIELD;
+        }
+        return null; // NOPMD annotations of other elements are not scanned for
+    }
+
+    private void writeIndex() {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try (Writer writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE)
+                .openWriter()) {
+            for (String annotationName : new TreeSet<>(getSupportedAnnotationTypes())) {
+                writer.write(INDEXED + ' ' + annotationName + '\n');
+            }
+            for (String entry : entries) {
+                writer.write(entry);
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Could not write the NeonBee annotation index " + INDEX_RESOURCE + ": " + e.getMessage());
+        }
+    }
+}
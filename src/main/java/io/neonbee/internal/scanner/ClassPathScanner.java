@@ -24,6 +24,8 @@ import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.jar.Manifest;
@@ -73,6 +75,11 @@ public class ClassPathScanner {
      */
     public static final Pattern SEPARATOR_PATTERN = Pattern.compile(";");
 
+    /**
+     * The resource name of the annotation index written by the {@link AnnotationIndexProcessor} at build time.
+     */
+    public static final String INDEX_RESOURCE = "META-INF/neonbee/index";
+
     private final ClassLoader classLoader;
 
     /**
@@ -186,6 +193,10 @@ public class ClassPathScanner {
     /**
      * Scans the whole class path (does also recursively dig into JAR files!) for class files which are annotated with a
      * given annotation (either the whole class, methods or fields might be annotated and specified in elementTypes).
+     * <p>
+     * In case a directory or JAR file on the class path contains an annotation index written by the
+     * {@link AnnotationIndexProcessor} at build time, which indexes all the given annotations, the annotated classes
+     * covered by the index are read from the index. Only the class files not covered by the index are parsed.
      *
      * @param vertx             the Vert.x instance
      * @param annotationClasses A List of annotations to check for
@@ -196,9 +207,13 @@ public class ClassPathScanner {
     public Future<List<String>> scanForAnnotation(Vertx vertx, List<Class<? extends Annotation>> annotationClasses,
             ElementType... elementTypes) {
 
-        Future<List<String>> classesFromDirectories = scanWithPredicate(vertx, ClassPathScanner::isClassFile);
-        Future<List<String>> classesFromJars = scanJarFilesWithPredicate(vertx, ClassPathScanner::isClassFile)
-                .map(classes -> classes.stream().map(JarHelper::extractFilePath).collect(Collectors.toList()));
+        IndexedClasses indexedClasses = new IndexedClasses(
+                annotationClasses.stream().map(Class::getName).collect(Collectors.toSet()), List.of(elementTypes));
+        Future<List<String>> classesFromDirectories =
+                scanWithPredicate(vertx, ClassPathScanner::isClassFile, indexedClasses);
+        Future<List<String>> classesFromJars =
+                scanJarFilesWithPredicate(vertx, ClassPathScanner::isClassFile, indexedClasses).map(
+                        classes -> classes.stream().map(JarHelper::extractFilePath).collect(Collectors.toList()));
 
         return CompositeFuture.all(classesFromDirectories, classesFromJars)
                 .compose(compositeResult -> AsyncHelper.executeBlocking(vertx, () -> {
@@ -222,7 +237,8 @@ public class ClassPathScanner {
                                 }
                             });
 
-                    return classVisitors.stream().flatMap(acv -> acv.getClassNames().stream()).distinct()
+                    return Streams.concat(indexedClasses.getClassNames().stream(),
+                            classVisitors.stream().flatMap(acv -> acv.getClassNames().stream())).distinct()
                             .collect(Collectors.toList());
                 }));
     }
@@ -234,8 +250,13 @@ public class ClassPathScanner {
      * @param predicate The predicate to test if a found file matches.
      * @return a future to a list of names of the resources on the class path.
      */
-    @SuppressWarnings("PMD.EmptyCatchBlock")
     public Future<List<String>> scanWithPredicate(Vertx vertx, Predicate<String> predicate) {
+        return scanWithPredicate(vertx, predicate, null);
+    }
+
+    @SuppressWarnings("PMD.EmptyCatchBlock")
+    private Future<List<String>> scanWithPredicate(Vertx vertx, Predicate<String> predicate,
+            IndexedClasses indexedClasses) {
         return AsyncHelper.executeBlocking(vertx, () -> {
             List<String> resources = new ArrayList<>();
             Enumeration<URL> rootResources = classLoader.getResources(EMPTY);
@@ -251,8 +272,9 @@ public class ClassPathScanner {
                     // The file must be a directory, because the class path does only contains JARs, ZIPs and
                     // directories.
                     if (Files.isDirectory(resourcePath)) {
-                        scanDirectoryWithPredicateRecursive(resourcePath, predicate)
-                                .forEach(path -> resources.add(resourcePath.relativize(path).toString()));
+                        scanDirectoryWithPredicateRecursive(resourcePath,
+                                indexedClasses != null ? indexedClasses.filter(resourcePath, predicate) : predicate)
+                                        .forEach(path -> resources.add(resourcePath.relativize(path).toString()));
                     }
                 } catch (URISyntaxException e) {
                     /* nothing to do here, just continue searching */
@@ -271,6 +293,11 @@ public class ClassPathScanner {
      * @return a future to a list of URIs representing the files which matches the given predicate
      */
     public Future<List<URI>> scanJarFilesWithPredicate(Vertx vertx, Predicate<String> predicate) {
+        return scanJarFilesWithPredicate(vertx, predicate, null);
+    }
+
+    private Future<List<URI>> scanJarFilesWithPredicate(Vertx vertx, Predicate<String> predicate,
+            IndexedClasses indexedClasses) {
         return AsyncHelper.executeBlocking(vertx, () -> {
             List<URI> resources = new ArrayList<>();
             for (URL manifestResource : getManifestResourceURLs()) {
@@ -279,8 +306,9 @@ public class ClassPathScanner {
                 if ("jar".equals(uri.getScheme())) {
                     try (FileSystem fileSystem = FileSystems.newFileSystem(uri, Map.of())) {
                         Path rootPath = fileSystem.getPath("/");
-                        scanDirectoryWithPredicateRecursive(rootPath, predicate)
-                                .forEach(path -> resources.add(path.toUri()));
+                        scanDirectoryWithPredicateRecursive(rootPath,
+                                indexedClasses != null ? indexedClasses.filter(rootPath, predicate) : predicate)
+                                        .forEach(path -> resources.add(path.toUri()));
                     }
                 }
             }
@@ -324,6 +352,48 @@ public class ClassPathScanner {
         return name.endsWith(".class");
     }
 
+    /**
+     * Collects the annotated classes from the annotation indices of the scanned directories and JAR files, which index
+     * all annotations to scan for, and excludes the class files covered by these indices from the scan.
+     */
+    private static final class IndexedClasses {
+        private final Set<String> annotationNames;
+
+        private final List<ElementType> elementTypes;
+
+        private final Set<String> classNames = ConcurrentHashMap.newKeySet();
+
+        IndexedClasses(Set<String> annotationNames, List<ElementType> elementTypes) {
+            this.annotationNames = annotationNames;
+            this.elementTypes = elementTypes;
+        }
+
+        /**
+         * Reads the annotation index of a directory or JAR file and returns a predicate, which excludes the class files
+         * covered by the index, in case the index can be used.
+         *
+         * Attention: Blocking! Must only be called inside a executeBlocking block!
+         *
+         * @param basePath  the path of the directory or the root path of the JAR file
+         * @param predicate the predicate to check the files of the directory or JAR file against
+         * @return the predicate to scan the directory or JAR file with
+         * @throws IOException in case the index could not be read
+         */
+        Predicate<String> filter(Path basePath, Predicate<String> predicate) throws IOException {
+            AnnotationIndex index = AnnotationIndex.read(basePath);
+            if (index == null || !index.indexes(annotationNames)) {
+                return predicate;
+            }
+
+            index.annotatedClasses(annotationNames, elementTypes).forEach(classNames::add);
+            return predicate.and(name -> !index.covers(name));
+        }
+
+        Set<String> getClassNames() {
+            return classNames;
+        }
+    }
+
     public static class CloseableClassPathScanner extends ClassPathScanner implements Closeable {
         private static final LoggingFacade LOGGER = LoggingFacade.create();
 
@@ -10,6 +10,17 @@ import io.neonbee.data.DataContext;
  */
 @SuppressWarnings("checkstyle:MissingJavadocMethod")
 public interface TrackingDataHandlingStrategy {
+    /**
+     * Returns whether this strategy is currently going to handle any tracking data. If not, the tracking interceptor
+     * does not decode the data context of the messages and does not call any of the handle methods. The method is
+     * called for every message, so it should be cheap, e.g. check whether a log level is enabled.
+     *
+     * @return true if the tracking data should be handled, false otherwise
+     */
+    default boolean isTracking() {
+        return true;
+    }
+
     void handleOutBoundRequest(DataContext context);
 
     void handleInBoundRequest(DataContext context);
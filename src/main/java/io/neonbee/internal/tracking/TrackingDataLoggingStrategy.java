@@ -9,6 +9,11 @@ import io.neonbee.logging.LoggingFacade;
 public class TrackingDataLoggingStrategy implements TrackingDataHandlingStrategy {
     private static final LoggingFacade LOGGER = LoggingFacade.create();
 
+    @Override
+    public boolean isTracking() {
+        return LOGGER.isInfoEnabled();
+    }
+
     @Override
     public void handleOutBoundRequest(DataContext context) {
         if (LOGGER.isInfoEnabled()) {
@@ -2,6 +2,9 @@ package io.neonbee.internal.tracking;
 
 import static io.neonbee.data.DataVerticle.CONTEXT_HEADER;
 import static io.neonbee.data.internal.DataContextImpl.decodeContextFromString;
+import static io.neonbee.data.internal.DataContextImpl.peekCorrelationId;
+
+import java.util.concurrent.ThreadLocalRandom;
 
 import com.google.common.annotations.VisibleForTesting;
 
@@ -19,17 +22,33 @@ public class TrackingInterceptor implements Handler<DeliveryContext<Object>> {
 
     private final TrackingDataHandlingStrategy handler;
 
+    private final int sampleRate;
+
     @VisibleForTesting
     public TrackingInterceptor(MessageDirection direction, TrackingDataHandlingStrategy handler) {
+        this(direction, handler, 1);
+    }
+
+    /**
+     * Creates a new tracking interceptor, which only tracks the messages of a sample of all requests.
+     *
+     * @param direction  the direction of the messages to intercept
+     * @param handler    the handler to delegate the tracking data to
+     * @param sampleRate track the messages of one in N requests (sampled by the hash of their correlation id), 1 to
+     *                   track all messages
+     */
+    public TrackingInterceptor(MessageDirection direction, TrackingDataHandlingStrategy handler, int sampleRate) {
         this.direction = direction;
         this.handler = handler;
+        this.sampleRate = Math.max(1, sampleRate);
     }
 
     @Override
     public void handle(DeliveryContext<Object> event) {
         Message<Object> message = event.message();
         String contextHeader = message.headers().get(CONTEXT_HEADER);
-        if (contextHeader != null) {
+        // decode the context only, if the handler is going to use it
+        if (contextHeader != null && handler.isTracking() && isSampled(contextHeader)) {
             DataContext context = decodeContextFromString(contextHeader);
             if (message.replyAddress() != null) {
                 switch (direction) {
@@ -58,6 +77,31 @@ public class TrackingInterceptor implements Handler<DeliveryContext<Object>> {
         event.next();
     }
 
+    private boolean isSampled(String contextHeader) {
+        if (sampleRate == 1) {
+            return true;
+        }
+
+        String correlationId = peekCorrelationId(contextHeader);
+        if (correlationId == null) {
+            // messages without a correlation id cannot be tracked end-to-end anyways, so sample them at random, in
+            // order not to track all of them, as they would all share the same hash code
+            return ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+        }
+
+        // sample by the correlation id, so that all messages of a sampled request are tracked end-to-end
+        return Math.floorMod(correlationId.hashCode(), sampleRate) == 0;
+    }
+
+    /**
+     * Returns the sample rate of this interceptor.
+     *
+     * @return track the messages of one in N requests
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
     /**
      * Returns the message direction of this interceptor.
      *
@@ -5,13 +5,17 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import io.neonbee.NeonBee;
 import io.neonbee.NeonBeeDeployable;
+import io.neonbee.config.HealthConfig;
 import io.neonbee.data.DataContext;
 import io.neonbee.data.DataQuery;
 import io.neonbee.data.DataVerticle;
+import io.neonbee.health.HealthCheckRegistry;
 import io.neonbee.internal.helper.AsyncHelper;
+import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.json.JsonArray;
@@ -28,6 +32,8 @@ public class HealthCheckVerticle extends DataVerticle<JsonArray> {
 
     private static final String NAME = "_healthCheckVerticle-" + UUID.randomUUID();
 
+    private static final LoggingFacade LOGGER = LoggingFacade.create();
+
     /**
      * The qualified name of the health check verticle.
      */
@@ -36,8 +42,14 @@ public class HealthCheckVerticle extends DataVerticle<JsonArray> {
     @Override
     public void start(Promise<Void> promise) {
         Future.<Void>future(super::start).compose(v -> {
-            if (NeonBee.get(vertx).getOptions().isClustered()) {
-                return NeonBee.get(vertx).getHealthCheckRegistry().registerVerticle(this);
+            NeonBee neonBee = NeonBee.get(vertx);
+            if (neonBee.getOptions().isClustered()) {
+                HealthConfig healthConfig = neonBee.getConfig().getHealthConfig();
+                if (healthConfig.doCollectClusteredResults() && healthConfig.getAggregationInterval() > 0) {
+                    return startPublishing(neonBee, healthConfig.getAggregationInterval())
+                            .compose(nothing -> neonBee.getHealthCheckRegistry().registerVerticle(this));
+                }
+                return neonBee.getHealthCheckRegistry().registerVerticle(this);
             }
             return Future.succeededFuture();
         }).onComplete(promise);
@@ -45,6 +57,38 @@ public class HealthCheckVerticle extends DataVerticle<JsonArray> {
 
     @Override
     public Future<JsonArray> retrieveData(DataQuery query, DataContext context) {
+        return collectLocalResults();
+    }
+
+    /**
+     * Publishes the results of the health checks of this node periodically to all nodes and stores the results
+     * published by all nodes in the {@link HealthCheckRegistry} of this node. The consumer and the timer are bound to
+     * the context of this verticle and thus end when the verticle gets undeployed.
+     */
+    private Future<Void> startPublishing(NeonBee neonBee, int interval) {
+        HealthCheckRegistry registry = neonBee.getHealthCheckRegistry();
+        String nodeId = neonBee.getNodeId();
+
+        Promise<Void> consumerRegistered = Promise.promise();
+        vertx.eventBus().<JsonObject>consumer(HealthCheckRegistry.AGGREGATION_ADDRESS, message -> {
+            JsonObject body = message.body();
+            registry.updatePublishedResults(body.getString(HealthCheckRegistry.NODE_ID_KEY),
+                    body.getJsonArray("checks"));
+        }).completionHandler(consumerRegistered);
+
+        return consumerRegistered.future().onSuccess(v -> {
+            publishResults(nodeId);
+            vertx.setPeriodic(TimeUnit.SECONDS.toMillis(interval), timerId -> publishResults(nodeId));
+        });
+    }
+
+    private void publishResults(String nodeId) {
+        collectLocalResults().onSuccess(results -> vertx.eventBus().publish(HealthCheckRegistry.AGGREGATION_ADDRESS,
+                new JsonObject().put(HealthCheckRegistry.NODE_ID_KEY, nodeId).put("checks", results)))
+                .onFailure(t -> LOGGER.warn("Could not publish the health check results of node {}", nodeId, t));
+    }
+
+    private Future<JsonArray> collectLocalResults() {
         List<Future<JsonObject>> checkList = NeonBee.get(vertx).getHealthCheckRegistry().getHealthChecks().values()
                 .stream().map(hc -> hc.result().map(CheckResult::toJson)).collect(toList());
         return AsyncHelper.allComposite(checkList).map(v -> new JsonArray(
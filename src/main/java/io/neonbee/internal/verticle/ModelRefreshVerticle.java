@@ -1,6 +1,8 @@
 package io.neonbee.internal.verticle;
 
 import java.nio.file.Path;
+import java.nio.file.WatchEvent.Kind;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import io.neonbee.NeonBee;
@@ -13,38 +15,22 @@ public class ModelRefreshVerticle extends WatchVerticle {
     private static final int DEFAULT_CHECK_INTERVAL = 5;
 
     /**
-     * Creates a ModelRefreshVerticle that watches for new models on the given path.
+     * Creates a ModelRefreshVerticle that watches for new models on the given path. Changes to the models are
+     * debounced by one check interval, so that e.g. copying many model files results in only one refresh.
      *
      * @param modelsDirPath the directory to watch
      */
     public ModelRefreshVerticle(Path modelsDirPath) {
-        super(modelsDirPath, DEFAULT_CHECK_INTERVAL, TimeUnit.SECONDS, false, false);
+        this(modelsDirPath, DEFAULT_CHECK_INTERVAL, TimeUnit.SECONDS);
     }
 
     ModelRefreshVerticle(Path modelsDirPath, long interval, TimeUnit unit) {
-        super(modelsDirPath, interval, unit, false, false);
+        super(modelsDirPath, interval, unit, false, false, interval);
     }
 
     @Override
-    public void observedCreate(Path affectedPath, Promise<Void> finishPromise) {
-        if (!isCopyLogic(config())) {
-            triggerRefresh(finishPromise);
-        } else {
-            finishPromise.complete();
-        }
-    }
-
-    @Override
-    public void observedModify(Path affectedPath, Promise<Void> finishPromise) {
-        if (isCopyLogic(config())) {
-            triggerRefresh(finishPromise);
-        } else {
-            finishPromise.complete();
-        }
-    }
-
-    @Override
-    public void observedDelete(Path affectedPath, Promise<Void> finishPromise) {
+    public void observedChanges(Map<Path, Kind<?>> changes, Promise<Void> finishPromise) {
+        // all models are reloaded anyways, thus it is sufficient to refresh once per batch of changes
         triggerRefresh(finishPromise);
     }
 
@@ -14,7 +14,9 @@ import java.nio.file.WatchEvent.Kind;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -50,6 +52,12 @@ public class WatchVerticle extends AbstractVerticle {
 
     private static final long UNDEPLOY_DELAY = 50L;
 
+    /**
+     * The maximum number of debounce windows a batch of changes is held back, before it gets delivered, even if the
+     * watched directory didn't become quiet in the meantime.
+     */
+    private static final int MAX_DEBOUNCE_WINDOWS = 10;
+
     @VisibleForTesting
     final long watchPeriodMillis;
 
@@ -65,6 +73,17 @@ public class WatchVerticle extends AbstractVerticle {
 
     private final String counterName = UUID.randomUUID().toString();
 
+    @VisibleForTesting
+    final long debounceNanos;
+
+    private final Map<Path, Kind<?>> pendingChanges = new LinkedHashMap<>();
+
+    private final List<Path> pendingRescans = new ArrayList<>();
+
+    private long firstPendingNanos;
+
+    private long lastPendingNanos;
+
     /**
      * A common problem using WatchVerticle is to detect if a watched resource was moved or copied, because if a file is
      * moved only the method {@link #observedCreate(Path, Promise)} is called. But if a file is copied the
@@ -142,11 +161,34 @@ public class WatchVerticle extends AbstractVerticle {
      */
     public WatchVerticle(Path watchPath, long interval, TimeUnit unit, boolean parallelProcessing,
             boolean handleExisting) {
+        this(watchPath, interval, unit, parallelProcessing, handleExisting, 0);
+    }
+
+    /**
+     * Same as {@link #WatchVerticle(Path, long, TimeUnit, boolean, boolean)}, but with a debounce window. If the
+     * debounce window is greater than zero, the events observed are not dispatched one by one, but are coalesced into
+     * one change set (path to final kind of change) which is passed to {@link #observedChanges(Map, Promise)}, as soon
+     * as no further event was observed for the duration of the debounce window. As changes are only checked every
+     * interval, the effective debounce window is at least one interval.
+     *
+     * @param watchPath          The {@link Path} to monitor
+     * @param interval           The interval to check for changes
+     * @param unit               The unit of the check interval and the debounce window
+     * @param parallelProcessing If false, ignores upcoming intervals if processing of a predecessor interval is still
+     *                           in progress. Default is true.
+     * @param handleExisting     If true, trigger an ENTRY_CREATE and ENTRY_MODIFY event, for every element in the
+     *                           watchPath. Default is true.
+     * @param debounce           The quiet period to wait for, before a batch of changes is delivered. Zero disables
+     *                           debouncing and dispatches every event on its own. Default is zero.
+     */
+    public WatchVerticle(Path watchPath, long interval, TimeUnit unit, boolean parallelProcessing,
+            boolean handleExisting, long debounce) {
         super();
         this.watchPeriodMillis = unit.toMillis(interval);
         this.watchPath = watchPath.toAbsolutePath();
         this.parallelProcessing = parallelProcessing;
         this.handleExisting = handleExisting;
+        this.debounceNanos = unit.toNanos(debounce);
     }
 
     @Override
@@ -243,6 +285,13 @@ public class WatchVerticle extends AbstractVerticle {
         List<Future<Void>> watchEventFutures = new ArrayList<>(events.size());
 
         for (WatchEvent<?> event : events) {
+            if (OVERFLOW.equals(event.kind())) {
+                // events have been lost, the only way to recover is to rescan the directory tree of the watch key
+                LOGGER.warn("WatchEvents for Path '{}' overflowed, rescanning directory", watchKeyPath);
+                watchEventFutures.add(handleExistingFiles(watchKeyPath));
+                continue;
+            }
+
             Path affectedPath = watchKeyPath.resolve(event.context().toString());
             watchEventFutures.add(processEvent(affectedPath, event.kind()));
         }
@@ -254,6 +303,10 @@ public class WatchVerticle extends AbstractVerticle {
 
     @VisibleForTesting
     Future<Void> checkForChanges() {
+        if (debounceNanos > 0) {
+            return checkForDebouncedChanges();
+        }
+
         // To prevent a ConcurrentModificationException while iterating over values of map watchKeys a temporary list is
         // created.
         Map<Path, WatchKey> tempWatchKeys = Map.copyOf(watchKeys);
@@ -265,6 +318,124 @@ public class WatchVerticle extends AbstractVerticle {
         return joinComposite(watchKeyFutures).mapEmpty();
     }
 
+    /**
+     * Collects the events of all watch keys into the pending change set and delivers the change set, as soon as the
+     * watched directory became quiet for the debounce window, or the change set was held back for too long already.
+     *
+     * @return a future which is resolved when the (potentially) delivered change set was processed
+     */
+    private Future<Void> checkForDebouncedChanges() {
+        long now = System.nanoTime();
+        for (Map.Entry<Path, WatchKey> entry : Map.copyOf(watchKeys).entrySet()) {
+            Path watchKeyPath = entry.getKey();
+            WatchKey watchKey = entry.getValue();
+            for (WatchEvent<?> event : watchKey.pollEvents()) {
+                if (pendingChanges.isEmpty() && pendingRescans.isEmpty()) {
+                    firstPendingNanos = now;
+                }
+                lastPendingNanos = now;
+
+                if (OVERFLOW.equals(event.kind())) {
+                    LOGGER.warn("WatchEvents for Path '{}' overflowed, rescanning directory", watchKeyPath);
+                    pendingRescans.add(watchKeyPath);
+                } else {
+                    Path affectedPath = watchKeyPath.resolve(event.context().toString());
+                    Kind<?> kind = coalesce(pendingChanges.get(affectedPath), event.kind());
+                    if (kind != null) {
+                        pendingChanges.put(affectedPath, kind);
+                    } else {
+                        pendingChanges.remove(affectedPath);
+                    }
+                }
+            }
+            watchKey.reset();
+        }
+
+        if ((pendingChanges.isEmpty() && pendingRescans.isEmpty()) || (now - lastPendingNanos < debounceNanos
+                && now - firstPendingNanos < MAX_DEBOUNCE_WINDOWS * debounceNanos)) {
+            return Future.succeededFuture();
+        }
+
+        Map<Path, Kind<?>> changes = new LinkedHashMap<>(pendingChanges);
+        List<Path> rescans = List.copyOf(pendingRescans);
+        pendingChanges.clear();
+        pendingRescans.clear();
+
+        return joinComposite(rescans.stream().map(dir -> collectTree(dir, changes)).collect(Collectors.toList()))
+                .compose(nothing -> processChanges(changes));
+    }
+
+    /**
+     * Coalesces two subsequent kinds of events for the same path into the final kind of change.
+     *
+     * @param previous the kind of change pending for the path, or null if no change is pending
+     * @param next     the kind of the event observed for the path
+     * @return the final kind of change, or null in case the changes cancel each other out
+     */
+    @VisibleForTesting
+    static Kind<?> coalesce(Kind<?> previous, Kind<?> next) {
+        if (ENTRY_CREATE.equals(previous)) {
+            if (ENTRY_MODIFY.equals(next)) {
+                // a modification of a newly created path is still a creation
+                return ENTRY_CREATE;
+            } else if (ENTRY_DELETE.equals(next)) {
+                // a path which was created and deleted again has never been there
+                return null;
+            }
+        }
+
+        return next;
+    }
+
+    /**
+     * Adds an ENTRY_CREATE change for every element of the directory tree of the given directory, that is not already
+     * part of the change set. Used to recover from an OVERFLOW, where events were lost.
+     *
+     * @param dir     the directory to scan
+     * @param changes the change set to add the changes to
+     * @return a future which is resolved when the whole directory tree was scanned
+     */
+    private Future<Void> collectTree(Path dir, Map<Path, Kind<?>> changes) {
+        return FileSystemHelper.readDir(vertx, dir).compose(dirContent -> joinComposite(dirContent.stream()
+                .map(path -> FileSystemHelper.isDirectory(vertx, path).compose(isDirectory -> {
+                    changes.putIfAbsent(path, ENTRY_CREATE);
+                    return isDirectory ? collectTree(path, changes) : Future.<Void>succeededFuture();
+                })).collect(Collectors.toList()))).mapEmpty();
+    }
+
+    /**
+     * Updates the watch keys for all directories in the change set and passes the change set on to
+     * {@link #observedChanges(Map, Promise)}.
+     *
+     * @param changes the coalesced change set
+     * @return a future which is resolved when the change set was processed
+     */
+    private Future<Void> processChanges(Map<Path, Kind<?>> changes) {
+        if (changes.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Observed batch of {} changes in Path '{}'", changes.size(), watchPath);
+        }
+
+        List<Future<Void>> registerFutures = new ArrayList<>();
+        changes.forEach((affectedPath, kind) -> {
+            if (ENTRY_CREATE.equals(kind)) {
+                registerFutures.add(FileSystemHelper.isDirectory(vertx, affectedPath).compose(
+                        isDirectory -> isDirectory ? registerWatchKey(affectedPath) : Future.<Void>succeededFuture()));
+            } else if (ENTRY_DELETE.equals(kind)) {
+                Optional.ofNullable(watchKeys.remove(affectedPath)).ifPresent(WatchKey::cancel);
+            }
+        });
+
+        return joinComposite(registerFutures).compose(nothing -> {
+            Promise<Void> promise = Promise.promise();
+            observedChanges(Collections.unmodifiableMap(changes), promise);
+            return promise.future();
+        });
+    }
+
     private Future<Void> registerWatchKey(Path affectedPath) {
         try {
             watchKeys.put(affectedPath, affectedPath.register(watcher, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY));
@@ -308,6 +479,33 @@ public class WatchVerticle extends AbstractVerticle {
         return promise.future();
     }
 
+    /**
+     * This method is called with a batch of coalesced changes, in case the WatchVerticle was created with a debounce
+     * window. The batch maps every affected path to its final kind of change, e.g. a file that was created and modified
+     * afterwards is reported as ENTRY_CREATE only. By default, every change of the batch is dispatched to the
+     * respective {@code observedCreate}, {@code observedModify} or {@code observedDelete} method. Override this method
+     * to handle all changes at once, e.g. to only trigger one expensive refresh per batch.
+     *
+     * @param changes       The coalesced changes, mapping the affected {@link Path} to its final kind of change
+     * @param finishPromise The future to complete, if the operation related to all changes is done
+     */
+    public void observedChanges(Map<Path, Kind<?>> changes, Promise<Void> finishPromise) {
+        List<Future<Void>> changeFutures = new ArrayList<>(changes.size());
+        changes.forEach((affectedPath, kind) -> {
+            Promise<Void> promise = Promise.promise();
+            if (ENTRY_CREATE.equals(kind)) {
+                observedCreate(affectedPath, promise);
+            } else if (ENTRY_DELETE.equals(kind)) {
+                observedDelete(affectedPath, promise);
+            } else {
+                observedModify(affectedPath, promise);
+            }
+            changeFutures.add(promise.future());
+        });
+
+        joinComposite(changeFutures).<Void>mapEmpty().onComplete(finishPromise);
+    }
+
     /**
      * This method is called, if a file or folder was created in the monitored directory. Don't execute long running
      * code directly in this method, otherwise it will block the execution of other events.
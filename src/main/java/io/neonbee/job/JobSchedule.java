@@ -4,14 +4,44 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAdjuster;
+import java.util.Objects;
 
 public class JobSchedule implements TemporalAdjuster {
+    /**
+     * Determines how a job is executed, in case the same {@link JobVerticle} is deployed multiple times, e.g. once on
+     * every node of a cluster.
+     */
+    public enum ExecutionMode {
+        /**
+         * Every deployed instance of the job verticle executes the job independently (default).
+         */
+        LOCAL,
+
+        /**
+         * Only one deployed instance of the job verticle executes the job. The instance executing the job holds a
+         * cluster-wide lease, which is renewed with every execution. Other instances skip their executions, as long as
+         * the lease is held. If the instance holding the lease fails to renew it in time (e.g. because its node left
+         * the cluster), another instance takes over. For one time jobs, the lease is never released, so the job is
+         * executed only once in the cluster.
+         */
+        SINGLETON,
+
+        /**
+         * Every deployed instance of the job verticle executes the job, but the work items of the job are split across
+         * all live instances of the job in the cluster by consistent hashing. The job has to check for each work item,
+         * whether it is assigned to the own instance, using {@link JobVerticle#isAssigned(String)}.
+         */
+        PARTITIONED
+    }
+
     private Instant start;
 
     private Instant end;
 
     private TemporalAdjuster adjuster;
 
+    private ExecutionMode executionMode = ExecutionMode.LOCAL;
+
     /**
      * Create a job schedule for a one time job to run immediately.
      */
@@ -149,6 +179,26 @@ public class JobSchedule implements TemporalAdjuster {
         return adjuster;
     }
 
+    /**
+     * Returns the execution mode of this schedule.
+     *
+     * @return the execution mode, defaults to {@link ExecutionMode#LOCAL}
+     */
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    /**
+     * Sets the execution mode of this schedule.
+     *
+     * @param executionMode how the job should be executed, in case it is deployed multiple times
+     * @return a reference to this, so the API can be used fluently
+     */
+    public JobSchedule setExecutionMode(ExecutionMode executionMode) {
+        this.executionMode = Objects.requireNonNull(executionMode);
+        return this;
+    }
+
     /**
      * Convenience implementation of the {@link TemporalAdjuster} interface.
      * <p>
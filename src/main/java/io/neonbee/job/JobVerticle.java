@@ -1,5 +1,6 @@
 package io.neonbee.job;
 
+import static io.neonbee.internal.helper.SharedDataHelper.lock;
 import static io.vertx.core.Future.succeededFuture;
 import static java.lang.Math.max;
 import static java.time.Instant.now;
@@ -11,16 +12,22 @@ import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import com.google.common.annotations.VisibleForTesting;
 
 import io.neonbee.NeonBee;
 import io.neonbee.data.DataContext;
 import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.internal.SharedDataAccessor;
+import io.neonbee.internal.cluster.ConsistentHashRing;
+import io.neonbee.job.JobSchedule.ExecutionMode;
 import io.neonbee.logging.LoggingFacade;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Future;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.AsyncMap;
 
 public abstract class JobVerticle extends AbstractVerticle {
     @VisibleForTesting
@@ -39,6 +46,25 @@ public abstract class JobVerticle extends AbstractVerticle {
 
     private static final int SCHEDULE_TEST_EXECUTIONS = 10;
 
+    @VisibleForTesting
+    static final String LEASES_MAP_NAME = "leases";
+
+    @VisibleForTesting
+    static final String INSTANCES_MAP_NAME = "instances";
+
+    /**
+     * The number of periods a lease of a {@link ExecutionMode#SINGLETON} job is valid, before another instance may take
+     * over the execution of the job.
+     */
+    private static final int LEASE_PERIODS = 2;
+
+    /**
+     * The duration a lease of a one time {@link ExecutionMode#SINGLETON} job is valid after its execution ended, so
+     * that instances started later on do not execute the job again.
+     */
+    @VisibleForTesting
+    static final long ONE_TIME_LEASE_DURATION = TimeUnit.HOURS.toMillis(1);
+
     private JobSchedule schedule;
 
     private Instant lastExecution;
@@ -47,6 +73,12 @@ public abstract class JobVerticle extends AbstractVerticle {
 
     private long currentTimerId = NO_SCHEDULE;
 
+    private long leaseRenewalTimerId = NO_SCHEDULE;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private ConsistentHashRing partitionRing;
+
     /**
      * Create a new job verticle with a given job schedule.
      *
@@ -91,6 +123,11 @@ public abstract class JobVerticle extends AbstractVerticle {
     public void start() {
         if (!NeonBee.get(getVertx()).getOptions().shouldDisableJobScheduling()) {
             if (isScheduleValid()) {
+                if (schedule.getExecutionMode() == ExecutionMode.PARTITIONED) {
+                    // register the instance right away, so that other instances consider it for their next execution
+                    registerInstance(getLeaseDuration(now())).onFailure(throwable -> LOGGER
+                            .warn("Failed to register instance of partitioned job {}", getName(), throwable));
+                }
                 scheduleJob();
             } else {
                 throw new IllegalStateException("The period of a periodic JobSchedule can't be zero");
@@ -107,6 +144,23 @@ public abstract class JobVerticle extends AbstractVerticle {
             getVertx().cancelTimer(currentTimerId);
             currentTimerId = STOPPED;
         }
+
+        stopLeaseRenewal();
+
+        // release the lease of a periodic singleton job, so another instance can take over immediately. the lease of a
+        // one time job is kept until it expires, as otherwise another instance would execute the job again
+        if (schedule.getExecutionMode() == ExecutionMode.SINGLETON && schedule.isPeriodic()) {
+            String leaseKey = getLeaseKey();
+            getLeases().compose(leases -> leases.removeIfPresent(leaseKey, instanceId))
+                    .onFailure(throwable -> LOGGER.warn("Failed to release lease of job {}", getName(), throwable));
+        }
+
+        // deregister the instance of a partitioned job, so the other instances take over its work items immediately
+        if (schedule.getExecutionMode() == ExecutionMode.PARTITIONED) {
+            String instanceKey = getInstanceKey();
+            getInstances().compose(instances -> instances.remove(instanceKey)).onFailure(throwable -> LOGGER
+                    .warn("Failed to deregister instance of partitioned job {}", getName(), throwable));
+        }
     }
 
     private boolean isScheduleValid() {
@@ -164,31 +218,190 @@ public abstract class JobVerticle extends AbstractVerticle {
                     ISO_LOCAL_DATE_TIME.format(ZonedDateTime.now(UTC).plus(nextDelay, MILLIS)));
         }
         currentTimerId = getVertx().setTimer(nextDelay, timerID -> {
-            // initialize the data context for the job execution
-            DataContext context = new DataContextImpl(UUID.randomUUID().toString(),
-                    "internal-" + UUID.randomUUID().toString(), getUser());
-
-            // execute the job and wait for the execution to finish, before starting the next execution
-            LOGGER.correlateWith(context).info("Job execution of {} started", getClass().getSimpleName());
-            Optional.ofNullable(execute(context)).orElse(succeededFuture()).onComplete(result -> {
-                // handle the result by logging
-                if (result.succeeded()) {
-                    LOGGER.correlateWith(context).info("Job execution of {} ended successfully", getName());
-                } else {
-                    LOGGER.correlateWith(context).warn("Job execution of {} ended with failure", getName(),
-                            result.cause());
-                }
-
-                // if it is a periodic schedule, schedule the next job run, otherwise finalize and end the execution
-                if (periodicSchedule) {
-                    scheduleJob();
+            Instant execution = lastExecution;
+            acquireExecution(execution).onComplete(acquired -> {
+                if (acquired.failed()) {
+                    LOGGER.warn("Failed to coordinate job execution of {}, skipping execution", getName(),
+                            acquired.cause());
+                    scheduleNextJob(periodicSchedule);
+                } else if (Boolean.FALSE.equals(acquired.result())) {
+                    LOGGER.info("Job execution of {} skipped, as the job is executed by another instance", getName());
+                    scheduleNextJob(periodicSchedule);
                 } else {
-                    finalizeJob();
+                    startLeaseRenewal(execution);
+                    executeJob().onComplete(nothing -> {
+                        stopLeaseRenewal();
+                        scheduleNextJob(periodicSchedule);
+                    });
                 }
             });
         });
     }
 
+    /**
+     * Execute the job once and log the result of the execution.
+     *
+     * @return a future which is completed as soon as the job execution ended
+     */
+    private Future<Void> executeJob() {
+        // initialize the data context for the job execution
+        DataContext context = new DataContextImpl(UUID.randomUUID().toString(),
+                "internal-" + UUID.randomUUID().toString(), getUser());
+
+        // execute the job and wait for the execution to finish, before starting the next execution
+        LOGGER.correlateWith(context).info("Job execution of {} started", getClass().getSimpleName());
+        return Optional.ofNullable(execute(context)).orElse(succeededFuture()).onComplete(result -> {
+            // handle the result by logging
+            if (result.succeeded()) {
+                LOGGER.correlateWith(context).info("Job execution of {} ended successfully", getName());
+            } else {
+                LOGGER.correlateWith(context).warn("Job execution of {} ended with failure", getName(),
+                        result.cause());
+            }
+        }).mapEmpty();
+    }
+
+    /**
+     * If it is a periodic schedule, schedule the next job run, otherwise finalize and end the execution.
+     *
+     * @param periodicSchedule true if the schedule is periodic
+     */
+    private void scheduleNextJob(boolean periodicSchedule) {
+        if (periodicSchedule) {
+            scheduleJob();
+        } else {
+            finalizeJob();
+        }
+    }
+
+    /**
+     * Checks whether this instance should execute the job according to the execution mode of the schedule.
+     *
+     * @param execution the instant of the scheduled execution
+     * @return a future resolving to true, if this instance should execute the job
+     */
+    private Future<Boolean> acquireExecution(Instant execution) {
+        switch (schedule.getExecutionMode()) {
+        case SINGLETON:
+            return acquireLease(execution);
+        case PARTITIONED:
+            return assignPartition(execution).map(true);
+        default:
+            return succeededFuture(true);
+        }
+    }
+
+    /**
+     * Acquires or renews the cluster-wide lease of this job. The lease of a periodic job is valid for
+     * {@link #LEASE_PERIODS} periods of the schedule, so it is kept by this instance, as long as it executes the job
+     * regularly. The lease of a one time job is valid for {@link #ONE_TIME_LEASE_DURATION}, so the job is only executed
+     * once, even by instances started shortly after. While the job is executed, the lease is renewed regularly.
+     *
+     * @param execution the instant of the scheduled execution
+     * @return a future resolving to true, if this instance holds the lease
+     */
+    private Future<Boolean> acquireLease(Instant execution) {
+        return acquireLease(getLeaseDuration(execution));
+    }
+
+    private Future<Boolean> acquireLease(long leaseDuration) {
+        String leaseKey = getLeaseKey();
+        return lock(getVertx(), leaseKey, () -> getLeases().compose(leases -> leases.get(leaseKey).compose(owner -> {
+            if (owner != null && !instanceId.equals(owner)) {
+                return succeededFuture(false);
+            }
+
+            return leases.put(leaseKey, instanceId, leaseDuration).map(true);
+        })));
+    }
+
+    private long getLeaseDuration(Instant execution) {
+        return schedule.isPeriodic()
+                ? LEASE_PERIODS * max(MINIMUM_DELAY, execution.until(execution.with(schedule), MILLIS))
+                : ONE_TIME_LEASE_DURATION;
+    }
+
+    /**
+     * Renews the lease of a {@link ExecutionMode#SINGLETON} job, or the registration of the instance of a
+     * {@link ExecutionMode#PARTITIONED} job regularly, while the job is executed, so that no other instance takes over
+     * the execution or the work items of this instance, in case a single execution takes longer than the lease or the
+     * registration is valid.
+     *
+     * @param execution the instant of the scheduled execution
+     */
+    private void startLeaseRenewal(Instant execution) {
+        long leaseDuration = getLeaseDuration(execution);
+        if (schedule.getExecutionMode() == ExecutionMode.SINGLETON) {
+            leaseRenewalTimerId = getVertx().setPeriodic(leaseDuration / LEASE_PERIODS,
+                    timerId -> acquireLease(leaseDuration).onComplete(renewed -> {
+                        if (renewed.failed()) {
+                            LOGGER.warn("Failed to renew lease of job {}", getName(), renewed.cause());
+                        } else if (Boolean.FALSE.equals(renewed.result())) {
+                            LOGGER.warn("Lease of job {} was taken over by another instance during its execution",
+                                    getName());
+                        }
+                    }));
+        } else if (schedule.getExecutionMode() == ExecutionMode.PARTITIONED) {
+            leaseRenewalTimerId = getVertx().setPeriodic(leaseDuration / LEASE_PERIODS,
+                    timerId -> registerInstance(leaseDuration).onFailure(throwable -> LOGGER
+                            .warn("Failed to renew registration of partitioned job {}", getName(), throwable)));
+        }
+    }
+
+    private void stopLeaseRenewal() {
+        if (leaseRenewalTimerId >= 0) {
+            getVertx().cancelTimer(leaseRenewalTimerId);
+            leaseRenewalTimerId = NO_SCHEDULE;
+        }
+    }
+
+    /**
+     * Determines the live instances of this job in the cluster, to split the work items across for the upcoming
+     * execution. Only instances actually deploying this job are considered, so work items are never assigned to nodes,
+     * which do not execute the job, and several instances on the same node share the work items of the node.
+     *
+     * @param execution the instant of the scheduled execution
+     * @return a future completed as soon as the work items were split across the live instances
+     */
+    private Future<Void> assignPartition(Instant execution) {
+        String instanceKeyPrefix = getLeaseKey() + '/';
+        return registerInstance(getLeaseDuration(execution)).compose(AsyncMap::keys).map(instanceKeys -> {
+            partitionRing = new ConsistentHashRing(instanceKeys.stream()
+                    .filter(instanceKey -> instanceKey.startsWith(instanceKeyPrefix)).collect(Collectors.toList()));
+            return null;
+        });
+    }
+
+    /**
+     * Registers this instance of a {@link ExecutionMode#PARTITIONED} job cluster-wide. The registration expires, in
+     * case it is not renewed in time, so that instances of nodes, which left the cluster unexpectedly, are not
+     * considered for long.
+     *
+     * @param registrationDuration the duration the registration is valid
+     * @return a future to the map of the registered instances
+     */
+    private Future<AsyncMap<String, String>> registerInstance(long registrationDuration) {
+        String instanceKey = getInstanceKey();
+        return getInstances().compose(
+                instances -> instances.put(instanceKey, instanceId, registrationDuration).map(instances));
+    }
+
+    private Future<AsyncMap<String, String>> getLeases() {
+        return new SharedDataAccessor(getVertx(), JobVerticle.class).getClusterWideMap(LEASES_MAP_NAME);
+    }
+
+    private Future<AsyncMap<String, String>> getInstances() {
+        return new SharedDataAccessor(getVertx(), JobVerticle.class).getClusterWideMap(INSTANCES_MAP_NAME);
+    }
+
+    private String getLeaseKey() {
+        return getClass().getName();
+    }
+
+    private String getInstanceKey() {
+        return getLeaseKey() + '/' + instanceId;
+    }
+
     /**
      * Finalize the job execution by eventually undeploying the own verticle.
      */
@@ -222,6 +435,22 @@ public abstract class JobVerticle extends AbstractVerticle {
         return currentTimerId == FINALIZED;
     }
 
+    /**
+     * Checks whether a work item is assigned to this instance. Jobs with a {@link ExecutionMode#PARTITIONED} schedule
+     * are executed by every instance of the job in the cluster, thus every job execution should only process the work
+     * items assigned to its own instance. The work items are split across the live instances of the job at the
+     * beginning of each execution, using consistent hashing on the given key of the work item. In case instances are
+     * deployed or undeployed during an execution, work items may be processed twice or not at all, until the next
+     * execution.
+     *
+     * @param workItemKey a key uniquely identifying the work item, e.g. the ID of an entity to process
+     * @return true if the work item should be processed by this instance. Always true, if the schedule is not
+     *         partitioned
+     */
+    protected boolean isAssigned(String workItemKey) {
+        return partitionRing == null || getInstanceKey().equals(partitionRing.getNode(workItemKey));
+    }
+
     /**
      * Execute the job.
      *
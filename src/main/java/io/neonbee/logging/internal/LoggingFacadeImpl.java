@@ -20,8 +20,12 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     private final Logger logger;
 
-    @VisibleForTesting
-    Marker currentMarker = DEFAULT_MARKER;
+    /**
+     * The correlation of the current thread. Using a thread-local correlation, facades (which are usually shared as a
+     * static field of a class) can be used concurrently from multiple event loops, without one thread overwriting the
+     * correlation id of the log message another thread is about to write.
+     */
+    private final ThreadLocal<Correlation> correlation = ThreadLocal.withInitial(Correlation::new);
 
     public LoggingFacadeImpl(Logger logger) {
         this.logger = logger;
@@ -29,14 +33,21 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public LoggingFacade correlateWith(String correlationId) {
-        if (Strings.isNullOrEmpty(correlationId)) {
-            currentMarker = DEFAULT_MARKER;
-        } else if (currentMarker == null || !correlationId.equals(currentMarker.getName())) {
-            currentMarker = MarkerFactory.getDetachedMarker(correlationId);
-        }
+        correlation.get().set(correlationId);
         return this;
     }
 
+    /**
+     * Returns the marker for the correlation id of the current thread. All log methods check the log level without a
+     * marker first, so that no marker is created for messages of disabled log levels.
+     *
+     * @return the marker of the current correlation id, or the {@link #DEFAULT_MARKER} if no correlation id is set
+     */
+    @VisibleForTesting
+    Marker currentMarker() {
+        return correlation.get().marker();
+    }
+
     @Override
     public String getName() {
         return logger.getName();
@@ -44,7 +55,7 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public boolean isTraceEnabled() {
-        return logger.isTraceEnabled(currentMarker);
+        return logger.isTraceEnabled() && logger.isTraceEnabled(currentMarker());
     }
 
     @Override
@@ -54,27 +65,37 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public void trace(String msg) {
-        logger.trace(currentMarker, msg);
+        if (logger.isTraceEnabled()) {
+            logger.trace(currentMarker(), msg);
+        }
     }
 
     @Override
     public void trace(String format, Object arg) {
-        logger.trace(currentMarker, format, arg);
+        if (logger.isTraceEnabled()) {
+            logger.trace(currentMarker(), format, arg);
+        }
     }
 
     @Override
     public void trace(String format, Object arg1, Object arg2) {
-        logger.trace(currentMarker, format, arg1, arg2);
+        if (logger.isTraceEnabled()) {
+            logger.trace(currentMarker(), format, arg1, arg2);
+        }
     }
 
     @Override
     public void trace(String format, Object... arguments) {
-        logger.trace(currentMarker, format, arguments);
+        if (logger.isTraceEnabled()) {
+            logger.trace(currentMarker(), format, arguments);
+        }
     }
 
     @Override
     public void trace(String msg, Throwable t) {
-        logger.trace(currentMarker, msg, t);
+        if (logger.isTraceEnabled()) {
+            logger.trace(currentMarker(), msg, t);
+        }
     }
 
     @Override
@@ -104,7 +125,7 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public boolean isDebugEnabled() {
-        return logger.isDebugEnabled(currentMarker);
+        return logger.isDebugEnabled() && logger.isDebugEnabled(currentMarker());
     }
 
     @Override
@@ -114,27 +135,37 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public void debug(String msg) {
-        logger.debug(currentMarker, msg);
+        if (logger.isDebugEnabled()) {
+            logger.debug(currentMarker(), msg);
+        }
     }
 
     @Override
     public void debug(String format, Object arg) {
-        logger.debug(currentMarker, format, arg);
+        if (logger.isDebugEnabled()) {
+            logger.debug(currentMarker(), format, arg);
+        }
     }
 
     @Override
     public void debug(String format, Object arg1, Object arg2) {
-        logger.debug(currentMarker, format, arg1, arg2);
+        if (logger.isDebugEnabled()) {
+            logger.debug(currentMarker(), format, arg1, arg2);
+        }
     }
 
     @Override
     public void debug(String format, Object... arguments) {
-        logger.debug(currentMarker, format, arguments);
+        if (logger.isDebugEnabled()) {
+            logger.debug(currentMarker(), format, arguments);
+        }
     }
 
     @Override
     public void debug(String msg, Throwable t) {
-        logger.debug(currentMarker, msg, t);
+        if (logger.isDebugEnabled()) {
+            logger.debug(currentMarker(), msg, t);
+        }
     }
 
     @Override
@@ -164,7 +195,7 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public boolean isInfoEnabled() {
-        return logger.isInfoEnabled(currentMarker);
+        return logger.isInfoEnabled() && logger.isInfoEnabled(currentMarker());
     }
 
     @Override
@@ -174,27 +205,37 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public void info(String msg) {
-        logger.info(currentMarker, msg);
+        if (logger.isInfoEnabled()) {
+            logger.info(currentMarker(), msg);
+        }
     }
 
     @Override
     public void info(String format, Object arg) {
-        logger.info(currentMarker, format, arg);
+        if (logger.isInfoEnabled()) {
+            logger.info(currentMarker(), format, arg);
+        }
     }
 
     @Override
     public void info(String format, Object arg1, Object arg2) {
-        logger.info(currentMarker, format, arg1, arg2);
+        if (logger.isInfoEnabled()) {
+            logger.info(currentMarker(), format, arg1, arg2);
+        }
     }
 
     @Override
     public void info(String format, Object... arguments) {
-        logger.info(currentMarker, format, arguments);
+        if (logger.isInfoEnabled()) {
+            logger.info(currentMarker(), format, arguments);
+        }
     }
 
     @Override
     public void info(String msg, Throwable t) {
-        logger.info(currentMarker, msg, t);
+        if (logger.isInfoEnabled()) {
+            logger.info(currentMarker(), msg, t);
+        }
     }
 
     @Override
@@ -224,7 +265,7 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public boolean isWarnEnabled() {
-        return logger.isWarnEnabled(currentMarker);
+        return logger.isWarnEnabled() && logger.isWarnEnabled(currentMarker());
     }
 
     @Override
@@ -234,27 +275,37 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public void warn(String msg) {
-        logger.warn(currentMarker, msg);
+        if (logger.isWarnEnabled()) {
+            logger.warn(currentMarker(), msg);
+        }
     }
 
     @Override
     public void warn(String format, Object arg) {
-        logger.warn(currentMarker, format, arg);
+        if (logger.isWarnEnabled()) {
+            logger.warn(currentMarker(), format, arg);
+        }
     }
 
     @Override
     public void warn(String format, Object arg1, Object arg2) {
-        logger.warn(currentMarker, format, arg1, arg2);
+        if (logger.isWarnEnabled()) {
+            logger.warn(currentMarker(), format, arg1, arg2);
+        }
     }
 
     @Override
     public void warn(String format, Object... arguments) {
-        logger.warn(currentMarker, format, arguments);
+        if (logger.isWarnEnabled()) {
+            logger.warn(currentMarker(), format, arguments);
+        }
     }
 
     @Override
     public void warn(String msg, Throwable t) {
-        logger.warn(currentMarker, msg, t);
+        if (logger.isWarnEnabled()) {
+            logger.warn(currentMarker(), msg, t);
+        }
 
     }
 
@@ -285,7 +336,7 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public boolean isErrorEnabled() {
-        return logger.isErrorEnabled(currentMarker);
+        return logger.isErrorEnabled() && logger.isErrorEnabled(currentMarker());
     }
 
     @Override
@@ -295,27 +346,37 @@ public class LoggingFacadeImpl implements LoggingFacade {
 
     @Override
     public void error(String msg) {
-        logger.error(currentMarker, msg);
+        if (logger.isErrorEnabled()) {
+            logger.error(currentMarker(), msg);
+        }
     }
 
     @Override
     public void error(String format, Object arg) {
-        logger.error(currentMarker, format, arg);
+        if (logger.isErrorEnabled()) {
+            logger.error(currentMarker(), format, arg);
+        }
     }
 
     @Override
     public void error(String format, Object arg1, Object arg2) {
-        logger.error(currentMarker, format, arg1, arg2);
+        if (logger.isErrorEnabled()) {
+            logger.error(currentMarker(), format, arg1, arg2);
+        }
     }
 
     @Override
     public void error(String format, Object... arguments) {
-        logger.error(currentMarker, format, arguments);
+        if (logger.isErrorEnabled()) {
+            logger.error(currentMarker(), format, arguments);
+        }
     }
 
     @Override
     public void error(String msg, Throwable t) {
-        logger.error(currentMarker, msg, t);
+        if (logger.isErrorEnabled()) {
+            logger.error(currentMarker(), msg, t);
+        }
     }
 
     @Override
@@ -342,4 +403,28 @@ public class LoggingFacadeImpl implements LoggingFacade {
     public void error(Marker marker, String msg, Throwable t) {
         throw UNSUPPORTED_OPERATION_EXCEPTION;
     }
+
+    /**
+     * The correlation id of a thread and its marker. Changing the correlation id only stores the id, the marker is
+     * created when a message is logged, after the log level was checked. The last marker is reused as long as the
+     * correlation id does not change, thus correlating multiple log messages with the same id does not allocate.
+     */
+    private static final class Correlation {
+        private String correlationId;
+
+        private Marker marker;
+
+        void set(String correlationId) {
+            this.correlationId = Strings.emptyToNull(correlationId);
+        }
+
+        Marker marker() {
+            if (correlationId == null) {
+                return DEFAULT_MARKER;
+            } else if (marker == null || !correlationId.equals(marker.getName())) {
+                marker = MarkerFactory.getDetachedMarker(correlationId);
+            }
+            return marker;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package io.neonbee.config;
 
 import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.config.NeonBeeConfig.DEFAULT_ENTITY_WIRE_FORMAT_VERSION;
 import static io.neonbee.config.NeonBeeConfig.DEFAULT_EVENT_BUS_TIMEOUT;
 import static io.neonbee.config.NeonBeeConfig.DEFAULT_TIME_ZONE;
 import static io.neonbee.config.NeonBeeConfig.DEFAULT_TRACKING_DATA_HANDLING_STRATEGY;
@@ -50,7 +51,7 @@ class NeonBeeConfigTest extends NeonBeeTestBase {
             new NeonBeeConfig().setEventBusTimeout(DUMMY_EVENT_BUS_TIMEOUT)
                     .setTrackingDataHandlingStrategy(DUMMY_TRACKING_DATA_HANDLING_STRATEGY).setTimeZone(DUMMY_TIME_ZONE)
                     .setEventBusCodecs(DUMMY_EVENT_BUS_CODECS).setPlatformClasses(DUMMY_PLATFORM_CLASSES)
-                    .setMicrometerRegistries(DUMMY_MICROMETER_REGISTRIES);
+                    .setMicrometerRegistries(DUMMY_MICROMETER_REGISTRIES).setBinaryContextEncoding(true);
 
     @Override
     protected WorkingDirectoryBuilder provideWorkingDirectoryBuilder(TestInfo testInfo, VertxTestContext testContext) {
@@ -216,6 +217,8 @@ class NeonBeeConfigTest extends NeonBeeTestBase {
         assertThat(defaultConfig.getTrackingDataHandlingStrategy()).isEqualTo(DEFAULT_TRACKING_DATA_HANDLING_STRATEGY);
         assertThat(defaultConfig.getTimeZone()).isEqualTo(DEFAULT_TIME_ZONE);
         assertThat(defaultConfig.getEventBusCodecs()).isEmpty();
+        assertThat(defaultConfig.getEntityWireFormatVersion()).isEqualTo(DEFAULT_ENTITY_WIRE_FORMAT_VERSION);
+        assertThat(defaultConfig.isBinaryContextEncoding()).isFalse();
         assertThat(defaultConfig.getPlatformClasses()).containsExactly("io.vertx.*", "io.neonbee.*", "org.slf4j.*",
                 "org.apache.olingo.*");
         assertThat(defaultConfig.getHealthConfig().isEnabled()).isTrue();
@@ -235,6 +238,7 @@ class NeonBeeConfigTest extends NeonBeeTestBase {
         assertThat(nbc.getEventBusCodecs()).isEqualTo(DUMMY_EVENT_BUS_CODECS);
         assertThat(nbc.getPlatformClasses()).isEqualTo(DUMMY_PLATFORM_CLASSES);
         assertThat(nbc.getMicrometerRegistries()).isEqualTo(DUMMY_MICROMETER_REGISTRIES);
+        assertThat(nbc.isBinaryContextEncoding()).isTrue();
     }
 
     public static class TestMicrometerRegistryLoaderImpl implements MicrometerRegistryLoader {
@@ -2,10 +2,16 @@ package io.neonbee.data;
 
 import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.NeonBeeProfile.NO_WEB;
+import static io.neonbee.data.DataRequest.ResolutionStrategy.OPTIMIZED;
+import static io.neonbee.data.DataRequest.ResolutionStrategy.RECURSIVE;
 import static io.vertx.core.Future.succeededFuture;
 import static java.lang.Boolean.parseBoolean;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +25,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import io.neonbee.NeonBeeDeployable;
 import io.neonbee.NeonBeeOptions;
 import io.neonbee.config.MetricsConfig;
+import io.neonbee.data.internal.DataContextImpl;
 import io.neonbee.data.internal.metrics.ConfiguredDataVerticleMetrics;
 import io.neonbee.test.base.DataVerticleTestBase;
 import io.vertx.core.Future;
@@ -125,6 +132,29 @@ class DataVerticleTest extends DataVerticleTestBase {
         assertThat(DataVerticle.createQualifiedName("nameSpace", "verticle")).isEqualTo("namespace/verticle");
     }
 
+    @Test
+    @DisplayName("Check that the optimized resolution strategy requests identical data only once per request tree")
+    void optimizedResolutionStrategyTest(VertxTestContext testContext) {
+        AtomicInteger leafInvocations = new AtomicInteger();
+        DataContext context = new DataContextImpl("correlationId", null);
+
+        deployVerticle(new LeafDataVerticle(leafInvocations))
+                .compose(v -> deployVerticle(new RequiringDataVerticle("Intermediate1", LeafDataVerticle.NAME)))
+                .compose(v -> deployVerticle(new RequiringDataVerticle("Intermediate2", LeafDataVerticle.NAME)))
+                .compose(v -> deployVerticle(new RequiringDataVerticle("Root", "Intermediate1", "Intermediate2")))
+                .compose(v -> requestData(new DataRequest("Root").setResolutionStrategy(OPTIMIZED), context))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(result).isEqualTo("Root[Intermediate1[Leaf], Intermediate2[Leaf]]");
+                    assertThat(leafInvocations.get()).isEqualTo(1);
+                })))
+                .compose(v -> requestData(new DataRequest("Root").setResolutionStrategy(RECURSIVE), context))
+                .onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+                    assertThat(result).isEqualTo("Root[Intermediate1[Leaf], Intermediate2[Leaf]]");
+                    assertThat(leafInvocations.get()).isEqualTo(3);
+                    testContext.completeNow();
+                })));
+    }
+
     /**
      * Eunum for the testMetricsConfiguration test method.
      */
@@ -252,6 +282,55 @@ class DataVerticleTest extends DataVerticleTestBase {
         }
     }
 
+    private static class LeafDataVerticle extends DataVerticle<String> {
+        public static final String NAME = "Leaf";
+
+        private final AtomicInteger invocations;
+
+        LeafDataVerticle(AtomicInteger invocations) {
+            super();
+            this.invocations = invocations;
+        }
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            invocations.incrementAndGet();
+            return succeededFuture(NAME);
+        }
+    }
+
+    private static class RequiringDataVerticle extends DataVerticle<String> {
+        private final String name;
+
+        private final List<String> requiredNames;
+
+        RequiringDataVerticle(String name, String... requiredNames) {
+            super();
+            this.name = name;
+            this.requiredNames = List.of(requiredNames);
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Future<Collection<DataRequest>> requireData(DataQuery query, DataContext context) {
+            return succeededFuture(requiredNames.stream().map(DataRequest::new).collect(Collectors.toList()));
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            return succeededFuture(name + require.results());
+        }
+    }
+
     private static class DataVerticleMetricConfig extends DataVerticle<String> {
 
         private final JsonObject config;
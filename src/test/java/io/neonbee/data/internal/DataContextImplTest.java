@@ -359,6 +359,62 @@ class DataContextImplTest {
         assertThat(dataContext.data()).isEmpty();
     }
 
+    @Test
+    @DisplayName("test peeking the correlation id of an encoded context")
+    void testPeekCorrelationId() {
+        assertThat(DataContextImpl.peekCorrelationId(null)).isNull();
+        assertThat(DataContextImpl.peekCorrelationId(DataContextImpl.encodeContextToString(context)))
+                .isEqualTo("correlationId");
+        assertThat(DataContextImpl.peekCorrelationId(DataContextImpl.encodeContextToBinaryString(context)))
+                .isEqualTo("correlationId");
+        assertThat(DataContextImpl.peekCorrelationId(
+                DataContextImpl.encodeContextToBinaryString(new DataContextImpl("\u00e4bc", null, null))))
+                .isEqualTo("\u00e4bc");
+        assertThat(DataContextImpl.peekCorrelationId(
+                DataContextImpl.encodeContextToBinaryString(new DataContextImpl()))).isNull();
+        assertThat(DataContextImpl.peekCorrelationId(
+                DataContextImpl.encodeContextToString(new DataContextImpl()))).isNull();
+        assertThat(DataContextImpl.peekCorrelationId(
+                "{\"data\":{\"correlationId\":\"nested\"},\"path\":[{}],\"correlationId\":\"last\"}"))
+                        .isEqualTo("last");
+        assertThat(DataContextImpl.peekCorrelationId("{\"sessionId\":\"sessionId\"}")).isNull();
+    }
+
+    @Test
+    @DisplayName("test binary encoding / decoding context")
+    void testBinaryEncodeDecode() {
+        context.pushVerticleToPath("Data1Verticle");
+        context.amendTopVerticleCoordinate("deploymentId1");
+        context.pushVerticleToPath("Data2Verticle");
+        context.put("data1", "data1").put("dataArray", new JsonArray().add(0));
+        context.mergeResponseData(Map.of("responseData1", "data1"));
+
+        String contextString = DataContextImpl.encodeContextToBinaryString(context);
+        assertThat(contextString.length()).isLessThan(DataContextImpl.encodeContextToString(context).length());
+
+        DataContext dataContext = DataContextImpl.decodeContextFromString(contextString);
+        assertThat(dataContext.correlationId()).isEqualTo("correlationId");
+        assertThat(dataContext.sessionId()).isEqualTo("sessionId");
+        assertThat(dataContext.bearerToken()).isEqualTo("bearerToken");
+        assertThat(dataContext.userPrincipal()).isEqualTo(new JsonObject().put("username", "Duke"));
+        assertThat(new JsonObject(dataContext.data()))
+                .isEqualTo(new JsonObject().put("data1", "data1").put("dataArray", new JsonArray().add(0)));
+        assertThat(dataContext.responseData()).containsExactly("responseData1", "data1");
+        assertThat(dataContext.pathAsString()).isEqualTo(context.pathAsString());
+
+        dataContext = DataContextImpl.decodeContextFromString(contextString);
+        dataContext.setData(null);
+        assertThat(dataContext.data()).isEmpty();
+
+        assertThat(DataContextImpl.encodeContextToBinaryString(null)).isNull();
+        DataContext emptyContext = DataContextImpl.decodeContextFromString(
+                DataContextImpl.encodeContextToBinaryString(new DataContextImpl()));
+        assertThat(emptyContext.correlationId()).isNull();
+        assertThat(emptyContext.userPrincipal()).isNull();
+        assertThat(emptyContext.data()).isEmpty();
+        assertThat(emptyContext.responseData()).isEmpty();
+    }
+
     @Test
     @DisplayName("test encoding / decoding context")
     void testEncodeDecode() {
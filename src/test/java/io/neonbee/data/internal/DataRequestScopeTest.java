@@ -0,0 +1,160 @@
+package io.neonbee.data.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataRequest;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.VertxExtension;
+
+@ExtendWith(VertxExtension.class)
+class DataRequestScopeTest {
+    @Test
+    @DisplayName("Acquiring a scope for the same correlation ID returns the same scope")
+    void testAcquireSameScope(Vertx vertx) {
+        DataRequestScope scope = DataRequestScope.acquire(vertx, "correlation");
+        assertThat(DataRequestScope.acquire(vertx, "correlation")).isSameInstanceAs(scope);
+        assertThat(DataRequestScope.acquire(vertx, "other")).isNotSameInstanceAs(scope);
+    }
+
+    @Test
+    @DisplayName("A scope is discarded after the last reference was released")
+    void testRelease(Vertx vertx) {
+        DataRequestScope scope = DataRequestScope.acquire(vertx, "correlation");
+        DataRequestScope.acquire(vertx, "correlation");
+
+        scope.release();
+        assertThat(DataRequestScope.acquire(vertx, "correlation")).isSameInstanceAs(scope);
+
+        scope.release();
+        scope.release();
+        assertThat(DataRequestScope.acquire(vertx, "correlation")).isNotSameInstanceAs(scope);
+    }
+
+    @Test
+    @DisplayName("Identical data requests are only requested once")
+    void testRequestDataDeduplication(Vertx vertx) {
+        DataRequestScope scope = DataRequestScope.acquire(vertx, "correlation");
+        AtomicInteger requests = new AtomicInteger();
+
+        DataContext firstContext = new DataContextImpl();
+        Future<Object> first = scope.requestData(new DataRequest("namespace/Verticle", new DataQuery("path")),
+                firstContext, (request, context) -> {
+                    context.mergeResponseData(Map.of("key", "value"));
+                    return succeededFuture(requests.incrementAndGet());
+                });
+
+        DataContext secondContext = new DataContextImpl();
+        Future<Object> second = scope.requestData(new DataRequest("namespace/Verticle", new DataQuery("path")),
+                secondContext, (request, context) -> succeededFuture(requests.incrementAndGet()));
+
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(second.result()).isEqualTo(first.result());
+        assertThat(secondContext.responseData()).containsEntry("key", "value");
+        assertThat(scope.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Different data requests are requested individually")
+    void testRequestDataDifferentRequests(Vertx vertx) {
+        DataRequestScope scope = DataRequestScope.acquire(vertx, "correlation");
+        AtomicInteger requests = new AtomicInteger();
+
+        scope.requestData(new DataRequest("namespace/Verticle", new DataQuery("path")), new DataContextImpl(),
+                (request, context) -> succeededFuture(requests.incrementAndGet()));
+        scope.requestData(new DataRequest("namespace/Verticle", new DataQuery("other")), new DataContextImpl(),
+                (request, context) -> succeededFuture(requests.incrementAndGet()));
+        scope.requestData(new DataRequest("namespace/Verticle", new DataQuery("path")).setLocalOnly(true),
+                new DataContextImpl(), (request, context) -> succeededFuture(requests.incrementAndGet()));
+
+        assertThat(requests.get()).isEqualTo(3);
+        assertThat(scope.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Data requests with different context data are requested individually")
+    void testRequestDataDifferentContextData(Vertx vertx) {
+        DataRequestScope scope = DataRequestScope.acquire(vertx, "correlation");
+        AtomicInteger requests = new AtomicInteger();
+
+        scope.requestData(new DataRequest("namespace/Verticle", new DataQuery("path")),
+                new DataContextImpl().put("key", "value"),
+                (request, context) -> succeededFuture(requests.incrementAndGet()));
+        scope.requestData(new DataRequest("namespace/Verticle", new DataQuery("path")),
+                new DataContextImpl().put("key", "other"),
+                (request, context) -> succeededFuture(requests.incrementAndGet()));
+        scope.requestData(new DataRequest("namespace/Verticle", new DataQuery("path")),
+                new DataContextImpl().put("key", "value"),
+                (request, context) -> succeededFuture(requests.incrementAndGet()));
+
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(scope.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Data requests of different users with the same correlation ID are requested individually")
+    void testRequestDataDifferentUsers(Vertx vertx) {
+        DataRequestScope scope = DataRequestScope.acquire(vertx, "correlation");
+        AtomicInteger requests = new AtomicInteger();
+
+        Future<Object> first = scope.requestData(new DataRequest("namespace/Verticle", new DataQuery("path")),
+                new DataContextImpl("correlation", "token1", new JsonObject().put("user", "first"), null),
+                (request, context) -> succeededFuture("first"));
+        Future<Object> second = scope.requestData(new DataRequest("namespace/Verticle", new DataQuery("path")),
+                new DataContextImpl("correlation", "token2", new JsonObject().put("user", "second"), null),
+                (request, context) -> succeededFuture("second"));
+        scope.requestData(new DataRequest("namespace/Verticle", new DataQuery("path")),
+                new DataContextImpl("correlation", "token1", new JsonObject().put("user", "second"), null),
+                (request, context) -> succeededFuture(requests.incrementAndGet()));
+
+        assertThat(first.result()).isEqualTo("first");
+        assertThat(second.result()).isEqualTo("second");
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(scope.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Identical data requests must not share the data of their contexts")
+    void testRequestDataCopiesData(Vertx vertx) {
+        DataRequestScope scope = DataRequestScope.acquire(vertx, "correlation");
+
+        DataContext firstContext = new DataContextImpl();
+        scope.requestData(new DataRequest("namespace/Verticle", new DataQuery("path")), firstContext,
+                (request, context) -> {
+                    context.put("key", "value");
+                    return succeededFuture(1);
+                });
+
+        DataContext secondContext = new DataContextImpl();
+        scope.requestData(new DataRequest("namespace/Verticle", new DataQuery("path")), secondContext,
+                (request, context) -> succeededFuture(2));
+
+        assertThat(secondContext.<String>get("key")).isEqualTo("value");
+        secondContext.put("key", "other");
+        assertThat(firstContext.<String>get("key")).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("A requestor throwing an exception fails the request")
+    void testRequestDataThrows(Vertx vertx) {
+        DataRequestScope scope = DataRequestScope.acquire(vertx, "correlation");
+        Future<Object> future = scope.requestData(new DataRequest("namespace/Verticle"), new DataContextImpl(),
+                (request, context) -> {
+                    throw new IllegalStateException("failed");
+                });
+
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -154,6 +154,35 @@ class ConfiguredDataVerticleMetricsTest {
         }
     }
 
+    @Test
+    @DisplayName("Test config with bounded tags, all metrics should be reported")
+    void boundedTagsEnabled() {
+        JsonObject config = new JsonObject().put(ConfiguredDataVerticleMetrics.ENABLED, true)
+                .put(ConfiguredDataVerticleMetrics.BOUNDED_TAGS, true)
+                .put(ConfiguredDataVerticleMetrics.QUERY_SHAPE, true).put(ConfiguredDataVerticleMetrics.MAX_METERS, 10);
+
+        MeterRegistry mockRegistry = mock(MeterRegistry.class);
+        try (MockedStatic<BackendRegistries> registry = mockStatic(BackendRegistries.class)) {
+            registry.when(() -> BackendRegistries.getNow(anyString())).thenReturn(mockRegistry);
+
+            DataVerticleMetrics instance = ConfiguredDataVerticleMetrics.configureMetricsReporting(neonBee, config);
+            assertThat(instance).isInstanceOf(DataVerticleMetricsImpl.class);
+            assertThat(ConfiguredDataVerticleMetrics.isBoundedTags(config)).isTrue();
+            assertThat(ConfiguredDataVerticleMetrics.isReportQueryShape(config)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Test query shape")
+    void queryShape() {
+        assertThat(ConfiguredDataVerticleMetrics.queryShape(null)).isEmpty();
+        assertThat(ConfiguredDataVerticleMetrics.queryShape("")).isEmpty();
+        assertThat(ConfiguredDataVerticleMetrics.queryShape("$top=10")).isEqualTo("$top");
+        assertThat(ConfiguredDataVerticleMetrics.queryShape("$filter=ID eq 1&$top=10&$count"))
+                .isEqualTo("$filter&$top&$count");
+        assertThat(ConfiguredDataVerticleMetrics.queryShape("&a=1&&b=")).isEqualTo("a&b");
+    }
+
     @Test
     @DisplayName("Test invocations")
     void invocations() {
@@ -1,19 +1,33 @@
 package io.neonbee.data.internal.metrics;
 
 import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.data.internal.metrics.DataVerticleMetricsImpl.OVERFLOW_TAG_VALUE;
 import static io.vertx.core.http.HttpMethod.GET;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.parallel.Isolated;
 
+import io.micrometer.core.instrument.ImmutableTag;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.neonbee.NeonBeeDeployable;
 import io.neonbee.config.NeonBeeConfig;
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataMap;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.DataRequest;
 import io.neonbee.data.DataVerticle;
 import io.neonbee.test.base.DataVerticleTestBase;
 import io.neonbee.test.helper.WorkingDirectoryBuilder;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.VertxTestContext;
 
@@ -85,4 +99,121 @@ class DataVerticleMetricsImplTest extends DataVerticleTestBase {
                     testContext.completeNow();
                 }));
     }
+
+    @Test
+    void testBoundedTagsWithAndWithoutNamespace(VertxTestContext testContext) {
+        DeploymentOptions deploymentOptions = new DeploymentOptions().setConfig(new JsonObject().put(
+                DataVerticle.CONFIG_METRICS_KEY, new JsonObject().put(ConfiguredDataVerticleMetrics.ENABLED, true)
+                        .put(ConfiguredDataVerticleMetrics.BOUNDED_TAGS, true)));
+
+        CompositeFuture
+                .all(deployVerticle(new NamespacedDataVerticle(), deploymentOptions),
+                        deployVerticle(new NonNamespacedDataVerticle(), deploymentOptions))
+                .compose(v -> CompositeFuture.all(requestData(new DataRequest(NamespacedDataVerticle.QUALIFIED_NAME)),
+                        requestData(new DataRequest(NonNamespacedDataVerticle.NAME))))
+                .compose(v -> createRequest(GET, "/metrics").send()).onFailure(testContext::failNow)
+                .onSuccess(resp -> testContext.verify(() -> {
+                    assertThat(resp.statusCode()).isEqualTo(200);
+                    assertThat(resp.bodyAsString()).contains(
+                            "retrieve_counter_total{name=\"NamespacedDataVerticle\",namespace=\"bounded\",} 1.0");
+                    assertThat(resp.bodyAsString()).contains(
+                            "retrieve_counter_total{name=\"NonNamespacedDataVerticle\",namespace=\"\",} 1.0");
+                    testContext.completeNow();
+                }));
+    }
+
+    @Test
+    void testMetersAreCachedAndBounded() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DataVerticleMetricsImpl metrics = new DataVerticleMetricsImpl(registry, 2);
+
+        metrics.reportNumberOfRequests("request.counter", "", List.of(new ImmutableTag("qualifiedName", "a")));
+        metrics.reportNumberOfRequests("request.counter", "", List.of(new ImmutableTag("qualifiedName", "a")));
+        metrics.reportNumberOfRequests("request.counter", "", List.of(new ImmutableTag("qualifiedName", "b")));
+        metrics.reportNumberOfRequests("request.counter", "", List.of(new ImmutableTag("qualifiedName", "c")));
+        metrics.reportActiveRequestsGauge("request.active", "", List.of(), Future.succeededFuture());
+        assertThat(metrics.meters).hasSize(4);
+
+        assertThat(registry.get("request.counter").tag("qualifiedName", "a").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("request.counter").tag("qualifiedName", "b").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("request.counter").tag("qualifiedName", OVERFLOW_TAG_VALUE).counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.find("request.counter").tag("qualifiedName", "c").counter()).isNull();
+        assertThat(registry.get("request.active").gauge().value()).isEqualTo(0.0);
+    }
+
+    @Test
+    void testOverflowMetersKeepTagKeys() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DataVerticleMetricsImpl metrics = new DataVerticleMetricsImpl(registry, 1);
+
+        metrics.reportStatusCounter("request.data.counter", "", List.of(new ImmutableTag("qualifiedName", "a")),
+                Future.succeededFuture());
+        metrics.reportStatusCounter("request.data.counter", "", List.of(new ImmutableTag("qualifiedName", "b")),
+                Future.succeededFuture());
+        metrics.reportStatusCounter("request.data.counter", "", List.of(new ImmutableTag("qualifiedName", "c")),
+                Future.failedFuture("failed"));
+
+        assertThat(registry.get("request.data.counter").tag("qualifiedName", "a").tag("succeeded", "true").counter()
+                .count()).isEqualTo(1.0);
+        assertThat(registry.get("request.data.counter").tag("qualifiedName", OVERFLOW_TAG_VALUE)
+                .tag("succeeded", "true").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("request.data.counter").tag("qualifiedName", OVERFLOW_TAG_VALUE)
+                .tag("succeeded", "false").counter().count()).isEqualTo(1.0);
+        registry.get("request.data.counter").counters()
+                .forEach(counter -> assertThat(counter.getId().getTags().stream().map(Tag::getKey)
+                        .collect(Collectors.toList())).containsExactly("qualifiedName", "succeeded"));
+    }
+
+    @Test
+    void testActiveRequestsGaugeIsShared() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Promise<Void> firstPromise = Promise.promise();
+        Promise<Void> secondPromise = Promise.promise();
+        List<Tag> tags = List.of(new ImmutableTag("qualifiedName", "a"));
+
+        new DataVerticleMetricsImpl(registry).reportActiveRequestsGauge("request.active", "", tags,
+                firstPromise.future());
+        new DataVerticleMetricsImpl(registry).reportActiveRequestsGauge("request.active", "", tags,
+                secondPromise.future());
+        assertThat(registry.get("request.active").gauge().value()).isEqualTo(2.0);
+
+        secondPromise.complete();
+        assertThat(registry.get("request.active").gauge().value()).isEqualTo(1.0);
+        firstPromise.complete();
+        assertThat(registry.get("request.active").gauge().value()).isEqualTo(0.0);
+    }
+
+    @NeonBeeDeployable(namespace = NamespacedDataVerticle.NAMESPACE)
+    public static class NamespacedDataVerticle extends DataVerticle<String> {
+        static final String NAMESPACE = "bounded";
+
+        static final String NAME = NamespacedDataVerticle.class.getSimpleName();
+
+        static final String QUALIFIED_NAME = createQualifiedName(NAMESPACE, NAME);
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            return Future.succeededFuture(NAME);
+        }
+    }
+
+    public static class NonNamespacedDataVerticle extends DataVerticle<String> {
+        static final String NAME = NonNamespacedDataVerticle.class.getSimpleName();
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public Future<String> retrieveData(DataQuery query, DataMap require, DataContext context) {
+            return Future.succeededFuture(NAME);
+        }
+    }
 }
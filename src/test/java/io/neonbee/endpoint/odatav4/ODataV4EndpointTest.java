@@ -1,25 +1,37 @@
 package io.neonbee.endpoint.odatav4;
 
 import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.CONFIG_BATCH_MERGING;
+import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.CONFIG_MAX_PAGE_SIZE;
 import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.CONFIG_URI_CONVERSION;
 import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.UriConversion.CDS;
 import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.UriConversion.LOOSE;
 import static io.neonbee.endpoint.odatav4.ODataV4Endpoint.UriConversion.STRICT;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_MAX_PAGE_SIZE_HEADER;
 import static io.neonbee.internal.helper.CollectionHelper.multiMapToMap;
 import static io.neonbee.internal.helper.StringHelper.EMPTY;
 import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static io.vertx.core.CompositeFuture.all;
+import static java.net.HttpURLConnection.HTTP_ACCEPTED;
 import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_NOT_IMPLEMENTED;
 
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,15 +50,19 @@ import io.neonbee.endpoint.odatav4.ODataV4Endpoint.UriConversion;
 import io.neonbee.entity.EntityVerticle;
 import io.neonbee.entity.EntityWrapper;
 import io.neonbee.internal.verticle.ServerVerticle;
+import io.neonbee.test.base.ODataBatchRequest;
 import io.neonbee.test.base.ODataEndpointTestBase;
 import io.neonbee.test.base.ODataMetadataRequest;
 import io.neonbee.test.base.ODataRequest;
+import io.neonbee.test.helper.MultipartResponse;
 import io.neonbee.test.helper.WorkingDirectoryBuilder;
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
 import io.vertx.core.Verticle;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.junit5.VertxTestContext;
@@ -73,9 +89,17 @@ class ODataV4EndpointTest extends ODataEndpointTestBase {
                 uriConversion = CDS;
             }
 
+            JsonObject additionalConfig = new JsonObject().put(CONFIG_URI_CONVERSION, uriConversion.toString());
+            if (testMethodName.contains("Paging")) {
+                additionalConfig.put(CONFIG_MAX_PAGE_SIZE, 2);
+            }
+            if (testMethodName.contains("BatchMerging")) {
+                additionalConfig.put(CONFIG_BATCH_MERGING, true);
+            }
+
             DeploymentOptions opts = WorkingDirectoryBuilder.readDeploymentOptions(ServerVerticle.class, root);
             EndpointConfig epc = new EndpointConfig().setType(ODataV4Endpoint.class.getName())
-                    .setAdditionalConfig(new JsonObject().put(CONFIG_URI_CONVERSION, uriConversion.toString()));
+                    .setAdditionalConfig(additionalConfig);
             ServerConfig sc = new ServerConfig(opts.getConfig()).setEndpointConfigs(List.of(epc));
             opts.setConfig(sc.toJson());
             WorkingDirectoryBuilder.writeDeploymentOptions(ServerVerticle.class, opts, root);
@@ -216,6 +240,181 @@ class ODataV4EndpointTest extends ODataEndpointTestBase {
                 .onComplete(testContext.succeeding(result -> testContext.verify(() -> testContext.completeNow())));
     }
 
+    @Test
+    @DisplayName("Entity collections must be paged with the configured max page size")
+    void testPaging(VertxTestContext testContext) {
+        EntityVerticle dummy = createDummyEntityVerticle(TEST_USERS).withDynamicResponse((dataQuery, dataContext) -> {
+            testContext.verify(() -> assertThat(dataQuery.getHeader(ODATA_MAX_PAGE_SIZE_HEADER)).isEqualTo("2"));
+            return new EntityWrapper(TEST_USERS, List.of(testUser("1"), testUser("2"), testUser("3")));
+        });
+
+        deployVerticle(dummy).compose(v -> requestOData(new ODataRequest(TEST_USERS))).compose(response -> {
+            JsonObject body = response.bodyAsJsonObject();
+            String nextLink = body.getString("@odata.nextLink");
+            testContext.verify(() -> {
+                assertThat(body.getJsonArray("value").size()).isEqualTo(2);
+                assertThat(nextLink).startsWith("TestUsers?$skiptoken=");
+            });
+            return requestOData(new ODataRequest(TEST_USERS).addQueryParam("$skiptoken",
+                    nextLink.substring(nextLink.indexOf('=') + 1)));
+        }).onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+            JsonObject body = response.bodyAsJsonObject();
+            assertThat(body.getJsonArray("value").size()).isEqualTo(1);
+            assertThat(body.getJsonArray("value").getJsonObject(0).getString("ID")).isEqualTo("3");
+            assertThat(body.containsKey("@odata.nextLink")).isFalse();
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    @DisplayName("Skip tokens with an offset beyond the last page must return an empty page")
+    void testPagingLargeSkipToken(VertxTestContext testContext) {
+        EntityVerticle dummy = createDummyEntityVerticle(TEST_USERS)
+                .withStaticResponse(List.of(testUser("1"), testUser("2"), testUser("3")));
+
+        String skipToken = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Integer.toString(Integer.MAX_VALUE).getBytes(StandardCharsets.UTF_8));
+        deployVerticle(dummy)
+                .compose(v -> requestOData(new ODataRequest(TEST_USERS).addQueryParam("$skiptoken", skipToken)))
+                .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    assertThat(response.statusCode()).isEqualTo(200);
+                    JsonObject body = response.bodyAsJsonObject();
+                    assertThat(body.getJsonArray("value")).isEmpty();
+                    assertThat(body.containsKey("@odata.nextLink")).isFalse();
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @DisplayName("Reads of single entities in a batch request must be merged into one request")
+    void testBatchMerging(VertxTestContext testContext) {
+        AtomicInteger requestCount = new AtomicInteger();
+        EntityVerticle dummy = createDummyEntityVerticle(TEST_USERS).withDynamicResponse((dataQuery, dataContext) -> {
+            requestCount.incrementAndGet();
+            testContext.verify(() -> {
+                assertThat(dataQuery.getUriPath()).isEqualTo("/Service/TestUsers");
+                assertThat(dataQuery.getParameter("$filter")).isEqualTo("(ID eq '1') or (ID eq '3') or (ID eq '4')");
+            });
+            return new EntityWrapper(TEST_USERS, List.of(testUser("1"), testUser("2"), testUser("3")));
+        });
+
+        ODataBatchRequest batchRequest = new ODataBatchRequest(TEST_USERS).addRequests(
+                new ODataRequest(TEST_USERS).setKey("1"), new ODataRequest(TEST_USERS).setKey("3"),
+                new ODataRequest(TEST_USERS).setKey("4"));
+
+        deployVerticle(dummy).onComplete(testContext.succeeding(v -> assertODataBatch(requestOData(batchRequest),
+                multipartResponse -> {
+                    List<MultipartResponse.Part> parts = multipartResponse.getParts();
+                    assertThat(parts).hasSize(3);
+                    assertThat(parts.get(0).getBody().toJsonObject().getString("ID")).isEqualTo("1");
+                    assertThat(parts.get(1).getBody().toJsonObject().getString("ID")).isEqualTo("3");
+                    assertThat(parts.get(2).getStatusCode()).isEqualTo(HTTP_NOT_FOUND);
+                    assertThat(requestCount.get()).isEqualTo(1);
+                    testContext.completeNow();
+                }, testContext)));
+    }
+
+    @Test
+    @DisplayName("Reads in a batch request, which are separated by a change set, must not be merged")
+    void testBatchMergingWithChangeSet(VertxTestContext testContext) {
+        List<String> requests = new CopyOnWriteArrayList<>();
+        EntityVerticle dummy = createDummyEntityVerticle(TEST_USERS).withDataAdapter(new DataAdapter<>() {
+            @Override
+            public Future<EntityWrapper> retrieveData(DataQuery query, DataContext context) {
+                requests.add("READ " + query.getParameter("$filter"));
+                return Future.succeededFuture(
+                        new EntityWrapper(TEST_USERS, List.of(testUser("1"), testUser("2"), testUser("3"))));
+            }
+
+            @Override
+            public Future<EntityWrapper> deleteData(DataQuery query, DataContext context) {
+                requests.add("DELETE");
+                return Future.succeededFuture(new EntityWrapper(TEST_USERS, List.of()));
+            }
+        });
+
+        ODataBatchRequest batchRequest = new ODataBatchRequest(TEST_USERS)
+                .addRequests(new ODataRequest(TEST_USERS).setKey("1"), new ODataRequest(TEST_USERS).setKey("2"))
+                .addChangeSet(new ODataRequest(TEST_USERS).setMethod(HttpMethod.DELETE).setKey("2"))
+                .addRequests(new ODataRequest(TEST_USERS).setKey("3"), new ODataRequest(TEST_USERS).setKey("1"));
+
+        deployVerticle(dummy).compose(v -> requestOData(batchRequest))
+                .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+                    assertThat(response.statusCode()).isEqualTo(HTTP_ACCEPTED);
+                    // the reads before and after the change set must be sent in order with the change set
+                    assertThat(requests).containsExactly("READ (ID eq '1') or (ID eq '2')", "DELETE",
+                            "READ (ID eq '3') or (ID eq '1')").inOrder();
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @DisplayName("Reads of a failed merged request in a batch request must be sent one by one")
+    void testBatchMergingFallback(VertxTestContext testContext) {
+        List<String> filters = new CopyOnWriteArrayList<>();
+        EntityVerticle dummy = createDummyEntityVerticle(TEST_USERS).withDataAdapter(new DataAdapter<>() {
+            @Override
+            public Future<EntityWrapper> retrieveData(DataQuery query, DataContext context) {
+                String filter = query.getParameter("$filter");
+                filters.add(String.valueOf(filter));
+                return filter != null ? Future.failedFuture(new DataException(HTTP_NOT_IMPLEMENTED))
+                        : Future.succeededFuture(new EntityWrapper(TEST_USERS, List.of(testUser("1"), testUser("3"))));
+            }
+        });
+
+        ODataBatchRequest batchRequest = new ODataBatchRequest(TEST_USERS)
+                .addRequests(new ODataRequest(TEST_USERS).setKey("1"), new ODataRequest(TEST_USERS).setKey("3"));
+
+        deployVerticle(dummy).onComplete(testContext.succeeding(v -> assertODataBatch(requestOData(batchRequest),
+                multipartResponse -> {
+                    List<MultipartResponse.Part> parts = multipartResponse.getParts();
+                    assertThat(parts).hasSize(2);
+                    assertThat(parts.get(0).getBody().toJsonObject().getString("ID")).isEqualTo("1");
+                    assertThat(parts.get(1).getBody().toJsonObject().getString("ID")).isEqualTo("3");
+                    assertThat(filters).containsExactly("(ID eq '1') or (ID eq '3')", "null", "null");
+                    testContext.completeNow();
+                }, testContext)));
+    }
+
+    @Test
+    @DisplayName("A batch request with a failing part must only end after all parts were processed")
+    void testBatchFailingPart(VertxTestContext testContext) {
+        AtomicBoolean delayedPartProcessed = new AtomicBoolean();
+        EntityVerticle dummy = createDummyEntityVerticle(TEST_USERS).withDataAdapter(new DataAdapter<>() {
+            @Override
+            public Future<EntityWrapper> retrieveData(DataQuery query, DataContext context) {
+                if (query.getUriPath().endsWith("('1')")) {
+                    return Future.failedFuture(new DataException(HTTP_NOT_IMPLEMENTED));
+                }
+
+                Promise<EntityWrapper> promise = Promise.promise();
+                getNeonBee().getVertx().setTimer(200, timerId -> {
+                    delayedPartProcessed.set(true);
+                    promise.complete(new EntityWrapper(TEST_USERS, List.of(testUser("1"), testUser("2"))));
+                });
+                return promise.future();
+            }
+        });
+
+        ODataBatchRequest batchRequest = new ODataBatchRequest(TEST_USERS)
+                .addRequests(new ODataRequest(TEST_USERS).setKey("2"), new ODataRequest(TEST_USERS).setKey("1"));
+
+        // the pipeline processing the batch request must not process the next request, before all parts were processed
+        deployVerticle(dummy).compose(v -> requestOData(batchRequest)).compose(response -> {
+            testContext.verify(() -> assertThat(delayedPartProcessed.get()).isTrue());
+            return requestOData(new ODataRequest(TEST_USERS).setKey("2"));
+        }).onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.bodyAsJsonObject().getString("ID")).isEqualTo("2");
+            testContext.completeNow();
+        })));
+    }
+
+    private static Entity testUser(String id) {
+        return new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, id))
+                .addProperty(new Property(null, "name", ValueType.PRIMITIVE, "name" + id));
+    }
+
     private static void assertTS1Handler(Buffer body) {
         assertThat(body.toString()).contains("Namespace=\"io.neonbee.handler.TestService\"");
     }
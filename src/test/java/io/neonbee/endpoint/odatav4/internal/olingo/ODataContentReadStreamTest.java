@@ -0,0 +1,85 @@
+package io.neonbee.endpoint.odatav4.internal.olingo;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.internal.olingo.ODataContentReadStream.CHUNK_SIZE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.olingo.commons.api.ex.ODataRuntimeException;
+import org.apache.olingo.server.api.ODataContent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.stubbing.Answer;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+class ODataContentReadStreamTest {
+    private static ODataContent contentMock(byte[] data, Promise<Void> serialized) {
+        ODataContent odataContentMock = mock(ODataContent.class);
+        doAnswer((Answer<ODataContent>) invocation -> {
+            invocation.<OutputStream>getArgument(0).write(data);
+            serialized.complete();
+            return null;
+        }).when(odataContentMock).write(any(OutputStream.class));
+        return odataContentMock;
+    }
+
+    @Test
+    @DisplayName("Should serialize the content, even if the stream is not read")
+    void testSerializeWithoutDemand(Vertx vertx, VertxTestContext testContext) {
+        byte[] data = new byte[CHUNK_SIZE * 3];
+        Arrays.fill(data, (byte) 'a');
+        Promise<Void> serialized = Promise.promise();
+
+        vertx.runOnContext(nothing -> {
+            ODataContentReadStream stream = new ODataContentReadStream(vertx, contentMock(data, serialized));
+            stream.pause();
+
+            List<Buffer> chunks = new ArrayList<>();
+            stream.handler(chunks::add);
+            stream.endHandler(v -> testContext.verify(() -> {
+                Buffer content = Buffer.buffer();
+                chunks.forEach(content::appendBuffer);
+                assertThat(chunks).hasSize(3);
+                assertThat(content.getBytes()).isEqualTo(data);
+                testContext.completeNow();
+            }));
+
+            // the worker thread does not wait for the stream to be read, so the chunks are emitted on demand only
+            serialized.future().onComplete(testContext.succeeding(v -> vertx.setTimer(100, timerId -> {
+                testContext.verify(() -> assertThat(chunks).isEmpty());
+                stream.fetch(1);
+                testContext.verify(() -> assertThat(chunks).hasSize(1));
+                stream.resume();
+            })));
+        });
+    }
+
+    @Test
+    @DisplayName("Should fail the stream, in case the serialization fails")
+    void testSerializationFails(Vertx vertx, VertxTestContext testContext) {
+        ODataContent odataContentMock = mock(ODataContent.class);
+        doAnswer((Answer<ODataContent>) invocation -> {
+            throw new ODataRuntimeException("expected");
+        }).when(odataContentMock).write(any(OutputStream.class));
+
+        vertx.runOnContext(nothing -> new ODataContentReadStream(vertx, odataContentMock)
+                .endHandler(v -> testContext.failNow("the stream must not end"))
+                .exceptionHandler(throwable -> testContext.verify(() -> {
+                    assertThat(throwable).hasMessageThat().isEqualTo("expected");
+                    testContext.completeNow();
+                })).handler(chunk -> {}));
+    }
+}
@@ -3,6 +3,7 @@ package io.neonbee.endpoint.odatav4.internal.olingo;
 import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler.mapODataResponse;
 import static io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler.mapToODataRequest;
+import static io.neonbee.endpoint.odatav4.internal.olingo.OlingoEndpointHandler.streamODataResponse;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
@@ -18,6 +19,7 @@ import org.apache.olingo.server.api.ODataRequest;
 import org.apache.olingo.server.api.ODataResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.stubbing.Answer;
 
@@ -25,13 +27,20 @@ import com.google.common.base.Charsets;
 
 import io.neonbee.internal.handler.CorrelationIdHandler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RequestBody;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
 
+@ExtendWith(VertxExtension.class)
 class OlingoEndpointHandlerTest {
     @Test
     @DisplayName("map generic response")
@@ -73,6 +82,42 @@ class OlingoEndpointHandlerTest {
         assertThat(endBuffer.getValue().toString()).isEqualTo("expected data");
     }
 
+    @Test
+    @DisplayName("stream OData response")
+    void checkODataResponseStreaming(Vertx vertx, VertxTestContext testContext) throws Exception {
+        byte[] expectedData = "expected data".repeat(ODataContentReadStream.CHUNK_SIZE / 10)
+                .getBytes(Charsets.UTF_8);
+
+        ODataResponse odataResponse = new ODataResponse();
+        odataResponse.setStatusCode(200);
+        odataResponse.setHeader("expected1", "value1");
+        ODataContent odataContentMock = mock(ODataContent.class);
+        doAnswer((Answer<ODataContent>) invocation -> {
+            invocation.<OutputStream>getArgument(0).write(expectedData);
+            return null;
+        }).when(odataContentMock).write(any(OutputStream.class));
+        odataResponse.setODataContent(odataContentMock);
+
+        Checkpoint streamed = testContext.checkpoint(2);
+        vertx.createHttpServer()
+                .requestHandler(request -> streamODataResponse(vertx, odataResponse, request.response())
+                        .onComplete(testContext.succeeding(v -> streamed.flag())))
+                .listen(0).compose(server -> vertx.createHttpClient()
+                        .request(HttpMethod.GET, server.actualPort(), "localhost", "/").compose(HttpClientRequest::send)
+                        .compose(response -> {
+                            testContext.verify(() -> {
+                                assertThat(response.statusCode()).isEqualTo(200);
+                                assertThat(response.getHeader("expected1")).isEqualTo("value1");
+                                assertThat(response.getHeader(HttpHeaders.TRANSFER_ENCODING)).isEqualTo("chunked");
+                            });
+                            return response.body();
+                        }))
+                .onComplete(testContext.succeeding(body -> testContext.verify(() -> {
+                    assertThat(body.getBytes()).isEqualTo(expectedData);
+                    streamed.flag();
+                })));
+    }
+
     @Test
     @DisplayName("test mapToODataRequest")
     void testMapToODataRequest() throws Exception {
@@ -0,0 +1,92 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.expression;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_BOOLEAN;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_INT32;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_STRING;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmType;
+import org.apache.olingo.commons.core.edm.EdmPropertyImpl;
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.uri.UriInfoResource;
+import org.apache.olingo.server.api.uri.UriResourcePrimitiveProperty;
+import org.apache.olingo.server.api.uri.queryoption.expression.BinaryOperatorKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.api.uri.queryoption.expression.ExpressionVisitException;
+import org.apache.olingo.server.api.uri.queryoption.expression.UnaryOperatorKind;
+import org.apache.olingo.server.core.uri.queryoption.expression.BinaryImpl;
+import org.apache.olingo.server.core.uri.queryoption.expression.LiteralImpl;
+import org.apache.olingo.server.core.uri.queryoption.expression.MemberImpl;
+import org.apache.olingo.server.core.uri.queryoption.expression.UnaryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.endpoint.odatav4.internal.olingo.expression.FilterExpressionCompiler.CompiledFilter;
+import io.vertx.ext.web.RoutingContext;
+
+class FilterExpressionCompilerTest {
+    private final RoutingContext routingContext = mock(RoutingContext.class);
+
+    @Test
+    @DisplayName("A compiled filter must return the same result as the FilterExpressionVisitor")
+    void compiledFilterTest() throws ODataApplicationException, ExpressionVisitException {
+        // name eq 'Cheese' or not(ID lt 2)
+        Expression expression = new BinaryImpl(
+                new BinaryImpl(member("name", PRIMITIVE_STRING), BinaryOperatorKind.EQ,
+                        new LiteralImpl("'Cheese'", PRIMITIVE_STRING), PRIMITIVE_BOOLEAN),
+                BinaryOperatorKind.OR,
+                new UnaryImpl(UnaryOperatorKind.NOT, new BinaryImpl(member("ID", PRIMITIVE_INT32),
+                        BinaryOperatorKind.LT, new LiteralImpl("2", PRIMITIVE_INT32), PRIMITIVE_BOOLEAN),
+                        PRIMITIVE_BOOLEAN),
+                PRIMITIVE_BOOLEAN);
+
+        CompiledFilter filter = FilterExpressionCompiler.compile(routingContext, expression);
+        for (Entity entity : List.of(entity(1, "Cheese"), entity(1, "Steak"), entity(2, "Steak"),
+                entity(3, "Cheese"))) {
+            assertThat(filter.test(entity)).isEqualTo(Boolean.TRUE
+                    .equals(expression.accept(new FilterExpressionVisitor(routingContext, entity)).getValue()));
+        }
+        assertThat(filter.test(entity(1, "Cheese"))).isTrue();
+        assertThat(filter.test(entity(1, "Steak"))).isFalse();
+        assertThat(filter.test(entity(2, "Steak"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Unsupported operators must fall back to the FilterExpressionVisitor")
+    void unsupportedOperatorTest() {
+        // ID add 1
+        Expression expression = new BinaryImpl(member("ID", PRIMITIVE_INT32), BinaryOperatorKind.ADD,
+                new LiteralImpl("1", PRIMITIVE_INT32), PRIMITIVE_INT32);
+
+        CompiledFilter filter = FilterExpressionCompiler.compile(routingContext, expression);
+        assertThat(assertThrows(ODataApplicationException.class, () -> filter.test(entity(1, "Cheese")))
+                .getMessage()).isEqualTo("Not implemented");
+    }
+
+    private static MemberImpl member(String propertyName, EdmType propertyType) {
+        EdmPropertyImpl edmProperty = mock(EdmPropertyImpl.class);
+        when(edmProperty.getType()).thenReturn(propertyType);
+        when(edmProperty.getName()).thenReturn(propertyName);
+
+        UriResourcePrimitiveProperty uriResourcePrimitiveProperty = mock(UriResourcePrimitiveProperty.class);
+        when(uriResourcePrimitiveProperty.getProperty()).thenReturn(edmProperty);
+
+        UriInfoResource resourcePath = mock(UriInfoResource.class);
+        when(resourcePath.getUriResourceParts()).thenReturn(List.of(uriResourcePrimitiveProperty));
+
+        return new MemberImpl(resourcePath, null);
+    }
+
+    private static Entity entity(Integer id, String name) {
+        return new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, id))
+                .addProperty(new Property(null, "name", ValueType.PRIMITIVE, name));
+    }
+}
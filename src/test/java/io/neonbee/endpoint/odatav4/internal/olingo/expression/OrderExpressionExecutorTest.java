@@ -169,6 +169,50 @@ class OrderExpressionExecutorTest {
                 .containsExactlyElementsIn(expectedEntityListDesc).inOrder();
     }
 
+    @Test
+    @DisplayName("Ordering with a limit must return the first entities of the complete (stable) order")
+    void executeOrderOptionWithLimitTest() {
+        List<Entity> entityList = new ArrayList<>();
+        for (Integer value : Arrays.asList(5, null, 3, 1, 3, 4, null, 2, 1)) {
+            entityList.add(new Entity() //
+                    .addProperty(new Property(null, "testNumberProperty", ValueType.PRIMITIVE, value)));
+        }
+
+        EdmTypeImpl edmType = mock(EdmTypeImpl.class);
+        when(edmType.getKind()).thenReturn(EdmTypeKind.PRIMITIVE);
+        when(edmType.toString()).thenReturn("Edm.Int32");
+
+        EdmPropertyImpl edmProperty = mock(EdmPropertyImpl.class);
+        when(edmProperty.getType()).thenReturn(edmType);
+        when(edmProperty.getName()).thenReturn("testNumberProperty");
+
+        UriResourcePrimitiveProperty uriResourcePrimitiveProperty = mock(UriResourcePrimitiveProperty.class);
+        when(uriResourcePrimitiveProperty.getProperty()).thenReturn(edmProperty);
+
+        UriInfoResource resourcePath = mock(UriInfoResource.class);
+        when(resourcePath.getUriResourceParts()).thenReturn(List.of(uriResourcePrimitiveProperty));
+
+        MemberImpl member = mock(MemberImpl.class);
+        when(member.getResourcePath()).thenReturn(resourcePath);
+
+        OrderByItemImpl orderByItem = mock(OrderByItemImpl.class);
+        when(orderByItem.getExpression()).thenReturn(member);
+
+        OrderByOptionImpl orderByOption = mock(OrderByOptionImpl.class);
+        when(orderByOption.getOrders()).thenReturn(List.of(orderByItem));
+
+        for (boolean descending : List.of(false, true)) {
+            when(orderByItem.isDescending()).thenReturn(descending);
+            List<Entity> orderedEntityList = OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption,
+                    new ArrayList<>(entityList));
+            for (int limit = 0; limit <= entityList.size() + 1; limit++) {
+                assertThat(OrderExpressionExecutor.executeOrderOption(routingContext, orderByOption, entityList, limit))
+                        .containsExactlyElementsIn(orderedEntityList.subList(0, Math.min(limit, entityList.size())))
+                        .inOrder();
+            }
+        }
+    }
+
     @Test
     @DisplayName("Ordering has to do nothing with the entity list in case of an invalid OrderByOption")
     void executeOrderOptionInvalidOrderByOptionTest() {
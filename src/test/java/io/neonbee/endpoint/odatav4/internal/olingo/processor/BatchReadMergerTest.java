@@ -0,0 +1,66 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.processor;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.BatchReadMerger.getKeyPredicates;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.apache.olingo.server.api.uri.UriInfo;
+import org.apache.olingo.server.api.uri.UriParameter;
+import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.UriResourceEntitySet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.data.DataAction;
+import io.neonbee.data.DataQuery;
+
+class BatchReadMergerTest {
+    private static final String KEY_PATH = "/Service/TestUsers('1')";
+
+    private static UriParameter keyPredicate(String name, String text) {
+        UriParameter keyPredicate = mock(UriParameter.class);
+        when(keyPredicate.getName()).thenReturn(name);
+        when(keyPredicate.getText()).thenReturn(text);
+        return keyPredicate;
+    }
+
+    private static UriInfo uriInfo(List<UriParameter> keyPredicates, UriResource... furtherParts) {
+        UriResourceEntitySet entitySet = mock(UriResourceEntitySet.class);
+        when(entitySet.getKeyPredicates()).thenReturn(keyPredicates);
+
+        UriInfo uriInfo = mock(UriInfo.class);
+        UriResource[] parts = new UriResource[furtherParts.length + 1];
+        parts[0] = entitySet;
+        System.arraycopy(furtherParts, 0, parts, 1, furtherParts.length);
+        when(uriInfo.getUriResourceParts()).thenReturn(List.of(parts));
+        return uriInfo;
+    }
+
+    @Test
+    @DisplayName("Reads of single entities by their key predicates should be mergeable")
+    void testMergeable() {
+        List<UriParameter> keyPredicates = List.of(keyPredicate("ID", "'1'"));
+        assertThat(getKeyPredicates(new DataQuery(DataAction.READ, KEY_PATH), uriInfo(keyPredicates)))
+                .isSameInstanceAs(keyPredicates);
+        assertThat(getKeyPredicates(new DataQuery(DataAction.READ, KEY_PATH, "$expand=orders"),
+                uriInfo(keyPredicates))).isSameInstanceAs(keyPredicates);
+    }
+
+    @Test
+    @DisplayName("Other requests should not be mergeable")
+    void testNotMergeable() {
+        List<UriParameter> keyPredicates = List.of(keyPredicate("ID", "'1'"));
+        assertThat(getKeyPredicates(new DataQuery(DataAction.UPDATE, KEY_PATH), uriInfo(keyPredicates))).isNull();
+        assertThat(getKeyPredicates(new DataQuery(DataAction.READ, KEY_PATH, "$filter=name eq 'Hodor'"),
+                uriInfo(keyPredicates))).isNull();
+        assertThat(getKeyPredicates(new DataQuery(DataAction.READ, "/Service/TestUsers"), uriInfo(List.of())))
+                .isNull();
+        assertThat(getKeyPredicates(new DataQuery(DataAction.READ, KEY_PATH + "/name"),
+                uriInfo(keyPredicates, mock(UriResource.class)))).isNull();
+        assertThat(getKeyPredicates(new DataQuery(DataAction.READ, KEY_PATH),
+                uriInfo(List.of(keyPredicate("ID", null))))).isNull();
+    }
+}
@@ -2,14 +2,20 @@ package io.neonbee.endpoint.odatav4.internal.olingo.processor;
 
 import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollectionProcessor.TOO_MANY_PARTS_EXCEPTION;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollectionProcessor.buildNextLink;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollectionProcessor.decodeSkipToken;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.CountEntityCollectionProcessor.encodeSkipToken;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 
+import org.apache.olingo.server.api.ODataApplicationException;
+import org.apache.olingo.server.api.ODataRequest;
 import org.apache.olingo.server.api.uri.UriInfo;
 import org.apache.olingo.server.api.uri.UriResource;
+import org.apache.olingo.server.api.uri.queryoption.SkipTokenOption;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -26,4 +32,32 @@ class CountEntityCollectionProcessorTest {
                 () -> processor.readEntityCollection(null, null, mockedUriInfo, null));
         assertThat(exception).isEqualTo(TOO_MANY_PARTS_EXCEPTION);
     }
+
+    @Test
+    @DisplayName("Skip tokens must be decoded to the encoded page offset")
+    void testSkipToken() throws ODataApplicationException {
+        assertThat(decodeSkipToken(null)).isEqualTo(0);
+        assertThat(decodeSkipToken(skipTokenOption(encodeSkipToken(42)))).isEqualTo(42);
+        assertThrows(ODataApplicationException.class, () -> decodeSkipToken(skipTokenOption("not a token")));
+        assertThrows(ODataApplicationException.class, () -> decodeSkipToken(skipTokenOption(encodeSkipToken(-1))));
+    }
+
+    @Test
+    @DisplayName("The next link must be relative to the service root and replace the current skip token")
+    void testBuildNextLink() {
+        ODataRequest request = new ODataRequest();
+        request.setRawODataPath("/TestUsers");
+        request.setRawQueryPath("$top=10&%24skiptoken=previous&$orderby=name%20desc");
+        assertThat(buildNextLink(request, "next").toString())
+                .isEqualTo("TestUsers?$top=10&$orderby=name%20desc&$skiptoken=next");
+
+        request.setRawQueryPath(null);
+        assertThat(buildNextLink(request, "next").toString()).isEqualTo("TestUsers?$skiptoken=next");
+    }
+
+    private static SkipTokenOption skipTokenOption(String value) {
+        SkipTokenOption skipTokenOption = mock(SkipTokenOption.class);
+        when(skipTokenOption.getValue()).thenReturn(value);
+        return skipTokenOption;
+    }
 }
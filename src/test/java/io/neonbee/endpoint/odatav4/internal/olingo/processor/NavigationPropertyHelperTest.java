@@ -0,0 +1,129 @@
+package io.neonbee.endpoint.odatav4.internal.olingo.processor;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.MAX_FILTER_KEYS;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.buildReferencedEntitiesFilters;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.getRelatedEntities;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.NavigationPropertyHelper.indexReferencedEntities;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmEntityType;
+import org.apache.olingo.commons.api.edm.EdmNavigationProperty;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeException;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
+import org.apache.olingo.commons.api.edm.EdmProperty;
+import org.apache.olingo.commons.api.edm.EdmReferentialConstraint;
+import org.apache.olingo.commons.core.edm.primitivetype.EdmPrimitiveTypeFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class NavigationPropertyHelperTest {
+    private static final EdmNavigationProperty CATEGORY = mockNavigationProperty(false);
+
+    private static final EdmNavigationProperty PRODUCTS = mockNavigationProperty(true);
+
+    @Test
+    @DisplayName("Single valued navigation properties should be resolved via the index")
+    void testGetRelatedEntitySingle() {
+        Entity beverages = category(1);
+        Entity condiments = category(2);
+        Map<List<Object>, List<Entity>> index = indexReferencedEntities(CATEGORY, List.of(beverages, condiments));
+
+        assertThat(getRelatedEntities(CATEGORY, product(10, 2), index)).containsExactly(condiments);
+        assertThat(getRelatedEntities(CATEGORY, product(11, 1), index)).containsExactly(beverages);
+        assertThat(getRelatedEntities(CATEGORY, product(12, 3), index)).isEmpty();
+        assertThat(getRelatedEntities(CATEGORY, product(13, null), index)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Collection valued navigation properties should be resolved via the index")
+    void testGetRelatedEntitiesCollection() {
+        Entity chai = product(10, 1);
+        Entity chang = product(11, 1);
+        Entity aniseed = product(12, 2);
+        Entity unassigned = product(13, null);
+        Map<List<Object>, List<Entity>> index =
+                indexReferencedEntities(PRODUCTS, List.of(chai, aniseed, chang, unassigned));
+
+        assertThat(getRelatedEntities(PRODUCTS, category(1), index)).containsExactly(chai, chang).inOrder();
+        assertThat(getRelatedEntities(PRODUCTS, category(2), index)).containsExactly(aniseed);
+        assertThat(getRelatedEntities(PRODUCTS, category(3), index)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Filtering a list of referenced entities should return the same result as the index")
+    void testGetRelatedEntitiesList() {
+        Entity chai = product(10, 1);
+        Entity aniseed = product(12, 2);
+
+        assertThat(getRelatedEntities(PRODUCTS, category(1), List.of(chai, aniseed))).containsExactly(chai);
+        assertThat(getRelatedEntities(CATEGORY, aniseed, List.of(category(1)))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("The distinct referenced keys should be pushed down as in filter")
+    void testBuildReferencedEntitiesFilters() throws EdmPrimitiveTypeException {
+        assertThat(buildReferencedEntitiesFilters(CATEGORY,
+                List.of(product(10, 2), product(11, 1), product(12, 2), product(13, null))))
+                        .containsExactly("ID in (2,1)");
+        assertThat(buildReferencedEntitiesFilters(PRODUCTS, List.of(category(1), category(2))))
+                .containsExactly("CategoryID in (1,2)");
+        assertThat(buildReferencedEntitiesFilters(CATEGORY, List.of(product(13, null)))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("The referenced keys should be pushed down in batches")
+    void testBuildReferencedEntitiesFiltersBatched() throws EdmPrimitiveTypeException {
+        List<Entity> products = IntStream.range(0, MAX_FILTER_KEYS + 1).mapToObj(id -> product(id, id))
+                .collect(Collectors.toList());
+        List<String> filters = buildReferencedEntitiesFilters(CATEGORY, products);
+
+        assertThat(filters).hasSize(2);
+        assertThat(filters.get(0)).startsWith("ID in (0,1,");
+        assertThat(filters.get(1)).isEqualTo("ID in (" + MAX_FILTER_KEYS + ")");
+    }
+
+    private static EdmNavigationProperty mockNavigationProperty(boolean collection) {
+        EdmReferentialConstraint constraint = Mockito.mock(EdmReferentialConstraint.class);
+        Mockito.when(constraint.getPropertyName()).thenReturn("CategoryID");
+        Mockito.when(constraint.getReferencedPropertyName()).thenReturn("ID");
+
+        String referencedPropertyName = collection ? "CategoryID" : "ID";
+        EdmProperty referencedProperty = Mockito.mock(EdmProperty.class);
+        Mockito.when(referencedProperty.getName()).thenReturn(referencedPropertyName);
+        Mockito.when(referencedProperty.isPrimitive()).thenReturn(true);
+        Mockito.when(referencedProperty.getType())
+                .thenReturn(EdmPrimitiveTypeFactory.getInstance(EdmPrimitiveTypeKind.Int32));
+        EdmEntityType referencedType = Mockito.mock(EdmEntityType.class);
+        Mockito.when(referencedType.getStructuralProperty(referencedPropertyName)).thenReturn(referencedProperty);
+
+        EdmNavigationProperty navigationProperty = Mockito.mock(EdmNavigationProperty.class);
+        Mockito.when(navigationProperty.isCollection()).thenReturn(collection);
+        Mockito.when(navigationProperty.getType()).thenReturn(referencedType);
+        if (collection) {
+            EdmNavigationProperty partner = Mockito.mock(EdmNavigationProperty.class);
+            Mockito.when(partner.getReferentialConstraints()).thenReturn(List.of(constraint));
+            Mockito.when(navigationProperty.getPartner()).thenReturn(partner);
+        } else {
+            Mockito.when(navigationProperty.getReferentialConstraints()).thenReturn(List.of(constraint));
+        }
+        return navigationProperty;
+    }
+
+    private static Entity category(Integer id) {
+        return new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, id));
+    }
+
+    private static Entity product(Integer id, Integer categoryId) {
+        return new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, id))
+                .addProperty(new Property(null, "CategoryID", ValueType.PRIMITIVE, categoryId));
+    }
+}
@@ -0,0 +1,106 @@
+package io.neonbee.entity;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.entity.EntityKeyIndex.normalize;
+import static org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind.Date;
+import static org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind.Decimal;
+import static org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind.Int32;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Property;
+import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EntityKeyIndexTest {
+    private static final EdmPrimitiveTypeKind EDM_STRING = EdmPrimitiveTypeKind.String;
+
+    private static final Map<String, EdmPrimitiveTypeKind> ID_KEY = Map.of("ID", Int32);
+
+    private static final Map<String, EdmPrimitiveTypeKind> COMPOSITE_KEY = Map.of("ID", Int32, "name", EDM_STRING);
+
+    private static Entity createEntity(Object id, String name) {
+        return new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, id))
+                .addProperty(new Property(null, "name", ValueType.PRIMITIVE, name));
+    }
+
+    @Test
+    @DisplayName("Normalized values should be equal, if the values compare equal")
+    void testNormalize() {
+        assertThat(normalize(Int32, 42, false)).isEqualTo(normalize(Int32, "42", true));
+        assertThat(normalize(Int32, 42L, false)).isEqualTo(normalize(Int32, "42", true));
+        assertThat(normalize(Decimal, new BigDecimal("1.50"), false)).isEqualTo(normalize(Decimal, "1.5", true));
+        assertThat(normalize(Decimal, 2, false)).isEqualTo(normalize(Decimal, "2.00", true));
+        assertThat(normalize(EDM_STRING, "Hodor", false)).isEqualTo(normalize(EDM_STRING, "hODOR", true));
+        assertThat(normalize(EDM_STRING, "Hodor", false)).isNotEqualTo(normalize(EDM_STRING, "Sam", true));
+    }
+
+    @Test
+    @DisplayName("Values which cannot be normalized should be null")
+    void testNormalizeUnsupported() {
+        assertThat(normalize(Int32, "Hodor", false)).isNull();
+        assertThat(normalize(Int32, "Hodor", true)).isNull();
+        assertThat(normalize(EDM_STRING, 42, false)).isNull();
+        assertThat(normalize(Int32, null, false)).isNull();
+        assertThat(normalize(Date, "2023-01-01", true)).isNull();
+    }
+
+    @Test
+    @DisplayName("Entities should be looked up by their key")
+    void testLookup() {
+        Entity hodor = createEntity(1, "Hodor");
+        Entity sam = createEntity(2, "Sam");
+        List<Entity> entities = new ArrayList<>(List.of(hodor, sam, new Entity()));
+
+        EntityKeyIndex index = EntityKeyIndex.build(ID_KEY, entities);
+        assertThat(index.isSupported()).isTrue();
+        assertThat(index.lookup(Map.of("ID", "1"))).containsExactly(hodor);
+        assertThat(index.lookup(Map.of("ID", "2"))).containsExactly(sam);
+        assertThat(index.lookup(Map.of("ID", "3"))).isEmpty();
+        assertThat(index.lookup(Map.of("ID", "Hodor"))).isNull();
+        assertThat(index.lookup(Map.of("name", "Hodor"))).isNull();
+
+        EntityKeyIndex compositeIndex = EntityKeyIndex.build(COMPOSITE_KEY, entities);
+        assertThat(compositeIndex.lookup(Map.of("ID", "1", "name", "hodor"))).containsExactly(hodor);
+        assertThat(compositeIndex.lookup(Map.of("ID", "1", "name", "Sam"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("All entities with duplicate keys should be returned")
+    void testDuplicates() {
+        Entity hodor = createEntity(1, "Hodor");
+        Entity otherHodor = createEntity(1L, "Hodor");
+
+        EntityKeyIndex index = EntityKeyIndex.build(ID_KEY, List.of(hodor, otherHodor));
+        assertThat(index.lookup(Map.of("ID", "1"))).containsExactly(hodor, otherHodor);
+    }
+
+    @Test
+    @DisplayName("The index should not be supported, if a key value cannot be normalized")
+    void testNotSupported() {
+        EntityKeyIndex index =
+                EntityKeyIndex.build(ID_KEY, List.of(createEntity(1, "Hodor"), createEntity(null, "Sam")));
+        assertThat(index.isSupported()).isFalse();
+        assertThat(index.lookup(Map.of("ID", "1"))).isNull();
+    }
+
+    @Test
+    @DisplayName("The index should only be valid for the same key and an unchanged list of entities")
+    void testIsValidFor() {
+        List<Entity> entities = new ArrayList<>(List.of(createEntity(1, "Hodor")));
+
+        EntityKeyIndex index = EntityKeyIndex.build(ID_KEY, entities);
+        assertThat(index.isValidFor(ID_KEY, entities)).isTrue();
+        assertThat(index.isValidFor(COMPOSITE_KEY, entities)).isFalse();
+        assertThat(index.isValidFor(ID_KEY, new ArrayList<>(entities))).isFalse();
+
+        entities.add(createEntity(2, "Sam"));
+        assertThat(index.isValidFor(ID_KEY, entities)).isFalse();
+    }
+}
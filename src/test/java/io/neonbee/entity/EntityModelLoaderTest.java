@@ -8,6 +8,7 @@ import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 
 import javax.xml.stream.XMLStreamException;
@@ -119,6 +120,31 @@ class EntityModelLoaderTest extends NeonBeeTestBase {
                 })));
     }
 
+    @Test
+    @DisplayName("check if unchanged models are not parsed again")
+    void reloadUnchangedModelsTest(Vertx vertx, VertxTestContext testContext) throws IOException {
+        EntityModelDefinition definition = new EntityModelDefinition(
+                Map.ofEntries(buildModelEntry("ReferenceService.csn")),
+                Map.ofEntries(buildModelEntry("io.neonbee.reference.ReferenceService.edmx")));
+        EntityModelLoader.ParsedModels parsedModels = new EntityModelLoader.ParsedModels();
+
+        EntityModelLoader.load(vertx, List.of(definition), parsedModels).compose(models -> CompositeFuture
+                .all(EntityModelLoader.load(vertx, List.of(definition), parsedModels),
+                        EntityModelLoader.load(vertx, List.of(definition), new EntityModelLoader.ParsedModels()))
+                .onSuccess(reloadedModels -> testContext.verify(() -> {
+                    Map<String, EntityModel> unchangedModels = reloadedModels.resultAt(0);
+                    assertThat(unchangedModels).isNotSameInstanceAs(models);
+                    assertThat(unchangedModels.keySet()).containsExactlyElementsIn(models.keySet());
+                    assertThat(unchangedModels.get("io.neonbee.reference"))
+                            .isSameInstanceAs(models.get("io.neonbee.reference"));
+
+                    Map<String, EntityModel> parsedAgainModels = reloadedModels.resultAt(1);
+                    assertThat(parsedAgainModels.get("io.neonbee.reference"))
+                            .isNotSameInstanceAs(models.get("io.neonbee.reference"));
+                })))
+                .onComplete(testContext.succeedingThenComplete());
+    }
+
     @Test
     @DisplayName("check if getting CSN Model works")
     void getCSNModelTest(Vertx vertx, VertxTestContext testContext) {
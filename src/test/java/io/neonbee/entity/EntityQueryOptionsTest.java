@@ -0,0 +1,195 @@
+package io.neonbee.entity;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_BOOLEAN;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_INT32;
+import static io.neonbee.endpoint.odatav4.internal.olingo.edm.EdmConstants.PRIMITIVE_STRING;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_FILTER_KEY;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_MAX_PAGE_SIZE_HEADER;
+import static io.neonbee.endpoint.odatav4.internal.olingo.processor.ProcessorHelper.ODATA_TOP_KEY;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.apache.olingo.commons.api.edm.EdmProperty;
+import org.apache.olingo.commons.api.edm.EdmType;
+import org.apache.olingo.server.api.uri.UriInfo;
+import org.apache.olingo.server.api.uri.UriInfoResource;
+import org.apache.olingo.server.api.uri.UriResourcePrimitiveProperty;
+import org.apache.olingo.server.api.uri.queryoption.FilterOption;
+import org.apache.olingo.server.api.uri.queryoption.OrderByItem;
+import org.apache.olingo.server.api.uri.queryoption.OrderByOption;
+import org.apache.olingo.server.api.uri.queryoption.TopOption;
+import org.apache.olingo.server.api.uri.queryoption.expression.BinaryOperatorKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.Expression;
+import org.apache.olingo.server.api.uri.queryoption.expression.MethodKind;
+import org.apache.olingo.server.api.uri.queryoption.expression.UnaryOperatorKind;
+import org.apache.olingo.server.core.uri.queryoption.expression.BinaryImpl;
+import org.apache.olingo.server.core.uri.queryoption.expression.LiteralImpl;
+import org.apache.olingo.server.core.uri.queryoption.expression.MemberImpl;
+import org.apache.olingo.server.core.uri.queryoption.expression.MethodImpl;
+import org.apache.olingo.server.core.uri.queryoption.expression.UnaryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.data.DataContext;
+import io.neonbee.data.DataQuery;
+import io.neonbee.data.internal.DataContextImpl;
+import io.neonbee.entity.EntityQueryOptions.QueryOption;
+import io.neonbee.entity.EntityQueryOptions.SqlPredicate;
+
+class EntityQueryOptionsTest {
+    @Test
+    @DisplayName("The query options must be parsed from the UriInfo and DataQuery")
+    void parseQueryOptionsTest() {
+        Expression filter = new BinaryImpl(member("ID", PRIMITIVE_INT32), BinaryOperatorKind.LT,
+                new LiteralImpl("2", PRIMITIVE_INT32), PRIMITIVE_BOOLEAN);
+        FilterOption filterOption = mock(FilterOption.class);
+        when(filterOption.getExpression()).thenReturn(filter);
+        OrderByItem orderByItem = mock(OrderByItem.class);
+        when(orderByItem.getExpression()).thenReturn(member("name", PRIMITIVE_STRING));
+        when(orderByItem.isDescending()).thenReturn(true);
+        OrderByOption orderByOption = mock(OrderByOption.class);
+        when(orderByOption.getOrders()).thenReturn(List.of(orderByItem));
+        TopOption topOption = mock(TopOption.class);
+        when(topOption.getValue()).thenReturn(10);
+
+        UriInfo uriInfo = mock(UriInfo.class);
+        when(uriInfo.getFilterOption()).thenReturn(filterOption);
+        when(uriInfo.getOrderByOption()).thenReturn(orderByOption);
+        when(uriInfo.getTopOption()).thenReturn(topOption);
+
+        EntityQueryOptions options =
+                EntityQueryOptions.of(uriInfo, new DataQuery().setHeader(ODATA_MAX_PAGE_SIZE_HEADER, "5"));
+        assertThat(options.getFilter()).hasValue(filter);
+        assertThat(options.getSqlFilter()).hasValue(new SqlPredicate("ID < ?", List.of(2)));
+        assertThat(options.getOrderBy()).hasSize(1);
+        assertThat(options.getOrderBy().get(0).getProperty()).isEqualTo("name");
+        assertThat(options.getSqlOrderBy()).hasValue("name DESC");
+        assertThat(options.getTop().getAsInt()).isEqualTo(10);
+        assertThat(options.getSkip().isPresent()).isFalse();
+        assertThat(options.getSkipToken()).isEmpty();
+        assertThat(options.getMaxPageSize().getAsInt()).isEqualTo(5);
+        assertThat(options.isCount()).isFalse();
+        assertThat(options.getSelect()).isEmpty();
+        assertThat(options.isExpand()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Filter expressions must be translated to SQL predicates")
+    void sqlFilterTest() throws Exception {
+        // name eq 'Cheese' or not(ID lt 2)
+        Expression expression = new BinaryImpl(
+                new BinaryImpl(member("name", PRIMITIVE_STRING), BinaryOperatorKind.EQ,
+                        new LiteralImpl("'Cheese'", PRIMITIVE_STRING), PRIMITIVE_BOOLEAN),
+                BinaryOperatorKind.OR,
+                new UnaryImpl(UnaryOperatorKind.NOT, new BinaryImpl(member("ID", PRIMITIVE_INT32),
+                        BinaryOperatorKind.LT, new LiteralImpl("2", PRIMITIVE_INT32), PRIMITIVE_BOOLEAN),
+                        PRIMITIVE_BOOLEAN),
+                PRIMITIVE_BOOLEAN);
+        assertThat(SqlPredicateTranslator.translate(expression))
+                .isEqualTo(new SqlPredicate("(name = ? OR NOT COALESCE(ID < ?, FALSE))", List.of("Cheese", 2)));
+
+        // description eq null
+        assertThat(SqlPredicateTranslator.translate(new BinaryImpl(member("description", PRIMITIVE_STRING),
+                BinaryOperatorKind.EQ, new LiteralImpl("null", null), PRIMITIVE_BOOLEAN)))
+                        .isEqualTo(new SqlPredicate("description IS NULL", List.of()));
+
+        // null eq description
+        assertThat(SqlPredicateTranslator.translate(new BinaryImpl(new LiteralImpl("null", null),
+                BinaryOperatorKind.EQ, member("description", PRIMITIVE_STRING), PRIMITIVE_BOOLEAN)))
+                        .isEqualTo(new SqlPredicate("description IS NULL", List.of()));
+
+        // null ne description
+        assertThat(SqlPredicateTranslator.translate(new BinaryImpl(new LiteralImpl("null", null),
+                BinaryOperatorKind.NE, member("description", PRIMITIVE_STRING), PRIMITIVE_BOOLEAN)))
+                        .isEqualTo(new SqlPredicate("description IS NOT NULL", List.of()));
+
+        // contains(tolower(name), '50%')
+        assertThat(SqlPredicateTranslator.translate(new MethodImpl(MethodKind.CONTAINS,
+                List.of(new MethodImpl(MethodKind.TOLOWER, List.of(member("name", PRIMITIVE_STRING))),
+                        new LiteralImpl("'50%'", PRIMITIVE_STRING)))))
+                                .isEqualTo(new SqlPredicate("LOWER(name) LIKE ? ESCAPE '\\'", List.of("%50\\%%")));
+    }
+
+    @Test
+    @DisplayName("Comparisons must keep the null semantics of OData when translated to SQL predicates")
+    void sqlFilterNullSemanticsTest() throws Exception {
+        // name ne 'Cheese'
+        assertThat(SqlPredicateTranslator.translate(new BinaryImpl(member("name", PRIMITIVE_STRING),
+                BinaryOperatorKind.NE, new LiteralImpl("'Cheese'", PRIMITIVE_STRING), PRIMITIVE_BOOLEAN)))
+                        .isEqualTo(new SqlPredicate("(name <> ? OR name IS NULL)", List.of("Cheese")));
+
+        // 'Cheese' ne tolower(name)
+        assertThat(SqlPredicateTranslator.translate(new BinaryImpl(new LiteralImpl("'Cheese'", PRIMITIVE_STRING),
+                BinaryOperatorKind.NE, new MethodImpl(MethodKind.TOLOWER, List.of(member("name", PRIMITIVE_STRING))),
+                PRIMITIVE_BOOLEAN))).isEqualTo(
+                        new SqlPredicate("(? <> LOWER(name) OR LOWER(name) IS NULL)", List.of("Cheese")));
+
+        // name eq description
+        assertThat(SqlPredicateTranslator.translate(new BinaryImpl(member("name", PRIMITIVE_STRING),
+                BinaryOperatorKind.EQ, member("description", PRIMITIVE_STRING), PRIMITIVE_BOOLEAN)))
+                        .isEqualTo(new SqlPredicate(
+                                "(name = description OR (name IS NULL AND description IS NULL))", List.of()));
+
+        // name ne description
+        assertThat(SqlPredicateTranslator.translate(new BinaryImpl(member("name", PRIMITIVE_STRING),
+                BinaryOperatorKind.NE, member("description", PRIMITIVE_STRING), PRIMITIVE_BOOLEAN)))
+                        .isEqualTo(new SqlPredicate("(name <> description OR (name IS NULL AND description IS NOT "
+                                + "NULL) OR (name IS NOT NULL AND description IS NULL))", List.of()));
+
+        // not (price gt 5), must match rows where price is null
+        assertThat(SqlPredicateTranslator.translate(new UnaryImpl(UnaryOperatorKind.NOT,
+                new BinaryImpl(member("price", PRIMITIVE_INT32), BinaryOperatorKind.GT,
+                        new LiteralImpl("5", PRIMITIVE_INT32), PRIMITIVE_BOOLEAN),
+                PRIMITIVE_BOOLEAN))).isEqualTo(new SqlPredicate("NOT COALESCE(price > ?, FALSE)", List.of(5)));
+
+        // not contains(name, 'x'), must match rows where name is null
+        assertThat(SqlPredicateTranslator.translate(new UnaryImpl(UnaryOperatorKind.NOT,
+                new MethodImpl(MethodKind.CONTAINS,
+                        List.of(member("name", PRIMITIVE_STRING), new LiteralImpl("'x'", PRIMITIVE_STRING))),
+                PRIMITIVE_BOOLEAN))).isEqualTo(
+                        new SqlPredicate("NOT COALESCE(name LIKE ? ESCAPE '\\', FALSE)", List.of("%x%")));
+    }
+
+    @Test
+    @DisplayName("Filter expressions which cannot be translated must not result in a SQL predicate")
+    void unsupportedSqlFilterTest() {
+        // ID add 1
+        Expression expression = new BinaryImpl(member("ID", PRIMITIVE_INT32), BinaryOperatorKind.ADD,
+                new LiteralImpl("1", PRIMITIVE_INT32), PRIMITIVE_INT32);
+        FilterOption filterOption = mock(FilterOption.class);
+        when(filterOption.getExpression()).thenReturn(expression);
+        UriInfo uriInfo = mock(UriInfo.class);
+        when(uriInfo.getFilterOption()).thenReturn(filterOption);
+
+        EntityQueryOptions options = EntityQueryOptions.of(uriInfo, new DataQuery());
+        assertThat(options.getFilter()).isPresent();
+        assertThat(options.getSqlFilter()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Executed query options must be hinted in the response data")
+    void setExecutedTest() {
+        DataContext context = new DataContextImpl();
+        EntityQueryOptions.setExecuted(context, QueryOption.FILTER, QueryOption.TOP);
+        assertThat(context.responseData()).containsExactly(ODATA_FILTER_KEY, Boolean.TRUE, ODATA_TOP_KEY,
+                Boolean.TRUE);
+    }
+
+    private static MemberImpl member(String propertyName, EdmType propertyType) {
+        EdmProperty edmProperty = mock(EdmProperty.class);
+        when(edmProperty.getType()).thenReturn(propertyType);
+        when(edmProperty.getName()).thenReturn(propertyName);
+
+        UriResourcePrimitiveProperty uriResourcePrimitiveProperty = mock(UriResourcePrimitiveProperty.class);
+        when(uriResourcePrimitiveProperty.getProperty()).thenReturn(edmProperty);
+
+        UriInfoResource resourcePath = mock(UriInfoResource.class);
+        when(resourcePath.getUriResourceParts()).thenReturn(List.of(uriResourcePrimitiveProperty));
+
+        return new MemberImpl(resourcePath, null);
+    }
+}
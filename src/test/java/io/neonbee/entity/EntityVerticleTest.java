@@ -188,6 +188,25 @@ class EntityVerticleTest extends EntityVerticleTestBase {
                 })));
     }
 
+    @Test
+    @DisplayName("Parsed URI info must be buffered as long as the models do not change")
+    void parseUriInfoCacheTest(VertxTestContext testContext) {
+        DataQuery query = new DataQuery(DataAction.READ, "/io.neonbee.test1.TestService1/AllPropertiesNullable",
+                "$filter=KeyPropertyString eq 'Test123'");
+
+        EntityVerticle.parseUriInfo(getNeonBee(), query).compose(uriInfo -> {
+            return EntityVerticle.parseUriInfo(getNeonBee(), query.copy()).map(cachedUriInfo -> {
+                testContext.verify(() -> assertThat(cachedUriInfo).isSameInstanceAs(uriInfo));
+                return uriInfo;
+            });
+        }).compose(uriInfo -> getNeonBee().getModelManager().reloadModels()
+                .compose(models -> EntityVerticle.parseUriInfo(getNeonBee(), query)).map(reparsedUriInfo -> {
+                    // the models did not change, so they are not parsed again by the reload
+                    testContext.verify(() -> assertThat(reparsedUriInfo).isSameInstanceAs(uriInfo));
+                    return reparsedUriInfo;
+                })).onComplete(testContext.succeedingThenComplete());
+    }
+
     @Test
     @DisplayName("requestEntity must call ConsolidationVerticle if more then one EntityVerticle is registered for Entity")
     void requestEntityWithConsolidationVerticleTest(VertxTestContext testContext) {
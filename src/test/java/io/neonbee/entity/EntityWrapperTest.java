@@ -4,9 +4,12 @@ import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.NeonBeeProfile.NO_WEB;
 import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
 
+import java.util.Map;
+
 import org.apache.olingo.commons.api.data.Entity;
 import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.data.ValueType;
+import org.apache.olingo.commons.api.edm.EdmPrimitiveTypeKind;
 import org.apache.olingo.commons.api.edm.FullQualifiedName;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +30,8 @@ class EntityWrapperTest extends NeonBeeTestBase {
             .buffer("{\"entityType\":{\"namespace\":\"io.neonbee.test2.TestService2Users\",\"name\":\"TestUsers\"}," //
                     + "\"entity\":\"{\\\"@odata.context\\\":\\\"$metadata#TestUsers\\\",\\\"@odata.metadataEtag\\\":\\\"\\\\\\\"2f85d83fa1f93164cf4d3252ca72023e\\\\\\\"\\\",\\\"value\\\":[{\\\"ID\\\":\\\"ID\\\",\\\"name\\\":\\\"NAME\\\",\\\"description\\\":\\\"DESCRIPTION\\\"}]}\"}");
 
+    private static final Map<String, EdmPrimitiveTypeKind> ID_KEY = Map.of("ID", EdmPrimitiveTypeKind.String);
+
     private static Entity createTestUser() {
         Entity testUser = new Entity().addProperty(new Property("Edm.String", "name", ValueType.PRIMITIVE, "NAME"))
                 .addProperty(new Property("Edm.String", "description", ValueType.PRIMITIVE, "DESCRIPTION"))
@@ -66,6 +71,25 @@ class EntityWrapperTest extends NeonBeeTestBase {
         assertThat(firstNamesSam).isNotEqualTo(new EntityWrapper("Hodor.Hodor", sam));
     }
 
+    @Test
+    @DisplayName("Check if the key index is built once and reused")
+    void testKeyIndex() {
+        EntityWrapper wrapper = new EntityWrapper("First.Name", createTestUser());
+        assertThat(wrapper.isKeyIndexEnabled()).isFalse();
+        assertThat(wrapper.getKeyIndex(ID_KEY)).isNull();
+
+        assertThat(wrapper.enableKeyIndex()).isSameInstanceAs(wrapper);
+        EntityKeyIndex keyIndex = wrapper.getKeyIndex(ID_KEY);
+        assertThat(keyIndex.lookup(Map.of("ID", "id"))).containsExactly(wrapper.getEntity());
+        assertThat(wrapper.getKeyIndex(ID_KEY)).isSameInstanceAs(keyIndex);
+
+        wrapper.getEntities().add(new Entity());
+        assertThat(wrapper.getKeyIndex(ID_KEY)).isNotSameInstanceAs(keyIndex);
+
+        // the key index must not be taken into account when comparing entity wrappers
+        assertThat(wrapper).isEqualTo(new EntityWrapper("First.Name", wrapper.getEntities()));
+    }
+
     @Test
     @DisplayName("Check if toBuffer works as expected")
     void testToBuffer(VertxTestContext testContext) {
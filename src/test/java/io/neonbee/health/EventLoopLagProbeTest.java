@@ -0,0 +1,129 @@
+package io.neonbee.health;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.health.EventLoopLagProbe.EVENT_LOOP_TAG;
+import static io.neonbee.health.EventLoopLagProbe.METER_NAME;
+import static io.neonbee.test.helper.ConcurrentHelper.waitFor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@Isolated
+@Execution(ExecutionMode.SAME_THREAD)
+@ExtendWith(VertxExtension.class)
+class EventLoopLagProbeTest {
+    @Test
+    @DisplayName("should not measure anything if the interval is zero")
+    void testDisabled(Vertx vertx) {
+        EventLoopLagProbe probe = new EventLoopLagProbe(vertx, new SimpleMeterRegistry(), 0);
+        probe.start();
+        assertThat(probe.isStarted()).isFalse();
+        assertThat(probe.getSustainedLag(MILLISECONDS)).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("should record the lag of every event loop")
+    void testRecordLag(Vertx vertx, VertxTestContext testContext) {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        EventLoopLagProbe probe = new EventLoopLagProbe(vertx, registry, 10);
+        probe.start();
+        assertThat(probe.isStarted()).isTrue();
+
+        waitFor(vertx, 200).onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+            assertThat(registry.find(METER_NAME).timers()).isNotEmpty();
+            for (Timer timer : registry.find(METER_NAME).timers()) {
+                assertThat(timer.getId().getTag(EVENT_LOOP_TAG)).startsWith("vert.x-eventloop-thread-");
+                assertThat(timer.count()).isGreaterThan(0);
+            }
+
+            probe.stop();
+            assertThat(probe.isStarted()).isFalse();
+            testContext.completeNow();
+        })));
+    }
+
+    @Test
+    @DisplayName("should detect an event loop lagging in consecutive measurements")
+    void testSustainedLag(Vertx vertx) throws InterruptedException {
+        EventLoopLagProbe probe = new EventLoopLagProbe(vertx, new SimpleMeterRegistry(), 10);
+        probe.start();
+
+        // block one event loop for 100ms every 10ms, so that every measurement on the event loop lags
+        long timerId = vertx.setPeriodic(10, id -> sleep(100));
+        try {
+            Thread.sleep(1000);
+            assertThat(probe.getSustainedLag(MILLISECONDS)).isGreaterThan(50.0);
+        } finally {
+            vertx.cancelTimer(timerId);
+            probe.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("should not report a sustained lag for a single spike")
+    void testSingleSpike(Vertx vertx) throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        EventLoopLagProbe probe = new EventLoopLagProbe(vertx, registry, 10);
+        probe.start();
+
+        // block one event loop once, e.g. same as a garbage collection pause would do
+        vertx.runOnContext(nothing -> sleep(300));
+        try {
+            Thread.sleep(500);
+            assertThat(registry.find(METER_NAME).timers().stream().mapToDouble(timer -> timer.max(MILLISECONDS))
+                    .max().orElse(0)).isGreaterThan(200.0);
+            assertThat(probe.getSustainedLag(MILLISECONDS)).isLessThan(100.0);
+        } finally {
+            probe.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("should report the lag of a blocked event loop, which does not measure any lag")
+    void testBlockedEventLoop(Vertx vertx) throws InterruptedException {
+        EventLoopLagProbe probe = new EventLoopLagProbe(vertx, new SimpleMeterRegistry(), 10);
+        probe.start();
+
+        // block one event loop, so that its pending probe is overdue, but never records a measurement
+        vertx.runOnContext(nothing -> sleep(1000));
+        try {
+            Thread.sleep(500);
+            assertThat(probe.getSustainedLag(MILLISECONDS)).isGreaterThan(300.0);
+        } finally {
+            probe.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("should capture the thread names of all event loops, even if not started")
+    void testEventLoopNames(Vertx vertx, VertxTestContext testContext) {
+        EventLoopLagProbe probe = new EventLoopLagProbe(vertx, new SimpleMeterRegistry(), 0);
+
+        waitFor(vertx, 100).onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+            for (EventExecutor executor : vertx.nettyEventLoopGroup()) {
+                assertThat(probe.getEventLoopName(executor)).startsWith("vert.x-eventloop-thread-");
+            }
+            testContext.completeNow();
+        })));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis); // blocking event-loop thread
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 
@@ -276,6 +277,30 @@ class HealthCheckRegistryTest {
                 .onFailure(testContext::failNow);
     }
 
+    @Test
+    @DisplayName("it serves the results published by the nodes if aggregation is enabled")
+    void testAggregatedHealthCheckResults(Vertx vertx, VertxTestContext testContext) {
+        NeonBeeConfig neonBeeConfig = new NeonBeeConfig()
+                .setHealthConfig(new HealthConfig().setAggregationInterval(1).setAggregationMaxAge(60));
+        neonBee = NeonBeeMockHelper.registerNeonBeeMock(vertx, defaultOptions().setClustered(true), neonBeeConfig);
+
+        HealthCheckRegistry registry = new HealthCheckRegistry(vertx, new WriteSafeRegistry<>(vertx, REGISTRY_NAME));
+        registry.updatePublishedResults("node1",
+                new JsonArray().add(new JsonObject().put("id", "check-a").put("status", "UP")));
+        registry.updatePublishedResults("node2",
+                new JsonArray().add(new JsonObject().put("id", "check-b").put("status", "DOWN")));
+        registry.publishedResults.put("node3", new HealthCheckRegistry.PublishedResults(
+                System.nanoTime() - TimeUnit.MINUTES.toNanos(2),
+                new JsonArray().add(new JsonObject().put("id", "check-c").put("status", "UP"))));
+
+        registry.collectHealthCheckResults().onComplete(testContext.succeeding(result -> testContext.verify(() -> {
+            assertThat(result.getJsonArray("checks")).hasSize(2);
+            assertThat(result.getString("status")).isEqualTo("DOWN");
+            assertThat(registry.publishedResults).doesNotContainKey("node3");
+            testContext.completeNow();
+        })));
+    }
+
     @Test
     @DisplayName("it requests data from local registry only if in non-clustered mode")
     void testConsolidateHealthCheckResultsNonClustered(Vertx vertx, VertxTestContext testContext) {
@@ -95,6 +95,35 @@ class DefaultHookRegistryTest {
                 }));
     }
 
+    @Test
+    @DisplayName("Check that executeHooks succeeds immediately if no hooks are registered")
+    void executeHooksWithoutRegistrationsTest() {
+        assertThat(hookRegistry.executeHooks(HookType.ONCE_PER_REQUEST, Map.of()).succeeded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Check that executeHooks fails if a hook throws an exception")
+    void executeFailingHooksTest(VertxTestContext testContext) {
+        hookRegistry.registerInstanceHooks(new FailingTestHook(), CORRELATION_ID)
+                .compose(v -> hookRegistry.executeHooks(HookType.ONCE_PER_REQUEST, Map.of()))
+                .onComplete(testContext.failing(t -> testContext.verify(() -> {
+                    assertThat(t).isInstanceOf(IllegalStateException.class);
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @DisplayName("Check that unregistered hooks are not executed anymore")
+    void unregisterHooksTest(VertxTestContext testContext) {
+        hookRegistry.registerInstanceHooks(new FailingTestHook(), CORRELATION_ID)
+                .compose(registrations -> registrations.iterator().next().unregister())
+                .compose(v -> hookRegistry.executeHooks(HookType.ONCE_PER_REQUEST, Map.of()))
+                .onComplete(testContext.succeeding(compFuture -> testContext.verify(() -> {
+                    assertThat(compFuture.list()).isEmpty();
+                    testContext.completeNow();
+                })));
+    }
+
     @Test
     @DisplayName("Check that getHookRegistrations works correct")
     void getHookRegistrationsTest(VertxTestContext testContext) {
@@ -118,4 +147,12 @@ class DefaultHookRegistryTest {
             promise.complete();
         }
     }
+
+    public static class FailingTestHook {
+        @SuppressWarnings("PMD.UnusedFormalParameter")
+        @Hook(HookType.ONCE_PER_REQUEST)
+        public void test(NeonBee neonBee, HookContext hookContext, Promise<Void> promise) {
+            throw new IllegalStateException("Hodor");
+        }
+    }
 }
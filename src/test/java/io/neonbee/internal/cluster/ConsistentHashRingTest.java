@@ -0,0 +1,66 @@
+package io.neonbee.internal.cluster;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+    private static final List<String> KEYS =
+            IntStream.range(0, 1000).mapToObj(i -> "key" + i).collect(Collectors.toList());
+
+    @Test
+    @DisplayName("An empty ring should not assign any keys")
+    void testEmptyRing() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of());
+        assertThat(ring.getNodes()).isEmpty();
+        assertThat(ring.getNode("key")).isNull();
+    }
+
+    @Test
+    @DisplayName("The number of virtual nodes must be positive")
+    void testInvalidVirtualNodes() {
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(List.of("a"), 0));
+    }
+
+    @Test
+    @DisplayName("The assignment should not depend on the order of the nodes")
+    void testDeterministic() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("a", "b", "c"));
+        ConsistentHashRing otherRing = new ConsistentHashRing(List.of("c", "a", "b"));
+        assertThat(ring.getNodes()).containsExactly("a", "b", "c").inOrder();
+        for (String key : KEYS) {
+            assertThat(ring.getNode(key)).isEqualTo(otherRing.getNode(key));
+        }
+    }
+
+    @Test
+    @DisplayName("All nodes should be assigned keys")
+    void testDistribution() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("a", "b", "c"));
+        Map<String, Integer> counts = new HashMap<>();
+        KEYS.forEach(key -> counts.merge(ring.getNode(key), 1, Integer::sum));
+        assertThat(counts.keySet()).containsExactly("a", "b", "c");
+        counts.values().forEach(count -> assertThat(count).isGreaterThan(KEYS.size() / 10));
+    }
+
+    @Test
+    @DisplayName("Only the keys of a leaving node should be reassigned")
+    void testNodeLeaving() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("a", "b", "c"));
+        ConsistentHashRing reducedRing = new ConsistentHashRing(List.of("a", "b"));
+        for (String key : KEYS) {
+            String node = ring.getNode(key);
+            if (!"c".equals(node)) {
+                assertThat(reducedRing.getNode(key)).isEqualTo(node);
+            }
+        }
+    }
+}
@@ -2,9 +2,16 @@ package io.neonbee.internal.codec;
 
 import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.NeonBeeProfile.NO_WEB;
+import static io.neonbee.internal.codec.EntityWrapperMessageCodec.BINARY_FORMAT_VERSION;
+import static io.neonbee.internal.codec.EntityWrapperMessageCodec.JSON_FORMAT_VERSION;
 import static io.neonbee.test.helper.ResourceHelper.TEST_RESOURCES;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
+
+import org.apache.olingo.commons.api.data.ComplexValue;
 import org.apache.olingo.commons.api.data.Entity;
+import org.apache.olingo.commons.api.data.Link;
 import org.apache.olingo.commons.api.data.Property;
 import org.apache.olingo.commons.api.data.ValueType;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 
 import io.neonbee.NeonBeeOptions;
+import io.neonbee.config.NeonBeeConfig;
 import io.neonbee.entity.EntityWrapper;
 import io.neonbee.test.base.NeonBeeTestBase;
 import io.neonbee.test.helper.WorkingDirectoryBuilder;
@@ -41,7 +49,38 @@ class EntityWrapperMessageCodecTest extends NeonBeeTestBase {
 
     @BeforeEach
     void setUp() {
-        codec = new EntityWrapperMessageCodec(getNeonBee().getVertx());
+        codec = new EntityWrapperMessageCodec(getNeonBee().getVertx(), BINARY_FORMAT_VERSION);
+    }
+
+    private static ComplexValue address(String street, String city) {
+        ComplexValue address = new ComplexValue();
+        address.getValue().add(new Property(null, "street", ValueType.PRIMITIVE, street));
+        address.getValue().add(new Property(null, "city", ValueType.PRIMITIVE, city));
+        return address;
+    }
+
+    private static void assertAddress(Object value, String street, String city) {
+        assertThat(value).isInstanceOf(ComplexValue.class);
+        List<Property> properties = ((ComplexValue) value).getValue();
+        assertThat(properties.stream().filter(property -> "street".equals(property.getName())).findAny().get()
+                .getValue()).isEqualTo(street);
+        assertThat(properties.stream().filter(property -> "city".equals(property.getName())).findAny().get()
+                .getValue()).isEqualTo(city);
+    }
+
+    @Test
+    @DisplayName("Should encode to the JSON format by default.")
+    void encodeJsonFormatByDefault(VertxTestContext testContext) {
+        assertThat(new NeonBeeConfig().getEntityWireFormatVersion()).isEqualTo(JSON_FORMAT_VERSION);
+
+        getNeonBee().getModelManager().reloadModels().onComplete(testContext.succeeding(map -> {
+            testContext.verify(() -> {
+                Buffer buffer = Buffer.buffer();
+                new EntityWrapperMessageCodec(getNeonBee().getVertx()).encodeToWire(buffer, wrapper);
+                assertThat(buffer.toJsonObject().containsKey("entityType")).isTrue();
+                testContext.completeNow();
+            });
+        }));
     }
 
     @Test
@@ -62,6 +101,180 @@ class EntityWrapperMessageCodecTest extends NeonBeeTestBase {
         }).onComplete(testContext.succeedingThenComplete());
     }
 
+    @Test
+    @DisplayName("Should encode to the binary format prefixed with the format version.")
+    void encodeBinaryFormat(VertxTestContext testContext) {
+        getNeonBee().getModelManager().reloadModels().onComplete(testContext.succeeding(map -> {
+            testContext.verify(() -> {
+                Buffer binaryBuffer = Buffer.buffer();
+                codec.encodeToWire(binaryBuffer, wrapper);
+                assertThat(binaryBuffer.getByte(0)).isEqualTo((byte) BINARY_FORMAT_VERSION);
+
+                Buffer jsonBuffer = Buffer.buffer();
+                new EntityWrapperMessageCodec(getNeonBee().getVertx(), JSON_FORMAT_VERSION).encodeToWire(jsonBuffer,
+                        wrapper);
+                assertThat(binaryBuffer.length()).isLessThan(jsonBuffer.length());
+                testContext.completeNow();
+            });
+        }));
+    }
+
+    @Test
+    @DisplayName("Should decode the JSON format, regardless of the format the codec encodes to.")
+    void decodeJsonFormat(VertxTestContext testContext) {
+        EntityWrapperMessageCodec jsonCodec =
+                new EntityWrapperMessageCodec(getNeonBee().getVertx(), JSON_FORMAT_VERSION);
+        getNeonBee().getModelManager().reloadModels().onComplete(testContext.succeeding(map -> {
+            testContext.verify(() -> {
+                Buffer buffer = Buffer.buffer();
+                jsonCodec.encodeToWire(buffer, wrapper);
+                assertThat(buffer.toJsonObject().containsKey("entityType")).isTrue();
+
+                for (EntityWrapperMessageCodec decodingCodec : List.of(codec, jsonCodec)) {
+                    Entity decodedEntity = decodingCodec.decodeFromWire(0, buffer).getEntity();
+                    assertThat(decodedEntity.getProperty("name").getValue()).isEqualTo("NAME");
+                    assertThat(decodedEntity.getProperty("description").getValue()).isEqualTo("DESCRIPTION");
+                    assertThat(decodedEntity.getProperty("ID").getValue()).isEqualTo("ID");
+                }
+                testContext.completeNow();
+            });
+        }));
+    }
+
+    @Test
+    @DisplayName("Should encode and decode null values and multiple entities in the binary format.")
+    void encodeDecodeBinaryFormat(VertxTestContext testContext) {
+        Entity otherEntity = new Entity().addProperty(new Property(null, "name", ValueType.PRIMITIVE, "OTHER"))
+                .addProperty(new Property(null, "ID", ValueType.PRIMITIVE, "ID2"));
+        otherEntity.setETag("\"etag\"");
+        EntityWrapper otherWrapper =
+                new EntityWrapper("io.neonbee.codec.CodecService.TestUsers", List.of(entity, otherEntity));
+
+        getNeonBee().getModelManager().reloadModels().onComplete(testContext.succeeding(map -> {
+            testContext.verify(() -> {
+                Buffer buffer = Buffer.buffer("prefix");
+                codec.encodeToWire(buffer, otherWrapper);
+
+                EntityWrapper decodedWrapper = codec.decodeFromWire("prefix".length(), buffer);
+                assertThat(decodedWrapper.getTypeName()).isEqualTo(otherWrapper.getTypeName());
+                assertThat(decodedWrapper.getEntities()).hasSize(2);
+
+                Entity decodedEntity = decodedWrapper.getEntities().get(1);
+                assertThat(decodedEntity.getType()).isEqualTo("io.neonbee.codec.CodecService.TestUsers");
+                assertThat(decodedEntity.getETag()).isEqualTo("\"etag\"");
+                assertThat(decodedEntity.getProperty("name").getValue()).isEqualTo("OTHER");
+                assertThat(decodedEntity.getProperty("name").getType()).isEqualTo("Edm.String");
+                assertThat(decodedEntity.getProperty("description").getValue()).isNull();
+                assertThat(decodedEntity.getProperty("ID").getValue()).isEqualTo("ID2");
+                testContext.completeNow();
+            });
+        }));
+    }
+
+    @Test
+    @DisplayName("Should encode and decode complex and collection values in both formats.")
+    void encodeDecodeComplexAndCollectionValues(VertxTestContext testContext) {
+        Entity complexEntity = new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, "ID"))
+                .addProperty(new Property(null, "name", ValueType.PRIMITIVE, "NAME"))
+                .addProperty(new Property(null, "age", ValueType.PRIMITIVE, 42))
+                .addProperty(new Property(null, "address", ValueType.COMPLEX, address("Main Street", "Walldorf")))
+                .addProperty(new Property(null, "formerAddresses", ValueType.COLLECTION_COMPLEX,
+                        List.of(address("First Street", "Berlin"), address("Second Street", null))))
+                .addProperty(new Property(null, "tags", ValueType.COLLECTION_PRIMITIVE, List.of("a", "b")));
+        EntityWrapper complexWrapper = new EntityWrapper("io.neonbee.codec.CodecService.TestUsers", complexEntity);
+
+        EntityWrapperMessageCodec jsonCodec =
+                new EntityWrapperMessageCodec(getNeonBee().getVertx(), JSON_FORMAT_VERSION);
+        getNeonBee().getModelManager().reloadModels().onComplete(testContext.succeeding(map -> {
+            testContext.verify(() -> {
+                for (EntityWrapperMessageCodec encodingCodec : List.of(codec, jsonCodec)) {
+                    Buffer buffer = Buffer.buffer();
+                    encodingCodec.encodeToWire(buffer, complexWrapper);
+                    Entity decodedEntity = codec.decodeFromWire(0, buffer).getEntity();
+
+                    assertThat(decodedEntity.getProperty("age").getValue()).isEqualTo(42);
+                    assertAddress(decodedEntity.getProperty("address").getValue(), "Main Street", "Walldorf");
+                    assertThat(decodedEntity.getProperty("formerAddresses").isCollection()).isTrue();
+                    List<?> formerAddresses = decodedEntity.getProperty("formerAddresses").asCollection();
+                    assertThat(formerAddresses).hasSize(2);
+                    assertAddress(formerAddresses.get(0), "First Street", "Berlin");
+                    assertAddress(formerAddresses.get(1), "Second Street", null);
+                    assertThat(decodedEntity.getProperty("tags").asCollection()).containsExactly("a", "b").inOrder();
+                }
+                testContext.completeNow();
+            });
+        }));
+    }
+
+    @Test
+    @DisplayName("Should neither encode navigation links in the binary nor in the JSON format.")
+    void encodeNavigationLinks(VertxTestContext testContext) {
+        Entity manager = new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, "MANAGER"))
+                .addProperty(new Property(null, "name", ValueType.PRIMITIVE, "MANAGER"));
+        Link managerLink = new Link();
+        managerLink.setTitle("manager");
+        managerLink.setInlineEntity(manager);
+
+        Entity linkedEntity = new Entity().addProperty(new Property(null, "ID", ValueType.PRIMITIVE, "ID"))
+                .addProperty(new Property(null, "name", ValueType.PRIMITIVE, "NAME"))
+                .addProperty(new Property(null, "manager_ID", ValueType.PRIMITIVE, "MANAGER"));
+        linkedEntity.getNavigationLinks().add(managerLink);
+        EntityWrapper linkedWrapper = new EntityWrapper("io.neonbee.codec.CodecService.TestUsers", linkedEntity);
+
+        EntityWrapperMessageCodec jsonCodec =
+                new EntityWrapperMessageCodec(getNeonBee().getVertx(), JSON_FORMAT_VERSION);
+        getNeonBee().getModelManager().reloadModels().onComplete(testContext.succeeding(map -> {
+            testContext.verify(() -> {
+                for (EntityWrapperMessageCodec encodingCodec : List.of(codec, jsonCodec)) {
+                    Buffer buffer = Buffer.buffer();
+                    encodingCodec.encodeToWire(buffer, linkedWrapper);
+                    Entity decodedEntity = codec.decodeFromWire(0, buffer).getEntity();
+
+                    // only the foreign key of the association is transferred, equal to the OData JSON serializer
+                    assertThat(decodedEntity.getNavigationLink("manager")).isNull();
+                    assertThat(decodedEntity.getProperty("manager_ID").getValue()).isEqualTo("MANAGER");
+                }
+                testContext.completeNow();
+            });
+        }));
+    }
+
+    @Test
+    @DisplayName("Should fail to decode corrupted binary formats.")
+    void decodeCorruptedBinaryFormat(VertxTestContext testContext) {
+        getNeonBee().getModelManager().reloadModels().onComplete(testContext.succeeding(map -> {
+            testContext.verify(() -> {
+                assertThrows(IllegalStateException.class,
+                        () -> codec.decodeFromWire(0, binaryEntity("ID", (byte) 42)));
+                assertThrows(IllegalStateException.class,
+                        () -> codec.decodeFromWire(0, binaryEntity("unknown", (byte) 0)));
+
+                Buffer buffer = Buffer.buffer();
+                codec.encodeToWire(buffer, wrapper);
+                assertThrows(IndexOutOfBoundsException.class,
+                        () -> codec.decodeFromWire(0, buffer.getBuffer(0, buffer.length() - 1)));
+                testContext.completeNow();
+            });
+        }));
+    }
+
+    private static Buffer binaryEntity(String propertyName, byte valueTag) {
+        Buffer buffer = Buffer.buffer().appendByte((byte) BINARY_FORMAT_VERSION);
+        for (String value : List.of("io.neonbee.codec.CodecService", "TestUsers")) {
+            buffer.appendInt(value.length()).appendString(value);
+        }
+        // one entity without an ETag and with one property
+        buffer.appendInt(1).appendInt(-1).appendInt(1);
+        return buffer.appendInt(propertyName.length()).appendString(propertyName).appendByte(valueTag);
+    }
+
+    @Test
+    @DisplayName("Should fail to decode unknown format versions.")
+    void decodeUnknownFormat() {
+        assertThrows(IllegalStateException.class, () -> codec.decodeFromWire(0, Buffer.buffer(new byte[] { 42 })));
+        assertThrows(IllegalArgumentException.class, () -> new EntityWrapperMessageCodec(getNeonBee().getVertx(), 42));
+    }
+
     @Test
     @DisplayName("Transform should return the same object")
     void testTransform() {
@@ -0,0 +1,46 @@
+package io.neonbee.internal.handler;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.health.EventLoopLagProbe;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+class LoadSheddingHandlerTest {
+    @Test
+    @DisplayName("should pass requests on, as long as the event loop lag is below the threshold")
+    void testBelowThreshold() {
+        EventLoopLagProbe probe = mock(EventLoopLagProbe.class);
+        when(probe.getSustainedLag(MILLISECONDS)).thenReturn(100.0);
+        RoutingContext routingContext = mock(RoutingContext.class);
+
+        new LoadSheddingHandler(probe, 500, 1).handle(routingContext);
+        verify(routingContext).next();
+        verify(routingContext, never()).response();
+    }
+
+    @Test
+    @DisplayName("should reject requests with 503, if the event loop lag exceeds the threshold")
+    void testAboveThreshold() {
+        EventLoopLagProbe probe = mock(EventLoopLagProbe.class);
+        when(probe.getSustainedLag(MILLISECONDS)).thenReturn(1000.0);
+        HttpServerResponse response = mock(HttpServerResponse.class, RETURNS_SELF);
+        RoutingContext routingContext = mock(RoutingContext.class);
+        when(routingContext.response()).thenReturn(response);
+
+        new LoadSheddingHandler(probe, 500, 5).handle(routingContext);
+        verify(routingContext, never()).next();
+        verify(response).setStatusCode(503);
+        verify(response).putHeader(HttpHeaders.RETRY_AFTER, "5");
+        verify(response).end();
+    }
+}
@@ -1,7 +1,16 @@
 package io.neonbee.internal.registry;
 
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxTestContext;
 
 class SelfCleaningRegistryTest extends StringRegistryTestBase {
 
@@ -9,4 +18,49 @@ class SelfCleaningRegistryTest extends StringRegistryTestBase {
     protected Future<Registry<String>> createRegistry(Vertx vertx) {
         return SelfCleaningRegistry.<String>create(vertx, "registryName").map(Registry.class::cast);
     }
+
+    @Test
+    @DisplayName("Values must be served from the local view until the registry is modified")
+    void testLocalView(Vertx vertx, VertxTestContext testContext) {
+        SelfCleaningRegistry.<String>create(vertx, "localViewRegistry").compose(registry -> registry
+                .register("key", "value1")
+                .compose(v -> registry.get("key"))
+                .compose(values -> registry.get("key").onSuccess(cachedValues -> testContext.verify(() -> {
+                    assertThat(cachedValues).containsExactly("value1");
+                    assertThat(cachedValues).isSameInstanceAs(values);
+                })))
+                .compose(v -> registry.register("key", "value2"))
+                .compose(v -> registry.get("key")))
+                .onComplete(testContext.succeeding(values -> testContext.verify(() -> {
+                    assertThat(values).containsExactly("value1", "value2");
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    @DisplayName("The local view must be invalidated if the registry is modified by another registry instance")
+    void testLocalViewInvalidation(Vertx vertx, VertxTestContext testContext) {
+        SelfCleaningRegistry.<String>create(vertx, "invalidationRegistry")
+                .compose(registry -> SelfCleaningRegistry.<String>create(vertx, "invalidationRegistry")
+                        .compose(otherRegistry -> registry.get("key").onSuccess(
+                                values -> testContext.verify(() -> assertThat(values).isEmpty()))
+                                .compose(v -> otherRegistry.register("key", "value1")))
+                        .compose(v -> awaitValues(vertx, registry, "key")))
+                .onComplete(testContext.succeeding(values -> testContext.verify(() -> {
+                    assertThat(values).containsExactly("value1");
+                    testContext.completeNow();
+                })));
+    }
+
+    private static Future<List<String>> awaitValues(Vertx vertx, Registry<String> registry, String key) {
+        // the change notification is delivered asynchronously via the event bus
+        return registry.get(key).compose(values -> {
+            if (!values.isEmpty()) {
+                return Future.succeededFuture(values);
+            }
+            Promise<List<String>> promise = Promise.promise();
+            vertx.setTimer(10, id -> awaitValues(vertx, registry, key).onComplete(promise));
+            return promise.future();
+        });
+    }
 }
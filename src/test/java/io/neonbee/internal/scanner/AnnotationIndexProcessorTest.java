@@ -0,0 +1,157 @@
+package io.neonbee.internal.scanner;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.internal.scanner.ClassPathScanner.INDEX_RESOURCE;
+import static io.neonbee.test.helper.FileSystemHelper.createTempDirectory;
+import static java.lang.annotation.ElementType.METHOD;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.neonbee.NeonBeeDeployable;
+import io.neonbee.hook.Hook;
+import io.neonbee.hook.Hooks;
+import io.neonbee.internal.BasicJar;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+class AnnotationIndexProcessorTest {
+    private static final Map<String, String> DEPLOYABLE_SOURCES = Map.of("deployable.PublicVerticle",
+            "package deployable;\n@io.neonbee.NeonBeeDeployable\npublic class PublicVerticle {\n"
+                    + "    public static class Nested {}\n}",
+            "deployable.PackagePrivateVerticle",
+            "package deployable;\n@io.neonbee.NeonBeeDeployable\nclass PackagePrivateVerticle {}",
+            "plain.Plain", "package plain;\npublic class Plain {}");
+
+    private static final Map<String, String> HOOK_SOURCES = Map.of("hook.HookClass",
+            "package hook;\nimport io.neonbee.hook.Hook;\nimport io.neonbee.hook.HookType;\n"
+                    + "public class HookClass {\n    @Hook(HookType.AFTER_STARTUP)\n    public void hook() {}\n"
+                    + "    @Hook(HookType.BEFORE_BOOTSTRAP)\n    @Hook(HookType.AFTER_STARTUP)\n"
+                    + "    public void hooks() {}\n}");
+
+    private static Path compile(Map<String, String> sources) throws IOException {
+        Path sourceDir = createTempDirectory();
+        Path classesDir = createTempDirectory();
+        List<File> sourceFiles = new ArrayList<>();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path sourceFile = sourceDir.resolve(source.getKey().replace('.', '/') + ".java");
+            Files.createDirectories(sourceFile.getParent());
+            sourceFiles.add(Files.writeString(sourceFile, source.getValue()).toFile());
+        }
+
+        JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager standardFileManager = javaCompiler.getStandardFileManager(null, null, null);
+        standardFileManager.setLocation(CLASS_OUTPUT, List.of(classesDir.toFile()));
+
+        JavaCompiler.CompilationTask task = javaCompiler.getTask(null, standardFileManager, null, null, null,
+                standardFileManager.getJavaFileObjectsFromFiles(sourceFiles));
+        task.setProcessors(List.of(new AnnotationIndexProcessor()));
+        assertThat(task.call()).isTrue();
+        return classesDir;
+    }
+
+    private static Map<String, byte[]> readClassFiles(Path classesDir, String... classNames) throws IOException {
+        Map<String, byte[]> classFiles = new HashMap<>();
+        for (String className : classNames) {
+            String entryName = BasicJar.getJarEntryName(className);
+            classFiles.put(entryName, Files.readAllBytes(classesDir.resolve(entryName)));
+        }
+        return classFiles;
+    }
+
+    @Test
+    @DisplayName("Should index all compiled classes and the annotated ones")
+    void writeIndex() throws IOException {
+        Map<String, String> sources = new HashMap<>(DEPLOYABLE_SOURCES);
+        sources.putAll(HOOK_SOURCES);
+
+        // the package private deployable is not annotated, as the class path scanner only considers public classes
+        assertThat(Files.readAllLines(compile(sources).resolve(INDEX_RESOURCE))).containsExactly(
+                "indexed io.neonbee.NeonBeeDeployable", "indexed io.neonbee.hook.Hook", "indexed io.neonbee.hook.Hooks",
+                "annotated io.neonbee.NeonBeeDeployable TYPE deployable.PublicVerticle",
+                "annotated io.neonbee.hook.Hook METHOD hook.HookClass",
+                "annotated io.neonbee.hook.Hooks METHOD hook.HookClass", "class deployable.PackagePrivateVerticle",
+                "class deployable.PublicVerticle", "class hook.HookClass", "class plain.Plain");
+    }
+
+    @Test
+    @DisplayName("Should not write an index, in case no annotation was processed")
+    void writeNoIndex() throws IOException {
+        assertThat(Files.exists(compile(Map.of("plain.Plain", "package plain;\npublic class Plain {}"))
+                .resolve(INDEX_RESOURCE))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should find all annotated classes in a fat JAR with merged indices and classes without an index")
+    void scanFatJar(Vertx vertx, VertxTestContext testContext) throws IOException {
+        Path deployablesDir = compile(DEPLOYABLE_SOURCES);
+        Path hooksDir = compile(HOOK_SOURCES);
+        AnnotatedClassTemplate unindexedTemplate = new AnnotatedClassTemplate("UnindexedVerticle", "unindexed")
+                .setTypeAnnotation("@NeonBeeDeployable").setImports(List.of(NeonBeeDeployable.class.getName()));
+
+        Map<String, byte[]> content = new HashMap<>();
+        content.putAll(readClassFiles(deployablesDir, "deployable.PublicVerticle", "deployable.PublicVerticle$Nested",
+                "deployable.PackagePrivateVerticle", "plain.Plain"));
+        content.putAll(readClassFiles(hooksDir, "hook.HookClass"));
+        content.put(BasicJar.getJarEntryName(unindexedTemplate.getClassName()), unindexedTemplate.compileToByteCode());
+        // merge the indices by appending them, as a fat JAR plugin configured to append the index would do
+        content.put(INDEX_RESOURCE,
+                (Files.readString(deployablesDir.resolve(INDEX_RESOURCE), StandardCharsets.UTF_8)
+                        + Files.readString(hooksDir.resolve(INDEX_RESOURCE), StandardCharsets.UTF_8))
+                                .getBytes(StandardCharsets.UTF_8));
+
+        ClassPathScanner cps = new ClassPathScanner(new URLClassLoader(new BasicJar(content).writeToTempURL(), null));
+        Checkpoint annotationsScanned = testContext.checkpoint(2);
+
+        cps.scanForAnnotation(vertx, NeonBeeDeployable.class)
+                .onComplete(testContext.succeeding(classNames -> testContext.verify(() -> {
+                    assertThat(classNames).containsExactly("deployable.PublicVerticle", "unindexed.UnindexedVerticle");
+                    annotationsScanned.flag();
+                })));
+        cps.scanForAnnotation(vertx, List.of(Hook.class, Hooks.class), METHOD)
+                .onComplete(testContext.succeeding(classNames -> testContext.verify(() -> {
+                    assertThat(classNames).containsExactly("hook.HookClass");
+                    annotationsScanned.flag();
+                })));
+    }
+
+    @Test
+    @DisplayName("Should scan the class files compiled without the processor, in case an index is partially merged")
+    void scanPartiallyMergedIndex(Vertx vertx, VertxTestContext testContext) throws IOException {
+        Path deployablesDir = compile(DEPLOYABLE_SOURCES);
+        Path hooksDir = compile(HOOK_SOURCES);
+
+        // only the index of the hook module made it into the JAR file
+        Map<String, byte[]> content = new HashMap<>(readClassFiles(deployablesDir, "deployable.PublicVerticle"));
+        content.putAll(readClassFiles(hooksDir, "hook.HookClass"));
+        content.put(INDEX_RESOURCE, Files.readAllBytes(hooksDir.resolve(INDEX_RESOURCE)));
+
+        URL[] urls = new BasicJar(content).writeToTempURL();
+        new ClassPathScanner(new URLClassLoader(urls, null)).scanForAnnotation(vertx, NeonBeeDeployable.class)
+                .onComplete(testContext.succeeding(classNames -> testContext.verify(() -> {
+                    assertThat(classNames).containsExactly("deployable.PublicVerticle");
+                    testContext.completeNow();
+                })));
+    }
+}
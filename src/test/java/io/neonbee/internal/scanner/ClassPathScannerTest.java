@@ -139,6 +139,46 @@ class ClassPathScannerTest {
                 "method.Hodor");
     }
 
+    @Test
+    @DisplayName("Should read annotated classes from the index and scan all class files not covered by the index")
+    void scanForAnnotationWithIndex(Vertx vertx, VertxTestContext testContext) throws IOException {
+        AnnotatedClassTemplate indexedTemplate =
+                new AnnotatedClassTemplate("Hodor", "indexed").setTypeAnnotation("@Deprecated");
+        AnnotatedClassTemplate unindexedTemplate =
+                new AnnotatedClassTemplate("Hodor", "unindexed").setTypeAnnotation("@Deprecated");
+        // the indices of two modules, which got concatenated when merging the modules into one JAR file
+        String index = "indexed java.lang.Deprecated\nclass indexed.Hodor\nclass indexed.Hodor2\n"
+                + "annotated java.lang.Deprecated TYPE indexed.Hodor2\n"
+                + "annotated java.lang.Deprecated METHOD indexed.Hodor3\n"
+                + "indexed java.lang.Deprecated\nclass other.Hodor\nannotated java.lang.Deprecated FIELD other.Hodor\n";
+        BasicJar indexedJar = new BasicJar(Map.of(BasicJar.getJarEntryName(indexedTemplate.getClassName()),
+                indexedTemplate.compileToByteCode(), BasicJar.getJarEntryName(unindexedTemplate.getClassName()),
+                unindexedTemplate.compileToByteCode(), ClassPathScanner.INDEX_RESOURCE,
+                index.getBytes(StandardCharsets.UTF_8)));
+        BasicJar jarWithTypeAnnotatedClass =
+                new AnnotatedClassTemplate("Hodor", "type").setTypeAnnotation("@Deprecated").asJar();
+
+        URL[] urlc = Stream.of(indexedJar.writeToTempURL(), jarWithTypeAnnotatedClass.writeToTempURL())
+                .flatMap(Stream::of).toArray(URL[]::new);
+        ClassPathScanner cps = new ClassPathScanner(new URLClassLoader(urlc, null));
+
+        Checkpoint annotationsScanned = testContext.checkpoint(4);
+
+        // indexed.Hodor is annotated, but not found, because it is covered by the index, unindexed.Hodor is not
+        futureContainsExactly(testContext, annotationsScanned, cps.scanForAnnotation(vertx, Deprecated.class, TYPE),
+                "indexed.Hodor2", "unindexed.Hodor", "type.Hodor");
+        futureContainsExactly(testContext, annotationsScanned, cps.scanForAnnotation(vertx, Deprecated.class, METHOD),
+                "indexed.Hodor3");
+        futureContainsExactly(testContext, annotationsScanned,
+                cps.scanForAnnotation(vertx, Deprecated.class, TYPE, FIELD, METHOD), "indexed.Hodor2", "indexed.Hodor3",
+                "other.Hodor", "unindexed.Hodor", "type.Hodor");
+
+        // the index cannot be used, in case not all annotations are indexed
+        futureContainsExactly(testContext, annotationsScanned,
+                cps.scanForAnnotation(vertx, List.of(Deprecated.class, Transient.class), TYPE), "indexed.Hodor",
+                "unindexed.Hodor", "type.Hodor");
+    }
+
     private static void futureContainsExactly(VertxTestContext testContext, Checkpoint checkpoint,
             Future<List<String>> future, Object... varargs) {
         future.onComplete(testContext.succeeding(list -> testContext.verify(() -> {
@@ -1,15 +1,21 @@
 package io.neonbee.internal.tracking;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
 
 import io.neonbee.data.DataContext;
 import io.neonbee.data.DataQuery;
@@ -38,7 +44,7 @@ class TrackingInterceptorTest {
     @Test
     @DisplayName("test outbound message")
     void testHandleOutBoundMessages() {
-        TrackingDataHandlingStrategy strategy = mock(TrackingDataHandlingStrategy.class);
+        TrackingDataHandlingStrategy strategy = mock(TrackingDataHandlingStrategy.class, CALLS_REAL_METHODS);
         TrackingInterceptor interceptor = new TrackingInterceptor(MessageDirection.OUTBOUND, strategy);
         doNothing().when(strategy).handleOutBoundRequest(any(DataContext.class));
         doNothing().when(strategy).handleOutBoundReply(any(DataContext.class));
@@ -58,7 +64,7 @@ class TrackingInterceptorTest {
     @Test
     @DisplayName("test inbound message")
     void testHandleInBoundMessages() {
-        TrackingDataHandlingStrategy strategy = mock(TrackingDataHandlingStrategy.class);
+        TrackingDataHandlingStrategy strategy = mock(TrackingDataHandlingStrategy.class, CALLS_REAL_METHODS);
         TrackingInterceptor interceptor = new TrackingInterceptor(MessageDirection.INBOUND, strategy);
         doNothing().when(strategy).handleInBoundRequest(any(DataContext.class));
         doNothing().when(strategy).handleInBoundReply(any(DataContext.class));
@@ -74,4 +80,75 @@ class TrackingInterceptorTest {
         verify(strategy, times(1)).handleInBoundReply(any(DataContext.class));
         reset(strategy);
     }
+
+    @Test
+    @DisplayName("test that no message is handled, if the strategy is not tracking")
+    void testNotTracking() {
+        TrackingDataHandlingStrategy strategy = mock(TrackingDataHandlingStrategy.class);
+        when(strategy.isTracking()).thenReturn(false);
+        TrackingInterceptor interceptor = new TrackingInterceptor(MessageDirection.INBOUND, strategy);
+        interceptor.handle(new TestDeliveryContext<>(message));
+        verify(strategy, times(0)).handleInBoundRequest(any(DataContext.class));
+    }
+
+    @Test
+    @DisplayName("test that messages are sampled by correlation id")
+    void testSampling() {
+        TrackingDataHandlingStrategy strategy = mock(TrackingDataHandlingStrategy.class, CALLS_REAL_METHODS);
+        int sampleRate = 3;
+        TrackingInterceptor interceptor = new TrackingInterceptor(MessageDirection.INBOUND, strategy, sampleRate);
+
+        int tracked = 0;
+        for (int i = 0; i < 30; i++) {
+            String contextHeader = DataContextImpl
+                    .encodeContextToBinaryString(new DataContextImpl("correlationId" + i, null, null));
+            TestMessage<Object> sampledMessage = new TestMessage<>("address", "replyAddress",
+                    MultiMap.caseInsensitiveMultiMap().add("Context", contextHeader), new DataQuery());
+            interceptor.handle(new TestDeliveryContext<>(sampledMessage));
+            interceptor.handle(new TestDeliveryContext<>(sampledMessage));
+            if (Math.floorMod(("correlationId" + i).hashCode(), sampleRate) == 0) {
+                tracked++;
+            }
+        }
+        verify(strategy, times(2 * tracked)).handleInBoundRequest(any(DataContext.class));
+    }
+
+    @Test
+    @DisplayName("test that JSON encoded contexts of messages, which are not sampled, are not decoded")
+    void testSamplingDoesNotDecodeJson() {
+        TrackingDataHandlingStrategy strategy = mock(TrackingDataHandlingStrategy.class, CALLS_REAL_METHODS);
+        int sampleRate = 3;
+        TrackingInterceptor interceptor = new TrackingInterceptor(MessageDirection.INBOUND, strategy, sampleRate);
+
+        try (MockedStatic<DataContextImpl> dataContext = mockStatic(DataContextImpl.class, CALLS_REAL_METHODS)) {
+            int tracked = 0;
+            for (int i = 0; i < 30; i++) {
+                DataContextImpl context = new DataContextImpl("correlationId" + i, "sessionId", "bearerToken",
+                        new JsonObject().put("username", "Duke"), null, null);
+                context.pushVerticleToPath("Data1Verticle");
+                String contextHeader = DataContextImpl.encodeContextToString(context);
+                interceptor.handle(new TestDeliveryContext<>(new TestMessage<>("address", "replyAddress",
+                        MultiMap.caseInsensitiveMultiMap().add("Context", contextHeader), new DataQuery())));
+                if (Math.floorMod(("correlationId" + i).hashCode(), sampleRate) == 0) {
+                    tracked++;
+                }
+            }
+            dataContext.verify(() -> DataContextImpl.decodeContextFromString(anyString()), times(tracked));
+            verify(strategy, times(tracked)).handleInBoundRequest(any(DataContext.class));
+        }
+    }
+
+    @Test
+    @DisplayName("test that messages without correlation id are not all sampled")
+    void testSamplingWithoutCorrelationId() {
+        TrackingDataHandlingStrategy strategy = mock(TrackingDataHandlingStrategy.class, CALLS_REAL_METHODS);
+        TrackingInterceptor interceptor = new TrackingInterceptor(MessageDirection.INBOUND, strategy, 1000);
+
+        String contextHeader = DataContextImpl.encodeContextToBinaryString(new DataContextImpl());
+        for (int i = 0; i < 100; i++) {
+            interceptor.handle(new TestDeliveryContext<>(new TestMessage<>("address", "replyAddress",
+                    MultiMap.caseInsensitiveMultiMap().add("Context", contextHeader), new DataQuery())));
+        }
+        verify(strategy, atMost(10)).handleInBoundRequest(any(DataContext.class));
+    }
 }
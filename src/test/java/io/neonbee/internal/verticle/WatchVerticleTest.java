@@ -14,11 +14,16 @@ import static io.neonbee.test.helper.FileSystemHelper.createTempDirectory;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -26,6 +31,8 @@ import static org.mockito.Mockito.verify;
 import java.io.IOException;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.Path;
+import java.nio.file.WatchEvent.Kind;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -36,6 +43,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.condition.DisabledOnOs;
 import org.junit.jupiter.api.condition.OS;
+import org.mockito.ArgumentCaptor;
 
 import io.neonbee.NeonBeeOptions;
 import io.neonbee.test.base.NeonBeeTestBase;
@@ -281,6 +289,47 @@ class WatchVerticleTest extends NeonBeeTestBase {
                 }));
     }
 
+    @Test
+    @DisplayName("Subsequent kinds of events should be coalesced into the final kind of change")
+    void testCoalesce() {
+        assertThat(WatchVerticle.coalesce(null, ENTRY_CREATE)).isEqualTo(ENTRY_CREATE);
+        assertThat(WatchVerticle.coalesce(null, ENTRY_MODIFY)).isEqualTo(ENTRY_MODIFY);
+        assertThat(WatchVerticle.coalesce(ENTRY_CREATE, ENTRY_MODIFY)).isEqualTo(ENTRY_CREATE);
+        assertThat(WatchVerticle.coalesce(ENTRY_CREATE, ENTRY_DELETE)).isNull();
+        assertThat(WatchVerticle.coalesce(ENTRY_MODIFY, ENTRY_DELETE)).isEqualTo(ENTRY_DELETE);
+        assertThat(WatchVerticle.coalesce(ENTRY_DELETE, ENTRY_CREATE)).isEqualTo(ENTRY_CREATE);
+    }
+
+    @Test
+    @DisplayName("WatchVerticle should deliver debounced changes as one batch")
+    @DisabledOnOs(value = { OS.MAC },
+            disabledReason = "Issues with File Watching Service on macOS. We need a cross-platform Java recursive directory watcher, that works well with macOS")
+    @SuppressWarnings("unchecked")
+    void testDebounce(Vertx vertx, VertxTestContext testCtx) throws InterruptedException {
+        long interval = TimeUnit.MINUTES.toMillis(10);
+        WatchVerticle watchVerticleSpy =
+                spy(new WatchVerticle(watchDir, interval, TimeUnit.MILLISECONDS, false, false, 50));
+        Path watchedFileOne = watchDir.resolve("watchedFileOne");
+        Path watchedFileTwo = watchDir.resolve("watchedFileTwo");
+        ArgumentCaptor<Map<Path, Kind<?>>> changesCaptor = ArgumentCaptor.forClass(Map.class);
+
+        DeploymentHelper.deployVerticle(vertx, watchVerticleSpy)
+                .compose(s -> writeFile(vertx, watchedFileOne, Buffer.buffer()))
+                .compose(v -> writeFile(vertx, watchedFileOne, Buffer.buffer(toByte("Lord Citrange"))))
+                .compose(v -> writeFile(vertx, watchedFileTwo, Buffer.buffer()))
+                // the first check collects the events, but the debounce window didn't pass yet
+                .compose(v -> verifyFileEvent(vertx, testCtx, watchVerticleSpy,
+                        () -> verify(watchVerticleSpy, never()).observedChanges(any(), any())))
+                .compose(v -> verifyFileEvent(vertx, testCtx, watchVerticleSpy, () -> {
+                    verify(watchVerticleSpy).observedChanges(changesCaptor.capture(), any());
+                    assertThat(changesCaptor.getValue()).containsExactly(watchedFileOne, ENTRY_CREATE, watchedFileTwo,
+                            ENTRY_CREATE);
+                    verify(watchVerticleSpy).observedCreate(eq(watchedFileOne));
+                    verify(watchVerticleSpy).observedCreate(eq(watchedFileTwo));
+                    verify(watchVerticleSpy, never()).observedModify(any(Path.class));
+                })).onComplete(testCtx.succeedingThenComplete());
+    }
+
     private static Future<Void> verifyFileEvent(Vertx vertx, VertxTestContext testCtx, WatchVerticle watchVerticleSpy,
             ExecutionBlock checks) {
         // on windows or some CI platforms, same as deletion handles, all modification handles can take a bit of time
@@ -9,6 +9,8 @@ import java.time.temporal.ChronoUnit;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import io.neonbee.job.JobSchedule.ExecutionMode;
+
 class JobScheduleTest {
     @Test
     @DisplayName("Initialize JobSchedule")
@@ -42,4 +44,13 @@ class JobScheduleTest {
         schedule = new JobSchedule(now, temporal -> temporal.plus(20, ChronoUnit.SECONDS), now);
         assertThat(now.until(schedule.adjustInto(now), ChronoUnit.SECONDS)).isEqualTo(20);
     }
+
+    @Test
+    @DisplayName("Set the execution mode of a JobSchedule")
+    void testExecutionMode() {
+        JobSchedule schedule = new JobSchedule();
+        assertThat(schedule.getExecutionMode()).isEqualTo(ExecutionMode.LOCAL);
+        assertThat(schedule.setExecutionMode(ExecutionMode.SINGLETON)).isSameInstanceAs(schedule);
+        assertThat(schedule.getExecutionMode()).isEqualTo(ExecutionMode.SINGLETON);
+    }
 }
@@ -3,7 +3,9 @@ package io.neonbee.job;
 import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.NeonBeeProfile.NO_WEB;
 import static io.neonbee.job.JobVerticle.FINALIZE_DELAY;
+import static io.neonbee.job.JobVerticleTest.PartitionedJobVerticle.WORK_ITEMS;
 import static io.neonbee.test.base.NeonBeeTestBase.LONG_RUNNING_TEST;
+import static io.neonbee.test.helper.ConcurrentHelper.waitFor;
 import static io.neonbee.test.helper.OptionsHelper.defaultOptions;
 import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.time.temporal.ChronoUnit.MINUTES;
@@ -23,7 +25,11 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -32,9 +38,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.mockito.MockedStatic;
 
+import com.google.common.collect.Sets;
+
 import io.neonbee.NeonBeeMockHelper;
 import io.neonbee.NeonBeeOptions;
 import io.neonbee.data.DataContext;
+import io.neonbee.job.JobSchedule.ExecutionMode;
 import io.neonbee.test.base.NeonBeeTestBase;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -276,4 +285,96 @@ class JobVerticleTest extends NeonBeeTestBase {
         DummyJobVerticle dummyJobVerticle = new DummyJobVerticle(new JobSchedule(Duration.ofMinutes(1)));
         deployVerticle(dummyJobVerticle).onComplete(testConetxt.succeeding(v -> {}));
     }
+
+    @Test
+    @DisplayName("Execute a singleton job only once, even if it is deployed multiple times")
+    void testSingletonExecution(Vertx vertx, VertxTestContext testContext) {
+        AtomicInteger executions = new AtomicInteger();
+        class SingletonJobVerticle extends JobVerticle {
+
+            SingletonJobVerticle() {
+                super(new JobSchedule().setExecutionMode(ExecutionMode.SINGLETON), false);
+            }
+
+            @Override
+            public Future<?> execute(DataContext context) {
+                executions.incrementAndGet();
+                return Future.succeededFuture();
+            }
+        }
+
+        deployVerticle(new SingletonJobVerticle()).compose(d -> deployVerticle(new SingletonJobVerticle()))
+                .compose(d -> waitFor(vertx, 500)).onComplete(testContext.succeeding(v -> {
+                    testContext.verify(() -> assertThat(executions.get()).isEqualTo(1));
+                    testContext.completeNow();
+                }));
+    }
+
+    @Test
+    @DisplayName("Do not take over a singleton job, while an execution takes longer than the lease is valid")
+    void testSingletonLeaseRenewal(Vertx vertx, VertxTestContext testContext) {
+        AtomicInteger runningExecutions = new AtomicInteger();
+        AtomicInteger concurrentExecutions = new AtomicInteger();
+        class LongRunningJobVerticle extends JobVerticle {
+
+            LongRunningJobVerticle() {
+                // the lease is valid for two periods, i.e. 200ms, while a single execution takes 600ms
+                super(new JobSchedule(Duration.ofMillis(100)).setExecutionMode(ExecutionMode.SINGLETON), false);
+            }
+
+            @Override
+            public Future<?> execute(DataContext context) {
+                if (runningExecutions.incrementAndGet() > 1) {
+                    concurrentExecutions.incrementAndGet();
+                }
+                return waitFor(vertx, 600).onComplete(nothing -> runningExecutions.decrementAndGet());
+            }
+        }
+
+        deployVerticle(new LongRunningJobVerticle()).compose(d -> deployVerticle(new LongRunningJobVerticle()))
+                .compose(d -> waitFor(vertx, 1500)).onComplete(testContext.succeeding(v -> {
+                    testContext.verify(() -> assertThat(concurrentExecutions.get()).isEqualTo(0));
+                    testContext.completeNow();
+                }));
+    }
+
+    @Test
+    @DisplayName("Split the work items of a partitioned job across all instances of the job")
+    void testPartitionedInstances(Vertx vertx, VertxTestContext testContext) {
+        PartitionedJobVerticle firstInstance = new PartitionedJobVerticle();
+        PartitionedJobVerticle secondInstance = new PartitionedJobVerticle();
+
+        deployVerticle(firstInstance).compose(d -> deployVerticle(secondInstance)).compose(d -> waitFor(vertx, 500))
+                .onComplete(testContext.succeeding(v -> {
+                    testContext.verify(() -> {
+                        Set<String> firstItems = firstInstance.assignedWorkItems;
+                        Set<String> secondItems = secondInstance.assignedWorkItems;
+                        assertThat(firstItems).isNotEmpty();
+                        assertThat(secondItems).isNotEmpty();
+                        assertThat(Sets.intersection(firstItems, secondItems)).isEmpty();
+                        assertThat(Sets.union(firstItems, secondItems)).containsExactlyElementsIn(WORK_ITEMS);
+                    });
+                    testContext.completeNow();
+                }));
+    }
+
+    /**
+     * A periodic partitioned job, which remembers the work items assigned to it in its last execution.
+     */
+    static class PartitionedJobVerticle extends JobVerticle {
+        static final Set<String> WORK_ITEMS =
+                IntStream.range(0, 100).mapToObj(i -> "item" + i).collect(Collectors.toUnmodifiableSet());
+
+        volatile Set<String> assignedWorkItems = Set.of();
+
+        PartitionedJobVerticle() {
+            super(new JobSchedule(Duration.ofMillis(100)).setExecutionMode(ExecutionMode.PARTITIONED), false);
+        }
+
+        @Override
+        public Future<?> execute(DataContext context) {
+            assignedWorkItems = WORK_ITEMS.stream().filter(this::isAssigned).collect(Collectors.toSet());
+            return Future.succeededFuture();
+        }
+    }
 }
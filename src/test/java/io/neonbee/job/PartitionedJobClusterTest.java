@@ -0,0 +1,38 @@
+package io.neonbee.job;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.neonbee.job.JobVerticleTest.PartitionedJobVerticle.WORK_ITEMS;
+import static io.neonbee.test.helper.ConcurrentHelper.waitFor;
+import static io.neonbee.test.helper.DeploymentHelper.deployVerticle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.neonbee.NeonBee;
+import io.neonbee.NeonBeeExtension;
+import io.neonbee.NeonBeeInstanceConfiguration;
+import io.neonbee.job.JobVerticleTest.PartitionedJobVerticle;
+import io.vertx.junit5.VertxTestContext;
+
+class PartitionedJobClusterTest extends NeonBeeExtension.TestBase {
+    @Test
+    @DisplayName("Assign all work items to the nodes deploying a partitioned job")
+    void testPartitionedJobNotDeployedOnAllNodes(
+            @NeonBeeInstanceConfiguration(clustered = true, disableJobScheduling = false,
+                    activeProfiles = {}) NeonBee jobNode,
+            @NeonBeeInstanceConfiguration(clustered = true, disableJobScheduling = false,
+                    activeProfiles = {}) NeonBee otherNode,
+            VertxTestContext testContext) {
+        PartitionedJobVerticle job = new PartitionedJobVerticle();
+
+        // the other node is part of the cluster, but does not deploy the job, so all work items are assigned to the job
+        deployVerticle(jobNode.getVertx(), job).compose(d -> waitFor(jobNode.getVertx(), 500))
+                .onComplete(testContext.succeeding(v -> {
+                    testContext.verify(() -> {
+                        assertThat(otherNode.getVertx().isClustered()).isTrue();
+                        assertThat(job.assignedWorkItems).containsExactlyElementsIn(WORK_ITEMS);
+                    });
+                    testContext.completeNow();
+                }));
+    }
+}
@@ -3,9 +3,13 @@ package io.neonbee.logging.internal;
 import static com.google.common.truth.Truth.assertThat;
 import static io.neonbee.logging.internal.LoggingFacadeImpl.DEFAULT_MARKER;
 import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -25,7 +29,9 @@ class LoggingFacadeImplTest {
 
     private static final Object[] DUMMY_ARGUMENTS = { DUMMY_ARGUMENT, DUMMY_THROWABLE };
 
-    private final Logger mockedLogger = mock(Logger.class);
+    // all log levels are enabled, as the facade checks the log level before logging
+    private final Logger mockedLogger = mock(Logger.class, invocation -> boolean.class
+            .equals(invocation.getMethod().getReturnType()) ? Boolean.TRUE : RETURNS_DEFAULTS.answer(invocation));
 
     private LoggingFacadeImpl facade;
 
@@ -41,17 +47,40 @@ class LoggingFacadeImplTest {
         LoggingFacadeImpl facade = new LoggingFacadeImpl(null);
 
         facade.correlateWith(correlId);
-        Marker hodorMarker = facade.currentMarker;
+        Marker hodorMarker = facade.currentMarker();
         assertThat(hodorMarker.getName()).isEqualTo(correlId);
 
         facade.correlateWith(correlId);
-        assertThat(facade.currentMarker).isSameInstanceAs(hodorMarker);
+        assertThat(facade.currentMarker()).isSameInstanceAs(hodorMarker);
 
         facade.correlateWith("");
-        assertThat(facade.currentMarker).isEqualTo(DEFAULT_MARKER);
+        assertThat(facade.currentMarker()).isEqualTo(DEFAULT_MARKER);
 
         facade.correlateWith((String) null);
-        assertThat(facade.currentMarker).isEqualTo(DEFAULT_MARKER);
+        assertThat(facade.currentMarker()).isEqualTo(DEFAULT_MARKER);
+    }
+
+    @Test
+    void testCorrelateWithIsThreadLocal() throws Exception {
+        LoggingFacadeImpl facade = new LoggingFacadeImpl(null);
+        facade.correlateWith("hodor");
+
+        Thread thread = new Thread(() -> facade.correlateWith("other"));
+        thread.start();
+        thread.join();
+
+        assertThat(facade.currentMarker().getName()).isEqualTo("hodor");
+    }
+
+    @Test
+    void testDisabledLogLevel() {
+        Logger disabledLogger = mock(Logger.class);
+        LoggingFacadeImpl facade = new LoggingFacadeImpl(disabledLogger);
+
+        assertThat(facade.correlateWith("hodor").isDebugEnabled()).isFalse();
+        facade.correlateWith("other").debug(DUMMY_LOG_MSG, DUMMY_ARGUMENT);
+        verify(disabledLogger, never()).isDebugEnabled(any(Marker.class));
+        verify(disabledLogger, never()).debug(any(Marker.class), anyString(), any(Object.class));
     }
 
     @Test
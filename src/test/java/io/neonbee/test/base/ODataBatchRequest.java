@@ -23,6 +23,7 @@ import com.google.common.net.UrlEscapers;
 import io.neonbee.NeonBee;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.ext.web.client.HttpResponse;
@@ -36,9 +37,11 @@ public class ODataBatchRequest extends AbstractODataRequest<ODataBatchRequest> {
 
     private static final Buffer EMPTY = buffer();
 
+    private static final CharSequence CONTENT_ID = HttpHeaders.createOptimized("content-id");
+
     private final String boundary;
 
-    private final List<ODataRequest> requests = new ArrayList<>();
+    private final List<Part> parts = new ArrayList<>();
 
     @VisibleForTesting
     ODataBatchRequest(FullQualifiedName entity, String boundary) {
@@ -64,8 +67,24 @@ public class ODataBatchRequest extends AbstractODataRequest<ODataBatchRequest> {
     @VisibleForTesting
     Buffer createBody() {
         Buffer buffer = buffer();
-        for (ODataRequest request : requests) {
-            buffer.appendString("--" + boundary + "\n").appendBuffer(toBodyPart(request)).appendString("\n");
+        int changeSetCount = 0;
+        int contentId = 0;
+        for (Part part : parts) {
+            buffer.appendString("--" + boundary + "\n");
+            if (!part.changeSet) {
+                buffer.appendBuffer(toBodyPart(part.requests.get(0))).appendString("\n");
+                continue;
+            }
+
+            // a change set is a nested multipart body, where each request must have a content ID
+            String changeSetBoundary = "changeset_" + boundary + "_" + ++changeSetCount;
+            buffer.appendString(CONTENT_TYPE + ":multipart/mixed; boundary=" + changeSetBoundary + "\n\n");
+            for (ODataRequest request : part.requests) {
+                buffer.appendString("--" + changeSetBoundary + "\n")
+                        .appendBuffer(toBodyPart(request, Map.of(CONTENT_ID, Integer.toString(++contentId))))
+                        .appendString("\n");
+            }
+            buffer.appendString("--" + changeSetBoundary + "--\n");
         }
 
         // close boundary
@@ -74,6 +93,10 @@ public class ODataBatchRequest extends AbstractODataRequest<ODataBatchRequest> {
 
     @VisibleForTesting
     static Buffer toBodyPart(AbstractODataRequest<?> request) {
+        return toBodyPart(request, Map.of());
+    }
+
+    private static Buffer toBodyPart(AbstractODataRequest<?> request, Map<CharSequence, String> partHeaders) {
         // create URI
         // providing namespace prefix with the URL results in bad request from olingo
         // failing example: GET io.neonbee.test.TestService1/AllPropertiesNullable('id-1') HTTP/1.1
@@ -85,11 +108,15 @@ public class ODataBatchRequest extends AbstractODataRequest<ODataBatchRequest> {
                     .escape(Joiner.on('&').withKeyValueSeparator('=').join(request.query));
         }
 
+        Map<CharSequence, String> headers =
+                new TreeMap<>(Map.of(CONTENT_TYPE, "application/http", CONTENT_TRANSFER_ENCODING, "binary"));
+        headers.putAll(partHeaders);
+
         Joiner.MapJoiner headerJoiner = Joiner.on("\n").withKeyValueSeparator(':');
         Buffer buffer = buffer(headerJoiner
                 // TreeMap guarantees predictable order for header serialization via toBodyPart(...) required for test
                 // assertion
-                .join(new TreeMap<>(Map.of(CONTENT_TYPE, "application/http", CONTENT_TRANSFER_ENCODING, "binary"))))
+                .join(headers))
                         .appendString("\n\n")
                         .appendString(
                                 Joiner.on(' ').join(request.method.name(), uri,
@@ -114,7 +141,24 @@ public class ODataBatchRequest extends AbstractODataRequest<ODataBatchRequest> {
             throw new IllegalArgumentException("requests must not be empty!");
         }
 
-        this.requests.addAll(Arrays.asList(requests));
+        Arrays.stream(requests).map(request -> new Part(List.of(request), false)).forEach(parts::add);
+        return this;
+    }
+
+    /**
+     * Adds a change set of OData requests for batch processing. All requests of a change set are processed as one
+     * part of the batch request.
+     *
+     * @param requests the (modifying) requests of the change set
+     * @return An {@link ODataBatchRequest} for OData batch processing
+     */
+    public ODataBatchRequest addChangeSet(ODataRequest... requests) {
+        Objects.requireNonNull(requests, "requests must not be null!");
+        if (requests.length < 1) {
+            throw new IllegalArgumentException("requests must not be empty!");
+        }
+
+        parts.add(new Part(List.of(requests), true));
         return this;
     }
 
@@ -125,4 +169,15 @@ public class ODataBatchRequest extends AbstractODataRequest<ODataBatchRequest> {
         headers.set(CONTENT_TYPE, "multipart/mixed; boundary=" + boundary);
         return super.send(neonBee);
     }
+
+    private static final class Part {
+        private final List<ODataRequest> requests;
+
+        private final boolean changeSet;
+
+        Part(List<ODataRequest> requests, boolean changeSet) {
+            this.requests = requests;
+            this.changeSet = changeSet;
+        }
+    }
 }
@@ -124,6 +124,41 @@ class ODataBatchRequestTest {
         assertThat(body.toString()).isEqualTo(expected);
     }
 
+    @Test
+    @DisplayName("Batch request body with change set must comply to OData specification")
+    void testCreateBodyWithChangeSet() {
+        Buffer body = batchRequest.addRequests(getRequest).addChangeSet(postRequest).createBody();
+
+        String expected = "--" + boundary
+                + "\ncontent-transfer-encoding:binary"
+                + "\ncontent-type:application/http"
+                + "\n"
+                + "\nGET my-entity HTTP/1.1"
+                + "\n\n"
+                + "\n--" + boundary
+                + "\ncontent-type:multipart/mixed; boundary=changeset_" + boundary + "_1"
+                + "\n"
+                + "\n--changeset_" + boundary + "_1"
+                + "\ncontent-id:1"
+                + "\ncontent-transfer-encoding:binary"
+                + "\ncontent-type:application/http"
+                + "\n"
+                + "\nPOST my-entity HTTP/1.1"
+                + "\ncontent-type:text/plain"
+                + "\n"
+                + "\nThis is my entity"
+                + "\n--changeset_" + boundary + "_1--"
+                + "\n--" + boundary + "--";
+
+        assertThat(body.toString()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Passing no arguments to addChangeSet must result in IllegalArgumentException")
+    void testAddChangeSetWithNoArguments() {
+        assertThrows(IllegalArgumentException.class, () -> batchRequest.addChangeSet());
+    }
+
     @Test
     @DisplayName("Passing no arguments to addRequests must result in IllegalArgumentException")
     void testAddRequestsWithNoArguments() {